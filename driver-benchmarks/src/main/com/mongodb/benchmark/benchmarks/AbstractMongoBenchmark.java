@@ -17,6 +17,8 @@
 
 package com.mongodb.benchmark.benchmarks;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.benchmark.framework.Benchmark;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
@@ -38,7 +40,11 @@ public abstract class AbstractMongoBenchmark extends Benchmark {
     protected MongoClient client;
 
     public void setUp() throws Exception {
-       client = MongoClients.create();
+       client = MongoClients.create(createClientSettings());
+    }
+
+    protected MongoClientSettings createClientSettings() {
+        return MongoClientSettings.builder().applyConnectionString(new ConnectionString("mongodb://localhost")).build();
     }
 
     @Override
@@ -24,6 +24,7 @@ import com.mongodb.benchmark.framework.BenchmarkRunner;
 import com.mongodb.benchmark.framework.EvergreenBenchmarkResultWriter;
 import com.mongodb.benchmark.framework.MongoCryptBenchmarkRunner;
 import com.mongodb.benchmark.framework.MongocryptBecnhmarkResult;
+import com.mongodb.internal.thread.VirtualThreads;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 
@@ -39,6 +40,7 @@ public class BenchmarkSuite {
     private static final int NUM_ITERATIONS = 100;
     private static final int MIN_TIME_SECONDS = 60;
     private static final int MAX_TIME_SECONDS = 300;
+    private static final int CONCURRENCY = 10000;
 
     private static final Class DOCUMENT_CLASS = Document.class;
     private static final IdRemover<Document> ID_REMOVER = document -> document.remove("_id");
@@ -69,6 +71,12 @@ public class BenchmarkSuite {
 
         runBenchmark(new RunCommandBenchmark<>(DOCUMENT_CODEC));
         runBenchmark(new FindOneBenchmark<Document>("single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS));
+        runBenchmark(new ConcurrentFindOneBenchmark<Document>("single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS,
+                false, CONCURRENCY));
+        if (VirtualThreads.isSupported()) {
+            runBenchmark(new ConcurrentFindOneBenchmark<Document>("single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS,
+                    true, CONCURRENCY));
+        }
 
         runBenchmark(new InsertOneBenchmark<Document>("Small", "./single_and_multi_document/small_doc.json", 10000,
                 DOCUMENT_CLASS, ID_REMOVER));
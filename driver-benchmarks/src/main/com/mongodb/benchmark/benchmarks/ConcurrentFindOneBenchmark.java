@@ -0,0 +1,90 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.mongodb.benchmark.benchmarks;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.benchmark.framework.BenchmarkRunner;
+import com.mongodb.internal.thread.VirtualThreads;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.mongodb.internal.thread.DaemonThreadFactory.newDaemonThread;
+
+/**
+ * Finds documents by ID from many concurrently running threads, each thread handling a single request at a time,
+ * so that the throughput achieved with platform threads can be compared with the one achieved with virtual threads.
+ * If virtual threads are used, the background threads of the driver are virtual too.
+ */
+public class ConcurrentFindOneBenchmark<T> extends AbstractFindBenchmark<T> {
+    private final boolean virtualThreads;
+    private final int concurrency;
+
+    public ConcurrentFindOneBenchmark(final String resourcePath, final Class<T> clazz, final boolean virtualThreads,
+            final int concurrency) {
+        super("Find one by ID, " + concurrency + (virtualThreads ? " virtual" : " platform") + " threads", resourcePath, clazz);
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        this.virtualThreads = virtualThreads;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    protected MongoClientSettings createClientSettings() {
+        return MongoClientSettings.builder(super.createClientSettings())
+                .applyToServerSettings(builder -> builder.virtualThreadsEnabled(virtualThreads))
+                .applyToConnectionPoolSettings(builder -> builder.virtualThreadsEnabled(virtualThreads))
+                .build();
+    }
+
+    @Override
+    public void run() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int threadIndex = 0; threadIndex < concurrency; threadIndex++) {
+            int firstId = threadIndex;
+            threads.add(newDaemonThread(() -> {
+                try {
+                    for (int i = firstId; i < NUM_INTERNAL_ITERATIONS; i += concurrency) {
+                        collection.find(new BsonDocument("_id", new BsonInt32(i))).first();
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, "find-one-" + threadIndex, virtualThreads));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new Exception(t);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new BenchmarkRunner(new ConcurrentFindOneBenchmark<>("/benchmarks/TWEET.json", BsonDocument.class, false, 10000), 0, 1).run();
+        new BenchmarkRunner(new ConcurrentFindOneBenchmark<>("/benchmarks/TWEET.json", BsonDocument.class, true, 10000), 0, 1).run();
+    }
+}
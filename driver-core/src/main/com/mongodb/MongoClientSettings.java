@@ -24,11 +24,13 @@ import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.client.model.mql.ExpressionCodecProvider;
 import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
 import com.mongodb.connection.TransportSettings;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.DnsClient;
@@ -106,6 +108,8 @@ public final class MongoClientSettings {
     private final SslSettings sslSettings;
     private final String applicationName;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
+    private final WriteBudgetSettings writeBudgetSettings;
     private final UuidRepresentation uuidRepresentation;
     private final ServerApi serverApi;
 
@@ -226,6 +230,8 @@ public final class MongoClientSettings {
         private MongoCredential credential;
         private String applicationName;
         private List<MongoCompressor> compressorList = Collections.emptyList();
+        private final CompressionSettings.Builder compressionSettingsBuilder = CompressionSettings.builder();
+        private final WriteBudgetSettings.Builder writeBudgetSettingsBuilder = WriteBudgetSettings.builder();
         private UuidRepresentation uuidRepresentation = UuidRepresentation.UNSPECIFIED;
         private ServerApi serverApi;
 
@@ -268,6 +274,8 @@ public final class MongoClientSettings {
             socketSettingsBuilder.applySettings(settings.getSocketSettings());
             connectionPoolSettingsBuilder.applySettings(settings.getConnectionPoolSettings());
             sslSettingsBuilder.applySettings(settings.getSslSettings());
+            compressionSettingsBuilder.applySettings(settings.getCompressionSettings());
+            writeBudgetSettingsBuilder.applySettings(settings.getWriteBudgetSettings());
 
             if (settings.heartbeatConnectTimeoutSetExplicitly) {
                 heartbeatConnectTimeoutMS = settings.heartbeatSocketSettings.getConnectTimeout(MILLISECONDS);
@@ -564,6 +572,32 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Applies the {@link CompressionSettings.Builder} block and then sets the compressionSettings.
+         *
+         * @param block the block to apply to the CompressionSettings.
+         * @return this
+         * @see MongoClientSettings#getCompressionSettings()
+         * @since 5.5
+         */
+        public Builder applyToCompressionSettings(final Block<CompressionSettings.Builder> block) {
+            notNull("block", block).apply(compressionSettingsBuilder);
+            return this;
+        }
+
+        /**
+         * Applies the {@link WriteBudgetSettings.Builder} block and then sets the writeBudgetSettings.
+         *
+         * @param block the block to apply to the WriteBudgetSettings.
+         * @return this
+         * @see MongoClientSettings#getWriteBudgetSettings()
+         * @since 5.5
+         */
+        public Builder applyToWriteBudgetSettings(final Block<WriteBudgetSettings.Builder> block) {
+            notNull("block", block).apply(writeBudgetSettingsBuilder);
+            return this;
+        }
+
         /**
          * Sets the UUID representation to use when encoding instances of {@link java.util.UUID} and when decoding BSON binary values with
          * subtype of 3.
@@ -862,6 +896,29 @@ public final class MongoClientSettings {
         return Collections.unmodifiableList(compressorList);
     }
 
+    /**
+     * Gets the settings that control when messages are compressed once a compressor from the
+     * {@linkplain #getCompressorList() compressor list} has been negotiated with the server.
+     *
+     * @return the compression settings
+     * @see Builder#applyToCompressionSettings(Block)
+     * @since 5.5
+     */
+    public CompressionSettings getCompressionSettings() {
+        return compressionSettings;
+    }
+
+    /**
+     * Gets the settings that cap the number of bytes of bulk write messages that are sent but not yet acknowledged by the server.
+     *
+     * @return the write budget settings
+     * @see Builder#applyToWriteBudgetSettings(Block)
+     * @since 5.5
+     */
+    public WriteBudgetSettings getWriteBudgetSettings() {
+        return writeBudgetSettings;
+    }
+
     /**
      * Gets the UUID representation to use when encoding instances of {@link java.util.UUID} and when decoding BSON binary values with
      * subtype of 3.
@@ -1069,6 +1126,8 @@ public final class MongoClientSettings {
                 && Objects.equals(sslSettings, that.sslSettings)
                 && Objects.equals(applicationName, that.applicationName)
                 && Objects.equals(compressorList, that.compressorList)
+                && Objects.equals(compressionSettings, that.compressionSettings)
+                && Objects.equals(writeBudgetSettings, that.writeBudgetSettings)
                 && uuidRepresentation == that.uuidRepresentation
                 && Objects.equals(serverApi, that.serverApi)
                 && Objects.equals(autoEncryptionSettings, that.autoEncryptionSettings)
@@ -1083,8 +1142,9 @@ public final class MongoClientSettings {
         return Objects.hash(readPreference, writeConcern, retryWrites, retryReads, readConcern, credential, transportSettings,
                 commandListeners, codecRegistry, loggerSettings, clusterSettings, socketSettings,
                 heartbeatSocketSettings, connectionPoolSettings, serverSettings, sslSettings, applicationName, compressorList,
-                uuidRepresentation, serverApi, autoEncryptionSettings, heartbeatSocketTimeoutSetExplicitly,
-                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider, timeoutMS);
+                compressionSettings, writeBudgetSettings, uuidRepresentation, serverApi, autoEncryptionSettings,
+                heartbeatSocketTimeoutSetExplicitly, heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider,
+                timeoutMS);
 
     }
 
@@ -1109,6 +1169,8 @@ public final class MongoClientSettings {
                 + ", sslSettings=" + sslSettings
                 + ", applicationName='" + applicationName + '\''
                 + ", compressorList=" + compressorList
+                + ", compressionSettings=" + compressionSettings
+                + ", writeBudgetSettings=" + writeBudgetSettings
                 + ", uuidRepresentation=" + uuidRepresentation
                 + ", serverApi=" + serverApi
                 + ", autoEncryptionSettings=" + autoEncryptionSettings
@@ -1138,6 +1200,8 @@ public final class MongoClientSettings {
         connectionPoolSettings = builder.connectionPoolSettingsBuilder.build();
         sslSettings = builder.sslSettingsBuilder.build();
         compressorList = builder.compressorList;
+        compressionSettings = builder.compressionSettingsBuilder.build();
+        writeBudgetSettings = builder.writeBudgetSettingsBuilder.build();
         uuidRepresentation = builder.uuidRepresentation;
         serverApi = builder.serverApi;
         dnsClient = builder.dnsClient;
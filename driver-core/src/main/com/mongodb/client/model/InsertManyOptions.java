@@ -16,10 +16,17 @@
 
 package com.mongodb.client.model;
 
+import com.mongodb.annotations.Alpha;
+import com.mongodb.annotations.Reason;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
 /**
  * The options to apply to an operation that inserts multiple documents into a collection.
  *
@@ -29,6 +36,9 @@ import org.bson.BsonValue;
  */
 public final class InsertManyOptions {
     private boolean ordered = true;
+    private int parallelism = 1;
+    private int encodingParallelism = 1;
+    private long batchLatencyTargetNanos;
     private Boolean bypassDocumentValidation;
     private BsonValue comment;
 
@@ -120,12 +130,123 @@ public final class InsertManyOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of splits of the documents that are executed concurrently, each on its own connection.
+     * The default is 1. Only the synchronous driver supports this option.
+     *
+     * @return the maximum number of splits of the documents that are executed concurrently
+     * @see #parallelism(int)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of splits of the documents that are executed concurrently, each on its own connection.
+     *
+     * <p>Only unordered inserts that are not executed within a {@code ClientSession} and use an acknowledged write concern
+     * are split, as only then are the splits independent of each other. Each split is executed as a separate operation
+     * with its own implicit session, and their results are combined as if the documents had been executed together.
+     * Otherwise, the documents are executed one batch after another, as if this option were not set.</p>
+     *
+     * <p>Only the synchronous driver supports this option, the other drivers ignore it.
+     * To execute writes concurrently with them, split the writes and subscribe to the resulting publishers concurrently.</p>
+     *
+     * @param parallelism the maximum number of splits of the documents that are executed concurrently, which must be positive
+     * @return this
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public InsertManyOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of threads that encode the documents to insert ahead of sending them.
+     * The default is 1.
+     *
+     * @return the maximum number of threads that encode the documents to insert ahead of sending them
+     * @see #encodingParallelism(int)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public int getEncodingParallelism() {
+        return encodingParallelism;
+    }
+
+    /**
+     * Sets the maximum number of threads that encode the documents to insert ahead of sending them.
+     *
+     * <p>If greater than 1, the documents to insert are encoded by a pool of threads shared by all clients, starting with the
+     * documents sent first, while the batches before them are sent and acknowledged. This overlaps encoding with network round trips,
+     * and spreads the encoding of a large batch across multiple cores, at the cost of holding the encoded documents
+     * in memory until they are sent. A document that is yet to be encoded when it is sent is encoded by the thread sending it,
+     * which is what happens to every document if this option is not set.</p>
+     *
+     * @param encodingParallelism the maximum number of threads that encode the documents to insert ahead of sending them,
+     * which must be positive
+     * @return this
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public InsertManyOptions encodingParallelism(final int encodingParallelism) {
+        isTrueArgument("encodingParallelism > 0", encodingParallelism > 0);
+        this.encodingParallelism = encodingParallelism;
+        return this;
+    }
+
+    /**
+     * Gets the execution time that the batches of documents sent to the server are sized to stay within,
+     * or 0 if the batches are sized only by the limits of the server. The default is 0.
+     *
+     * @param timeUnit the time unit to return the result in
+     * @return the execution time that the batches are sized to stay within
+     * @see #batchLatencyTarget(long, TimeUnit)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public long getBatchLatencyTarget(final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        return timeUnit.convert(batchLatencyTargetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the execution time that the batches of documents sent to the server are sized to stay within.
+     *
+     * <p>If positive, the number of documents in a batch is adapted to the observed execution times of the batches before it,
+     * including the time the server waits for the write concern to be satisfied. The number starts small, and grows while
+     * the batches complete within the target, and is halved when a batch does not, or reports a write concern error.
+     * This keeps batches of large documents, or batches awaiting a majority write concern, from taking multiple seconds,
+     * and therefore from exceeding a timeout, while batches of small documents grow to the limits of the server.
+     * Write errors, for example duplicate key errors, do not affect the batch size.
+     * If 0, the batches are sized only by the limits of the server.</p>
+     *
+     * @param batchLatencyTarget the execution time that the batches are sized to stay within, which must not be negative
+     * @param timeUnit the time unit, which may not be null
+     * @return this
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public InsertManyOptions batchLatencyTarget(final long batchLatencyTarget, final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        isTrueArgument("batchLatencyTarget >= 0", batchLatencyTarget >= 0);
+        this.batchLatencyTargetNanos = TimeUnit.NANOSECONDS.convert(batchLatencyTarget, timeUnit);
+        return this;
+    }
+
     @Override
     public String toString() {
         return "InsertManyOptions{"
                 + "ordered=" + ordered
                 + ", bypassDocumentValidation=" + bypassDocumentValidation
                 + ", comment=" + comment
+                + ", parallelism=" + parallelism
+                + ", encodingParallelism=" + encodingParallelism
+                + ", batchLatencyTargetNanos=" + batchLatencyTargetNanos
                 + '}';
     }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.event.CompressionListener;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Settings that control when messages are compressed once a {@linkplain MongoCompressor compressor} has been negotiated with the
+ * server.
+ *
+ * <p>By default every eligible message is compressed.  Messages smaller than the {@linkplain Builder#minimumMessageSize(int) minimum
+ * message size} can be sent uncompressed, and if a {@linkplain Builder#maximumCompressionRatio(Double) maximum compression ratio} is
+ * set, the driver samples the ratio achieved for each command name and backs off from compressing commands whose payloads do not
+ * compress well, such as already compressed binary data.</p>
+ *
+ * @see com.mongodb.MongoClientSettings#getCompressorList()
+ * @since 5.5
+ */
+@Immutable
+public final class CompressionSettings {
+    private final int minimumMessageSize;
+    @Nullable
+    private final Double maximumCompressionRatio;
+    private final int backOffMessageCount;
+    private final List<CompressionListener> compressionListeners;
+
+    /**
+     * Creates a builder for CompressionSettings.
+     *
+     * @return a new Builder for creating CompressionSettings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @param compressionSettings existing CompressionSettings to default the builder settings on.
+     * @return a builder
+     */
+    public static Builder builder(final CompressionSettings compressionSettings) {
+        return builder().applySettings(compressionSettings);
+    }
+
+    /**
+     * A builder for the settings.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int minimumMessageSize;
+        private Double maximumCompressionRatio;
+        private int backOffMessageCount = 64;
+        private List<CompressionListener> compressionListeners = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Applies the compressionSettings to the builder
+         *
+         * <p>Note: Overwrites all existing settings</p>
+         *
+         * @param compressionSettings the compressionSettings
+         * @return this
+         */
+        public Builder applySettings(final CompressionSettings compressionSettings) {
+            notNull("compressionSettings", compressionSettings);
+            minimumMessageSize = compressionSettings.minimumMessageSize;
+            maximumCompressionRatio = compressionSettings.maximumCompressionRatio;
+            backOffMessageCount = compressionSettings.backOffMessageCount;
+            compressionListeners = new ArrayList<>(compressionSettings.compressionListeners);
+            return this;
+        }
+
+        /**
+         * Sets the size in bytes below which messages are sent uncompressed.  The default value is 0, which compresses messages of any
+         * size.
+         *
+         * @param minimumMessageSize the minimum message size in bytes, which must be &gt;= 0
+         * @return this
+         * @see #getMinimumMessageSize()
+         */
+        public Builder minimumMessageSize(final int minimumMessageSize) {
+            isTrueArgument("minimumMessageSize >= 0", minimumMessageSize >= 0);
+            this.minimumMessageSize = minimumMessageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum ratio of compressed to uncompressed message size that is considered worth compressing.  When the average
+         * ratio observed for a command name reaches this value, the next {@linkplain #backOffMessageCount(int) back-off message count}
+         * messages for that command are sent uncompressed before the ratio is sampled again.  The default value is null, which
+         * disables adaptive back-off.
+         *
+         * @param maximumCompressionRatio the maximum compression ratio, which must be &gt; 0, or null to disable adaptive back-off
+         * @return this
+         * @see #getMaximumCompressionRatio()
+         */
+        public Builder maximumCompressionRatio(@Nullable final Double maximumCompressionRatio) {
+            isTrueArgument("maximumCompressionRatio > 0", maximumCompressionRatio == null || maximumCompressionRatio > 0);
+            this.maximumCompressionRatio = maximumCompressionRatio;
+            return this;
+        }
+
+        /**
+         * Sets the number of messages for a command name that are sent uncompressed after compression of that command is backed off.
+         * The default value is 64.
+         *
+         * @param backOffMessageCount the back-off message count, which must be &gt; 0
+         * @return this
+         * @see #getBackOffMessageCount()
+         */
+        public Builder backOffMessageCount(final int backOffMessageCount) {
+            isTrueArgument("backOffMessageCount > 0", backOffMessageCount > 0);
+            this.backOffMessageCount = backOffMessageCount;
+            return this;
+        }
+
+        /**
+         * Adds a compression listener.
+         *
+         * @param compressionListener the non-null compression listener
+         * @return this
+         */
+        public Builder addCompressionListener(final CompressionListener compressionListener) {
+            notNull("compressionListener", compressionListener);
+            compressionListeners.add(compressionListener);
+            return this;
+        }
+
+        /**
+         * Sets the compression listeners.
+         *
+         * @param compressionListeners list of compression listeners
+         * @return this
+         */
+        public Builder compressionListenerList(final List<CompressionListener> compressionListeners) {
+            notNull("compressionListeners", compressionListeners);
+            this.compressionListeners = new ArrayList<>(compressionListeners);
+            return this;
+        }
+
+        /**
+         * Create a new CompressionSettings from the settings applied to this builder.
+         *
+         * @return a CompressionSettings with the given settings.
+         */
+        public CompressionSettings build() {
+            return new CompressionSettings(this);
+        }
+    }
+
+    /**
+     * Gets the size in bytes below which messages are sent uncompressed.  The default value is 0.
+     *
+     * @return the minimum message size in bytes
+     * @see Builder#minimumMessageSize(int)
+     */
+    public int getMinimumMessageSize() {
+        return minimumMessageSize;
+    }
+
+    /**
+     * Gets the maximum ratio of compressed to uncompressed message size that is considered worth compressing.  The default value is
+     * null, which disables adaptive back-off.
+     *
+     * @return the maximum compression ratio, which may be null
+     * @see Builder#maximumCompressionRatio(Double)
+     */
+    @Nullable
+    public Double getMaximumCompressionRatio() {
+        return maximumCompressionRatio;
+    }
+
+    /**
+     * Gets the number of messages for a command name that are sent uncompressed after compression of that command is backed off.
+     * The default value is 64.
+     *
+     * @return the back-off message count
+     * @see Builder#backOffMessageCount(int)
+     */
+    public int getBackOffMessageCount() {
+        return backOffMessageCount;
+    }
+
+    /**
+     * Gets the compression listeners.  The default value is an empty list.
+     *
+     * @return the compression listeners
+     */
+    public List<CompressionListener> getCompressionListeners() {
+        return compressionListeners;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompressionSettings that = (CompressionSettings) o;
+        return minimumMessageSize == that.minimumMessageSize
+                && backOffMessageCount == that.backOffMessageCount
+                && Objects.equals(maximumCompressionRatio, that.maximumCompressionRatio)
+                && Objects.equals(compressionListeners, that.compressionListeners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minimumMessageSize, maximumCompressionRatio, backOffMessageCount, compressionListeners);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionSettings{"
+                + "minimumMessageSize=" + minimumMessageSize
+                + ", maximumCompressionRatio=" + maximumCompressionRatio
+                + ", backOffMessageCount=" + backOffMessageCount
+                + ", compressionListeners=" + compressionListeners
+                + '}';
+    }
+
+    private CompressionSettings(final Builder builder) {
+        minimumMessageSize = builder.minimumMessageSize;
+        maximumCompressionRatio = builder.maximumCompressionRatio;
+        backOffMessageCount = builder.backOffMessageCount;
+        compressionListeners = unmodifiableList(builder.compressionListeners);
+    }
+}
@@ -17,8 +17,10 @@
 package com.mongodb.connection;
 
 import com.mongodb.ConnectionString;
+import com.mongodb.annotations.Alpha;
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.annotations.Reason;
 import com.mongodb.event.ConnectionCheckOutStartedEvent;
 import com.mongodb.event.ConnectionCheckedInEvent;
 import com.mongodb.event.ConnectionCheckedOutEvent;
@@ -52,6 +54,12 @@ public class ConnectionPoolSettings {
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
     private final int maxConnecting;
+    private final int availableConnectionStripes;
+    private final boolean threadAffinityEnabled;
+    private final boolean eventLoopAffinityEnabled;
+    private final boolean prewarmEnabled;
+    private final boolean virtualThreadsEnabled;
+    private final boolean unacknowledgedWriteChannelEnabled;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -87,6 +95,12 @@ public class ConnectionPoolSettings {
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
         private int maxConnecting = 2;
+        private int availableConnectionStripes = 1;
+        private boolean threadAffinityEnabled;
+        private boolean eventLoopAffinityEnabled;
+        private boolean prewarmEnabled;
+        private boolean virtualThreadsEnabled;
+        private boolean unacknowledgedWriteChannelEnabled;
 
         Builder() {
         }
@@ -111,6 +125,12 @@ public class ConnectionPoolSettings {
             maintenanceInitialDelayMS = connectionPoolSettings.maintenanceInitialDelayMS;
             maintenanceFrequencyMS = connectionPoolSettings.maintenanceFrequencyMS;
             maxConnecting = connectionPoolSettings.maxConnecting;
+            availableConnectionStripes = connectionPoolSettings.availableConnectionStripes;
+            threadAffinityEnabled = connectionPoolSettings.threadAffinityEnabled;
+            eventLoopAffinityEnabled = connectionPoolSettings.eventLoopAffinityEnabled;
+            prewarmEnabled = connectionPoolSettings.prewarmEnabled;
+            virtualThreadsEnabled = connectionPoolSettings.virtualThreadsEnabled;
+            unacknowledgedWriteChannelEnabled = connectionPoolSettings.unacknowledgedWriteChannelEnabled;
             return this;
         }
 
@@ -272,6 +292,150 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * The number of stripes the idle connections of a pool are spread across.
+         *
+         * <p>With a single stripe all idle connections are kept in one shared structure. With more than one stripe each thread
+         * prefers its own stripe, both when checking a connection out and when checking it back in, and steals from the other
+         * stripes only when its own is empty. This reduces contention when many threads check connections out concurrently,
+         * for example when set to {@link Runtime#availableProcessors()}. It does not change
+         * {@linkplain #maxSize(int) the maximum size} of the pool, {@linkplain #maxConnecting(int) the maximum number of connections
+         * being established concurrently}, or the events published to {@link ConnectionPoolListener}s.</p>
+         *
+         * <p>Default is 1.</p>
+         *
+         * @param availableConnectionStripes the number of stripes. Must be positive.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#getAvailableConnectionStripes()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder availableConnectionStripes(final int availableConnectionStripes) {
+            this.availableConnectionStripes = availableConnectionStripes;
+            return this;
+        }
+
+        /**
+         * Whether a thread checking out a connection is preferably given the connection it checked in last.
+         *
+         * <p>If the connection checked in last by the thread is not available, for example, because it is in use by another thread or
+         * has been closed because it exceeded {@linkplain #maxConnectionIdleTime(long, TimeUnit) the maximum idle time},
+         * then any available connection is checked out, as if thread affinity was not enabled. This improves locality for
+         * applications that execute a sequence of operations on the same thread, like thread-per-request servers.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param threadAffinityEnabled whether thread affinity is enabled.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isThreadAffinityEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder threadAffinityEnabled(final boolean threadAffinityEnabled) {
+            this.threadAffinityEnabled = threadAffinityEnabled;
+            return this;
+        }
+
+        /**
+         * Whether a connection checked in is kept in {@linkplain #availableConnectionStripes(int) the stripe} of the event loop thread
+         * that performs its I/O, rather than in the stripe of the thread checking it in.
+         *
+         * <p>This has an effect only with transports that bind each connection to an event loop thread, like the
+         * {@linkplain NettyTransportSettings Netty} one, and only if there is more than one stripe. An application that runs on
+         * {@linkplain NettyTransportSettings#getEventLoopGroup() the same event loop group} as the driver
+         * and checks connections out on an event loop thread then preferably gets a connection bound to that thread,
+         * so that the request, the I/O and the completion all happen on the same thread. The number of stripes should be
+         * at least the number of event loop threads for each of them to have its own stripe.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param eventLoopAffinityEnabled whether event loop affinity is enabled.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isEventLoopAffinityEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder eventLoopAffinityEnabled(final boolean eventLoopAffinityEnabled) {
+            this.eventLoopAffinityEnabled = eventLoopAffinityEnabled;
+            return this;
+        }
+
+        /**
+         * Whether the pool establishes connections up to {@linkplain #minSize(int) the minimum size} concurrently
+         * as soon as it becomes ready.
+         *
+         * <p>A pool becomes ready when the server is first discovered, and again after the pool was cleared,
+         * see {@link com.mongodb.event.ConnectionPoolReadyEvent} and {@link com.mongodb.event.ConnectionPoolClearedEvent}.
+         * If prewarming is enabled, up to {@linkplain #maxConnecting(int) the maximum number of connections being established
+         * concurrently} are established in parallel at that moment, instead of one at a time by the background maintenance task.
+         * This shortens the period after start-up or a failover during which operations have to wait for connections to be
+         * established.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param prewarmEnabled whether prewarming is enabled.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isPrewarmEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder prewarmEnabled(final boolean prewarmEnabled) {
+            this.prewarmEnabled = prewarmEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the background tasks of the pool, like maintenance and prewarming, run on virtual threads.
+         *
+         * <p>Virtual threads are used only if the Java runtime supports them, that is, on Java 21 and later,
+         * otherwise this setting is ignored. The pool never blocks a thread while holding a monitor,
+         * so threads, including virtual ones, that check connections out of the pool are not pinned.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param virtualThreadsEnabled whether virtual threads are enabled.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isVirtualThreadsEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether a connection is reserved from the pool of each server to send unacknowledged writes on.
+         *
+         * <p>If enabled, bulk writes with an {@linkplain com.mongodb.WriteConcern#UNACKNOWLEDGED unacknowledged} write concern that are
+         * not part of a transaction do not check a connection out of the pool. Instead, their messages are sent back to back on the
+         * reserved connection, in the order in which the writes get to it, so that writes from many threads are pipelined on a single
+         * connection.</p>
+         *
+         * <p>The reserved connection counts towards {@linkplain #maxSize(int) the maximum size} of the pool, so while it is reserved,
+         * one connection fewer is available to the other operations; consider increasing the maximum size by one. The connection
+         * stays reserved until the pool would prune it: once it is past {@linkplain #maxConnectionIdleTime(long, TimeUnit) the maximum
+         * idle time}, for example, because no unacknowledged writes were sent on it, once it is past
+         * {@linkplain #maxConnectionLifeTime(long, TimeUnit) the maximum life time}, or once the pool is cleared. This is checked when
+         * writes get to it, and {@linkplain #maintenanceFrequency(long, TimeUnit) as often as the pool checks its connections}.
+         * The next unacknowledged write then reserves a connection again.</p>
+         *
+         * <p>Since the server processes the messages sent on a connection one at a time, this suits high rates of small writes,
+         * like those of metrics, for which checking a connection out of the pool is a significant part of the cost of a write.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param unacknowledgedWriteChannelEnabled whether a connection is reserved for unacknowledged writes.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isUnacknowledgedWriteChannelEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder unacknowledgedWriteChannelEnabled(final boolean unacknowledgedWriteChannelEnabled) {
+            this.unacknowledgedWriteChannelEnabled = unacknowledgedWriteChannelEnabled;
+            return this;
+        }
+
         /**
          * Creates a new ConnectionPoolSettings object with the settings initialised on this builder.
          *
@@ -456,6 +620,92 @@ public class ConnectionPoolSettings {
         return maxConnecting;
     }
 
+    /**
+     * The number of stripes the idle connections of a pool are spread across.
+     * <p>
+     * Default is 1.</p>
+     *
+     * @return The number of stripes the idle connections of a pool are spread across.
+     * @see Builder#availableConnectionStripes(int)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public int getAvailableConnectionStripes() {
+        return availableConnectionStripes;
+    }
+
+    /**
+     * Whether a thread checking out a connection is preferably given the connection it checked in last.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff thread affinity is enabled.
+     * @see Builder#threadAffinityEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isThreadAffinityEnabled() {
+        return threadAffinityEnabled;
+    }
+
+    /**
+     * Whether a connection checked in is kept in the stripe of the event loop thread that performs its I/O.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff event loop affinity is enabled.
+     * @see Builder#eventLoopAffinityEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isEventLoopAffinityEnabled() {
+        return eventLoopAffinityEnabled;
+    }
+
+    /**
+     * Whether the pool establishes connections up to {@linkplain #getMinSize() the minimum size} concurrently
+     * as soon as it becomes ready.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff prewarming is enabled.
+     * @see Builder#prewarmEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isPrewarmEnabled() {
+        return prewarmEnabled;
+    }
+
+    /**
+     * Whether the background tasks of the pool run on virtual threads, provided that the Java runtime supports them.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff virtual threads are enabled.
+     * @see Builder#virtualThreadsEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Whether a connection is reserved from the pool of each server to send unacknowledged writes on.
+     * The reserved connection counts towards {@linkplain #getMaxSize() the maximum size} of the pool until the pool would prune it.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff a connection is reserved for unacknowledged writes.
+     * @see Builder#unacknowledgedWriteChannelEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isUnacknowledgedWriteChannelEnabled() {
+        return unacknowledgedWriteChannelEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -494,6 +744,24 @@ public class ConnectionPoolSettings {
         if (maxConnecting != that.maxConnecting) {
             return false;
         }
+        if (availableConnectionStripes != that.availableConnectionStripes) {
+            return false;
+        }
+        if (threadAffinityEnabled != that.threadAffinityEnabled) {
+            return false;
+        }
+        if (eventLoopAffinityEnabled != that.eventLoopAffinityEnabled) {
+            return false;
+        }
+        if (prewarmEnabled != that.prewarmEnabled) {
+            return false;
+        }
+        if (virtualThreadsEnabled != that.virtualThreadsEnabled) {
+            return false;
+        }
+        if (unacknowledgedWriteChannelEnabled != that.unacknowledgedWriteChannelEnabled) {
+            return false;
+        }
         return true;
     }
 
@@ -508,6 +776,12 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
         result = 31 * result + connectionPoolListeners.hashCode();
         result = 31 * result + maxConnecting;
+        result = 31 * result + availableConnectionStripes;
+        result = 31 * result + (threadAffinityEnabled ? 1 : 0);
+        result = 31 * result + (eventLoopAffinityEnabled ? 1 : 0);
+        result = 31 * result + (prewarmEnabled ? 1 : 0);
+        result = 31 * result + (virtualThreadsEnabled ? 1 : 0);
+        result = 31 * result + (unacknowledgedWriteChannelEnabled ? 1 : 0);
         return result;
     }
 
@@ -523,6 +797,12 @@ public class ConnectionPoolSettings {
                 + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
                 + ", connectionPoolListeners=" + connectionPoolListeners
                 + ", maxConnecting=" + maxConnecting
+                + ", availableConnectionStripes=" + availableConnectionStripes
+                + ", threadAffinityEnabled=" + threadAffinityEnabled
+                + ", eventLoopAffinityEnabled=" + eventLoopAffinityEnabled
+                + ", prewarmEnabled=" + prewarmEnabled
+                + ", virtualThreadsEnabled=" + virtualThreadsEnabled
+                + ", unacknowledgedWriteChannelEnabled=" + unacknowledgedWriteChannelEnabled
                 + '}';
     }
 
@@ -535,6 +815,7 @@ public class ConnectionPoolSettings {
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
         isTrue("maxConnecting > 0", builder.maxConnecting > 0);
+        isTrue("availableConnectionStripes > 0", builder.availableConnectionStripes > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -545,5 +826,11 @@ public class ConnectionPoolSettings {
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
         connectionPoolListeners = unmodifiableList(builder.connectionPoolListeners);
         maxConnecting = builder.maxConnecting;
+        availableConnectionStripes = builder.availableConnectionStripes;
+        threadAffinityEnabled = builder.threadAffinityEnabled;
+        eventLoopAffinityEnabled = builder.eventLoopAffinityEnabled;
+        prewarmEnabled = builder.prewarmEnabled;
+        virtualThreadsEnabled = builder.virtualThreadsEnabled;
+        unacknowledgedWriteChannelEnabled = builder.unacknowledgedWriteChannelEnabled;
     }
 }
@@ -16,6 +16,8 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.annotations.Alpha;
+import com.mongodb.annotations.Reason;
 import com.mongodb.lang.Nullable;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.EventLoopGroup;
@@ -42,6 +44,7 @@ public final class NettyTransportSettings extends TransportSettings {
     private final Class<? extends SocketChannel> socketChannelClass;
     private final ByteBufAllocator allocator;
     private final SslContext sslContext;
+    private final boolean nativeTransportEnabled;
 
     static Builder builder() {
         return new Builder();
@@ -55,6 +58,7 @@ public final class NettyTransportSettings extends TransportSettings {
         private Class<? extends SocketChannel> socketChannelClass;
         private EventLoopGroup eventLoopGroup;
         private SslContext sslContext;
+        private boolean nativeTransportEnabled = true;
 
         private Builder() {
         }
@@ -133,6 +137,32 @@ public final class NettyTransportSettings extends TransportSettings {
             return this;
         }
 
+        /**
+         * Sets whether to use a native transport if neither the {@linkplain #eventLoopGroup(EventLoopGroup) event loop group}
+         * nor the {@linkplain #socketChannelClass(Class) socket channel class} is set.
+         *
+         * <p>The io_uring transport is used if {@code io.netty.incubator:netty-incubator-transport-native-io_uring} is on the classpath
+         * and is supported by the operating system, otherwise the epoll transport is used if {@code io.netty:netty-transport-native-epoll}
+         * is on the classpath and is supported, otherwise the NIO transport is used.
+         * Native transports are available only on Linux, and make fewer system calls than the NIO transport.</p>
+         *
+         * <p>Regardless of this setting, if neither the event loop group nor the socket channel class is set,
+         * all clients in the JVM that use the same transport share an event loop group, which is shut down when
+         * the last of them is closed.</p>
+         *
+         * <p>Default is {@code true}.</p>
+         *
+         * @param nativeTransportEnabled whether native transports are enabled.
+         * @return {@code this}.
+         * @see #isNativeTransportEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder nativeTransportEnabled(final boolean nativeTransportEnabled) {
+            this.nativeTransportEnabled = nativeTransportEnabled;
+            return this;
+        }
+
         /**
          * Build an instance of {@code NettyTransportSettings}.
          *
@@ -187,6 +217,18 @@ public final class NettyTransportSettings extends TransportSettings {
         return sslContext;
     }
 
+    /**
+     * Gets whether native transports are enabled.
+     *
+     * @return whether native transports are enabled.
+     * @see Builder#nativeTransportEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isNativeTransportEnabled() {
+        return nativeTransportEnabled;
+    }
+
     @Override
     public String toString() {
         return "NettyTransportSettings{"
@@ -194,6 +236,7 @@ public final class NettyTransportSettings extends TransportSettings {
                 + ", socketChannelClass=" + socketChannelClass
                 + ", allocator=" + allocator
                 + ", sslContext=" + sslContext
+                + ", nativeTransportEnabled=" + nativeTransportEnabled
                 + '}';
     }
 
@@ -202,5 +245,6 @@ public final class NettyTransportSettings extends TransportSettings {
         socketChannelClass = builder.socketChannelClass;
         eventLoopGroup = builder.eventLoopGroup;
         sslContext = builder.sslContext;
+        nativeTransportEnabled = builder.nativeTransportEnabled;
     }
 }
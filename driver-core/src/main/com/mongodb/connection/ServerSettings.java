@@ -17,8 +17,10 @@
 package com.mongodb.connection;
 
 import com.mongodb.ConnectionString;
+import com.mongodb.annotations.Alpha;
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.annotations.Reason;
 import com.mongodb.event.ServerListener;
 import com.mongodb.event.ServerMonitorListener;
 
@@ -42,6 +44,8 @@ public class ServerSettings {
     private final ServerMonitoringMode serverMonitoringMode;
     private final List<ServerListener> serverListeners;
     private final List<ServerMonitorListener> serverMonitorListeners;
+    private final boolean sharedMonitorSchedulerEnabled;
+    private final boolean virtualThreadsEnabled;
 
     /**
      * Creates a builder for ServerSettings.
@@ -73,6 +77,8 @@ public class ServerSettings {
         private ServerMonitoringMode serverMonitoringMode = ServerMonitoringMode.AUTO;
         private List<ServerListener> serverListeners = new ArrayList<>();
         private List<ServerMonitorListener> serverMonitorListeners = new ArrayList<>();
+        private boolean sharedMonitorSchedulerEnabled;
+        private boolean virtualThreadsEnabled;
 
         private Builder() {
         }
@@ -93,6 +99,8 @@ public class ServerSettings {
             serverMonitoringMode = serverSettings.serverMonitoringMode;
             serverListeners = new ArrayList<>(serverSettings.serverListeners);
             serverMonitorListeners = new ArrayList<>(serverSettings.serverMonitorListeners);
+            sharedMonitorSchedulerEnabled = serverSettings.sharedMonitorSchedulerEnabled;
+            virtualThreadsEnabled = serverSettings.virtualThreadsEnabled;
             return this;
         }
 
@@ -135,6 +143,50 @@ public class ServerSettings {
             return this;
         }
 
+        /**
+         * Sets whether the periodic monitoring tasks run on a scheduler shared by all clients in the JVM.
+         *
+         * <p>By default, each server is monitored by a dedicated thread that checks the server, and, when the streaming protocol is
+         * used, by another dedicated thread that measures the round trip time. A client that uses a {@code mongodb+srv} connection
+         * string also has a dedicated thread that rescans the SRV records. Most of these threads sleep most of the time.
+         * If the shared scheduler is enabled, round trip time measurements and SRV record rescans are instead run by the shared
+         * scheduler, which has a bounded number of threads, and only the threads that check the servers remain dedicated.
+         * The latter are still needed, as with the streaming protocol such a thread waits for the server to push its responses.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param sharedMonitorSchedulerEnabled whether the shared scheduler is enabled.
+         * @return {@code this}.
+         * @see ServerSettings#isSharedMonitorSchedulerEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder sharedMonitorSchedulerEnabled(final boolean sharedMonitorSchedulerEnabled) {
+            this.sharedMonitorSchedulerEnabled = sharedMonitorSchedulerEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the dedicated monitoring threads are virtual threads.
+         *
+         * <p>Virtual threads are used only if the Java runtime supports them, that is, on Java 21 and later,
+         * otherwise this setting is ignored. As monitoring threads spend most of their time either sleeping or waiting for
+         * responses from servers, making them virtual allows to monitor many servers without using many platform threads.
+         * This setting does not affect the {@linkplain #sharedMonitorSchedulerEnabled(boolean) shared scheduler}.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param virtualThreadsEnabled whether virtual threads are enabled.
+         * @return {@code this}.
+         * @see ServerSettings#isVirtualThreadsEnabled()
+         * @since 5.5
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
+            return this;
+        }
+
         /**
          * Add a server listener.
          *
@@ -270,6 +322,34 @@ public class ServerSettings {
         return serverMonitorListeners;
     }
 
+    /**
+     * Whether the periodic monitoring tasks run on a scheduler shared by all clients in the JVM.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff the shared scheduler is enabled.
+     * @see Builder#sharedMonitorSchedulerEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isSharedMonitorSchedulerEnabled() {
+        return sharedMonitorSchedulerEnabled;
+    }
+
+    /**
+     * Whether the dedicated monitoring threads are virtual threads, provided that the Java runtime supports them.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return {@code true} iff virtual threads are enabled.
+     * @see Builder#virtualThreadsEnabled(boolean)
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -283,7 +363,9 @@ public class ServerSettings {
                 && minHeartbeatFrequencyMS == that.minHeartbeatFrequencyMS
                 && serverMonitoringMode == that.serverMonitoringMode
                 && Objects.equals(serverListeners, that.serverListeners)
-                && Objects.equals(serverMonitorListeners, that.serverMonitorListeners);
+                && Objects.equals(serverMonitorListeners, that.serverMonitorListeners)
+                && sharedMonitorSchedulerEnabled == that.sharedMonitorSchedulerEnabled
+                && virtualThreadsEnabled == that.virtualThreadsEnabled;
     }
 
     @Override
@@ -293,7 +375,9 @@ public class ServerSettings {
                 minHeartbeatFrequencyMS,
                 serverMonitoringMode,
                 serverListeners,
-                serverMonitorListeners);
+                serverMonitorListeners,
+                sharedMonitorSchedulerEnabled,
+                virtualThreadsEnabled);
     }
 
     @Override
@@ -304,6 +388,8 @@ public class ServerSettings {
                + ", serverMonitoringMode=" + serverMonitoringMode
                + ", serverListeners='" + serverListeners + '\''
                + ", serverMonitorListeners='" + serverMonitorListeners + '\''
+               + ", sharedMonitorSchedulerEnabled=" + sharedMonitorSchedulerEnabled
+               + ", virtualThreadsEnabled=" + virtualThreadsEnabled
                + '}';
     }
 
@@ -313,5 +399,7 @@ public class ServerSettings {
         serverMonitoringMode = builder.serverMonitoringMode;
         serverListeners = unmodifiableList(builder.serverListeners);
         serverMonitorListeners = unmodifiableList(builder.serverMonitorListeners);
+        sharedMonitorSchedulerEnabled = builder.sharedMonitorSchedulerEnabled;
+        virtualThreadsEnabled = builder.virtualThreadsEnabled;
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.event.WriteBudgetListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Settings that limit the memory used by bulk writes, by capping the number of bytes of the messages that carry the documents of bulk
+ * writes, and that have been encoded but not yet acknowledged by the server, across all the connections of a client.
+ *
+ * <p>By default the number of bytes is not capped.  If it is, a message is not encoded until the maximum message size of the server
+ * can be added to the unacknowledged bytes without exceeding the {@linkplain Builder#maxUnacknowledgedBytes(long) maximum}, and only
+ * its actual size is counted once it is encoded.  Until then the synchronous driver blocks the thread sending the message, and the
+ * reactive streams driver delays the completion of the write, and therefore the demand for more writes.  A maximum smaller than the
+ * maximum message size of the server lets a message be encoded only when no other message is unacknowledged.</p>
+ *
+ * @since 5.5
+ */
+@Immutable
+public final class WriteBudgetSettings {
+    private final long maxUnacknowledgedBytes;
+    private final List<WriteBudgetListener> writeBudgetListeners;
+
+    /**
+     * Creates a builder for WriteBudgetSettings.
+     *
+     * @return a new Builder for creating WriteBudgetSettings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @param writeBudgetSettings existing WriteBudgetSettings to default the builder settings on.
+     * @return a builder
+     */
+    public static Builder builder(final WriteBudgetSettings writeBudgetSettings) {
+        return builder().applySettings(writeBudgetSettings);
+    }
+
+    /**
+     * A builder for the settings.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long maxUnacknowledgedBytes;
+        private List<WriteBudgetListener> writeBudgetListeners = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Applies the writeBudgetSettings to the builder
+         *
+         * <p>Note: Overwrites all existing settings</p>
+         *
+         * @param writeBudgetSettings the writeBudgetSettings
+         * @return this
+         */
+        public Builder applySettings(final WriteBudgetSettings writeBudgetSettings) {
+            notNull("writeBudgetSettings", writeBudgetSettings);
+            maxUnacknowledgedBytes = writeBudgetSettings.maxUnacknowledgedBytes;
+            writeBudgetListeners = new ArrayList<>(writeBudgetSettings.writeBudgetListeners);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes of the messages carrying the documents of bulk writes that are encoded but not yet
+         * acknowledged by the server, across all the connections of a client.  The default value is 0, which does not cap the number
+         * of bytes.
+         *
+         * @param maxUnacknowledgedBytes the maximum number of unacknowledged bytes, which must be &gt;= 0
+         * @return this
+         * @see #getMaxUnacknowledgedBytes()
+         */
+        public Builder maxUnacknowledgedBytes(final long maxUnacknowledgedBytes) {
+            isTrueArgument("maxUnacknowledgedBytes >= 0", maxUnacknowledgedBytes >= 0);
+            this.maxUnacknowledgedBytes = maxUnacknowledgedBytes;
+            return this;
+        }
+
+        /**
+         * Adds a write budget listener.
+         *
+         * @param writeBudgetListener the non-null write budget listener
+         * @return this
+         */
+        public Builder addWriteBudgetListener(final WriteBudgetListener writeBudgetListener) {
+            notNull("writeBudgetListener", writeBudgetListener);
+            writeBudgetListeners.add(writeBudgetListener);
+            return this;
+        }
+
+        /**
+         * Sets the write budget listeners.
+         *
+         * @param writeBudgetListeners list of write budget listeners
+         * @return this
+         */
+        public Builder writeBudgetListenerList(final List<WriteBudgetListener> writeBudgetListeners) {
+            notNull("writeBudgetListeners", writeBudgetListeners);
+            this.writeBudgetListeners = new ArrayList<>(writeBudgetListeners);
+            return this;
+        }
+
+        /**
+         * Create a new WriteBudgetSettings from the settings applied to this builder.
+         *
+         * @return a WriteBudgetSettings with the given settings.
+         */
+        public WriteBudgetSettings build() {
+            return new WriteBudgetSettings(this);
+        }
+    }
+
+    /**
+     * Gets the maximum number of bytes of the messages carrying the documents of bulk writes that are encoded but not yet acknowledged
+     * by the server.  The default value is 0, which does not cap the number of bytes.
+     *
+     * @return the maximum number of unacknowledged bytes
+     * @see Builder#maxUnacknowledgedBytes(long)
+     */
+    public long getMaxUnacknowledgedBytes() {
+        return maxUnacknowledgedBytes;
+    }
+
+    /**
+     * Gets the write budget listeners.  The default value is an empty list.
+     *
+     * @return the write budget listeners
+     */
+    public List<WriteBudgetListener> getWriteBudgetListeners() {
+        return writeBudgetListeners;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WriteBudgetSettings that = (WriteBudgetSettings) o;
+        return maxUnacknowledgedBytes == that.maxUnacknowledgedBytes
+                && Objects.equals(writeBudgetListeners, that.writeBudgetListeners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxUnacknowledgedBytes, writeBudgetListeners);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBudgetSettings{"
+                + "maxUnacknowledgedBytes=" + maxUnacknowledgedBytes
+                + ", writeBudgetListeners=" + writeBudgetListeners
+                + '}';
+    }
+
+    private WriteBudgetSettings(final Builder builder) {
+        maxUnacknowledgedBytes = builder.maxUnacknowledgedBytes;
+        writeBudgetListeners = unmodifiableList(builder.writeBudgetListeners);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener for wire protocol compression events.  Summing {@link MessageCompressedEvent#getBytesSaved()} over all events gives
+ * the number of bytes that compression has saved.
+ *
+ * <p>Listeners are invoked on the thread that sends the message, so implementations should be fast and thread-safe.</p>
+ *
+ * @see com.mongodb.connection.CompressionSettings
+ * @since 5.5
+ */
+public interface CompressionListener extends EventListener {
+
+    /**
+     * Invoked when a message is compressed.
+     *
+     * @param event the message compressed event
+     */
+    default void messageCompressed(MessageCompressedEvent event) {
+    }
+
+    /**
+     * Invoked when a message is sent uncompressed because it is smaller than the minimum message size or because compression of the
+     * command has been backed off.
+     *
+     * @param event the message compression skipped event
+     */
+    default void messageCompressionSkipped(MessageCompressionSkippedEvent event) {
+    }
+}
@@ -33,6 +33,7 @@ import static com.mongodb.assertions.Assertions.notNull;
 public final class ConnectionReadyEvent {
     private final ConnectionId connectionId;
     private final long elapsedTimeNanos;
+    private final boolean tlsSessionResumed;
 
     /**
      * Constructs an instance.
@@ -42,9 +43,22 @@ public final class ConnectionReadyEvent {
      * @since 4.11
      */
     public ConnectionReadyEvent(final ConnectionId connectionId, final long elapsedTimeNanos) {
+        this(connectionId, elapsedTimeNanos, false);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param connectionId The connection ID. See {@link #getConnectionId()}.
+     * @param elapsedTimeNanos The time it took to establish the connection. See {@link #getElapsedTime(TimeUnit)}.
+     * @param tlsSessionResumed Whether the TLS session was resumed. See {@link #isTlsSessionResumed()}.
+     * @since 5.5
+     */
+    public ConnectionReadyEvent(final ConnectionId connectionId, final long elapsedTimeNanos, final boolean tlsSessionResumed) {
         this.connectionId = notNull("connectionId", connectionId);
         isTrueArgument("elapsed time is not negative", elapsedTimeNanos >= 0);
         this.elapsedTimeNanos = elapsedTimeNanos;
+        this.tlsSessionResumed = tlsSessionResumed;
     }
 
     /**
@@ -74,6 +88,19 @@ public final class ConnectionReadyEvent {
         return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Whether the connection uses TLS and its TLS handshake resumed a session negotiated by an earlier handshake,
+     * which costs considerably less than a full handshake.
+     * <p>
+     * For a connection that uses TLS, {@code false} means that a full handshake was done.</p>
+     *
+     * @return {@code true} iff the TLS session was resumed.
+     * @since 5.5
+     */
+    public boolean isTlsSessionResumed() {
+        return tlsSessionResumed;
+    }
+
     @Override
     public String toString() {
         return "ConnectionReadyEvent{"
@@ -81,6 +108,7 @@ public final class ConnectionReadyEvent {
                 + ", server=" + connectionId.getServerId().getAddress()
                 + ", clusterId=" + connectionId.getServerId().getClusterId()
                 + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + ", tlsSessionResumed=" + tlsSessionResumed
                 + '}';
     }
 }
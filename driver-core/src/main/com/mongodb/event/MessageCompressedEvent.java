@@ -0,0 +1,106 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.event;
+
+import com.mongodb.connection.ConnectionId;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event for a command message that was compressed before being sent to the server.
+ *
+ * @see CompressionListener
+ * @since 5.5
+ */
+public final class MessageCompressedEvent {
+    private final ConnectionId connectionId;
+    private final String commandName;
+    private final int uncompressedSize;
+    private final int compressedSize;
+
+    /**
+     * Construct an instance
+     *
+     * @param connectionId the connection id
+     * @param commandName the name of the command that was compressed
+     * @param uncompressedSize the size in bytes of the message before compression
+     * @param compressedSize the size in bytes of the message after compression, including the compression header
+     */
+    public MessageCompressedEvent(final ConnectionId connectionId, final String commandName, final int uncompressedSize,
+            final int compressedSize) {
+        this.connectionId = notNull("connectionId", connectionId);
+        this.commandName = notNull("commandName", commandName);
+        this.uncompressedSize = uncompressedSize;
+        this.compressedSize = compressedSize;
+    }
+
+    /**
+     * Gets the connection id
+     *
+     * @return the connection id
+     */
+    public ConnectionId getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Gets the name of the command that was compressed
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the size in bytes of the message before compression
+     *
+     * @return the uncompressed size
+     */
+    public int getUncompressedSize() {
+        return uncompressedSize;
+    }
+
+    /**
+     * Gets the size in bytes of the message after compression, including the compression header
+     *
+     * @return the compressed size
+     */
+    public int getCompressedSize() {
+        return compressedSize;
+    }
+
+    /**
+     * Gets the number of bytes saved by compressing the message, which is negative if compression increased its size
+     *
+     * @return the number of bytes saved
+     */
+    public int getBytesSaved() {
+        return uncompressedSize - compressedSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageCompressedEvent{"
+                + "connectionId=" + connectionId
+                + ", server=" + connectionId.getServerId().getAddress()
+                + ", clusterId=" + connectionId.getServerId().getClusterId()
+                + ", commandName='" + commandName + '\''
+                + ", uncompressedSize=" + uncompressedSize
+                + ", compressedSize=" + compressedSize
+                + '}';
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.event;
+
+import com.mongodb.connection.ConnectionId;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event for a command message that was sent uncompressed, even though a compressor was negotiated, because of the
+ * {@linkplain com.mongodb.connection.CompressionSettings compression settings}.
+ *
+ * @see CompressionListener
+ * @since 5.5
+ */
+public final class MessageCompressionSkippedEvent {
+    private final ConnectionId connectionId;
+    private final String commandName;
+    private final int messageSize;
+
+    /**
+     * Construct an instance
+     *
+     * @param connectionId the connection id
+     * @param commandName the name of the command that was not compressed
+     * @param messageSize the size in bytes of the uncompressed message
+     */
+    public MessageCompressionSkippedEvent(final ConnectionId connectionId, final String commandName, final int messageSize) {
+        this.connectionId = notNull("connectionId", connectionId);
+        this.commandName = notNull("commandName", commandName);
+        this.messageSize = messageSize;
+    }
+
+    /**
+     * Gets the connection id
+     *
+     * @return the connection id
+     */
+    public ConnectionId getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Gets the name of the command that was not compressed
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the size in bytes of the uncompressed message
+     *
+     * @return the message size
+     */
+    public int getMessageSize() {
+        return messageSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageCompressionSkippedEvent{"
+                + "connectionId=" + connectionId
+                + ", server=" + connectionId.getServerId().getAddress()
+                + ", clusterId=" + connectionId.getServerId().getClusterId()
+                + ", commandName='" + commandName + '\''
+                + ", messageSize=" + messageSize
+                + '}';
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener for write budget events.  Summing {@link WriteBudgetWaitedEvent#getElapsedTime(java.util.concurrent.TimeUnit)} over all
+ * events gives the time that bulk writes have spent waiting for unacknowledged messages to be acknowledged.
+ *
+ * <p>Listeners are invoked on the thread that releases the budget the message waited for, or on the thread sending the message,
+ * so implementations should be fast and thread-safe.</p>
+ *
+ * @see com.mongodb.connection.WriteBudgetSettings
+ * @since 5.5
+ */
+public interface WriteBudgetListener extends EventListener {
+
+    /**
+     * Invoked when a message that waited for the write budget is about to be sent.
+     *
+     * @param event the write budget waited event
+     */
+    default void writeBudgetWaited(WriteBudgetWaitedEvent event) {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.connection.ConnectionId;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event for a message carrying the documents of a bulk write that waited before being sent, because sending it would have exceeded
+ * the {@linkplain com.mongodb.connection.WriteBudgetSettings#getMaxUnacknowledgedBytes() maximum number of unacknowledged bytes}.
+ *
+ * @see WriteBudgetListener
+ * @since 5.5
+ */
+public final class WriteBudgetWaitedEvent {
+    private final ConnectionId connectionId;
+    private final int messageSize;
+    private final long elapsedTimeNanos;
+
+    /**
+     * Construct an instance
+     *
+     * @param connectionId the connection id
+     * @param messageSize the number of bytes the message waited for, see {@link #getMessageSize()}
+     * @param elapsedTimeNanos the time in nanoseconds that the message waited
+     */
+    public WriteBudgetWaitedEvent(final ConnectionId connectionId, final int messageSize, final long elapsedTimeNanos) {
+        this.connectionId = notNull("connectionId", connectionId);
+        this.messageSize = messageSize;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    /**
+     * Gets the connection id
+     *
+     * @return the connection id
+     */
+    public ConnectionId getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Gets the number of bytes the message waited for, which is the maximum message size of the server, as the message is encoded
+     * only once it no longer waits.
+     *
+     * @return the number of bytes the message waited for
+     */
+    public int getMessageSize() {
+        return messageSize;
+    }
+
+    /**
+     * Gets the time that the message waited.
+     *
+     * @param timeUnit the time unit
+     * @return the elapsed time
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBudgetWaitedEvent{"
+                + "connectionId=" + connectionId
+                + ", server=" + connectionId.getServerId().getAddress()
+                + ", clusterId=" + connectionId.getServerId().getClusterId()
+                + ", messageSize=" + messageSize
+                + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + '}';
+    }
+}
@@ -161,6 +161,11 @@ public class AsyncClusterBinding extends AbstractReferenceCounted implements Asy
             server.getConnectionAsync(operationContext, callback);
         }
 
+        @Override
+        public void getUnacknowledgedWriteConnection(final SingleResultCallback<AsyncConnection> callback) {
+            server.getUnacknowledgedWriteConnectionAsync(operationContext, callback);
+        }
+
         public AsyncConnectionSource retain() {
             super.retain();
             AsyncClusterBinding.this.retain();
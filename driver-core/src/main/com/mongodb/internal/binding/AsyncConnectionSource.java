@@ -20,6 +20,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.connection.AsyncConnection;
+import com.mongodb.internal.connection.Server;
 
 /**
  * A source of connections to a single MongoDB server.
@@ -49,6 +50,17 @@ public interface AsyncConnectionSource extends BindingContext, ReferenceCounted
      */
     void getConnection(SingleResultCallback<AsyncConnection> callback);
 
+    /**
+     * Gets a connection to send the commands of an unacknowledged write on.  Unlike the connection from
+     * {@link #getConnection(SingleResultCallback)}, it may be used concurrently by other unacknowledged writes.
+     *
+     * @param callback the to be passed the connection
+     * @see Server#getUnacknowledgedWriteConnectionAsync(com.mongodb.internal.connection.OperationContext, SingleResultCallback)
+     */
+    default void getUnacknowledgedWriteConnection(final SingleResultCallback<AsyncConnection> callback) {
+        getConnection(callback);
+    }
+
     @Override
     AsyncConnectionSource retain();
 }
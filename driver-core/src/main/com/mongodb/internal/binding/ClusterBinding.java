@@ -138,6 +138,11 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
             return server.getConnection(operationContext);
         }
 
+        @Override
+        public Connection getUnacknowledgedWriteConnection() {
+            return server.getUnacknowledgedWriteConnection(operationContext);
+        }
+
         public ConnectionSource retain() {
             super.retain();
             ClusterBinding.this.retain();
@@ -19,6 +19,7 @@ package com.mongodb.internal.binding;
 import com.mongodb.ReadPreference;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.internal.connection.Connection;
+import com.mongodb.internal.connection.Server;
 
 /**
  * A source of connections to a single MongoDB server.
@@ -33,6 +34,17 @@ public interface ConnectionSource extends BindingContext, ReferenceCounted {
 
     Connection getConnection();
 
+    /**
+     * Gets a connection to send the commands of an unacknowledged write on.  Unlike the connection from {@link #getConnection()},
+     * it may be used concurrently by other unacknowledged writes.
+     *
+     * @return the connection
+     * @see Server#getUnacknowledgedWriteConnection(com.mongodb.internal.connection.OperationContext)
+     */
+    default Connection getUnacknowledgedWriteConnection() {
+        return getConnection();
+    }
+
     @Override
     ConnectionSource retain();
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Times out asynchronous waits of all clients in the JVM, for example, {@linkplain ConnectionPool#getAsync(OperationContext,
+ * SingleResultCallback) asynchronous checkouts}. The waits are otherwise completed by the threads that end them,
+ * so that they do not need threads of their own.
+ *
+ * <p>A single timer thread tracks when the waits expire, and hands the expired ones over to a bounded pool of threads that time them
+ * out, as doing so completes callbacks, which may be slow to return, and must not delay timing out other waits.
+ * The threads terminate when they have been idle for a while.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+final class AsyncTimeoutScheduler {
+    private AsyncTimeoutScheduler() {
+    }
+
+    static void prestart() {
+        Holder.TIMER.prestartCoreThread();
+    }
+
+    /**
+     * Runs {@code onTimeout} when {@code timeout} expires, or immediately on the calling thread if it has already expired.
+     * {@code onTimeout} may still run after being {@linkplain #cancel(Future) cancelled}, so it must check whether the wait has ended.
+     *
+     * @return A handle to {@linkplain #cancel(Future) cancel} {@code onTimeout}, or {@code null} if there is nothing to cancel.
+     */
+    @Nullable
+    static Future<?> schedule(final Timeout timeout, final Runnable onTimeout) {
+        return timeout.call(NANOSECONDS,
+                () -> null,
+                (ns) -> Holder.TIMER.schedule(() -> Holder.EXECUTOR.execute(onTimeout), ns, NANOSECONDS),
+                () -> {
+                    onTimeout.run();
+                    return null;
+                });
+    }
+
+    static void cancel(@Nullable final Future<?> handle) {
+        if (handle != null) {
+            handle.cancel(false);
+        }
+    }
+
+    private static final class Holder {
+        private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("AsyncTimeoutTimer"));
+            timer.setKeepAliveTime(1, MINUTES);
+            timer.allowCoreThreadTimeOut(true);
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+
+        private static ThreadPoolExecutor createExecutor() {
+            int threadCount = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 1, MINUTES, new LinkedBlockingQueue<>(),
+                    new DaemonThreadFactory("AsyncTimeout"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
+        private Holder() {
+        }
+    }
+}
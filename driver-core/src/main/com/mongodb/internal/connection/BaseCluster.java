@@ -101,6 +101,7 @@ abstract class BaseCluster implements Cluster {
     private final ClusterListener clusterListener;
     private final Deque<ServerSelectionRequest> waitQueue = new ConcurrentLinkedDeque<>();
     private final ClusterClock clusterClock = new ClusterClock();
+    private final ServerSelectionCache serverSelectionCache = new ServerSelectionCache();
     private Thread waitQueueHandler;
 
     private volatile boolean isClosed;
@@ -324,14 +325,48 @@ abstract class BaseCluster implements Cluster {
             final ServerDeprioritization serverDeprioritization,
             final Timeout serverSelectionTimeout,
             final TimeoutContext timeoutContext) {
+        ServersSnapshot serversSnapshot = getServersSnapshot(serverSelectionTimeout, timeoutContext);
+        Object cacheKey = settings.getServerSelector() == null && serverDeprioritization.isNoOp()
+                ? ServerSelectionCache.cacheKey(serverSelector)
+                : null;
+        if (cacheKey != null) {
+            List<ServerDescription> candidates = serverSelectionCache.getCandidates(cacheKey, clusterDescription,
+                    () -> selectCandidatesIfCacheable(serverSelector, clusterDescription, serversSnapshot, settings));
+            if (candidates != null && ServerSelectionCache.allContained(candidates, serversSnapshot)) {
+                return ServerSelectionCache.selectServer(candidates, serversSnapshot);
+            }
+        }
         return createCompleteSelectorAndSelectServer(
                 serverSelector,
                 clusterDescription,
-                getServersSnapshot(serverSelectionTimeout, timeoutContext),
+                serversSnapshot,
                 serverDeprioritization,
                 settings);
     }
 
+    /**
+     * Selects the same {@link ServerDescription}s as {@link #getCompleteServerSelector(ServerSelector, ServerDeprioritization,
+     * ServersSnapshot, ClusterSettings)} does before picking one of them, provided that there is no
+     * {@link ClusterSettings#getServerSelector()} and no deprioritized servers.
+     *
+     * @return {@code null} if the selected {@link ServerDescription}s must not be cached because not all servers
+     * from {@code clusterDescription} are in {@code serversSnapshot}, which happens only transiently.
+     */
+    @Nullable
+    private static List<ServerDescription> selectCandidatesIfCacheable(
+            final ServerSelector serverSelector,
+            final ClusterDescription clusterDescription,
+            final ServersSnapshot serversSnapshot,
+            final ClusterSettings settings) {
+        if (!ServerSelectionCache.allContained(clusterDescription.getServerDescriptions(), serversSnapshot)) {
+            return null;
+        }
+        return new CompositeServerSelector(asList(
+                serverSelector,
+                new LatencyMinimizingServerSelector(settings.getLocalThreshold(MILLISECONDS), MILLISECONDS)
+        )).select(clusterDescription);
+    }
+
     @Nullable
     @VisibleForTesting(otherwise = PRIVATE)
     static ServerTuple createCompleteSelectorAndSelectServer(
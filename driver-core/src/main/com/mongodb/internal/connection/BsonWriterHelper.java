@@ -28,7 +28,9 @@ import org.bson.BsonMaximumSizeExceededException;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.BsonWriterSettings;
+import org.bson.ByteBuf;
 import org.bson.FieldNameValidator;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
@@ -72,17 +74,28 @@ public final class BsonWriterHelper {
     static void writePayloadArray(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
                                   final int messageStartPosition, final SplittablePayload payload, final int maxSplittableDocumentSize) {
         writer.writeStartArray(payload.getPayloadName());
-        writePayload(writer, bsonOutput, getDocumentMessageSettings(settings), messageStartPosition, payload, maxSplittableDocumentSize);
+        writePayload(writer, bsonOutput, getDocumentMessageSettings(settings), messageStartPosition, payload, maxSplittableDocumentSize,
+                false);
         writer.writeEndArray();
     }
 
+    /**
+     * Writes the payload as an {@code OP_MSG} document sequence, each document of which is written at the top level.
+     */
     static void writePayload(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
                              final int messageStartPosition, final SplittablePayload payload, final int maxSplittableDocumentSize) {
+        writePayload(writer, bsonOutput, settings, messageStartPosition, payload, maxSplittableDocumentSize, true);
+    }
+
+    private static void writePayload(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
+                                     final int messageStartPosition, final SplittablePayload payload, final int maxSplittableDocumentSize,
+                                     final boolean topLevelDocuments) {
         MessageSettings payloadSettings = getPayloadMessageSettings(payload.getPayloadType(), settings);
         List<BsonDocument> payloadDocuments = payload.getPayload();
-        for (int i = 0; i < payloadDocuments.size(); i++) {
+        int documentCount = Math.min(payloadDocuments.size(), payload.getMaxBatchCount());
+        for (int i = 0; i < documentCount; i++) {
             if (writeDocument(writer, bsonOutput, payloadSettings, payloadDocuments.get(i), messageStartPosition, i + 1,
-                    maxSplittableDocumentSize)) {
+                    maxSplittableDocumentSize, topLevelDocuments)) {
                 payload.setPosition(i + 1);
             } else {
                 break;
@@ -167,9 +180,15 @@ public final class BsonWriterHelper {
 
     private static boolean writeDocument(final BsonWriter writer, final BsonOutput bsonOutput, final MessageSettings settings,
                                          final BsonDocument document, final int messageStartPosition, final int batchItemCount,
-                                         final int maxSplittableDocumentSize) {
+                                         final int maxSplittableDocumentSize, final boolean topLevelDocument) {
         int currentPosition = bsonOutput.getPosition();
-        encodeUsingRegistry(writer, document);
+        if (topLevelDocument && document instanceof RawBsonDocument) {
+            // the bytes of a top-level document need neither a type nor a name in front of them, so they are written as they are
+            ByteBuf documentBytes = ((RawBsonDocument) document).getByteBuffer();
+            bsonOutput.writeBytes(documentBytes.array(), documentBytes.position(), documentBytes.remaining());
+        } else {
+            encodeUsingRegistry(writer, document);
+        }
         int messageSize = bsonOutput.getPosition() - messageStartPosition;
         int documentSize = bsonOutput.getPosition() - currentPosition;
         if (exceedsLimits(settings, messageSize, documentSize, batchItemCount)
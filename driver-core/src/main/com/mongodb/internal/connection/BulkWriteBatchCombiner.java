@@ -94,6 +94,30 @@ public class BulkWriteBatchCombiner {
         mergeWriteConcernError(exception.getWriteConcernError());
     }
 
+    /**
+     * Add the result of a bulk write of a split of the requests, whose indexes are relative to the split.
+     *
+     * @param result   the result
+     * @param indexMap the index map from the indexes in the split to the indexes in the combined result
+     */
+    public void addSplitResult(final BulkWriteResult result, final IndexMap indexMap) {
+        addResult(mapIndexes(result, indexMap));
+    }
+
+    /**
+     * Add the error result of a bulk write of a split of the requests, whose indexes are relative to the split.
+     * Unlike {@link #addErrorResult(MongoBulkWriteException, IndexMap)}, also maps the indexes of the write result of the exception.
+     *
+     * @param exception the exception
+     * @param indexMap  the index map from the indexes in the split to the indexes in the combined result
+     */
+    public void addSplitErrorResult(final MongoBulkWriteException exception, final IndexMap indexMap) {
+        addSplitResult(exception.getWriteResult(), indexMap);
+        errorLabels.addAll(exception.getErrorLabels());
+        mergeWriteErrors(exception.getWriteErrors(), indexMap);
+        mergeWriteConcernError(exception.getWriteConcernError());
+    }
+
     /**
      * Add a write error result
      *
@@ -191,6 +215,19 @@ public class BulkWriteBatchCombiner {
         }
     }
 
+    private static BulkWriteResult mapIndexes(final BulkWriteResult result, final IndexMap indexMap) {
+        List<BulkWriteUpsert> upserts = new ArrayList<>(result.getUpserts().size());
+        for (BulkWriteUpsert cur : result.getUpserts()) {
+            upserts.add(new BulkWriteUpsert(indexMap.map(cur.getIndex()), cur.getId()));
+        }
+        List<BulkWriteInsert> inserts = new ArrayList<>(result.getInserts().size());
+        for (BulkWriteInsert cur : result.getInserts()) {
+            inserts.add(new BulkWriteInsert(indexMap.map(cur.getIndex()), cur.getId()));
+        }
+        return BulkWriteResult.acknowledged(result.getInsertedCount(), result.getMatchedCount(), result.getDeletedCount(),
+                result.getModifiedCount(), upserts, inserts);
+    }
+
     private void throwOnError() {
         if (hasErrors()) {
             throw getErrorNonNullable();
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.lang.Nullable;
+
+/**
+ * Combines the results of the splits of a bulk write whose requests are pulled from a source one split at a time,
+ * and executed one split after another, each split as a separate operation.
+ * The indexes of the inserts, upserts and write errors of a split are mapped to the positions of the requests in the source.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@NotThreadSafe
+public final class BulkWriteSplitsCombiner {
+    /**
+     * The maximum number of requests in a split. It is the default {@code maxWriteBatchSize} of the server,
+     * so that a split is usually executed as a single batch, unless the size of its documents requires more batches.
+     */
+    public static final int MAX_SPLIT_SIZE = 100_000;
+
+    private final BulkWriteBatchCombiner combiner;
+    private int nextSplitStartIndex;
+    private boolean acknowledged;
+    /**
+     * The address of the server that reported the first write error or write concern error.
+     */
+    @Nullable
+    private ServerAddress errorServerAddress;
+
+    /**
+     * @param ordered Whether the requests are ordered.
+     */
+    public BulkWriteSplitsCombiner(final boolean ordered) {
+        // the server address is reported only with errors, and is therefore not known until there is one
+        combiner = new BulkWriteBatchCombiner(new ServerAddress(), ordered, WriteConcern.ACKNOWLEDGED);
+        acknowledged = true;
+    }
+
+    /**
+     * Add the result of the next split.
+     *
+     * @param result    the result
+     * @param splitSize the number of requests in the split
+     */
+    public void addSplitResult(final BulkWriteResult result, final int splitSize) {
+        IndexMap indexMap = nextIndexMap(splitSize);
+        if (result.wasAcknowledged()) {
+            combiner.addSplitResult(result, indexMap);
+        } else {
+            acknowledged = false;
+        }
+    }
+
+    /**
+     * Add the error result of the next split.
+     *
+     * @param exception the exception
+     * @param splitSize the number of requests in the split
+     */
+    public void addSplitErrorResult(final MongoBulkWriteException exception, final int splitSize) {
+        combiner.addSplitErrorResult(exception, nextIndexMap(splitSize));
+        if (errorServerAddress == null) {
+            errorServerAddress = exception.getServerAddress();
+        }
+    }
+
+    /**
+     * True if ordered and has write errors.
+     *
+     * @return true if no more splits should be executed
+     */
+    public boolean shouldStopExecutingMoreSplits() {
+        return combiner.shouldStopSendingMoreBatches();
+    }
+
+    /**
+     * Gets the combined result.
+     *
+     * @return the result
+     * @throws MongoBulkWriteException if any split had errors
+     */
+    public BulkWriteResult getResult() {
+        MongoBulkWriteException error = combiner.getError();
+        if (error != null) {
+            throw new MongoBulkWriteException(error.getWriteResult(), error.getWriteErrors(), error.getWriteConcernError(),
+                    errorServerAddress == null ? error.getServerAddress() : errorServerAddress, error.getErrorLabels());
+        }
+        return acknowledged ? combiner.getResult() : BulkWriteResult.unacknowledged();
+    }
+
+    private IndexMap nextIndexMap(final int splitSize) {
+        IndexMap indexMap = IndexMap.create(nextSplitStartIndex, splitSize);
+        nextSplitStartIndex += splitSize;
+        return indexMap;
+    }
+}
@@ -35,12 +35,15 @@ import org.bson.BsonInt64;
 import org.bson.BsonString;
 import org.bson.ByteBuf;
 import org.bson.FieldNameValidator;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 
 import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.mongodb.ReadPreference.primary;
 import static com.mongodb.ReadPreference.primaryPreferred;
@@ -77,6 +80,15 @@ public final class CommandMessage extends RequestMessage {
      * Specifies that the `OP_MSG` section payload is a sequence of BSON documents.
      */
     private static final byte PAYLOAD_TYPE_1_DOCUMENT_SEQUENCE = 1;
+    /**
+     * Limits the number of distinct {@link ReadPreference}s in {@link #READ_PREFERENCE_DOCUMENTS}.
+     */
+    private static final int MAX_READ_PREFERENCE_DOCUMENTS = 64;
+    /**
+     * The encoded {@code $readPreference} fields, which are appended to commands by copying their bytes.
+     * Applications normally use only a few distinct read preferences.
+     */
+    private static final ConcurrentHashMap<ReadPreference, RawBsonDocument> READ_PREFERENCE_DOCUMENTS = new ConcurrentHashMap<>();
 
     private final MongoNamespace namespace;
     private final BsonDocument command;
@@ -223,6 +235,13 @@ public final class CommandMessage extends RequestMessage {
         }
     }
 
+    /**
+     * @return whether the message carries document sequences, as the messages of bulk writes do.
+     */
+    boolean hasMessageSequences() {
+        return !(sequences instanceof EmptyMessageSequences);
+    }
+
     MongoNamespace getNamespace() {
         return namespace;
     }
@@ -329,7 +348,7 @@ public final class CommandMessage extends RequestMessage {
                    extraElements.add(new BsonElement("maxTimeMS", new BsonInt64(maxTimeMS)))
            );
         }
-        extraElements.add(new BsonElement("$db", new BsonString(new MongoNamespace(getCollectionName()).getDatabaseName())));
+        extraElements.add(new BsonElement("$db", new BsonString(namespace.getDatabaseName())));
         if (sessionContext.getClusterTime() != null) {
             extraElements.add(new BsonElement("$clusterTime", sessionContext.getClusterTime()));
         }
@@ -363,14 +382,25 @@ public final class CommandMessage extends RequestMessage {
 
         if (readPreference != null) {
             if (!readPreference.equals(primary())) {
-                extraElements.add(new BsonElement("$readPreference", readPreference.toDocument()));
+                extraElements.add(new BsonElement("$readPreference", getReadPreferenceDocument(readPreference)));
             } else if (isDirectConnectionToReplicaSetMember()) {
-                extraElements.add(new BsonElement("$readPreference", primaryPreferred().toDocument()));
+                extraElements.add(new BsonElement("$readPreference", getReadPreferenceDocument(primaryPreferred())));
             }
         }
         return extraElements;
     }
 
+    private static RawBsonDocument getReadPreferenceDocument(final ReadPreference readPreference) {
+        RawBsonDocument document = READ_PREFERENCE_DOCUMENTS.get(readPreference);
+        if (document == null) {
+            document = new RawBsonDocument(readPreference.toDocument(), new BsonDocumentCodec());
+            if (READ_PREFERENCE_DOCUMENTS.size() < MAX_READ_PREFERENCE_DOCUMENTS) {
+                READ_PREFERENCE_DOCUMENTS.putIfAbsent(readPreference, document);
+            }
+        }
+        return document;
+    }
+
     private void addServerApiElements(final List<BsonElement> extraElements) {
         extraElements.add(new BsonElement("apiVersion", new BsonString(serverApi.getVersion().getValue())));
         if (serverApi.getStrict().isPresent()) {
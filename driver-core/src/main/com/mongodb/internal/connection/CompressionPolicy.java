@@ -0,0 +1,143 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.connection.CompressionSettings;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.event.CompressionListener;
+import com.mongodb.event.MessageCompressedEvent;
+import com.mongodb.event.MessageCompressionSkippedEvent;
+import com.mongodb.internal.diagnostics.logging.Logger;
+import com.mongodb.internal.diagnostics.logging.Loggers;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static java.lang.String.format;
+
+/**
+ * Decides, per command message, whether a message should be compressed with the negotiated compressor, according to
+ * {@link CompressionSettings}.  An instance is shared by all the connections created by one connection factory, so that the ratio
+ * sampled for a command name applies across the connections to a server.
+ *
+ * <p>This class is thread-safe.</p>
+ */
+final class CompressionPolicy {
+    private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final double RATIO_SMOOTHING_FACTOR = 0.2;
+
+    private final int minimumMessageSize;
+    private final boolean adaptive;
+    private final double maximumCompressionRatio;
+    private final int backOffMessageCount;
+    private final List<CompressionListener> compressionListeners;
+    private final ConcurrentMap<String, CommandCompressionState> commandStates = new ConcurrentHashMap<>();
+
+    CompressionPolicy(final CompressionSettings settings) {
+        notNull("settings", settings);
+        this.minimumMessageSize = settings.getMinimumMessageSize();
+        Double maximumCompressionRatio = settings.getMaximumCompressionRatio();
+        this.adaptive = maximumCompressionRatio != null;
+        this.maximumCompressionRatio = adaptive ? maximumCompressionRatio : Double.MAX_VALUE;
+        this.backOffMessageCount = settings.getBackOffMessageCount();
+        this.compressionListeners = settings.getCompressionListeners();
+    }
+
+    /**
+     * Returns whether a message for the given command with the given size should be compressed, notifying the listeners if it should
+     * not.
+     */
+    boolean shouldCompress(final ConnectionId connectionId, final String commandName, final int messageSize) {
+        boolean shouldCompress = messageSize >= minimumMessageSize
+                && (!adaptive || getCommandState(commandName).tryCompress());
+        if (!shouldCompress && !compressionListeners.isEmpty()) {
+            MessageCompressionSkippedEvent event = new MessageCompressionSkippedEvent(connectionId, commandName, messageSize);
+            for (CompressionListener listener : compressionListeners) {
+                try {
+                    listener.messageCompressionSkipped(event);
+                } catch (Exception e) {
+                    logListenerException(e, event);
+                }
+            }
+        }
+        return shouldCompress;
+    }
+
+    /**
+     * Records the sizes of a message that was compressed, which may back off compression for the command.
+     */
+    void compressed(final ConnectionId connectionId, final String commandName, final int uncompressedSize, final int compressedSize) {
+        if (adaptive && uncompressedSize > 0) {
+            getCommandState(commandName).addSample((double) compressedSize / uncompressedSize);
+        }
+        if (!compressionListeners.isEmpty()) {
+            MessageCompressedEvent event = new MessageCompressedEvent(connectionId, commandName, uncompressedSize, compressedSize);
+            for (CompressionListener listener : compressionListeners) {
+                try {
+                    listener.messageCompressed(event);
+                } catch (Exception e) {
+                    logListenerException(e, event);
+                }
+            }
+        }
+    }
+
+    private CommandCompressionState getCommandState(final String commandName) {
+        CommandCompressionState state = commandStates.get(commandName);
+        if (state == null) {
+            state = commandStates.computeIfAbsent(commandName, k -> new CommandCompressionState());
+        }
+        return state;
+    }
+
+    private static void logListenerException(final Exception e, final Object event) {
+        if (LOGGER.isWarnEnabled()) {
+            LOGGER.warn(format("Exception thrown raising compression event %s", event), e);
+        }
+    }
+
+    private final class CommandCompressionState {
+        private final Lock lock = new ReentrantLock();
+        private double averageRatio = -1;
+        private int uncompressedMessagesRemaining;
+
+        boolean tryCompress() {
+            return withLock(lock, () -> {
+                if (uncompressedMessagesRemaining > 0) {
+                    uncompressedMessagesRemaining--;
+                    return false;
+                }
+                return true;
+            });
+        }
+
+        void addSample(final double ratio) {
+            withLock(lock, () -> {
+                averageRatio = averageRatio < 0 ? ratio : RATIO_SMOOTHING_FACTOR * ratio + (1 - RATIO_SMOOTHING_FACTOR) * averageRatio;
+                if (averageRatio >= maximumCompressionRatio) {
+                    uncompressedMessagesRemaining = backOffMessageCount;
+                    // start afresh after the back-off so that a change in the payloads is picked up by the next sample
+                    averageRatio = -1;
+                }
+            });
+        }
+    }
+}
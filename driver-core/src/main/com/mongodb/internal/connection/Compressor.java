@@ -69,6 +69,10 @@ abstract class Compressor {
         // ignore
     }
 
+    // override this to release any resources retained between calls to compress or uncompress
+    void close() {
+    }
+
     // override this if not overriding the compress method
     OutputStream getOutputStream(final OutputStream source) throws IOException {
         throw new UnsupportedEncodingException();
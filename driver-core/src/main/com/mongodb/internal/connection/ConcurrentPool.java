@@ -26,13 +26,18 @@ import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.time.StartTime;
 import com.mongodb.lang.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.util.Deque;
-import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
@@ -57,8 +62,18 @@ public class ConcurrentPool<T> implements Pool<T> {
     private final int maxSize;
     private final ItemFactory<T> itemFactory;
 
-    private final Deque<T> available = new ConcurrentLinkedDeque<>();
+    private final AvailableItems<T> available;
+    @Nullable
+    private final ThreadLocal<WeakReference<T>> lastReleasedByCurrentThread;
     private final StateAndPermits stateAndPermits;
+    /**
+     * {@link AsyncGet}s waiting for a permit, in the order they are to be completed.
+     */
+    private final ConcurrentLinkedDeque<AsyncGet> asyncGets;
+    /**
+     * See {@link #dispatchAsyncGets()}.
+     */
+    private final AtomicInteger asyncGetsDispatchRequests;
     private final String poolClosedMessage;
 
     /**
@@ -72,6 +87,15 @@ public class ConcurrentPool<T> implements Pool<T> {
         void close(T t);
 
         boolean shouldPrune(T t);
+
+        /**
+         * @return The thread {@code t} is bound to, for example, because it performs all I/O of {@code t},
+         * or {@code null} if there is no such thread.
+         */
+        @Nullable
+        default Thread ioThread(T t) {
+            return null;
+        }
     }
 
     /**
@@ -85,10 +109,48 @@ public class ConcurrentPool<T> implements Pool<T> {
     }
 
     public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory, final String poolClosedMessage) {
+        this(maxSize, itemFactory, poolClosedMessage, 1, false);
+    }
+
+    /**
+     * Initializes a new pool of objects.
+     *
+     * @param maxSize           max to hold to at any given time, must be positive.
+     * @param itemFactory       factory used to create and close items in the pool
+     * @param poolClosedMessage the message of the exception thrown when using the pool after it is {@linkplain #close() closed}
+     * @param availableStripes  the number of stripes available items are spread across, must be positive.
+     *                          See {@link com.mongodb.connection.ConnectionPoolSettings#getAvailableConnectionStripes()}.
+     * @param threadAffinity    whether to prefer giving a thread the item it released last.
+     *                          See {@link com.mongodb.connection.ConnectionPoolSettings#isThreadAffinityEnabled()}.
+     */
+    public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory, final String poolClosedMessage,
+            final int availableStripes, final boolean threadAffinity) {
+        this(maxSize, itemFactory, poolClosedMessage, availableStripes, threadAffinity, false);
+    }
+
+    /**
+     * Initializes a new pool of objects.
+     *
+     * @param maxSize           max to hold to at any given time, must be positive.
+     * @param itemFactory       factory used to create and close items in the pool
+     * @param poolClosedMessage the message of the exception thrown when using the pool after it is {@linkplain #close() closed}
+     * @param availableStripes  the number of stripes available items are spread across, must be positive.
+     *                          See {@link com.mongodb.connection.ConnectionPoolSettings#getAvailableConnectionStripes()}.
+     * @param threadAffinity    whether to prefer giving a thread the item it released last.
+     *                          See {@link com.mongodb.connection.ConnectionPoolSettings#isThreadAffinityEnabled()}.
+     * @param ioThreadAffinity  whether to add a released item to the stripe of its {@linkplain ItemFactory#ioThread(Object) I/O thread}.
+     *                          See {@link com.mongodb.connection.ConnectionPoolSettings#isEventLoopAffinityEnabled()}.
+     */
+    public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory, final String poolClosedMessage,
+            final int availableStripes, final boolean threadAffinity, final boolean ioThreadAffinity) {
         assertTrue(maxSize > 0);
         this.maxSize = maxSize;
         this.itemFactory = itemFactory;
+        available = new AvailableItems<>(availableStripes, ioThreadAffinity ? itemFactory::ioThread : null);
+        lastReleasedByCurrentThread = threadAffinity ? new ThreadLocal<>() : null;
         stateAndPermits = new StateAndPermits(maxSize, this::poolClosedException);
+        asyncGets = new ConcurrentLinkedDeque<>();
+        asyncGetsDispatchRequests = new AtomicInteger();
         this.poolClosedMessage = notNull("poolClosedMessage", poolClosedMessage);
     }
 
@@ -123,10 +185,13 @@ public class ConcurrentPool<T> implements Pool<T> {
         if (prune) {
             close(t);
         } else {
+            if (lastReleasedByCurrentThread != null) {
+                lastReleasedByCurrentThread.set(new WeakReference<>(t));
+            }
             available.addLast(t);
         }
 
-        stateAndPermits.releasePermit();
+        releasePermit();
     }
 
     /**
@@ -154,7 +219,7 @@ public class ConcurrentPool<T> implements Pool<T> {
             throw new MongoTimeoutException(String.format("Timeout waiting for a pooled item after %d %s", timeout, timeUnit));
         }
 
-        T t = available.pollLast();
+        T t = available.pollLast(lastReleasedByCurrentThread());
         if (t == null) {
             t = createNewAndReleasePermitIfFailure();
         }
@@ -171,30 +236,134 @@ public class ConcurrentPool<T> implements Pool<T> {
     T getImmediate() {
         T element = null;
         if (stateAndPermits.acquirePermitImmediate()) {
-            element = available.pollLast();
+            element = available.pollLast(lastReleasedByCurrentThread());
             if (element == null) {
-                stateAndPermits.releasePermit();
+                releasePermit();
             }
         }
         return element;
     }
 
-    public void prune() {
-        // restrict number of iterations to the current size in order to avoid an infinite loop in the presence of concurrent releases
-        // back to the pool
-        int maxIterations = available.size();
-        int numIterations = 0;
-        for (T cur : available) {
-            if (itemFactory.shouldPrune(cur) && available.remove(cur)) {
-                close(cur);
+    /**
+     * An asynchronous counterpart of {@link #get()} that never blocks and never creates threads.
+     * If there are no permits, the request is queued and is completed by a thread that {@linkplain #release(Object) releases}
+     * an item, {@linkplain #pause(Supplier) pauses} or {@linkplain #close() closes} the pool.
+     * The pool does not time out the request, but it may be {@linkplain AsyncGet#fail(RuntimeException) failed},
+     * for example, when the timeout of the caller expires.
+     *
+     * @param callback Called exactly once, either with an item and {@code null}, or with {@code null} and an exception.
+     * It may be called before this method returns. Must not throw {@link Exception}s.
+     * @return The request.
+     */
+    AsyncGet getAsync(final BiConsumer<T, RuntimeException> callback) {
+        AsyncGet request = new AsyncGet(callback);
+        boolean acquired;
+        try {
+            acquired = stateAndPermits.acquirePermitImmediate();
+        } catch (RuntimeException e) {
+            request.fail(e);
+            return request;
+        }
+        if (acquired) {
+            completeWithPermit(request);
+        } else {
+            asyncGets.addLast(request);
+            // a permit may have been released before the request was queued
+            dispatchAsyncGets();
+        }
+        return request;
+    }
+
+    /**
+     * Completes the {@code request} with an available or a new item using a permit acquired on its behalf,
+     * or releases the permit if the {@code request} is already completed.
+     */
+    private void completeWithPermit(final AsyncGet request) {
+        if (!request.tryComplete()) {
+            releasePermit();
+            return;
+        }
+        T t;
+        try {
+            t = available.pollLast(null);
+            if (t == null) {
+                t = createNewAndReleasePermitIfFailure();
             }
-            numIterations++;
-            if (numIterations == maxIterations) {
-                break;
+        } catch (RuntimeException e) {
+            request.callback.accept(null, e);
+            return;
+        }
+        request.callback.accept(t, null);
+    }
+
+    /**
+     * Completes queued {@link AsyncGet}s while there are permits, or fails all of them if the pool is closed or paused.
+     * Only one thread dispatches at a time, and a callback that releases an item does not dispatch recursively:
+     * a thread that finds another one dispatching makes it do one more pass instead.
+     */
+    private void dispatchAsyncGets() {
+        if (asyncGetsDispatchRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            dispatchAsyncGetsPass();
+            requests = asyncGetsDispatchRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private void dispatchAsyncGetsPass() {
+        while (!asyncGets.isEmpty()) {
+            if (stateAndPermits.closedOrPaused()) {
+                if (failAsyncGets()) {
+                    return;
+                }
+            } else if (!stateAndPermits.tryAcquirePermit()) {
+                return;
+            } else {
+                AsyncGet request = asyncGets.pollFirst();
+                if (request == null) {
+                    stateAndPermits.releasePermit();
+                    return;
+                }
+                completeWithPermit(request);
             }
         }
     }
 
+    /**
+     * @return {@code false} iff stopped failing because the pool became ready concurrently.
+     */
+    private boolean failAsyncGets() {
+        AsyncGet request;
+        while ((request = asyncGets.pollFirst()) != null) {
+            RuntimeException failure = stateAndPermits.closedOrPausedException();
+            if (failure == null) {
+                asyncGets.addFirst(request);
+                return false;
+            }
+            request.fail(failure);
+        }
+        return true;
+    }
+
+    /**
+     * @return The item {@linkplain #release(Object) released} last by the current thread if thread affinity is enabled,
+     * regardless of whether it is still available.
+     */
+    @Nullable
+    private T lastReleasedByCurrentThread() {
+        if (lastReleasedByCurrentThread == null) {
+            return null;
+        }
+        WeakReference<T> lastReleased = lastReleasedByCurrentThread.get();
+        return lastReleased == null ? null : lastReleased.get();
+    }
+
+    public void prune() {
+        available.removeIf(itemFactory::shouldPrune, this::close);
+    }
+
 
     /**
      * Try to populate this pool with items so that {@link #getCount()} is not smaller than {@code minSize}.
@@ -209,6 +378,11 @@ public class ConcurrentPool<T> implements Pool<T> {
             if (!stateAndPermits.acquirePermit(0, TimeUnit.MILLISECONDS)) {
                 break;
             }
+            // the acquired permit is accounted for by getCount, re-checking prevents exceeding minSize when called concurrently
+            if (getCount() > minSize) {
+                releasePermit();
+                break;
+            }
             initAndRelease.accept(createNewAndReleasePermitIfFailure());
         }
     }
@@ -221,11 +395,21 @@ public class ConcurrentPool<T> implements Pool<T> {
             }
             return newMember;
         } catch (Exception e) {
-            stateAndPermits.releasePermit();
+            releasePermit();
             throw e;
         }
     }
 
+    /**
+     * Releases a permit and uses it to complete a queued {@link AsyncGet}, if there is one.
+     */
+    private void releasePermit() {
+        stateAndPermits.releasePermit();
+        if (!asyncGets.isEmpty()) {
+            dispatchAsyncGets();
+        }
+    }
+
     /**
      * @param timeout See {@link StartTime#timeoutAfterOrInfiniteIfNegative(long, TimeUnit)}.
      */
@@ -241,13 +425,9 @@ public class ConcurrentPool<T> implements Pool<T> {
     @Override
     public void close() {
         if (stateAndPermits.close()) {
-            Iterator<T> iter = available.iterator();
-            while (iter.hasNext()) {
-                T t = iter.next();
-                close(t);
-                iter.remove();
-            }
+            available.removeAll(this::close);
         }
+        dispatchAsyncGets();
     }
 
     int getMaxSize() {
@@ -287,10 +467,21 @@ public class ConcurrentPool<T> implements Pool<T> {
         stateAndPermits.ready();
     }
 
+    /**
+     * Unlike {@link #close()}, does not fail queued {@link AsyncGet}s, because this method may be called while holding locks
+     * that their callbacks must not be called with. {@link #signalPaused()} must be called afterwards.
+     */
     void pause(final Supplier<MongoException> causeSupplier) {
         stateAndPermits.pause(causeSupplier);
     }
 
+    /**
+     * Fails the queued {@link AsyncGet}s if the pool is {@linkplain #pause(Supplier) paused}.
+     */
+    void signalPaused() {
+        dispatchAsyncGets();
+    }
+
     /**
      * @see #isPoolClosedException(Throwable)
      */
@@ -305,9 +496,163 @@ public class ConcurrentPool<T> implements Pool<T> {
         return e instanceof MongoServerUnavailableException;
     }
 
+    /**
+     * A request to {@linkplain #getAsync(BiConsumer) get} an item asynchronously, which is completed at most once.
+     */
+    @ThreadSafe
+    final class AsyncGet {
+        private final BiConsumer<T, RuntimeException> callback;
+        private final AtomicBoolean completed;
+
+        private AsyncGet(final BiConsumer<T, RuntimeException> callback) {
+            this.callback = callback;
+            completed = new AtomicBoolean();
+        }
+
+        /**
+         * Fails the request unless it is already completed.
+         *
+         * @return {@code true} iff the request is completed as a result of this method.
+         */
+        boolean fail(final RuntimeException failure) {
+            if (!tryComplete()) {
+                return false;
+            }
+            asyncGets.remove(this);
+            callback.accept(null, failure);
+            return true;
+        }
+
+        boolean isCompleted() {
+            return completed.get();
+        }
+
+        private boolean tryComplete() {
+            return completed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Items that are not in use, spread across one or more {@link ConcurrentLinkedDeque}s called stripes.
+     * A thread adds items to and polls items from the stripe chosen based on its {@linkplain Thread#getId() ID},
+     * and polls items from other stripes only if its own stripe is empty.
+     * With a single stripe this is equivalent to using a single {@link ConcurrentLinkedDeque}.
+     * <p>
+     * If items have {@linkplain ItemFactory#ioThread(Object) I/O threads} and I/O thread affinity is enabled,
+     * an item is added to the stripe of its I/O thread instead of the stripe of the current thread,
+     * so that an I/O thread polling items finds the items bound to it in its own stripe.</p>
+     */
+    @ThreadSafe
+    private static final class AvailableItems<T> {
+        private final Deque<T>[] stripes;
+        @Nullable
+        private final Function<T, Thread> ioThread;
+        /**
+         * Incremented after an item is added and decremented after an item is removed,
+         * which means that it may be transiently smaller than the number of items.
+         */
+        private final AtomicInteger count;
+
+        @SuppressWarnings("unchecked")
+        AvailableItems(final int stripeCount, @Nullable final Function<T, Thread> ioThread) {
+            assertTrue(stripeCount > 0);
+            this.ioThread = ioThread;
+            stripes = new Deque[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new ConcurrentLinkedDeque<>();
+            }
+            count = new AtomicInteger();
+        }
+
+        void addLast(final T t) {
+            stripes[stripeIndex(t)].addLast(t);
+            count.incrementAndGet();
+        }
+
+        /**
+         * @param preferred An item to remove if it is available, otherwise any item is removed.
+         * The preferred item is looked for only in the stripe of the current thread, starting from the tail,
+         * which is where the current thread adds items, and where the items released most recently are.
+         */
+        @Nullable
+        T pollLast(@Nullable final T preferred) {
+            int stripeIndex = currentStripeIndex();
+            if (preferred != null && stripes[stripeIndex].removeLastOccurrence(preferred)) {
+                count.decrementAndGet();
+                return preferred;
+            }
+            do {
+                for (int i = 0; i < stripes.length; i++) {
+                    T t = stripes[(stripeIndex + i) % stripes.length].pollLast();
+                    if (t != null) {
+                        count.decrementAndGet();
+                        return t;
+                    }
+                }
+                // An item may have been added to a stripe after we polled it. Not missing such an item is important
+                // because otherwise the caller creates a new item, and the number of items may exceed the max size of the pool.
+            } while (stripes.length > 1 && count.get() > 0);
+            return null;
+        }
+
+        /**
+         * Removes each item for which {@code predicate} returns {@code true} and applies {@code onRemoved} to it.
+         */
+        void removeIf(final Predicate<T> predicate, final Consumer<T> onRemoved) {
+            for (Deque<T> stripe : stripes) {
+                // restrict number of iterations to the current size in order to avoid an infinite loop in the presence of concurrent
+                // releases back to the pool
+                int maxIterations = stripe.size();
+                int numIterations = 0;
+                for (T cur : stripe) {
+                    if (predicate.test(cur) && stripe.remove(cur)) {
+                        count.decrementAndGet();
+                        onRemoved.accept(cur);
+                    }
+                    numIterations++;
+                    if (numIterations == maxIterations) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        void removeAll(final Consumer<T> onRemoved) {
+            for (Deque<T> stripe : stripes) {
+                T t;
+                while ((t = stripe.pollLast()) != null) {
+                    count.decrementAndGet();
+                    onRemoved.accept(t);
+                }
+            }
+        }
+
+        int size() {
+            return Math.max(0, count.get());
+        }
+
+        private int stripeIndex(final T t) {
+            Thread itemIoThread = ioThread == null || stripes.length == 1 ? null : ioThread.apply(t);
+            return itemIoThread == null ? currentStripeIndex() : stripeIndex(itemIoThread);
+        }
+
+        private int currentStripeIndex() {
+            return stripes.length == 1 ? 0 : stripeIndex(Thread.currentThread());
+        }
+
+        private int stripeIndex(final Thread thread) {
+            return (int) (thread.getId() % stripes.length);
+        }
+    }
+
     /**
      * Package-access methods are thread-safe,
      * and only they should be called outside of the {@link StateAndPermits}'s code.
+     * <p>
+     * Permits are acquired and released without locking unless the pool is {@linkplain #close() closed} or
+     * {@linkplain #pause(Supplier) paused}, or there are no permits available.
+     * The {@link #lock} is used for waiting for a permit, and a releasing thread acquires it to signal
+     * only if there are {@linkplain #waiters waiting threads}.</p>
      */
     @ThreadSafe
     private static final class StateAndPermits {
@@ -317,7 +662,14 @@ public class ConcurrentPool<T> implements Pool<T> {
         private volatile boolean paused;
         private volatile boolean closed;
         private final int maxPermits;
-        private volatile int permits;
+        private final AtomicInteger permits;
+        /**
+         * The number of threads waiting for a permit. Must be modified only by a {@link Thread} that holds the {@link #lock}.
+         * <p>
+         * A waiting thread increments it before trying to acquire a permit, and a releasing thread reads it after releasing a permit,
+         * which guarantees that either the waiting thread acquires the permit, or the releasing thread signals.</p>
+         */
+        private volatile int waiters;
         @Nullable
         private Supplier<MongoException> causeSupplier;
 
@@ -328,24 +680,22 @@ public class ConcurrentPool<T> implements Pool<T> {
             paused = false;
             closed = false;
             this.maxPermits = maxPermits;
-            permits = maxPermits;
+            permits = new AtomicInteger(maxPermits);
+            waiters = 0;
             causeSupplier = null;
         }
 
         int permits() {
-            return permits;
+            return permits.get();
         }
 
         boolean acquirePermitImmediate() {
+            if (!closed & !paused) {
+                return tryAcquirePermit();
+            }
             return withLock(lock, () -> {
                 throwIfClosedOrPaused();
-                if (permits > 0) {
-                    //noinspection NonAtomicOperationOnVolatileField
-                    permits--;
-                    return true;
-                } else {
-                    return false;
-                }
+                return tryAcquirePermit();
             });
         }
 
@@ -356,12 +706,16 @@ public class ConcurrentPool<T> implements Pool<T> {
          * @param timeout See {@link StartTime#timeoutAfterOrInfiniteIfNegative(long, TimeUnit)}.
          */
         boolean acquirePermit(final long timeout, final TimeUnit unit) throws MongoInterruptedException {
+            // the absence of short-circuiting is of importance
+            if (!closed & !paused & !Thread.currentThread().isInterrupted() && tryAcquirePermit()) {
+                return true;
+            }
             long remainingNanos = unit.toNanos(timeout);
             lockInterruptibly(lock);
+            //noinspection NonAtomicOperationOnVolatileField
+            waiters++;
             try {
-                while (permits == 0
-                        // the absence of short-circuiting is of importance
-                        & !throwIfClosedOrPaused()) {
+                while (!throwIfClosedOrPaused() && !tryAcquirePermit()) {
                     try {
                         if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
                             permitAvailableOrClosedOrPausedCondition.await();
@@ -374,22 +728,30 @@ public class ConcurrentPool<T> implements Pool<T> {
                         throw interruptAndCreateMongoInterruptedException(null, e);
                     }
                 }
-                assertTrue(permits > 0);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits--;
                 return true;
             } finally {
+                //noinspection NonAtomicOperationOnVolatileField
+                waiters--;
                 lock.unlock();
             }
         }
 
         void releasePermit() {
-            withLock(lock, () -> {
-                assertTrue(permits < maxPermits);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits++;
-                permitAvailableOrClosedOrPausedCondition.signal();
-            });
+            assertTrue(permits.incrementAndGet() <= maxPermits);
+            if (waiters > 0) {
+                withLock(lock, permitAvailableOrClosedOrPausedCondition::signal);
+            }
+        }
+
+        boolean tryAcquirePermit() {
+            int currentPermits = permits.get();
+            while (currentPermits > 0) {
+                if (permits.compareAndSet(currentPermits, currentPermits - 1)) {
+                    return true;
+                }
+                currentPermits = permits.get();
+            }
+            return false;
         }
 
         void pause(final Supplier<MongoException> causeSupplier) {
@@ -452,6 +814,25 @@ public class ConcurrentPool<T> implements Pool<T> {
         boolean closed() {
             return closed;
         }
+
+        boolean closedOrPaused() {
+            return closed | paused;
+        }
+
+        /**
+         * @return The exception {@link #throwIfClosedOrPaused()} would have thrown, or {@code null} if it would not have thrown.
+         */
+        @Nullable
+        RuntimeException closedOrPausedException() {
+            return withLock(lock, () -> {
+                try {
+                    throwIfClosedOrPaused();
+                    return null;
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            });
+        }
     }
 
     /**
@@ -77,4 +77,11 @@ interface ConnectionPool extends Closeable {
     void close();
 
     int getGeneration();
+
+    /**
+     * @param connection a connection {@linkplain #get(OperationContext) checked out} of this pool.
+     * @return whether this pool would prune {@code connection} if it were checked in now, for example, because it is past the
+     * maximum life time or idle time of the connections of the pool.
+     */
+    boolean shouldPrune(InternalConnection connection);
 }
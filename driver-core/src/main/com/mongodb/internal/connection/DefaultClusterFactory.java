@@ -25,8 +25,10 @@ import com.mongodb.ServerApi;
 import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ClusterId;
 import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.ClusterListener;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
@@ -70,8 +72,9 @@ public final class DefaultClusterFactory {
                                  @Nullable final CommandListener commandListener,
                                  @Nullable final String applicationName,
                                  @Nullable final MongoDriverInformation mongoDriverInformation,
-                                 final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-                                 @Nullable final DnsClient dnsClient) {
+                                 final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings,
+                                 final WriteBudgetSettings writeBudgetSettings,
+                                 @Nullable final ServerApi serverApi, @Nullable final DnsClient dnsClient) {
 
         detectAndLogClusterEnvironment(originalClusterSettings);
 
@@ -111,7 +114,7 @@ public final class DefaultClusterFactory {
             ClusterableServerFactory serverFactory = new LoadBalancedClusterableServerFactory(serverSettings,
                     connectionPoolSettings, internalConnectionPoolSettings, streamFactory, credential, loggerSettings, commandListener,
                     applicationName, mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(),
-                    compressorList, serverApi, clusterOperationContextFactory);
+                    compressorList, compressionSettings, writeBudgetSettings, serverApi, clusterOperationContextFactory);
             return new LoadBalancedCluster(clusterId, clusterSettings, serverFactory, dnsSrvRecordMonitorFactory);
         } else {
             ClusterableServerFactory serverFactory = new DefaultClusterableServerFactory(serverSettings,
@@ -119,7 +122,8 @@ public final class DefaultClusterFactory {
                     clusterOperationContextFactory, streamFactory, heartBeatOperationContextFactory, heartbeatStreamFactory, credential,
                     loggerSettings, commandListener, applicationName,
                     mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(), compressorList,
-                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN);
+                    compressionSettings, writeBudgetSettings, serverApi,
+                    FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN);
 
             if (clusterSettings.getMode() == ClusterConnectionMode.SINGLE) {
                 return new SingleServerCluster(clusterId, clusterSettings, serverFactory);
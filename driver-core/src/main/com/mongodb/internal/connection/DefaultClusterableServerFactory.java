@@ -23,9 +23,11 @@ import com.mongodb.MongoDriverInformation;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerApi;
 import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
 import com.mongodb.internal.inject.SameObjectProvider;
@@ -35,6 +37,7 @@ import java.util.List;
 
 import static com.mongodb.internal.event.EventListenerHelper.singleServerListener;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -53,6 +56,8 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     private final String applicationName;
     private final MongoDriverInformation mongoDriverInformation;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
+    private final WriteBudget writeBudget;
     @Nullable
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
@@ -65,7 +70,9 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
             @Nullable final MongoCredential credential, final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener, @Nullable final String applicationName,
             @Nullable final MongoDriverInformation mongoDriverInformation,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings,
+            final WriteBudgetSettings writeBudgetSettings,
+            @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -79,6 +86,9 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.applicationName = applicationName;
         this.mongoDriverInformation = mongoDriverInformation;
         this.compressorList = compressorList;
+        this.compressionSettings = compressionSettings;
+        // a single budget is shared by the connections to all the servers
+        this.writeBudget = new WriteBudget(writeBudgetSettings);
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
     }
@@ -95,16 +105,21 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
                 clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory);
 
         ConnectionPool connectionPool = new DefaultConnectionPool(serverId,
-                new InternalStreamConnectionFactory(clusterMode, streamFactory, credential, applicationName,
-                        mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi),
+                new InternalStreamConnectionFactory(clusterMode, false, streamFactory, credential, applicationName,
+                        mongoDriverInformation, compressorList, compressionSettings, writeBudget, loggerSettings, commandListener,
+                        serverApi),
                 connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory);
         ServerListener serverListener = singleServerListener(serverSettings);
         SdamServerDescriptionManager sdam = new DefaultSdamServerDescriptionManager(cluster, serverId, serverListener, serverMonitor,
                 connectionPool, clusterMode);
         sdamProvider.initialize(sdam);
         serverMonitor.start();
+        // the reserved connection is checked for pruning as often as the pool checks its connections
+        UnacknowledgedWriteChannel unacknowledgedWriteChannel = connectionPoolSettings.isUnacknowledgedWriteChannelEnabled()
+                ? new UnacknowledgedWriteChannel(connectionPool, connectionPoolSettings.getMaintenanceFrequency(MILLISECONDS))
+                : null;
         return new DefaultServer(serverId, clusterMode, connectionPool, new DefaultConnectionFactory(), serverMonitor,
-                sdam, serverListener, commandListener, cluster.getClock(), true);
+                sdam, serverListener, commandListener, cluster.getClock(), true, unacknowledgedWriteChannel);
     }
 
     @Override
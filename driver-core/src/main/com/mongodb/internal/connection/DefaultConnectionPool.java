@@ -61,30 +61,28 @@ import org.bson.codecs.Decoder;
 import org.bson.types.ObjectId;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
-import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -119,6 +117,7 @@ import static com.mongodb.internal.logging.LogMessage.Entry.Name.WAIT_QUEUE_TIME
 import static com.mongodb.internal.logging.LogMessage.Level.DEBUG;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @ThreadSafe
@@ -129,7 +128,6 @@ final class DefaultConnectionPool implements ConnectionPool {
     private final ConnectionPoolSettings settings;
     private final InternalOperationContextFactory operationContextFactory;
     private final BackgroundMaintenanceManager backgroundMaintenance;
-    private final AsyncWorkManager asyncWorkManager;
     private final ConnectionPoolListener connectionPoolListener;
     private final ServerId serverId;
     private final PinnedStatsManager pinnedStatsManager = new PinnedStatsManager();
@@ -165,14 +163,17 @@ final class DefaultConnectionPool implements ConnectionPool {
         UsageTrackingInternalConnectionItemFactory connectionItemFactory =
                 new UsageTrackingInternalConnectionItemFactory(internalConnectionFactory);
         pool = new ConcurrentPool<>(maxSize(settings), connectionItemFactory, format("The server at %s is no longer available",
-                serverId.getAddress()));
+                serverId.getAddress()), settings.getAvailableConnectionStripes(), settings.isThreadAffinityEnabled(),
+                settings.isEventLoopAffinityEnabled());
         this.operationContextFactory = assertNotNull(operationContextFactory);
         this.sdamProvider = assertNotNull(sdamProvider);
         this.connectionPoolListener = getConnectionPoolListener(settings);
         backgroundMaintenance = new BackgroundMaintenanceManager();
         connectionPoolCreated(connectionPoolListener, serverId, settings);
         openConcurrencyLimiter = new OpenConcurrencyLimiter(settings.getMaxConnecting());
-        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager());
+        if (internalSettings.isPrestartAsyncWorkManager()) {
+            AsyncTimeoutScheduler.prestart();
+        }
         stateAndGeneration = new StateAndGeneration();
         connectionGenerationSupplier = new ConnectionGenerationSupplier() {
             @Override
@@ -225,25 +226,16 @@ final class DefaultConnectionPool implements ConnectionPool {
             eventSendingCallback.onResult(null, e);
             return;
         }
-        asyncWorkManager.enqueue(new Task(maxWaitTimeout, checkoutStart, t -> {
-            if (t != null) {
-                eventSendingCallback.onResult(null, t);
+        getPooledConnectionAsync(maxWaitTimeout, checkoutStart, (connection, failure) -> {
+            if (failure != null) {
+                eventSendingCallback.onResult(null, failure);
+            } else if (assertNotNull(connection).opened()) {
+                eventSendingCallback.onResult(connection, null);
             } else {
-                PooledConnection connection;
-                try {
-                    connection = getPooledConnection(maxWaitTimeout, checkoutStart);
-                } catch (Exception e) {
-                    eventSendingCallback.onResult(null, e);
-                    return;
-                }
-                if (connection.opened()) {
-                    eventSendingCallback.onResult(connection, null);
-                } else {
-                    openConcurrencyLimiter.openWithConcurrencyLimitAsync(
-                            operationContext, connection, maxWaitTimeout, checkoutStart, eventSendingCallback);
-                }
+                openConcurrencyLimiter.openWithConcurrencyLimitAsync(
+                        operationContext, connection, maxWaitTimeout, checkoutStart, eventSendingCallback);
             }
-        }));
+        });
     }
 
     /**
@@ -286,6 +278,7 @@ final class DefaultConnectionPool implements ConnectionPool {
     public void invalidate(@Nullable final Throwable cause) {
         assertFalse(isLoadBalanced());
         if (stateAndGeneration.pauseAndIncrementGeneration(cause)) {
+            pool.signalPaused();
             openConcurrencyLimiter.signalClosedOrPaused();
         }
     }
@@ -317,7 +310,6 @@ final class DefaultConnectionPool implements ConnectionPool {
         if (stateAndGeneration.close()) {
             pool.close();
             backgroundMaintenance.close();
-            asyncWorkManager.close();
             openConcurrencyLimiter.signalClosedOrPaused();
             logEventMessage("Connection pool closed", "Connection pool closed for {}:{}");
 
@@ -349,6 +341,35 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    /**
+     * An asynchronous counterpart of {@link #getPooledConnection(Timeout, StartTime)} that never blocks.
+     * If no connection is available, the {@code callback} is completed by a thread that checks a connection in,
+     * or by the {@link AsyncTimeoutScheduler} when {@code waitQueueTimeout} expires.
+     */
+    private void getPooledConnectionAsync(final Timeout waitQueueTimeout, final StartTime startTime,
+            final SingleResultCallback<PooledConnection> callback) {
+        AtomicReference<Future<?>> timeoutHandle = new AtomicReference<>();
+        ConcurrentPool<UsageTrackingInternalConnection>.AsyncGet request = pool.getAsync((internalConnection, failure) -> {
+            AsyncTimeoutScheduler.cancel(timeoutHandle.get());
+            if (failure != null) {
+                callback.onResult(null, failure);
+            } else if (shouldPrune(internalConnection)) {
+                pool.release(internalConnection, true);
+                getPooledConnectionAsync(waitQueueTimeout, startTime, callback);
+            } else {
+                callback.onResult(new PooledConnection(internalConnection), null);
+            }
+        });
+        if (!request.isCompleted()) {
+            Future<?> handle = AsyncTimeoutScheduler.schedule(waitQueueTimeout, () -> request.fail(createTimeoutException(startTime)));
+            timeoutHandle.set(handle);
+            // the request may have been completed before the handle became visible to its callback
+            if (request.isCompleted()) {
+                AsyncTimeoutScheduler.cancel(handle);
+            }
+        }
+    }
+
     @Nullable
     private PooledConnection getPooledConnectionImmediate() {
         UsageTrackingInternalConnection internalConnection = pool.getImmediate();
@@ -452,6 +473,11 @@ final class DefaultConnectionPool implements ConnectionPool {
         return settings.getMinSize() > 0;
     }
 
+    @Override
+    public boolean shouldPrune(final InternalConnection connection) {
+        return connection instanceof PooledConnection && shouldPrune(((PooledConnection) connection).wrapped);
+    }
+
     private boolean shouldPrune(final UsageTrackingInternalConnection connection) {
         return fromPreviousGeneration(connection) || pastMaxLifeTime(connection) || pastMaxIdleTime(connection);
     }
@@ -716,7 +742,8 @@ final class DefaultConnectionPool implements ConnectionPool {
                 entries.add(new LogMessage.Entry(DURATION_MS, openDuration.toMillis()));
                 logMessage("Connection ready", clusterId, "Connection ready: address={}:{}, driver-generated ID={}, established in={} ms", entries);
             }
-            connectionPoolListener.connectionReady(new ConnectionReadyEvent(connectionId, openDuration.toNanos()));
+            connectionPoolListener.connectionReady(new ConnectionReadyEvent(connectionId, openDuration.toNanos(),
+                    wrapped.isTlsSessionResumed()));
         }
 
         @Override
@@ -880,6 +907,12 @@ final class DefaultConnectionPool implements ConnectionPool {
         public boolean shouldPrune(final UsageTrackingInternalConnection usageTrackingConnection) {
             return DefaultConnectionPool.this.shouldPrune(usageTrackingConnection);
         }
+
+        @Override
+        @Nullable
+        public Thread ioThread(final UsageTrackingInternalConnection connection) {
+            return connection.getIoThread();
+        }
     }
 
     /**
@@ -892,14 +925,19 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final Condition permitAvailableOrHandedOverOrClosedOrPausedCondition;
         private final int maxPermits;
         private int permits;
-        private final Deque<MutableReference<PooledConnection>> desiredConnectionSlots;
+        /**
+         * The synchronous and asynchronous waiters for a permit or an available opened connection, in the order they started waiting,
+         * which is the order they are granted permits and handed over connections in. A waiter is granted a permit or handed over
+         * a connection by the thread that removes it. While there are waiters, no permits are available.
+         */
+        private final Deque<Waiter> waiters;
 
         OpenConcurrencyLimiter(final int maxConnecting) {
             lock = new ReentrantLock(false);
             permitAvailableOrHandedOverOrClosedOrPausedCondition = lock.newCondition();
             maxPermits = maxConnecting;
             permits = maxPermits;
-            desiredConnectionSlots = new LinkedList<>();
+            waiters = new ArrayDeque<>();
         }
 
         PooledConnection openOrGetAvailable(final OperationContext operationContext, final PooledConnection connection,
@@ -994,7 +1032,8 @@ final class DefaultConnectionPool implements ConnectionPool {
          * <ul>
          *     <li>It does not have the {@code mode} parameter and acts as if this parameter were
          *     {@link OpenWithConcurrencyLimitMode#TRY_GET_AVAILABLE}.</li>
-         *     <li>While the first phase is still synchronous, the {@code connection} is
+         *     <li>The first phase {@linkplain #acquirePermitOrGetAvailableOpenedConnectionAsync(Timeout, StartTime, SingleResultCallback)
+         *     does not block}, and the {@code connection} is
          *     {@linkplain InternalConnection#openAsync(OperationContext, SingleResultCallback) opened asynchronously} in the second phase.</li>
          *     <li>Instead of returning a result or throwing an exception via Java {@code return}/{@code throw} statements,
          *     it calls {@code callback.}{@link SingleResultCallback#onResult(Object, Throwable) onResult(result, failure)}
@@ -1005,26 +1044,67 @@ final class DefaultConnectionPool implements ConnectionPool {
                 final OperationContext operationContext, final PooledConnection connection,
                 final Timeout maxWaitTimeout, final StartTime startTime,
                 final SingleResultCallback<PooledConnection> callback) {
-            PooledConnection availableConnection;
-            try {//phase one
-                availableConnection = acquirePermitOrGetAvailableOpenedConnection(true, maxWaitTimeout, startTime);
-            } catch (Exception e) {
-                connection.closeSilently();
-                callback.onResult(null, e);
-                return;
-            }
-            if (availableConnection != null) {
-                connection.closeSilently();
-                callback.onResult(availableConnection, null);
-            } else {//acquired a permit, phase two
-                connection.openAsync(operationContext, (nullResult, failure) -> {
-                    releasePermit();
-                    if (failure != null) {
-                        callback.onResult(null, failure);
+            //phase one
+            acquirePermitOrGetAvailableOpenedConnectionAsync(maxWaitTimeout, startTime, (availableConnection, phaseOneFailure) -> {
+                if (phaseOneFailure != null) {
+                    connection.closeSilently();
+                    callback.onResult(null, phaseOneFailure);
+                } else if (availableConnection != null) {
+                    connection.closeSilently();
+                    callback.onResult(availableConnection, null);
+                } else {//acquired a permit, phase two
+                    connection.openAsync(operationContext, (nullResult, failure) -> {
+                        releasePermit();
+                        if (failure != null) {
+                            callback.onResult(null, failure);
+                        } else {
+                            callback.onResult(connection, null);
+                        }
+                    });
+                }
+            });
+        }
+
+        /**
+         * An asynchronous counterpart of {@link #acquirePermitOrGetAvailableOpenedConnection(boolean, Timeout, StartTime)}
+         * with {@code tryGetAvailable} being {@code true} that never blocks.
+         * If neither a permit nor an opened connection is available, the {@code callback} is completed by a thread that
+         * {@linkplain #releasePermit() releases} a permit or {@linkplain #tryHandOverOrRelease(UsageTrackingInternalConnection) hands over}
+         * a connection, by a thread that {@linkplain #signalClosedOrPaused() signals} closing or pausing,
+         * or by the {@link AsyncTimeoutScheduler} when {@code waitQueueTimeout} expires.
+         *
+         * @param callback Called with {@code null} and {@code null} if a permit has been acquired.
+         */
+        private void acquirePermitOrGetAvailableOpenedConnectionAsync(final Timeout waitQueueTimeout, final StartTime startTime,
+                final SingleResultCallback<PooledConnection> callback) {
+            AsyncWaiter waiter = new AsyncWaiter(callback);
+            PooledConnection availableConnection = null;
+            boolean queued = false;
+            RuntimeException failure = null;
+            lock.lock();
+            try {
+                stateAndGeneration.throwIfClosedOrPaused();
+                // see acquirePermitOrGetAvailableOpenedConnection for why this must be done while holding the lock
+                availableConnection = getPooledConnectionImmediate();
+                if (availableConnection == null) {
+                    if (waiters.isEmpty() && permits > 0) {
+                        permits--;
                     } else {
-                        callback.onResult(connection, null);
+                        waiters.addLast(waiter);
+                        queued = true;
                     }
-                });
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                callback.onResult(null, failure);
+            } else if (queued) {
+                waiter.scheduleTimeout(waitQueueTimeout, startTime);
+            } else {
+                callback.onResult(availableConnection, null);
             }
         }
 
@@ -1040,10 +1120,11 @@ final class DefaultConnectionPool implements ConnectionPool {
         private PooledConnection acquirePermitOrGetAvailableOpenedConnection(final boolean tryGetAvailable,
                 final Timeout waitQueueTimeout, final StartTime startTime)
                 throws MongoTimeoutException, MongoInterruptedException {
-            PooledConnection availableConnection = null;
-            boolean expressedDesireToGetAvailableConnection = false;
+            SyncWaiter waiter = null;
+            AsyncWaiter asyncWaiterGrantedPermit = null;
             lockInterruptibly(lock);
             try {
+                stateAndGeneration.throwIfClosedOrPaused();
                 if (tryGetAvailable) {
                     /* An attempt to get an available opened connection from the pool (must be done while holding the lock)
                      * happens here at most once to prevent the race condition in the following execution
@@ -1054,17 +1135,21 @@ final class DefaultConnectionPool implements ConnectionPool {
                      * 3. Thread#1 executes the current code. Expresses the desire to get a connection via the hand-over mechanism,
                      *   but thread#2 has already tried handing over and released its connection to the pool.
                      * As a result, thread#1 is waiting for a permit to open a connection despite one being available in the pool. */
-                    availableConnection = getPooledConnectionImmediate();
+                    PooledConnection availableConnection = getPooledConnectionImmediate();
                     if (availableConnection != null) {
                         return availableConnection;
                     }
-                    expressDesireToGetAvailableConnection();
-                    expressedDesireToGetAvailableConnection = true;
                 }
-                while (permits == 0
+                if (waiters.isEmpty() && permits > 0) {
+                    permits--;
+                    return null;
+                }
+                waiter = new SyncWaiter(tryGetAvailable);
+                waiters.addLast(waiter);
+                while (!waiter.permitGranted
                         // the absence of short-circuiting is of importance
                         & !stateAndGeneration.throwIfClosedOrPaused()
-                        & (availableConnection = tryGetAvailable ? tryGetAvailableConnection() : null) == null) {
+                        & waiter.handedOverConnection == null) {
 
                     Timeout.onExistsAndExpired(waitQueueTimeout, () -> {
                         throw createTimeoutException(startTime);
@@ -1072,50 +1157,57 @@ final class DefaultConnectionPool implements ConnectionPool {
                     waitQueueTimeout.awaitOn(permitAvailableOrHandedOverOrClosedOrPausedCondition,
                             () -> "acquiring permit or getting available opened connection");
                 }
-                if (availableConnection == null) {
-                    assertTrue(permits > 0);
-                    permits--;
-                }
-                return availableConnection;
+                PooledConnection result = waiter.handedOverConnection;
+                waiter = null;
+                return result;
             } finally {
                 try {
-                    if (expressedDesireToGetAvailableConnection && availableConnection == null) {
-                        giveUpOnTryingToGetAvailableConnection();
+                    if (waiter != null) {
+                        // gives up on waiting, but may have been granted a permit or handed over a connection concurrently
+                        if (waiter.permitGranted) {
+                            asyncWaiterGrantedPermit = releasePermitWhileLocked();
+                        } else if (waiter.handedOverConnection != null) {
+                            waiter.handedOverConnection.release();
+                        } else {
+                            waiters.remove(waiter);
+                        }
                     }
                 } finally {
                     lock.unlock();
                 }
+                if (asyncWaiterGrantedPermit != null) {
+                    asyncWaiterGrantedPermit.complete(null, null);
+                }
             }
         }
 
         private void releasePermit() {
-            withLock(lock, () -> {
-                assertTrue(permits < maxPermits);
-                permits++;
-                permitAvailableOrHandedOverOrClosedOrPausedCondition.signal();
-            });
-        }
-
-        private void expressDesireToGetAvailableConnection() {
-            desiredConnectionSlots.addLast(new MutableReference<>());
-        }
-
-        @Nullable
-        private PooledConnection tryGetAvailableConnection() {
-            assertFalse(desiredConnectionSlots.isEmpty());
-            PooledConnection result = desiredConnectionSlots.peekFirst().reference;
-            if (result != null) {
-                desiredConnectionSlots.removeFirst();
-                assertTrue(result.opened());
+            AsyncWaiter asyncWaiter = withLock(lock, this::releasePermitWhileLocked);
+            if (asyncWaiter != null) {
+                // the permit is handed over to the waiter
+                asyncWaiter.complete(null, null);
             }
-            return result;
         }
 
-        private void giveUpOnTryingToGetAvailableConnection() {
-            assertFalse(desiredConnectionSlots.isEmpty());
-            PooledConnection connection = desiredConnectionSlots.removeLast().reference;
-            if (connection != null) {
-                connection.release();
+        /**
+         * Must be called while holding {@link #lock}. Grants the permit to the first waiter if there is one.
+         *
+         * @return The asynchronous waiter granted the permit, which must be {@linkplain AsyncWaiter#complete(PooledConnection, Throwable)
+         * completed} without holding {@link #lock}.
+         */
+        @Nullable
+        private AsyncWaiter releasePermitWhileLocked() {
+            Waiter first = waiters.pollFirst();
+            if (first == null) {
+                assertTrue(permits < maxPermits);
+                permits++;
+                return null;
+            } else if (first instanceof SyncWaiter) {
+                ((SyncWaiter) first).permitGranted = true;
+                permitAvailableOrHandedOverOrClosedOrPausedCondition.signalAll();
+                return null;
+            } else {
+                return (AsyncWaiter) first;
             }
         }
 
@@ -1124,24 +1216,116 @@ final class DefaultConnectionPool implements ConnectionPool {
          * from threads that are waiting for a permit to open a connection.
          */
         void tryHandOverOrRelease(final UsageTrackingInternalConnection openConnection) {
-            boolean handedOver = withLock(lock, () -> {
-                for (//iterate from first (head) to last (tail)
-                        MutableReference<PooledConnection> desiredConnectionSlot : desiredConnectionSlots) {
-                    if (desiredConnectionSlot.reference == null) {
-                        desiredConnectionSlot.reference = new PooledConnection(openConnection);
-                        permitAvailableOrHandedOverOrClosedOrPausedCondition.signal();
-                        return true;
+            Waiter handedOverTo = withLock(lock, () -> {
+                for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+                    Waiter waiter = iterator.next();
+                    if (waiter.acceptsAvailableConnection()) {
+                        iterator.remove();
+                        if (waiter instanceof SyncWaiter) {
+                            ((SyncWaiter) waiter).handedOverConnection = new PooledConnection(openConnection);
+                            permitAvailableOrHandedOverOrClosedOrPausedCondition.signalAll();
+                        }
+                        return waiter;
                     }
                 }
-                return false;
+                return null;
             });
-            if (!handedOver) {
+            if (handedOverTo instanceof AsyncWaiter) {
+                ((AsyncWaiter) handedOverTo).complete(new PooledConnection(openConnection), null);
+            } else if (handedOverTo == null) {
                 pool.release(openConnection);
             }
         }
 
         void signalClosedOrPaused() {
-            withLock(lock, permitAvailableOrHandedOverOrClosedOrPausedCondition::signalAll);
+            List<Runnable> failures = withLock(lock, () -> {
+                permitAvailableOrHandedOverOrClosedOrPausedCondition.signalAll();
+                List<Runnable> result = new ArrayList<>();
+                try {
+                    stateAndGeneration.throwIfClosedOrPaused();
+                } catch (RuntimeException e) {
+                    // synchronous waiters remove themselves when they are signalled
+                    for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+                        Waiter waiter = iterator.next();
+                        if (waiter instanceof AsyncWaiter) {
+                            iterator.remove();
+                            result.add(() -> ((AsyncWaiter) waiter).complete(null, e));
+                        }
+                    }
+                }
+                return result;
+            });
+            failures.forEach(Runnable::run);
+        }
+
+        private abstract class Waiter {
+            /**
+             * @return Whether an available opened connection may be handed over to this waiter instead of granting it a permit.
+             */
+            abstract boolean acceptsAvailableConnection();
+        }
+
+        /**
+         * A thread waiting on {@link #permitAvailableOrHandedOverOrClosedOrPausedCondition}. Must be accessed only while holding
+         * {@link #lock}.
+         */
+        @NotThreadSafe
+        private final class SyncWaiter extends Waiter {
+            private final boolean tryGetAvailable;
+            private boolean permitGranted;
+            @Nullable
+            private PooledConnection handedOverConnection;
+
+            SyncWaiter(final boolean tryGetAvailable) {
+                this.tryGetAvailable = tryGetAvailable;
+            }
+
+            @Override
+            boolean acceptsAvailableConnection() {
+                return tryGetAvailable;
+            }
+        }
+
+        /**
+         * An asynchronous counterpart of {@link SyncWaiter}.
+         */
+        @ThreadSafe
+        private final class AsyncWaiter extends Waiter {
+            private final SingleResultCallback<PooledConnection> callback;
+            private volatile boolean completed;
+            @Nullable
+            private volatile Future<?> timeoutHandle;
+
+            AsyncWaiter(final SingleResultCallback<PooledConnection> callback) {
+                this.callback = callback;
+            }
+
+            @Override
+            boolean acceptsAvailableConnection() {
+                return true;
+            }
+
+            /**
+             * Must be called only by the thread that removed this waiter from {@link #waiters}, and not while holding {@link #lock}.
+             */
+            void complete(@Nullable final PooledConnection connection, @Nullable final Throwable failure) {
+                completed = true;
+                AsyncTimeoutScheduler.cancel(timeoutHandle);
+                callback.onResult(connection, failure);
+            }
+
+            void scheduleTimeout(final Timeout waitQueueTimeout, final StartTime startTime) {
+                Future<?> handle = AsyncTimeoutScheduler.schedule(waitQueueTimeout, () -> {
+                    if (withLock(lock, () -> waiters.remove(this))) {
+                        complete(null, createTimeoutException(startTime));
+                    }
+                });
+                timeoutHandle = handle;
+                // the waiter may have been completed before the handle became visible to it
+                if (completed) {
+                    AsyncTimeoutScheduler.cancel(handle);
+                }
+            }
         }
     }
 
@@ -1153,15 +1337,6 @@ final class DefaultConnectionPool implements ConnectionPool {
         TRY_HAND_OVER_OR_RELEASE
     }
 
-    @NotThreadSafe
-    private static final class MutableReference<T> {
-        @Nullable
-        private T reference;
-
-        private MutableReference() {
-        }
-    }
-
     @ThreadSafe
     static final class ServiceStateManager {
         private final ConcurrentHashMap<ObjectId, ServiceState> stateByServiceId = new ConcurrentHashMap<>();
@@ -1266,160 +1441,6 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
-    /**
-     * This class maintains threads needed to perform {@link ConnectionPool#getAsync(OperationContext, SingleResultCallback)}.
-     */
-    @ThreadSafe
-    private static class AsyncWorkManager implements AutoCloseable {
-        private volatile State state;
-        private volatile BlockingQueue<Task> tasks;
-        private final Lock lock;
-        @Nullable
-        private ExecutorService worker;
-
-        AsyncWorkManager(final boolean prestart) {
-            state = State.NEW;
-            tasks = new LinkedBlockingQueue<>();
-            lock = new StampedLock().asWriteLock();
-            if (prestart) {
-                assertTrue(initUnlessClosed());
-            }
-        }
-
-        void enqueue(final Task task) {
-            boolean closed = withLock(lock, () -> {
-                if (initUnlessClosed()) {
-                    tasks.add(task);
-                    return false;
-                }
-                return true;
-            });
-            if (closed) {
-                task.failAsClosed();
-            }
-        }
-
-        /**
-         * Invocations of this method must be guarded by {@link #lock}, unless done from the constructor.
-         *
-         * @return {@code false} iff the {@link #state} is {@link State#CLOSED}.
-         */
-        private boolean initUnlessClosed() {
-            boolean result = true;
-            if (state == State.NEW) {
-                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter"));
-                worker.submit(() -> runAndLogUncaught(this::workerRun));
-                state = State.INITIALIZED;
-            } else if (state == State.CLOSED) {
-                result = false;
-            }
-            return result;
-        }
-
-        /**
-         * {@linkplain Thread#interrupt() Interrupts} all workers and causes queued tasks to
-         * {@linkplain Task#failAsClosed() fail} asynchronously.
-         */
-        @Override
-        @SuppressWarnings("try")
-        public void close() {
-            withLock(lock, () -> {
-                if (state != State.CLOSED) {
-                    state = State.CLOSED;
-                    if (worker != null) {
-                        worker.shutdownNow(); // at this point we interrupt `worker`s thread
-                    }
-                }
-            });
-        }
-
-        private void workerRun() {
-            while (state != State.CLOSED) {
-                try {
-                    Task task = tasks.take();
-
-                    task.timeout().run(NANOSECONDS,
-                            () -> task.execute(),
-                            (ns) -> task.execute(),
-                            () -> task.failAsTimedOut());
-                } catch (InterruptedException closed) {
-                    // fail the rest of the tasks and stop
-                } catch (Exception e) {
-                    LOGGER.error(null, e);
-                }
-            }
-            failAllTasksAfterClosing();
-        }
-
-        private void failAllTasksAfterClosing() {
-            Queue<Task> localGets = withLock(lock, () -> {
-                assertTrue(state == State.CLOSED);
-                // at this point it is guaranteed that no thread enqueues a task
-                Queue<Task> result = tasks;
-                if (!tasks.isEmpty()) {
-                    tasks = new LinkedBlockingQueue<>();
-                }
-                return result;
-            });
-            localGets.forEach(Task::failAsClosed);
-            localGets.clear();
-        }
-
-        private void runAndLogUncaught(final Runnable runnable) {
-            try {
-                runnable.run();
-            } catch (Throwable t) {
-                LOGGER.error("The pool is not going to work correctly from now on. You may want to recreate the MongoClient", t);
-                throw t;
-            }
-        }
-
-        private enum State {
-            NEW,
-            INITIALIZED,
-            CLOSED
-        }
-    }
-
-    /**
-     * An action that is allowed to be completed (failed or executed) at most once, and a timeout associated with it.
-     */
-    @NotThreadSafe
-    final class Task {
-        private final Timeout timeout;
-        private final StartTime startTime;
-        private final Consumer<RuntimeException> action;
-        private boolean completed;
-
-        Task(final Timeout timeout, final StartTime startTime, final Consumer<RuntimeException> action) {
-            this.timeout = timeout;
-            this.startTime = startTime;
-            this.action = action;
-        }
-
-        void execute() {
-            doComplete(() -> null);
-        }
-
-        void failAsClosed() {
-            doComplete(pool::poolClosedException);
-        }
-
-        void failAsTimedOut() {
-            doComplete(() -> createTimeoutException(startTime));
-        }
-
-        private void doComplete(final Supplier<RuntimeException> failureSupplier) {
-            assertFalse(completed);
-            completed = true;
-            action.accept(failureSupplier.get());
-        }
-
-        Timeout timeout() {
-            return timeout;
-        }
-    }
-
     /**
      * Methods {@link #start()} and {@link #runOnceAndStop()} must be called sequentially. Each {@link #start()} must be followed by
      * {@link #runOnceAndStop()} unless {@link BackgroundMaintenanceManager} is {@linkplain #close() closed}.
@@ -1435,13 +1456,24 @@ final class DefaultConnectionPool implements ConnectionPool {
         @Nullable
         private Future<?> cancellationHandle;
         private boolean initialStart;
+        @Nullable
+        private final ThreadPoolExecutor prewarmer;
 
         private BackgroundMaintenanceManager() {
             maintainer = settings.getMaintenanceInitialDelay(NANOSECONDS) < Long.MAX_VALUE
-                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer"))
+                    ? Executors.newSingleThreadScheduledExecutor(
+                            new DaemonThreadFactory("MaintenanceTimer", settings.isVirtualThreadsEnabled()))
                     : null;
             cancellationHandle = null;
             initialStart = true;
+            if (maintainer != null && settings.isPrewarmEnabled() && shouldEnsureMinSize()) {
+                int maxConnecting = settings.getMaxConnecting();
+                prewarmer = new ThreadPoolExecutor(maxConnecting, maxConnecting, 1, MINUTES, new LinkedBlockingQueue<>(),
+                        new DaemonThreadFactory("ConnectionPoolPrewarmer", settings.isVirtualThreadsEnabled()));
+                prewarmer.allowCoreThreadTimeOut(true);
+            } else {
+                prewarmer = null;
+            }
         }
 
         void start() {
@@ -1455,6 +1487,18 @@ final class DefaultConnectionPool implements ConnectionPool {
             }
         }
 
+        /**
+         * Ensures the minimum pool size using up to {@link ConnectionPoolSettings#getMaxConnecting()} threads,
+         * if {@linkplain ConnectionPoolSettings#isPrewarmEnabled() enabled}.
+         */
+        void prewarm() {
+            if (prewarmer != null) {
+                for (int i = 0; i < prewarmer.getMaximumPoolSize(); i++) {
+                    ignoreRejectedExectution(() -> prewarmer.execute(DefaultConnectionPool.this::doMaintenance));
+                }
+            }
+        }
+
         void runOnceAndStop() {
             if (maintainer != null) {
                 if (cancellationHandle != null) {
@@ -1470,6 +1514,9 @@ final class DefaultConnectionPool implements ConnectionPool {
             if (maintainer != null) {
                 maintainer.shutdownNow();
             }
+            if (prewarmer != null) {
+                prewarmer.shutdownNow();
+            }
         }
 
         private void ignoreRejectedExectution(final Runnable action) {
@@ -1549,6 +1596,7 @@ final class DefaultConnectionPool implements ConnectionPool {
 
                         connectionPoolListener.connectionPoolReady(new ConnectionPoolReadyEvent(serverId));
                         backgroundMaintenance.start();
+                        backgroundMaintenance.prewarm();
                         return true;
                     }
                     return false;
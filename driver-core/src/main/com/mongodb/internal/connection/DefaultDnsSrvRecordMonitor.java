@@ -24,14 +24,18 @@ import com.mongodb.connection.ClusterType;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.dns.DnsResolver;
+import com.mongodb.lang.Nullable;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
 
 import static com.mongodb.internal.connection.ServerAddressHelper.createServerAddress;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newDaemonThread;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
     private static final Logger LOGGER = Loggers.getLogger("cluster");
@@ -42,31 +46,60 @@ class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
     private final long noRecordsRescanFrequencyMillis;
     private final DnsSrvRecordInitializer dnsSrvRecordInitializer;
     private final DnsResolver dnsResolver;
+    private final DnsSrvRecordMonitorRunnable monitorRunnable;
+    /**
+     * {@code null} iff {@link SharedMonitorScheduler} is used.
+     */
+    @Nullable
     private final Thread monitorThread;
+    @Nullable
+    private volatile ScheduledFuture<?> scheduledRescan;
     private volatile boolean isClosed;
 
     DefaultDnsSrvRecordMonitor(final String hostName, final String srvServiceName, final long rescanFrequencyMillis, final long noRecordsRescanFrequencyMillis,
             final DnsSrvRecordInitializer dnsSrvRecordInitializer, final ClusterId clusterId,
             final DnsResolver dnsResolver) {
+        this(hostName, srvServiceName, rescanFrequencyMillis, noRecordsRescanFrequencyMillis, dnsSrvRecordInitializer, clusterId,
+                dnsResolver, false, false);
+    }
+
+    DefaultDnsSrvRecordMonitor(final String hostName, final String srvServiceName, final long rescanFrequencyMillis, final long noRecordsRescanFrequencyMillis,
+            final DnsSrvRecordInitializer dnsSrvRecordInitializer, final ClusterId clusterId,
+            final DnsResolver dnsResolver, final boolean useSharedMonitorScheduler, final boolean useVirtualThread) {
         this.hostName = hostName;
         this.srvServiceName = srvServiceName;
         this.rescanFrequencyMillis = rescanFrequencyMillis;
         this.noRecordsRescanFrequencyMillis = noRecordsRescanFrequencyMillis;
         this.dnsSrvRecordInitializer = dnsSrvRecordInitializer;
         this.dnsResolver = dnsResolver;
-        monitorThread = new Thread(new DnsSrvRecordMonitorRunnable(), "cluster-" + clusterId + "-srv-" + hostName);
-        monitorThread.setDaemon(true);
+        monitorRunnable = new DnsSrvRecordMonitorRunnable();
+        if (useSharedMonitorScheduler) {
+            monitorThread = null;
+        } else {
+            monitorThread = newDaemonThread(monitorRunnable, "cluster-" + clusterId + "-srv-" + hostName, useVirtualThread);
+        }
     }
 
     @Override
     public void start() {
-        monitorThread.start();
+        if (monitorThread == null) {
+            monitorRunnable.scheduleRescan(0);
+        } else {
+            monitorThread.start();
+        }
     }
 
     @Override
     public void close() {
         isClosed = true;
-        monitorThread.interrupt();
+        if (monitorThread == null) {
+            ScheduledFuture<?> scheduledRescan = this.scheduledRescan;
+            if (scheduledRescan != null) {
+                scheduledRescan.cancel(false);
+            }
+        } else {
+            monitorThread.interrupt();
+        }
     }
 
     private class DnsSrvRecordMonitorRunnable implements Runnable {
@@ -76,40 +109,61 @@ class DefaultDnsSrvRecordMonitor implements DnsSrvRecordMonitor {
         @Override
         public void run() {
             while (!isClosed && shouldContinueMonitoring()) {
+                rescan();
                 try {
-                    List<String> resolvedHostNames = dnsResolver.resolveHostFromSrvRecords(hostName, srvServiceName);
-                    Set<ServerAddress> hosts = createServerAddressSet(resolvedHostNames);
+                    Thread.sleep(getRescanFrequencyMillis());
+                } catch (InterruptedException closed) {
+                    // fall through
+                }
+                clusterType = dnsSrvRecordInitializer.getClusterType();
+            }
+        }
 
-                    if (isClosed) {
-                        return;
+        /**
+         * The counterpart of {@link #run()} used with {@link SharedMonitorScheduler}: each rescan schedules the next one.
+         */
+        void scheduleRescan(final long delayMillis) {
+            scheduledRescan = SharedMonitorScheduler.get().schedule(() -> {
+                if (delayMillis > 0) {
+                    // like `run` does after sleeping, but not before the first rescan
+                    clusterType = dnsSrvRecordInitializer.getClusterType();
+                }
+                if (!isClosed && shouldContinueMonitoring()) {
+                    rescan();
+                    if (!isClosed) {
+                        scheduleRescan(getRescanFrequencyMillis());
                     }
+                }
+            }, delayMillis, MILLISECONDS);
+        }
 
-                    if (!hosts.equals(currentHosts)) {
-                        try {
-                            dnsSrvRecordInitializer.initialize(unmodifiableSet(hosts));
-                            currentHosts = hosts;
-                        } catch (Exception e) {
-                            LOGGER.warn("Exception in monitor thread during notification of DNS resolution state change", e);
-                        }
-                    }
-                } catch (MongoException e) {
-                    if (currentHosts.isEmpty()) {
-                        dnsSrvRecordInitializer.initialize(e);
-                    }
-                    LOGGER.info("Exception while resolving SRV records", e);
-                } catch (Exception e) {
-                    if (currentHosts.isEmpty()) {
-                        dnsSrvRecordInitializer.initialize(new MongoInternalException("Unexpected runtime exception", e));
-                    }
-                    LOGGER.info("Unexpected runtime exception while resolving SRV record", e);
+        private void rescan() {
+            try {
+                List<String> resolvedHostNames = dnsResolver.resolveHostFromSrvRecords(hostName, srvServiceName);
+                Set<ServerAddress> hosts = createServerAddressSet(resolvedHostNames);
+
+                if (isClosed) {
+                    return;
                 }
 
-                try {
-                    Thread.sleep(getRescanFrequencyMillis());
-                } catch (InterruptedException closed) {
-                    // fall through
+                if (!hosts.equals(currentHosts)) {
+                    try {
+                        dnsSrvRecordInitializer.initialize(unmodifiableSet(hosts));
+                        currentHosts = hosts;
+                    } catch (Exception e) {
+                        LOGGER.warn("Exception in monitor thread during notification of DNS resolution state change", e);
+                    }
                 }
-                clusterType = dnsSrvRecordInitializer.getClusterType();
+            } catch (MongoException e) {
+                if (currentHosts.isEmpty()) {
+                    dnsSrvRecordInitializer.initialize(e);
+                }
+                LOGGER.info("Exception while resolving SRV records", e);
+            } catch (Exception e) {
+                if (currentHosts.isEmpty()) {
+                    dnsSrvRecordInitializer.initialize(new MongoInternalException("Unexpected runtime exception", e));
+                }
+                LOGGER.info("Unexpected runtime exception while resolving SRV record", e);
             }
         }
 
@@ -35,16 +35,21 @@ public class DefaultDnsSrvRecordMonitorFactory implements DnsSrvRecordMonitorFac
     private final ClusterId clusterId;
     private final long noRecordsRescanFrequency;
     private final DnsClient dnsClient;
+    private final boolean useSharedMonitorScheduler;
+    private final boolean useVirtualThread;
 
     public DefaultDnsSrvRecordMonitorFactory(final ClusterId clusterId, final ServerSettings serverSettings, @Nullable final DnsClient dnsClient) {
         this.clusterId = clusterId;
         this.noRecordsRescanFrequency = serverSettings.getHeartbeatFrequency(MILLISECONDS);
         this.dnsClient = dnsClient;
+        this.useSharedMonitorScheduler = serverSettings.isSharedMonitorSchedulerEnabled();
+        this.useVirtualThread = serverSettings.isVirtualThreadsEnabled();
     }
 
     @Override
     public DnsSrvRecordMonitor create(final String hostName, final String srvServiceName, final DnsSrvRecordInitializer dnsSrvRecordInitializer) {
         return new DefaultDnsSrvRecordMonitor(hostName, srvServiceName, DEFAULT_RESCAN_FREQUENCY_MILLIS, noRecordsRescanFrequency,
-                dnsSrvRecordInitializer, clusterId, new DefaultDnsResolver(dnsClient));
+                dnsSrvRecordInitializer, clusterId, new DefaultDnsResolver(dnsClient), useSharedMonitorScheduler,
+                useVirtualThread);
     }
 }
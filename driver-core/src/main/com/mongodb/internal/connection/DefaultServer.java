@@ -38,6 +38,8 @@ import org.bson.FieldNameValidator;
 import org.bson.codecs.Decoder;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.assertTrue;
@@ -59,12 +61,23 @@ class DefaultServer implements ClusterableServer {
     private final ClusterClock clusterClock;
     @Nullable
     private final AtomicInteger operationCount;
+    @Nullable
+    private final UnacknowledgedWriteChannel unacknowledgedWriteChannel;
     private volatile boolean isClosed;
 
     DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
             final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
             final SdamServerDescriptionManager sdam, final ServerListener serverListener,
             final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount) {
+        this(serverId, clusterConnectionMode, connectionPool, connectionFactory, serverMonitor, sdam, serverListener, commandListener,
+                clusterClock, trackOperationCount, null);
+    }
+
+    DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
+            final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
+            final SdamServerDescriptionManager sdam, final ServerListener serverListener,
+            final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount,
+            @Nullable final UnacknowledgedWriteChannel unacknowledgedWriteChannel) {
         this.sdam = assertNotNull(sdam);
         this.serverListener = notNull("serverListener", serverListener);
         this.commandListener = commandListener;
@@ -80,18 +93,31 @@ class DefaultServer implements ClusterableServer {
 
         this.serverMonitor = serverMonitor;
         operationCount = trackOperationCount ? new AtomicInteger() : null;
+        this.unacknowledgedWriteChannel = unacknowledgedWriteChannel;
     }
 
     @Override
     public Connection getConnection(final OperationContext operationContext) {
+        return getConnection(operationContext, connectionPool::get);
+    }
+
+    @Override
+    public Connection getUnacknowledgedWriteConnection(final OperationContext operationContext) {
+        UnacknowledgedWriteChannel channel = unacknowledgedWriteChannel;
+        return channel == null ? getConnection(operationContext) : getConnection(operationContext, channel::get);
+    }
+
+    private Connection getConnection(final OperationContext operationContext,
+            final Function<OperationContext, InternalConnection> internalConnectionGetter) {
         if (isClosed) {
             throw new MongoServerUnavailableException(String.format("The server at %s is no longer available", serverId.getAddress()));
         }
         SdamIssue.Context exceptionContext = sdam.context();
         operationBegin();
         try {
+            InternalConnection internalConnection = internalConnectionGetter.apply(operationContext);
             return OperationCountTrackingConnection.decorate(this,
-                    connectionFactory.create(connectionPool.get(operationContext), new DefaultServerProtocolExecutor(), clusterConnectionMode));
+                    connectionFactory.create(internalConnection, new DefaultServerProtocolExecutor(), clusterConnectionMode));
         } catch (Throwable e) {
             try {
                 operationEnd();
@@ -107,6 +133,23 @@ class DefaultServer implements ClusterableServer {
 
     @Override
     public void getConnectionAsync(final OperationContext operationContext, final SingleResultCallback<AsyncConnection> callback) {
+        getConnectionAsync(operationContext, connectionPool::getAsync, callback);
+    }
+
+    @Override
+    public void getUnacknowledgedWriteConnectionAsync(final OperationContext operationContext,
+            final SingleResultCallback<AsyncConnection> callback) {
+        UnacknowledgedWriteChannel channel = unacknowledgedWriteChannel;
+        if (channel == null) {
+            getConnectionAsync(operationContext, callback);
+        } else {
+            getConnectionAsync(operationContext, channel::getAsync, callback);
+        }
+    }
+
+    private void getConnectionAsync(final OperationContext operationContext,
+            final BiConsumer<OperationContext, SingleResultCallback<InternalConnection>> internalConnectionGetter,
+            final SingleResultCallback<AsyncConnection> callback) {
         if (isClosed) {
             callback.onResult(null, new MongoServerUnavailableException(
                     String.format("The server at %s is no longer available", serverId.getAddress())));
@@ -114,7 +157,7 @@ class DefaultServer implements ClusterableServer {
         }
         SdamIssue.Context exceptionContext = sdam.context();
         operationBegin();
-        connectionPool.getAsync(operationContext, (result, t) -> {
+        internalConnectionGetter.accept(operationContext, (result, t) -> {
             if (t != null) {
                 try {
                     operationEnd();
@@ -164,6 +207,9 @@ class DefaultServer implements ClusterableServer {
     @Override
     public void close() {
         if (!isClosed()) {
+            if (unacknowledgedWriteChannel != null) {
+                unacknowledgedWriteChannel.close();
+            }
             connectionPool.close();
             serverMonitor.close();
             isClosed = true;
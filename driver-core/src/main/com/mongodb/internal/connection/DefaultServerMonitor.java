@@ -43,6 +43,7 @@ import org.bson.codecs.BsonDocumentCodec;
 import org.bson.types.ObjectId;
 
 import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -61,6 +62,7 @@ import static com.mongodb.internal.connection.CommandHelper.executeCommand;
 import static com.mongodb.internal.connection.DescriptionHelper.createServerDescription;
 import static com.mongodb.internal.connection.ServerDescriptionHelper.unknownConnectingServerDescription;
 import static com.mongodb.internal.event.EventListenerHelper.singleServerMonitorListener;
+import static com.mongodb.internal.thread.DaemonThreadFactory.newDaemonThread;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -149,18 +151,27 @@ class DefaultServerMonitor implements ServerMonitor {
         monitor.cancelCurrentCheck();
     }
 
-    class ServerMonitor extends Thread implements AutoCloseable {
+    class ServerMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
         private volatile boolean currentCheckCancelled;
 
         ServerMonitor() {
-            super("cluster-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = newDaemonThread(this, "cluster-" + serverId.getClusterId() + "-" + serverId.getAddress(),
+                    serverSettings.isVirtualThreadsEnabled());
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void join() throws InterruptedException {
+            thread.join();
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -432,17 +443,48 @@ class DefaultServerMonitor implements ServerMonitor {
     }
 
 
-    private class RoundTripTimeMonitor extends Thread implements AutoCloseable {
+    /**
+     * Runs either on a dedicated thread, or, if {@linkplain ServerSettings#isSharedMonitorSchedulerEnabled() enabled},
+     * as a periodic task on the {@link SharedMonitorScheduler}.
+     */
+    private class RoundTripTimeMonitor implements Runnable, AutoCloseable {
         private volatile InternalConnection connection = null;
+        @Nullable
+        private final Thread thread;
+        /**
+         * Must be guarded by {@link DefaultServerMonitor#lock}.
+         */
+        @Nullable
+        private ScheduledFuture<?> scheduledSampling;
 
         RoundTripTimeMonitor() {
-            super("cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            if (serverSettings.isSharedMonitorSchedulerEnabled()) {
+                thread = null;
+            } else {
+                thread = newDaemonThread(this, "cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress(),
+                        serverSettings.isVirtualThreadsEnabled());
+            }
+            scheduledSampling = null;
+        }
+
+        void start() {
+            if (thread == null) {
+                scheduledSampling = SharedMonitorScheduler.get().scheduleWithFixedDelay(this::sampleAndCloseIfClosed, 0,
+                        serverSettings.getHeartbeatFrequency(MILLISECONDS), MILLISECONDS);
+            } else {
+                thread.start();
+            }
         }
 
         @Override
         public void close() {
-            interrupt();
+            if (thread == null) {
+                if (scheduledSampling != null) {
+                    scheduledSampling.cancel(false);
+                }
+            } else {
+                thread.interrupt();
+            }
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -453,18 +495,7 @@ class DefaultServerMonitor implements ServerMonitor {
         public void run() {
             try {
                 while (!isClosed) {
-                    try {
-                        if (connection == null) {
-                            initialize();
-                        } else {
-                            pingServer(connection);
-                        }
-                    } catch (Throwable t) {
-                        if (connection != null) {
-                            connection.close();
-                            connection = null;
-                        }
-                    }
+                    sample();
                     waitForNext();
                 }
             } catch (InterruptedException closed) {
@@ -476,6 +507,31 @@ class DefaultServerMonitor implements ServerMonitor {
             }
         }
 
+        private void sampleAndCloseIfClosed() {
+            sample();
+            if (isClosed) {
+                InternalConnection connection = this.connection;
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+        }
+
+        private void sample() {
+            try {
+                if (connection == null) {
+                    initialize();
+                } else {
+                    pingServer(connection);
+                }
+            } catch (Throwable t) {
+                if (connection != null) {
+                    connection.close();
+                    connection = null;
+                }
+            }
+        }
+
         private void initialize() {
             connection = null;
             connection = internalConnectionFactory.create(serverId);
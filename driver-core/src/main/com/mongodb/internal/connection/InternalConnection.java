@@ -150,4 +150,22 @@ public interface InternalConnection extends BufferProvider {
 
     default void markAsPinned(Connection.PinningMode pinningMode) {
     }
+
+    /**
+     * @see Stream#getIoThread()
+     */
+    @Nullable
+    default Thread getIoThread() {
+        return null;
+    }
+
+    /**
+     * Must be called only after the connection is {@linkplain #opened() opened}.
+     *
+     * @return {@code true} iff the connection uses TLS and its TLS handshake resumed a session negotiated by an earlier handshake.
+     * @see SslHelper#isResumed(javax.net.ssl.SSLSession, long)
+     */
+    default boolean isTlsSessionResumed() {
+        return false;
+    }
 }
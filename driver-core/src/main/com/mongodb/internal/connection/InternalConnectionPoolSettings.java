@@ -36,7 +36,8 @@ public final class InternalConnectionPoolSettings {
     }
 
     /**
-     * Specifies whether to pre-start the asynchronous work manager of the pool.
+     * Specifies whether to pre-start the asynchronous work manager of the pool,
+     * that is, the thread that times out asynchronous checkouts. The thread is shared by all pools.
      * <p>
      * Default is {@code false}.
      *
@@ -34,12 +34,14 @@ import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.connection.AsyncCompletionHandler;
 import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionDescription;
 import com.mongodb.connection.ConnectionId;
 import com.mongodb.connection.ServerConnectionState;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerType;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.internal.ResourceUtil;
 import com.mongodb.internal.TimeoutContext;
@@ -59,6 +61,7 @@ import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 import org.bson.io.ByteBufferBsonInput;
 
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.Collections;
@@ -144,6 +147,10 @@ public class InternalStreamConnection implements InternalConnection {
     private volatile ConnectionDescription description;
     private volatile ServerDescription initialServerDescription;
     private volatile Stream stream;
+    /**
+     * The {@link System#currentTimeMillis()} before opening the {@link #stream}, which precedes the TLS handshake, if any.
+     */
+    private volatile long openStartEpochMillis;
 
     private final AtomicBoolean isClosed = new AtomicBoolean();
     private final AtomicBoolean opened = new AtomicBoolean();
@@ -154,6 +161,8 @@ public class InternalStreamConnection implements InternalConnection {
     private final CommandListener commandListener;
     @Nullable private volatile Compressor sendCompressor;
     private final Map<Byte, Compressor> compressorMap;
+    private final CompressionPolicy compressionPolicy;
+    private final WriteBudget writeBudget;
     private volatile boolean hasMoreToCome;
     private volatile int responseTo;
     private int generation = NOT_INITIALIZED_GENERATION;
@@ -185,6 +194,21 @@ public class InternalStreamConnection implements InternalConnection {
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings,
             final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, new CompressionPolicy(CompressionSettings.builder().build()),
+                new WriteBudget(WriteBudgetSettings.builder().build()), loggerSettings, commandListener, connectionInitializer);
+    }
+
+    InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final CompressionPolicy compressionPolicy,
+            final WriteBudget writeBudget,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.authenticator = authenticator;
         this.isMonitoringConnection = isMonitoringConnection;
@@ -193,6 +217,8 @@ public class InternalStreamConnection implements InternalConnection {
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
         this.compressorMap = createCompressorMap(compressorList);
+        this.compressionPolicy = notNull("compressionPolicy", compressionPolicy);
+        this.writeBudget = notNull("writeBudget", writeBudget);
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
@@ -225,6 +251,7 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public void open(final OperationContext originalOperationContext) {
         isTrue("Open already called", stream == null);
+        openStartEpochMillis = System.currentTimeMillis();
         stream = streamFactory.create(serverId.getAddress());
         try {
             OperationContext operationContext = originalOperationContext
@@ -250,6 +277,7 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public void openAsync(final OperationContext originalOperationContext, final SingleResultCallback<Void> callback) {
         assertNull(stream);
+        openStartEpochMillis = System.currentTimeMillis();
         try {
             OperationContext operationContext = originalOperationContext
                     .withTimeoutContext(originalOperationContext.getTimeoutContext().withComputedServerSelectionTimeoutContext());
@@ -354,8 +382,13 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public void close() {
         // All but the first call is a no-op
-        if (!isClosed.getAndSet(true) && (stream != null)) {
+        if (!isClosed.getAndSet(true)) {
+            if (stream != null) {
                 stream.close();
+            }
+            for (Compressor compressor : compressorMap.values()) {
+                compressor.close();
+            }
         }
     }
 
@@ -369,6 +402,19 @@ public class InternalStreamConnection implements InternalConnection {
         return isClosed.get();
     }
 
+    @Override
+    @Nullable
+    public Thread getIoThread() {
+        Stream localStream = stream;
+        return localStream == null ? null : localStream.getIoThread();
+    }
+
+    @Override
+    public boolean isTlsSessionResumed() {
+        SSLSession sslSession = assertNotNull(stream).getSslSession();
+        return sslSession != null && SslHelper.isResumed(sslSession, openStartEpochMillis);
+    }
+
     @Nullable
     @Override
     public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
@@ -432,26 +478,53 @@ public class InternalStreamConnection implements InternalConnection {
     private <T> T sendAndReceiveInternal(final CommandMessage message, final Decoder<T> decoder,
             final OperationContext operationContext) {
         CommandEventSender commandEventSender;
-        try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this)) {
-            message.encode(bsonOutput, operationContext);
-            commandEventSender = createCommandEventSender(message, bsonOutput, operationContext);
-            commandEventSender.sendStartedEvent();
-            try {
-                sendCommandMessage(message, bsonOutput, operationContext);
-            } catch (Exception e) {
-                commandEventSender.sendFailedEvent(e);
-                throw e;
+        int budgetedBytes = 0;
+        try {
+            try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this)) {
+                if (isBudgeted(message)) {
+                    int reservedBytes = getMaxMessageSize();
+                    writeBudget.acquire(getId(), reservedBytes, operationContext.getTimeoutContext().getTimeout());
+                    budgetedBytes = reservedBytes;
+                }
+                message.encode(bsonOutput, operationContext);
+                if (budgetedBytes > 0) {
+                    writeBudget.resize(budgetedBytes, bsonOutput.getSize());
+                    budgetedBytes = bsonOutput.getSize();
+                }
+                commandEventSender = createCommandEventSender(message, bsonOutput, operationContext);
+                commandEventSender.sendStartedEvent();
+                try {
+                    sendCommandMessage(message, bsonOutput, operationContext);
+                } catch (Exception e) {
+                    commandEventSender.sendFailedEvent(e);
+                    throw e;
+                }
             }
-        }
 
-        if (message.isResponseExpected()) {
-            return receiveCommandMessageResponse(decoder, commandEventSender, operationContext);
-        } else {
-            commandEventSender.sendSucceededEventForOneWayCommand();
-            return null;
+            if (message.isResponseExpected()) {
+                return receiveCommandMessageResponse(decoder, commandEventSender, operationContext);
+            } else {
+                commandEventSender.sendSucceededEventForOneWayCommand();
+                return null;
+            }
+        } finally {
+            if (budgetedBytes > 0) {
+                writeBudget.release(budgetedBytes);
+            }
         }
     }
 
+    private boolean isBudgeted(final CommandMessage message) {
+        return writeBudget.isCapped() && message.hasMessageSequences();
+    }
+
+    /**
+     * The upper bound of the size of a message that is {@linkplain WriteBudget write budgeted}, which it acquires before it is encoded.
+     */
+    private int getMaxMessageSize() {
+        return getMessageSettings(description, initialServerDescription).getMaxMessageSize();
+    }
+
     @Override
     public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
         try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this)) {
@@ -478,10 +551,12 @@ public class InternalStreamConnection implements InternalConnection {
             final OperationContext operationContext) {
 
         Compressor localSendCompressor = sendCompressor;
-        if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+        String commandName = localSendCompressor == null ? null : message.getCommandDocument(bsonOutput).getFirstKey();
+        if (localSendCompressor == null || !shouldCompress(assertNotNull(commandName), bsonOutput)) {
             trySendMessage(message, bsonOutput, operationContext);
         } else {
             ByteBufferBsonOutput compressedBsonOutput;
+            int uncompressedSize = bsonOutput.getSize();
             List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
             try {
                 CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
@@ -492,11 +567,17 @@ public class InternalStreamConnection implements InternalConnection {
                 ResourceUtil.release(byteBuffers);
                 bsonOutput.close();
             }
+            compressionPolicy.compressed(getId(), assertNotNull(commandName), uncompressedSize, compressedBsonOutput.getSize());
             trySendMessage(message, compressedBsonOutput, operationContext);
         }
         responseTo = message.getId();
     }
 
+    private boolean shouldCompress(final String commandName, final ByteBufferBsonOutput bsonOutput) {
+        return !SECURITY_SENSITIVE_COMMANDS.contains(commandName)
+                && compressionPolicy.shouldCompress(getId(), commandName, bsonOutput.getSize());
+    }
+
     private void trySendMessage(final CommandMessage message, final ByteBufferBsonOutput bsonOutput,
             final OperationContext operationContext) {
         Timeout.onExistsAndExpired(operationContext.getTimeoutContext().timeoutIncludingRoundTrip(), () -> {
@@ -548,18 +629,66 @@ public class InternalStreamConnection implements InternalConnection {
             return;
         }
 
-        ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this);
-        ByteBufferBsonOutput compressedBsonOutput = new ByteBufferBsonOutput(this);
+        if (isBudgeted(message)) {
+            int reservedBytes = getMaxMessageSize();
+            // completing the callback only once the message is sent delays the demand for more writes
+            writeBudget.acquireAsync(getId(), reservedBytes, operationContext.getTimeoutContext().getTimeout(), (result, t) -> {
+                if (t != null) {
+                    callback.onResult(null, t);
+                    return;
+                }
+                ByteBufferBsonOutput bsonOutput = encodeAsync(message, operationContext, (r, e) -> {
+                    writeBudget.release(reservedBytes);
+                    callback.onResult(null, e);
+                });
+                if (bsonOutput != null) {
+                    int budgetedBytes = bsonOutput.getSize();
+                    writeBudget.resize(reservedBytes, budgetedBytes);
+                    SingleResultCallback<T> releasingCallback = (r, e) -> {
+                        writeBudget.release(budgetedBytes);
+                        callback.onResult(r, e);
+                    };
+                    sendEncodedCommandMessageAsync(message, decoder, operationContext, releasingCallback, bsonOutput);
+                }
+            });
+        } else {
+            ByteBufferBsonOutput bsonOutput = encodeAsync(message, operationContext, callback);
+            if (bsonOutput != null) {
+                sendEncodedCommandMessageAsync(message, decoder, operationContext, callback, bsonOutput);
+            }
+        }
+    }
 
+    /**
+     * @return the encoded message, or {@code null} if encoding it failed, in which case {@code callback} is completed.
+     */
+    @Nullable
+    private <T> ByteBufferBsonOutput encodeAsync(final CommandMessage message, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this);
         try {
             message.encode(bsonOutput, operationContext);
+            return bsonOutput;
+        } catch (Throwable t) {
+            bsonOutput.close();
+            callback.onResult(null, t);
+            return null;
+        }
+    }
+
+    private <T> void sendEncodedCommandMessageAsync(final CommandMessage message, final Decoder<T> decoder,
+            final OperationContext operationContext, final SingleResultCallback<T> callback, final ByteBufferBsonOutput bsonOutput) {
+        ByteBufferBsonOutput compressedBsonOutput = new ByteBufferBsonOutput(this);
+        try {
             CommandEventSender commandEventSender = createCommandEventSender(message, bsonOutput, operationContext);
             commandEventSender.sendStartedEvent();
             Compressor localSendCompressor = sendCompressor;
-            if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+            String commandName = localSendCompressor == null ? null : message.getCommandDocument(bsonOutput).getFirstKey();
+            if (localSendCompressor == null || !shouldCompress(assertNotNull(commandName), bsonOutput)) {
                 sendCommandMessageAsync(message.getId(), decoder, operationContext, callback, bsonOutput, commandEventSender,
                         message.isResponseExpected());
             } else {
+                int uncompressedSize = bsonOutput.getSize();
                 List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
                 try {
                     CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
@@ -569,6 +698,7 @@ public class InternalStreamConnection implements InternalConnection {
                     ResourceUtil.release(byteBuffers);
                     bsonOutput.close();
                 }
+                compressionPolicy.compressed(getId(), assertNotNull(commandName), uncompressedSize, compressedBsonOutput.getSize());
                 sendCommandMessageAsync(message.getId(), decoder, operationContext, callback, compressedBsonOutput, commandEventSender,
                         message.isResponseExpected());
             }
@@ -22,7 +22,9 @@ import com.mongodb.MongoCompressor;
 import com.mongodb.MongoDriverInformation;
 import com.mongodb.ServerApi;
 import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ServerId;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
@@ -38,6 +40,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     private final StreamFactory streamFactory;
     private final BsonDocument clientMetadataDocument;
     private final List<MongoCompressor> compressorList;
+    private final CompressionPolicy compressionPolicy;
+    private final WriteBudget writeBudget;
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
     @Nullable
@@ -60,10 +64,23 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
             @Nullable final String applicationName, @Nullable final MongoDriverInformation mongoDriverInformation,
             final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, applicationName, mongoDriverInformation,
+                compressorList, CompressionSettings.builder().build(), new WriteBudget(WriteBudgetSettings.builder().build()),
+                loggerSettings, commandListener, serverApi);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+            final StreamFactory streamFactory,
+            @Nullable final MongoCredentialWithCache credential,
+            @Nullable final String applicationName, @Nullable final MongoDriverInformation mongoDriverInformation,
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings, final WriteBudget writeBudget,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.isMonitoringConnection = isMonitoringConnection;
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
+        this.compressionPolicy = new CompressionPolicy(compressionSettings);
+        this.writeBudget = notNull("writeBudget", writeBudget);
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.serverApi = serverApi;
@@ -79,7 +96,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         return new InternalStreamConnection(
                 clusterConnectionMode, authenticator,
                 isMonitoringConnection, serverId, connectionGenerationSupplier,
-                streamFactory, compressorList, loggerSettings, commandListener,
+                streamFactory, compressorList, compressionPolicy, writeBudget, loggerSettings, commandListener,
                 connectionInitializer);
     }
 
@@ -24,9 +24,11 @@ import com.mongodb.ServerAddress;
 import com.mongodb.ServerApi;
 import com.mongodb.annotations.ThreadSafe;
 import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.internal.inject.EmptyProvider;
 import com.mongodb.lang.Nullable;
@@ -50,6 +52,8 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     private final String applicationName;
     private final MongoDriverInformation mongoDriverInformation;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
+    private final WriteBudget writeBudget;
     private final ServerApi serverApi;
     private final InternalOperationContextFactory operationContextFactory;
 
@@ -60,8 +64,9 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
             @Nullable final String applicationName, final MongoDriverInformation mongoDriverInformation,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-            final InternalOperationContextFactory operationContextFactory) {
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings,
+            final WriteBudgetSettings writeBudgetSettings,
+            @Nullable final ServerApi serverApi, final InternalOperationContextFactory operationContextFactory) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -72,6 +77,8 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
         this.applicationName = applicationName;
         this.mongoDriverInformation = mongoDriverInformation;
         this.compressorList = compressorList;
+        this.compressionSettings = compressionSettings;
+        this.writeBudget = new WriteBudget(writeBudgetSettings);
         this.serverApi = serverApi;
         this.operationContextFactory = operationContextFactory;
     }
@@ -79,8 +86,9 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     @Override
     public ClusterableServer create(final Cluster cluster, final ServerAddress serverAddress) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(cluster.getClusterId(), serverAddress),
-                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, streamFactory, credential, applicationName,
-                        mongoDriverInformation, compressorList, loggerSettings, commandListener, serverApi),
+                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, false, streamFactory, credential,
+                        applicationName, mongoDriverInformation, compressorList, compressionSettings, writeBudget, loggerSettings,
+                        commandListener, serverApi),
                 connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory);
         connectionPool.ready();
 
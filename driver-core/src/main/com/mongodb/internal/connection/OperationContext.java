@@ -159,6 +159,13 @@ public class OperationContext {
             return selector;
         }
 
+        /**
+         * @return {@code true} iff {@link #getServerSelector()} selects all {@link ServerDescription}s it is given.
+         */
+        boolean isNoOp() {
+            return deprioritized.isEmpty();
+        }
+
         void updateCandidate(final ServerAddress serverAddress) {
             candidate = serverAddress;
         }
@@ -44,8 +44,10 @@ import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.io.ByteBufferBsonInput;
 
@@ -64,6 +66,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 public final class ProtocolHelper {
     private static final Logger PROTOCOL_EVENT_LOGGER = Loggers.getLogger("protocol.event");
     private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
+    private static final RawBsonDocumentCodec RAW_BSON_DOCUMENT_CODEC = new RawBsonDocumentCodec();
     private static final int NO_ERROR_CODE = -1;
 
 
@@ -101,9 +104,22 @@ public final class ProtocolHelper {
         return getFieldValueAsTimestamp(responseBuffers, "operationTime");
     }
 
+    /**
+     * The cluster time is decoded as a {@link RawBsonDocument}, because it is gossiped back to the server
+     * with every subsequent command until the cluster time advances, and appending a {@link RawBsonDocument}
+     * to a command amounts to copying its bytes.
+     */
     @Nullable
-    static BsonDocument getClusterTime(final ResponseBuffers responseBuffers) {
-        return getFieldValueAsDocument(responseBuffers, "$clusterTime");
+    static RawBsonDocument getClusterTime(final ResponseBuffers responseBuffers) {
+        try {
+            BsonReader bsonReader = createBsonReader(responseBuffers);
+            if (moveToField(bsonReader, "$clusterTime")) {
+                return RAW_BSON_DOCUMENT_CODEC.decode(bsonReader, DecoderContext.builder().build());
+            }
+            return null;
+        } finally {
+            responseBuffers.reset();
+        }
     }
 
     @Nullable
@@ -157,16 +173,28 @@ public final class ProtocolHelper {
 
     @Nullable
     private static BsonValue getField(final BsonReader bsonReader, final String fieldName) {
+        if (moveToField(bsonReader, fieldName)) {
+            return REGISTRY.get(getClassForBsonType(bsonReader.getCurrentBsonType())).decode(bsonReader,
+                    DecoderContext.builder().build());
+        }
+        return null;
+    }
+
+    /**
+     * Reads the document {@code bsonReader} is positioned at until the value of the field {@code fieldName}.
+     *
+     * @return {@code true} iff the field was found, in which case {@code bsonReader} is positioned at its value.
+     */
+    private static boolean moveToField(final BsonReader bsonReader, final String fieldName) {
         bsonReader.readStartDocument();
         while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             if (bsonReader.readName().equals(fieldName)) {
-                return REGISTRY.get(getClassForBsonType(bsonReader.getCurrentBsonType())).decode(bsonReader,
-                        DecoderContext.builder().build());
+                return true;
             }
             bsonReader.skipValue();
         }
         bsonReader.readEndDocument();
-        return null;
+        return false;
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -51,6 +51,33 @@ public interface Server {
      */
     void getConnectionAsync(OperationContext operationContext, SingleResultCallback<AsyncConnection> callback);
 
+    /**
+     * <p>Gets a connection to this server to send the commands of an unacknowledged write on.  The connection should be released after
+     * the caller is done with it.</p>
+     *
+     * <p>Unlike the connection from {@link #getConnection(OperationContext)}, the returned connection may be used concurrently by other
+     * unacknowledged writes, in which case their commands are sent one after the other.  By default, this method is equivalent to
+     * {@link #getConnection(OperationContext)}.</p>
+     *
+     * @param operationContext operation context
+     * @return a connection this server
+     */
+    default Connection getUnacknowledgedWriteConnection(final OperationContext operationContext) {
+        return getConnection(operationContext);
+    }
+
+    /**
+     * Gets a connection to this server to send the commands of an unacknowledged write on asynchronously.
+     *
+     * @param operationContext operation context
+     * @param callback         the callback to execute when the connection is available or an error occurs
+     * @see #getUnacknowledgedWriteConnection(OperationContext)
+     */
+    default void getUnacknowledgedWriteConnectionAsync(final OperationContext operationContext,
+            final SingleResultCallback<AsyncConnection> callback) {
+        getConnectionAsync(operationContext, callback);
+    }
+
     /**
      * An approximation of the
      * <a href="https://github.com/mongodb/specifications/blob/master/source/server-selection/server-selection.rst#operationcount">
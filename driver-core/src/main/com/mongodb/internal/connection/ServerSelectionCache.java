@@ -0,0 +1,147 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster.ServersSnapshot;
+import com.mongodb.internal.selector.AtMostTwoRandomServerSelector;
+import com.mongodb.internal.selector.MinimumOperationCountServerSelector;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.selector.WritableServerSelector;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerSelector;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+
+/**
+ * Caches, per {@link ClusterDescription}, the candidate {@link ServerDescription}s selected by the part of the complete server selector
+ * that depends only on the {@link ClusterDescription}, that is, by everything except for
+ * {@link AtMostTwoRandomServerSelector} and {@link MinimumOperationCountServerSelector}.
+ * The cache is discarded when a different {@link ClusterDescription} is used, which happens only when the topology changes.
+ * <p>
+ * Only {@link ReadPreferenceServerSelector} and {@link WritableServerSelector} are cached, as the servers they select depend only on
+ * the {@link ClusterDescription} and on the {@link com.mongodb.ReadPreference}, if any.</p>
+ */
+@ThreadSafe
+final class ServerSelectionCache {
+    /**
+     * Limits the number of distinct {@link com.mongodb.ReadPreference}s cached per {@link ClusterDescription}.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    private volatile Entries entries;
+
+    ServerSelectionCache() {
+        entries = new Entries(null);
+    }
+
+    /**
+     * @return The key identifying what {@code serverSelector} selects from a {@link ClusterDescription},
+     * or {@code null} if selection by {@code serverSelector} must not be cached.
+     */
+    @Nullable
+    static Object cacheKey(final ServerSelector serverSelector) {
+        if (serverSelector instanceof ReadPreferenceServerSelector) {
+            return ((ReadPreferenceServerSelector) serverSelector).getReadPreference();
+        } else if (serverSelector instanceof WritableServerSelector) {
+            return WritableServerSelector.class;
+        }
+        return null;
+    }
+
+    /**
+     * @param candidatesSupplier Computes the candidates, returns {@code null} if they must not be cached.
+     * @return The cached or computed candidates, or {@code null} if {@code candidatesSupplier} returned {@code null}.
+     */
+    @Nullable
+    List<ServerDescription> getCandidates(final Object cacheKey, final ClusterDescription clusterDescription,
+            final Supplier<List<ServerDescription>> candidatesSupplier) {
+        Entries currentEntries = entries;
+        if (currentEntries.clusterDescription != clusterDescription) {
+            currentEntries = new Entries(clusterDescription);
+            entries = currentEntries;
+        }
+        List<ServerDescription> candidates = currentEntries.candidates.get(cacheKey);
+        if (candidates == null) {
+            candidates = candidatesSupplier.get();
+            if (candidates != null && currentEntries.candidates.size() < MAX_ENTRIES) {
+                currentEntries.candidates.putIfAbsent(cacheKey, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Selects the same way {@link AtMostTwoRandomServerSelector} followed by {@link MinimumOperationCountServerSelector} do.
+     *
+     * @return {@code null} if there are no {@code candidates}.
+     */
+    @Nullable
+    static ServerTuple selectServer(final List<ServerDescription> candidates, final ServersSnapshot serversSnapshot) {
+        int size = candidates.size();
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            ServerDescription only = candidates.get(0);
+            return new ServerTuple(assertNotNull(serversSnapshot.getServer(only.getAddress())), only);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        ServerDescription first = candidates.get(firstIndex);
+        ServerDescription second = candidates.get(secondIndex);
+        Server firstServer = assertNotNull(serversSnapshot.getServer(first.getAddress()));
+        Server secondServer = assertNotNull(serversSnapshot.getServer(second.getAddress()));
+        return secondServer.operationCount() < firstServer.operationCount()
+                ? new ServerTuple(secondServer, second)
+                : new ServerTuple(firstServer, first);
+    }
+
+    /**
+     * @return {@code true} iff each of the {@code candidates} is {@linkplain ServersSnapshot#containsServer contained}
+     * in {@code serversSnapshot}.
+     */
+    static boolean allContained(final List<ServerDescription> candidates, final ServersSnapshot serversSnapshot) {
+        for (ServerDescription candidate : candidates) {
+            if (!serversSnapshot.containsServer(candidate.getAddress())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Entries {
+        @Nullable
+        private final ClusterDescription clusterDescription;
+        private final ConcurrentHashMap<Object, List<ServerDescription>> candidates;
+
+        Entries(@Nullable final ClusterDescription clusterDescription) {
+            this.clusterDescription = clusterDescription;
+            candidates = new ConcurrentHashMap<>();
+        }
+    }
+}
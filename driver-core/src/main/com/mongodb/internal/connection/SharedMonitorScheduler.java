@@ -0,0 +1,62 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ServerSettings;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * The scheduler shared by all clients in the JVM that {@linkplain ServerSettings#isSharedMonitorSchedulerEnabled() enable} it.
+ * <p>
+ * The scheduler is never shut down, but its threads terminate when they have been idle for a while,
+ * so it does not use resources when no client uses it.</p>
+ */
+@ThreadSafe
+final class SharedMonitorScheduler {
+    private static final int MIN_THREADS = 4;
+
+    private SharedMonitorScheduler() {
+    }
+
+    /**
+     * Tasks submitted to the returned scheduler may block on I/O, but must not block indefinitely, and must not throw exceptions
+     * if they are scheduled to be run periodically, as that suppresses subsequent executions.
+     */
+    static ScheduledExecutorService get() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                    Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors()),
+                    new DaemonThreadFactory("SharedServerMonitor"));
+            executor.setKeepAliveTime(1, MINUTES);
+            executor.allowCoreThreadTimeOut(true);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -24,10 +24,12 @@ import com.mongodb.connection.AsyncCompletionHandler;
 import com.mongodb.connection.ProxySettings;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
+import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.bson.ByteBuf;
 
 import javax.net.SocketFactory;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
@@ -245,4 +247,11 @@ public class SocketStream implements Stream {
     public boolean isClosed() {
         return isClosed;
     }
+
+    @Override
+    @Nullable
+    public SSLSession getSslSession() {
+        Socket localSocket = socket;
+        return localSocket instanceof SSLSocket ? ((SSLSocket) localSocket).getSession() : null;
+    }
 }
@@ -16,31 +16,42 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.bulk.DeleteRequest;
 import com.mongodb.internal.bulk.InsertRequest;
 import com.mongodb.internal.bulk.UpdateRequest;
 import com.mongodb.internal.bulk.WriteRequest;
 import com.mongodb.internal.bulk.WriteRequestWithIndex;
+import com.mongodb.internal.thread.SharedExecutor;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
 import org.bson.BsonObjectId;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.FieldNameValidator;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Codec;
 import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
 
+import java.util.AbstractList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.assertTrue;
 import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.SplittablePayload.Type.INSERT;
 import static com.mongodb.internal.connection.SplittablePayload.Type.REPLACE;
@@ -57,13 +68,36 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
  */
 public final class SplittablePayload extends MessageSequences {
     private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
+    /**
+     * The number of consecutive documents an encoding task claims at a time, see {@link #encodeAhead(int, int)}.
+     */
+    private static final int ENCODE_AHEAD_CHUNK_SIZE = 64;
     private final FieldNameValidator fieldNameValidator;
     private final WriteRequestEncoder writeRequestEncoder = new WriteRequestEncoder();
     private final Type payloadType;
     private final List<WriteRequestWithIndex> writeRequestWithIndexes;
     private final boolean ordered;
     private final Map<Integer, BsonValue> insertedIds = new HashMap<>();
+    /**
+     * The documents encoded by this payload, or by the payloads it was split from, or {@linkplain #encodeAhead(int, int) ahead} of them,
+     * by the index of their write requests.
+     * {@code null} iff the encoded documents are not retained.
+     */
+    @Nullable
+    private final Map<Integer, EncodedDocument> encodedDocuments;
+    /**
+     * The state of encoding the documents of this payload, and of the payloads it was split from,
+     * {@linkplain #encodeAhead(int, int) ahead}.
+     * {@code null} iff the documents are not encoded ahead.
+     */
+    @Nullable
+    private EncodingAhead encodingAhead;
+    /**
+     * The position of the first document of this payload in the payload that started {@linkplain #encodeAhead(int, int) encoding ahead}.
+     */
+    private final int encodingAheadOffset;
     private int position = 0;
+    private int maxBatchCount = Integer.MAX_VALUE;
 
     /**
      * The type of the payload.
@@ -101,10 +135,42 @@ public final class SplittablePayload extends MessageSequences {
             final List<WriteRequestWithIndex> writeRequestWithIndexes,
             final boolean ordered,
             final FieldNameValidator fieldNameValidator) {
+        this(payloadType, writeRequestWithIndexes, ordered, fieldNameValidator, false);
+    }
+
+    /**
+     * Create a new instance
+     *
+     * @param payloadType the payload type
+     * @param writeRequestWithIndexes the writeRequests
+     * @param retainEncodedDocuments whether to retain the encoded documents, so that they are not encoded again
+     * if the payload is sent again, for example, when a retryable write is retried, or as part of the next split.
+     */
+    public SplittablePayload(
+            final Type payloadType,
+            final List<WriteRequestWithIndex> writeRequestWithIndexes,
+            final boolean ordered,
+            final FieldNameValidator fieldNameValidator,
+            final boolean retainEncodedDocuments) {
+        this(payloadType, writeRequestWithIndexes, ordered, fieldNameValidator, retainEncodedDocuments ? new ConcurrentHashMap<>() : null,
+                null, 0);
+    }
+
+    private SplittablePayload(
+            final Type payloadType,
+            final List<WriteRequestWithIndex> writeRequestWithIndexes,
+            final boolean ordered,
+            final FieldNameValidator fieldNameValidator,
+            @Nullable final Map<Integer, EncodedDocument> encodedDocuments,
+            @Nullable final EncodingAhead encodingAhead,
+            final int encodingAheadOffset) {
         this.payloadType = notNull("batchType", payloadType);
         this.writeRequestWithIndexes = notNull("writeRequests", writeRequestWithIndexes);
         this.ordered = ordered;
         this.fieldNameValidator = notNull("fieldNameValidator", fieldNameValidator);
+        this.encodedDocuments = encodedDocuments;
+        this.encodingAhead = encodingAhead;
+        this.encodingAheadOffset = encodingAheadOffset;
     }
 
     public FieldNameValidator getFieldNameValidator() {
@@ -144,12 +210,183 @@ public final class SplittablePayload extends MessageSequences {
     }
 
     /**
-     * @return the payload
+     * @return the payload. A {@link RawBsonDocument} to insert is itself in the payload, so that its bytes are written as they are.
+     * If the encoded documents are retained, each other document is encoded when it is first accessed,
+     * and is then a {@link RawBsonDocument}, writing which amounts to copying its bytes.
      */
     public List<BsonDocument> getPayload() {
-        return writeRequestWithIndexes.stream().map(wri ->
-                    new BsonDocumentWrapper<>(wri, writeRequestEncoder))
-                    .collect(Collectors.toList());
+        return new AbstractList<BsonDocument>() {
+            @Override
+            public BsonDocument get(final int index) {
+                WriteRequestWithIndex writeRequestWithIndex = writeRequestWithIndexes.get(index);
+                RawBsonDocument rawInsertDocument = getRawInsertDocument(writeRequestWithIndex);
+                if (rawInsertDocument != null) {
+                    // the "_id" of a RawBsonDocument is neither generated nor reported, see IdHoldingBsonWriter.getId
+                    insertedIds.put(writeRequestWithIndex.getIndex(), null);
+                    return rawInsertDocument;
+                }
+                return encodedDocuments == null
+                        ? new BsonDocumentWrapper<>(writeRequestWithIndex, writeRequestEncoder)
+                        : getEncodedDocument(writeRequestWithIndex, encodedDocuments);
+            }
+
+            @Override
+            public int size() {
+                return writeRequestWithIndexes.size();
+            }
+        };
+    }
+
+    @Nullable
+    private static RawBsonDocument getRawInsertDocument(final WriteRequestWithIndex writeRequestWithIndex) {
+        if (writeRequestWithIndex.getType() != WriteRequest.Type.INSERT) {
+            return null;
+        }
+        BsonDocument document = ((InsertRequest) writeRequestWithIndex.getWriteRequest()).getDocument();
+        return document instanceof RawBsonDocument ? (RawBsonDocument) document : null;
+    }
+
+    private RawBsonDocument getEncodedDocument(final WriteRequestWithIndex writeRequestWithIndex,
+            final Map<Integer, EncodedDocument> encodedDocuments) {
+        int index = writeRequestWithIndex.getIndex();
+        EncodedDocument encodedDocument = encodedDocuments.get(index);
+        if (encodedDocument == null) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer, fieldNameValidator)) {
+                writeRequestEncoder.encode(writer, writeRequestWithIndex, EncoderContext.builder().build());
+            }
+            encodedDocument = new EncodedDocument(new RawBsonDocument(buffer.toByteArray()), insertedIds.get(index), 0);
+            // the document may have been encoded ahead while this thread was encoding it
+            EncodedDocument encodedAhead = encodedDocuments.putIfAbsent(index, encodedDocument);
+            encodedDocument = encodedAhead == null ? encodedDocument : encodedAhead;
+        }
+        if (writeRequestWithIndex.getType() == WriteRequest.Type.INSERT) {
+            // the document may have been encoded ahead, or by the payload this one was split from
+            insertedIds.put(index, encodedDocument.id);
+        }
+        return encodedDocument.document;
+    }
+
+    /**
+     * Starts encoding the documents of this insert payload on the {@link SharedExecutor}, so that by the time they are written
+     * to a message, which may be when a later split of this payload is sent, writing them amounts to copying their bytes.
+     * The documents are claimed in chunks from the start of the payload by up to {@code parallelism} tasks,
+     * so that the documents sent first are encoded first, and the documents of one large batch are encoded by multiple cores.
+     * A document that is yet to be encoded when it is written is encoded by the thread writing it,
+     * as are the documents whose encoding fails, so that the failure is reported by that thread.
+     * The tasks skip the documents that were already sent, and stop once {@link #stopEncodingAhead()} is called.
+     *
+     * <p>The tasks claim no more chunks once the documents they encoded that are not yet sent, that is, not yet before the position
+     * of a {@linkplain #getNextSplit() split}, reach {@code maxUnsentBytes}, and resume once they are sent, so that encoding ahead
+     * holds no more than about {@code maxUnsentBytes} of documents in addition to those of the split being sent.</p>
+     *
+     * <p>The encoded documents must be retained, and the payload type must be {@link Type#INSERT}, as only then is the
+     * {@linkplain #getFieldNameValidator() field name validator} stateless, and encoding a document independent of the others.</p>
+     *
+     * @param parallelism the maximum number of tasks encoding the documents, which must be greater than 1
+     * @param maxUnsentBytes the number of bytes of encoded documents not yet sent at which the tasks pause, which must be positive
+     */
+    public void encodeAhead(final int parallelism, final int maxUnsentBytes) {
+        encodeAhead(parallelism, maxUnsentBytes, SharedExecutor.get(false));
+    }
+
+    @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
+    void encodeAhead(final int parallelism, final int maxUnsentBytes, final Executor executor) {
+        assertNotNull(this.encodedDocuments);
+        isTrue("insert payload", payloadType == INSERT);
+        isTrue("parallelism > 1", parallelism > 1);
+        isTrueArgument("maxUnsentBytes > 0", maxUnsentBytes > 0);
+        isTrue("not encoding ahead", this.encodingAhead == null);
+        EncodingAhead encodingAhead = new EncodingAhead(this, parallelism, maxUnsentBytes, executor);
+        this.encodingAhead = encodingAhead;
+        startEncodingAhead(encodingAhead);
+    }
+
+    /**
+     * Starts encoding tasks, up to the parallelism of {@code encodingAhead}, while there are chunks of documents left to claim,
+     * and room for them. Must be called on the payload that started encoding ahead.
+     */
+    private void startEncodingAhead(final EncodingAhead encodingAhead) {
+        int taskCount;
+        while (canEncodeAhead(encodingAhead) && (taskCount = encodingAhead.taskCount.get()) < encodingAhead.parallelism) {
+            if (encodingAhead.taskCount.compareAndSet(taskCount, taskCount + 1)) {
+                encodingAhead.executor.execute(() -> encodeAhead(encodingAhead));
+            }
+        }
+    }
+
+    private boolean canEncodeAhead(final EncodingAhead encodingAhead) {
+        return !encodingAhead.stopped
+                && encodingAhead.nextChunkStart.get() < writeRequestWithIndexes.size()
+                && encodingAhead.unsentBytes.get() < encodingAhead.maxUnsentBytes;
+    }
+
+    private void encodeAhead(final EncodingAhead encodingAhead) {
+        Map<Integer, EncodedDocument> encodedDocuments = assertNotNull(this.encodedDocuments);
+        int size = writeRequestWithIndexes.size();
+        try {
+            int chunkStart;
+            while (canEncodeAhead(encodingAhead) && (chunkStart = encodingAhead.nextChunkStart.getAndAdd(ENCODE_AHEAD_CHUNK_SIZE)) < size) {
+                int chunkEnd = Math.min(chunkStart + ENCODE_AHEAD_CHUNK_SIZE, size);
+                for (int j = Math.max(chunkStart, encodingAhead.sentCount); j < chunkEnd && !encodingAhead.stopped; j++) {
+                    encodeAhead(writeRequestWithIndexes.get(j), j, encodedDocuments, encodingAhead);
+                }
+            }
+        } finally {
+            encodingAhead.taskCount.decrementAndGet();
+        }
+        // documents may have been sent after this task last found no room, in which case no task may have been started for them
+        startEncodingAhead(encodingAhead);
+    }
+
+    private void encodeAhead(final WriteRequestWithIndex writeRequestWithIndex, final int position,
+            final Map<Integer, EncodedDocument> encodedDocuments, final EncodingAhead encodingAhead) {
+        int index = writeRequestWithIndex.getIndex();
+        if (getRawInsertDocument(writeRequestWithIndex) != null || encodedDocuments.containsKey(index)) {
+            return;
+        }
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        BsonValue id;
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer, fieldNameValidator)) {
+            id = encodeInsertDocument(writer, (InsertRequest) writeRequestWithIndex.getWriteRequest(), null);
+        } catch (RuntimeException e) {
+            // the thread writing the document encodes it again, and reports the failure
+            return;
+        }
+        EncodedDocument encodedDocument = new EncodedDocument(new RawBsonDocument(buffer.toByteArray()), id, buffer.getSize());
+        if (encodedDocuments.putIfAbsent(index, encodedDocument) == null) {
+            encodingAhead.unsentBytes.addAndGet(encodedDocument.unsentBytes);
+            if ((encodingAhead.stopped || position < encodingAhead.sentCount) && encodedDocuments.remove(index, encodedDocument)) {
+                // the document was sent, or encoding ahead was stopped, while it was being encoded, see `getNextSplit`
+                encodingAhead.unsentBytes.addAndGet(-encodedDocument.unsentBytes);
+            }
+        }
+    }
+
+    /**
+     * Stops {@linkplain #encodeAhead(int, int) encoding ahead} the documents of this payload, and of the payloads it was split from
+     * or into.
+     * Must be called once the documents are no longer to be sent, as the encoding tasks run on threads shared by all operations.
+     * Does nothing if the documents are not encoded ahead.
+     */
+    public void stopEncodingAhead() {
+        if (encodingAhead != null) {
+            encodingAhead.stopped = true;
+        }
+    }
+
+    @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
+    boolean isRetained(final int index) {
+        return encodedDocuments != null && encodedDocuments.containsKey(index);
+    }
+
+    @Nullable
+    private static BsonValue encodeInsertDocument(final BsonWriter writer, final InsertRequest insertRequest,
+            @Nullable final BsonObjectId previouslyGeneratedId) {
+        BsonDocument document = insertRequest.getDocument();
+        IdHoldingBsonWriter idHoldingBsonWriter = new IdHoldingBsonWriter(writer, previouslyGeneratedId);
+        getCodec(document).encode(idHoldingBsonWriter, document, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return idHoldingBsonWriter.getId();
     }
 
     /**
@@ -167,6 +404,24 @@ public final class SplittablePayload extends MessageSequences {
         this.position = position;
     }
 
+    /**
+     * @return the maximum number of documents that are written to a message, in addition to the limits of the server
+     */
+    public int getMaxBatchCount() {
+        return maxBatchCount;
+    }
+
+    /**
+     * Sets the maximum number of documents that are written to a message, in addition to the limits of the server.
+     * The documents that are not written are left for the {@linkplain #getNextSplit() next split}, which has no such maximum.
+     *
+     * @param maxBatchCount the maximum number of documents, which must be positive
+     */
+    public void setMaxBatchCount(final int maxBatchCount) {
+        isTrueArgument("maxBatchCount > 0", maxBatchCount > 0);
+        this.maxBatchCount = maxBatchCount;
+    }
+
     /**
      * @return true if there are more values after the current position
      */
@@ -186,7 +441,24 @@ public final class SplittablePayload extends MessageSequences {
     public SplittablePayload getNextSplit() {
         isTrue("hasAnotherSplit", hasAnotherSplit());
         List<WriteRequestWithIndex> nextPayLoad = writeRequestWithIndexes.subList(position, writeRequestWithIndexes.size());
-        return new SplittablePayload(payloadType, nextPayLoad, ordered, fieldNameValidator);
+        if (encodedDocuments != null) {
+            if (encodingAhead != null) {
+                // must happen before the removal, so that a document being encoded ahead is either removed here or by its encoder
+                encodingAhead.sentCount = encodingAheadOffset + position;
+            }
+            // the documents before the position are not sent again
+            long sentBytes = 0;
+            for (WriteRequestWithIndex writeRequestWithIndex : writeRequestWithIndexes.subList(0, position)) {
+                EncodedDocument encodedDocument = encodedDocuments.remove(writeRequestWithIndex.getIndex());
+                sentBytes += encodedDocument == null ? 0 : encodedDocument.unsentBytes;
+            }
+            if (encodingAhead != null && sentBytes > 0) {
+                encodingAhead.unsentBytes.addAndGet(-sentBytes);
+                encodingAhead.origin.startEncodingAhead(encodingAhead);
+            }
+        }
+        return new SplittablePayload(payloadType, nextPayLoad, ordered, fieldNameValidator, encodedDocuments, encodingAhead,
+                encodingAheadOffset + position);
     }
 
     /**
@@ -206,22 +478,17 @@ public final class SplittablePayload extends MessageSequences {
                            final EncoderContext encoderContext) {
             if (writeRequestWithIndex.getType() == WriteRequest.Type.INSERT) {
                 InsertRequest insertRequest = (InsertRequest) writeRequestWithIndex.getWriteRequest();
-                BsonDocument document = insertRequest.getDocument();
 
                 BsonValue documentId = insertedIds.compute(
                         writeRequestWithIndex.getIndex(),
-                        (writeRequestIndex, writeRequestDocumentId) -> {
-                            IdHoldingBsonWriter idHoldingBsonWriter = new IdHoldingBsonWriter(
-                                    writer,
-                                    // Reuse `writeRequestDocumentId` if it may have been generated
-                                    // by `IdHoldingBsonWriter` in a previous attempt.
-                                    // If its type is not `BsonObjectId`, which happens only if `_id` was specified by the application,
-                                    // we know it could not have been generated.
-                                    writeRequestDocumentId instanceof BsonObjectId ? writeRequestDocumentId.asObjectId() : null);
-                            getCodec(document).encode(idHoldingBsonWriter, document,
-                                    EncoderContext.builder().isEncodingCollectibleDocument(true).build());
-                            return idHoldingBsonWriter.getId();
-                        });
+                        (writeRequestIndex, writeRequestDocumentId) -> encodeInsertDocument(
+                                writer,
+                                insertRequest,
+                                // Reuse `writeRequestDocumentId` if it may have been generated
+                                // by `IdHoldingBsonWriter` in a previous attempt.
+                                // If its type is not `BsonObjectId`, which happens only if `_id` was specified by the application,
+                                // we know it could not have been generated.
+                                writeRequestDocumentId instanceof BsonObjectId ? writeRequestDocumentId.asObjectId() : null));
                 if (documentId == null) {
                     // we must add an entry anyway because we rely on all the indexes being present
                     insertedIds.put(writeRequestWithIndex.getIndex(), null);
@@ -316,6 +583,47 @@ public final class SplittablePayload extends MessageSequences {
         }
     }
 
+    private static final class EncodedDocument {
+        private final RawBsonDocument document;
+        @Nullable
+        private final BsonValue id;
+        /**
+         * The size of the document if it was encoded ahead, and therefore counts towards {@link EncodingAhead#unsentBytes}, else 0.
+         */
+        private final int unsentBytes;
+
+        EncodedDocument(final RawBsonDocument document, @Nullable final BsonValue id, final int unsentBytes) {
+            this.document = document;
+            this.id = id;
+            this.unsentBytes = unsentBytes;
+        }
+    }
+
+    private static final class EncodingAhead {
+        /**
+         * The payload that started encoding ahead, whose documents the tasks encode.
+         */
+        private final SplittablePayload origin;
+        private final int parallelism;
+        private final int maxUnsentBytes;
+        private final Executor executor;
+        private final AtomicInteger taskCount = new AtomicInteger();
+        private final AtomicLong unsentBytes = new AtomicLong();
+        private final AtomicInteger nextChunkStart = new AtomicInteger();
+        /**
+         * The number of documents, from the start of the payload that started encoding ahead, that were sent.
+         */
+        private volatile int sentCount;
+        private volatile boolean stopped;
+
+        EncodingAhead(final SplittablePayload origin, final int parallelism, final int maxUnsentBytes, final Executor executor) {
+            this.origin = origin;
+            this.parallelism = parallelism;
+            this.maxUnsentBytes = maxUnsentBytes;
+            this.executor = executor;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static Codec<BsonDocument> getCodec(final BsonDocument document) {
         return (Codec<BsonDocument>) REGISTRY.get(document.getClass());
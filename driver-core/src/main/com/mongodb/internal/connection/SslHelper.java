@@ -22,6 +22,7 @@ import com.mongodb.connection.SslSettings;
 import javax.net.ssl.SNIHostName;
 import javax.net.ssl.SNIServerName;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 
 import java.net.InetSocketAddress;
@@ -58,6 +59,19 @@ public final class SslHelper {
         }
     }
 
+    /**
+     * Determines whether a TLS handshake was abbreviated by resuming a session negotiated by an earlier handshake,
+     * either from the session cache of the {@link javax.net.ssl.SSLContext} or via a session ticket.
+     * A resumed session keeps the creation time of the session it resumes.
+     *
+     * @param sslSession                the session negotiated by the completed handshake
+     * @param handshakeStartEpochMillis the {@link System#currentTimeMillis()} before the handshake started
+     * @return {@code true} iff the handshake resumed a session, as opposed to being a full handshake
+     */
+    public static boolean isResumed(final SSLSession sslSession, final long handshakeStartEpochMillis) {
+        return sslSession.getCreationTime() < handshakeStartEpochMillis;
+    }
+
     public static void configureSslSocket(final Socket socket, final SslSettings sslSettings, final InetSocketAddress inetSocketAddress) throws
             MongoInternalException {
         if (sslSettings.isEnabled() || socket instanceof SSLSocket) {
@@ -18,8 +18,10 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.ServerAddress;
 import com.mongodb.connection.AsyncCompletionHandler;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.util.List;
 
@@ -103,4 +105,25 @@ public interface Stream extends BufferProvider {
      * @return true if connection is closed
      */
     boolean isClosed();
+
+    /**
+     * Returns the thread that performs all I/O of this stream, like a Netty event loop thread, if there is such a thread.
+     *
+     * @return the I/O thread, or {@code null} if the stream is not bound to a thread or is not open
+     */
+    @Nullable
+    default Thread getIoThread() {
+        return null;
+    }
+
+    /**
+     * Returns the TLS session of this stream. Must be called only after the TLS handshake completed,
+     * which is the case once data has been both written to and read from the stream.
+     *
+     * @return the TLS session, or {@code null} if the stream does not use TLS
+     */
+    @Nullable
+    default SSLSession getSslSession() {
+        return null;
+    }
 }
@@ -35,6 +35,7 @@ import com.mongodb.spi.dns.InetAddressResolver;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.StandardSocketOptions;
@@ -174,6 +175,8 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
         private final SelectorMonitor selectorMonitor;
         private final InetAddressResolver inetAddressResolver;
         private final SslSettings sslSettings;
+        @Nullable
+        private volatile SSLEngine sslEngine;
 
         TlsChannelStream(final ServerAddress serverAddress, final InetAddressResolver inetAddressResolver,
                 final SocketSettings settings, final SslSettings sslSettings, final PowerOfTwoBufferPool bufferProvider,
@@ -220,6 +223,7 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
                             enableHostNameVerification(sslParameters);
                         }
                         sslEngine.setSSLParameters(sslParameters);
+                        TlsChannelStream.this.sslEngine = sslEngine;
 
                         BufferAllocator bufferAllocator = new BufferProviderAllocator();
 
@@ -245,6 +249,13 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
             }
         }
 
+        @Override
+        @Nullable
+        public SSLSession getSslSession() {
+            SSLEngine localSslEngine = sslEngine;
+            return localSslEngine == null ? null : localSslEngine.getSession();
+        }
+
         private SSLContext getSslContext() {
             try {
                 return ofNullable(sslSettings.getContext()).orElse(SSLContext.getDefault());
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
+import org.bson.codecs.Decoder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static com.mongodb.internal.time.Timeout.ZeroSemantics.ZERO_DURATION_MEANS_EXPIRED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A connection reserved from the {@link ConnectionPool} of a server, which unacknowledged writes share instead of each checking a
+ * connection out of the pool.  The commands of the writes are sent one after the other, in the order in which the writes get to the
+ * channel, and, as the commands of unacknowledged writes are sent with the {@code moreToCome} flag, without waiting for responses.
+ *
+ * <p>The reserved connection is replaced once it is closed, for example, because of a network error, once the pool is cleared,
+ * or once the pool would prune it, for example, because it is past the maximum idle time of the pool. The latter is also checked
+ * periodically, so that a connection the writes stopped using is not reserved indefinitely.
+ * A replaced connection is returned to the pool once the writes using it are done with it.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+final class UnacknowledgedWriteChannel {
+    private static final String TIMEOUT_MESSAGE = "Timed out waiting for the unacknowledged write channel";
+
+    private final ConnectionPool connectionPool;
+    private final long pruneFrequencyMillis;
+    private final Lock lock = new ReentrantLock();
+    @Nullable
+    private Reservation reservation;
+    @Nullable
+    private Future<?> pruneCheck;
+    private boolean closed;
+
+    /**
+     * @param pruneFrequencyMillis how often to check whether the pool would prune the reserved connection, or 0 to check only when
+     * writes get to the channel.
+     */
+    UnacknowledgedWriteChannel(final ConnectionPool connectionPool, final long pruneFrequencyMillis) {
+        this.connectionPool = notNull("connectionPool", connectionPool);
+        isTrueArgument("pruneFrequencyMillis >= 0", pruneFrequencyMillis >= 0);
+        this.pruneFrequencyMillis = pruneFrequencyMillis;
+    }
+
+    /**
+     * Gets a connection backed by the reserved connection, checking a connection out of the pool to reserve if there is none.
+     * Closing the returned connection does not return the reserved connection to the pool.
+     */
+    InternalConnection get(final OperationContext operationContext) {
+        InternalConnection connection = leaseReserved();
+        return connection != null ? connection : reserve(connectionPool.get(operationContext));
+    }
+
+    /**
+     * @see #get(OperationContext)
+     */
+    void getAsync(final OperationContext operationContext, final SingleResultCallback<InternalConnection> callback) {
+        InternalConnection connection = leaseReserved();
+        if (connection != null) {
+            callback.onResult(connection, null);
+            return;
+        }
+        connectionPool.getAsync(operationContext, (result, t) -> {
+            if (t != null) {
+                callback.onResult(null, t);
+            } else {
+                callback.onResult(reserve(assertNotNull(result)), null);
+            }
+        });
+    }
+
+    /**
+     * Returns the reserved connection to the pool once the writes using it are done with it.
+     */
+    void close() {
+        Reservation retired = withLock(lock, () -> {
+            closed = true;
+            return retire();
+        });
+        if (retired != null) {
+            retired.connection.close();
+        }
+    }
+
+    @Nullable
+    private InternalConnection leaseReserved() {
+        Reservation retired = null;
+        try {
+            lock.lock();
+            Reservation current = reservation;
+            if (current != null && current.isUsable()) {
+                return current.lease();
+            }
+            retired = retire();
+            return null;
+        } finally {
+            lock.unlock();
+            if (retired != null) {
+                retired.connection.close();
+            }
+        }
+    }
+
+    private InternalConnection reserve(final InternalConnection connection) {
+        return withLock(lock, () -> {
+            Reservation current = reservation;
+            if (current != null && current.isUsable()) {
+                // another write reserved a connection concurrently, so the checked out one is used only by this write
+                Reservation oneOff = new Reservation(connection);
+                oneOff.retired = true;
+                return oneOff.lease();
+            }
+            Reservation reserved = new Reservation(connection);
+            reserved.retired = closed;
+            if (!closed) {
+                reservation = reserved;
+                schedulePruneCheck(reserved);
+            }
+            return reserved.lease();
+        });
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}.
+     */
+    private void schedulePruneCheck(final Reservation reserved) {
+        if (pruneFrequencyMillis > 0) {
+            pruneCheck = AsyncTimeoutScheduler.schedule(Timeout.expiresIn(pruneFrequencyMillis, MILLISECONDS, ZERO_DURATION_MEANS_EXPIRED),
+                    () -> retireIfNotUsable(reserved));
+        }
+    }
+
+    private void retireIfNotUsable(final Reservation reserved) {
+        Reservation retired = withLock(lock, () -> {
+            if (reservation != reserved) {
+                return null;
+            }
+            if (reserved.isUsable()) {
+                schedulePruneCheck(reserved);
+                return null;
+            }
+            return retire();
+        });
+        if (retired != null) {
+            retired.connection.close();
+        }
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}.
+     *
+     * @return the retired reservation if its connection must be returned to the pool, which must be done without holding the lock.
+     */
+    @Nullable
+    private Reservation retire() {
+        AsyncTimeoutScheduler.cancel(pruneCheck);
+        pruneCheck = null;
+        Reservation current = reservation;
+        reservation = null;
+        if (current == null) {
+            return null;
+        }
+        current.retired = true;
+        return current.leases == 0 ? current : null;
+    }
+
+    private final class Reservation {
+        private final InternalConnection connection;
+        private final Deque<Runnable> waiters = new ArrayDeque<>();
+        // the fields below are guarded by the lock of the channel
+        private int leases;
+        private boolean retired;
+        private boolean inUse;
+
+        Reservation(final InternalConnection connection) {
+            this.connection = connection;
+        }
+
+        boolean isUsable() {
+            return !retired && !connection.isClosed() && connection.getGeneration() == connectionPool.getGeneration()
+                    && !connectionPool.shouldPrune(connection);
+        }
+
+        InternalConnection lease() {
+            leases++;
+            return new LeasedConnection(this);
+        }
+
+        void endLease() {
+            boolean returnToPool = withLock(lock, () -> {
+                leases--;
+                return retired && leases == 0;
+            });
+            if (returnToPool) {
+                connection.close();
+            }
+        }
+
+        /**
+         * Blocks until the connection is not used by other writes, and then uses it.
+         *
+         * @param timeout the timeout of the operation, or {@code null} if it is infinite.
+         * @throws MongoOperationTimeoutException if {@code timeout} expires before the connection can be used.
+         */
+        void use(@Nullable final Timeout timeout) {
+            CountDownLatch turn = new CountDownLatch(1);
+            Runnable waiter = turn::countDown;
+            if (useOrWait(waiter)) {
+                return;
+            }
+            boolean isTurn;
+            try {
+                isTurn = Timeout.nullAsInfinite(timeout).checkedCall(NANOSECONDS,
+                        () -> {
+                            turn.await();
+                            return true;
+                        },
+                        (ns) -> turn.await(ns, NANOSECONDS),
+                        () -> turn.getCount() == 0);
+            } catch (InterruptedException e) {
+                abandon(waiter);
+                throw interruptAndCreateMongoInterruptedException("Interrupted waiting for the unacknowledged write channel", e);
+            }
+            if (!isTurn) {
+                abandon(waiter);
+                throw createMongoTimeoutException(TIMEOUT_MESSAGE);
+            }
+        }
+
+        /**
+         * Completes {@code callback} once the connection is not used by other writes, either on the calling thread,
+         * or on the thread of the write that used the connection before. If {@code timeout} expires before then,
+         * {@code callback} is completed with a {@link MongoOperationTimeoutException}, and the connection is not used.
+         *
+         * @param timeout the timeout of the operation, or {@code null} if it is infinite.
+         */
+        void useAsync(@Nullable final Timeout timeout, final SingleResultCallback<Void> callback) {
+            AsyncWaiter waiter = new AsyncWaiter(callback);
+            if (useOrWait(waiter)) {
+                callback.onResult(null, null);
+                return;
+            }
+            waiter.timeoutHandle = AsyncTimeoutScheduler.schedule(Timeout.nullAsInfinite(timeout), () -> {
+                // the turn may have come concurrently, in which case the callback is completed by the write that used the connection
+                if (withLock(lock, () -> waiters.remove(waiter))) {
+                    callback.onResult(null, createMongoTimeoutException(TIMEOUT_MESSAGE));
+                }
+            });
+        }
+
+        void doneUsing() {
+            Runnable next = withLock(lock, () -> {
+                Runnable waiter = waiters.pollFirst();
+                if (waiter == null) {
+                    inUse = false;
+                }
+                return waiter;
+            });
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        /**
+         * Gives up waiting, and is done using the connection if the turn came concurrently.
+         */
+        private void abandon(final Runnable waiter) {
+            if (!withLock(lock, () -> waiters.remove(waiter))) {
+                doneUsing();
+            }
+        }
+
+        private boolean useOrWait(final Runnable waiter) {
+            return withLock(lock, () -> {
+                if (!inUse) {
+                    inUse = true;
+                    return true;
+                }
+                waiters.addLast(waiter);
+                return false;
+            });
+        }
+    }
+
+    private static final class AsyncWaiter implements Runnable {
+        private final SingleResultCallback<Void> callback;
+        @Nullable
+        private volatile Future<?> timeoutHandle;
+
+        AsyncWaiter(final SingleResultCallback<Void> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            AsyncTimeoutScheduler.cancel(timeoutHandle);
+            callback.onResult(null, null);
+        }
+    }
+
+    /**
+     * A lease of the reserved connection, which sends one command at a time on it.  Closing it ends the lease.
+     */
+    private static final class LeasedConnection implements InternalConnection {
+        private final Reservation reservation;
+        private final InternalConnection wrapped;
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+
+        LeasedConnection(final Reservation reservation) {
+            this.reservation = reservation;
+            this.wrapped = reservation.connection;
+        }
+
+        @Override
+        public ConnectionDescription getDescription() {
+            return wrapped.getDescription();
+        }
+
+        @Override
+        public ServerDescription getInitialServerDescription() {
+            return wrapped.getInitialServerDescription();
+        }
+
+        @Override
+        public void open(final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void openAsync(final OperationContext operationContext, final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            if (!isClosed.getAndSet(true)) {
+                reservation.endLease();
+            }
+        }
+
+        @Override
+        public boolean opened() {
+            return wrapped.opened();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return isClosed.get() || wrapped.isClosed();
+        }
+
+        @Override
+        public int getGeneration() {
+            return wrapped.getGeneration();
+        }
+
+        @Override
+        public ByteBuf getBuffer(final int size) {
+            return wrapped.getBuffer(size);
+        }
+
+        @Override
+        public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            isTrue("open", !isClosed.get());
+            reservation.use(operationContext.getTimeoutContext().getTimeout());
+            try {
+                return wrapped.sendAndReceive(message, decoder, operationContext);
+            } finally {
+                reservation.doneUsing();
+            }
+        }
+
+        @Override
+        public <T> void sendAndReceiveAsync(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            isTrue("open", !isClosed.get());
+            reservation.useAsync(operationContext.getTimeoutContext().getTimeout(), (r, useFailure) -> {
+                if (useFailure != null) {
+                    callback.onResult(null, useFailure);
+                    return;
+                }
+                try {
+                    wrapped.sendAndReceiveAsync(message, decoder, operationContext, (result, t) -> {
+                        reservation.doneUsing();
+                        callback.onResult(result, t);
+                    });
+                } catch (Throwable t) {
+                    reservation.doneUsing();
+                    callback.onResult(null, t);
+                }
+            });
+        }
+
+        @Override
+        public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return false;
+        }
+
+        @Override
+        public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessageAsync(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext,
+                final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResponseBuffers receiveMessage(final int responseTo, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void receiveMessageAsync(final int responseTo, final OperationContext operationContext,
+                final SingleResultCallback<ResponseBuffers> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markAsPinned(final Connection.PinningMode pinningMode) {
+            wrapped.markAsPinned(pinningMode);
+        }
+
+        @Override
+        @Nullable
+        public Thread getIoThread() {
+            return wrapped.getIoThread();
+        }
+
+        @Override
+        public boolean isTlsSessionResumed() {
+            return wrapped.isTlsSessionResumed();
+        }
+    }
+}
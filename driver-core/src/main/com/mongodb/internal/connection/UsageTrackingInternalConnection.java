@@ -22,6 +22,7 @@ import com.mongodb.event.ConnectionCreatedEvent;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 import org.bson.codecs.Decoder;
 
@@ -183,6 +184,17 @@ class UsageTrackingInternalConnection implements InternalConnection {
         return wrapped.getGeneration();
     }
 
+    @Override
+    @Nullable
+    public Thread getIoThread() {
+        return wrapped.getIoThread();
+    }
+
+    @Override
+    public boolean isTlsSessionResumed() {
+        return wrapped.isTlsSessionResumed();
+    }
+
     /**
      * Returns the time at which this connection was opened, or {@code Long.MAX_VALUE} if it has not yet been opened.
      *
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.WriteBudgetSettings;
+import com.mongodb.event.WriteBudgetListener;
+import com.mongodb.event.WriteBudgetWaitedEvent;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.diagnostics.logging.Logger;
+import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.time.StartTime;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Caps the number of bytes of the messages carrying document sequences that are encoded but not yet acknowledged, according to
+ * {@link WriteBudgetSettings}.  An instance is shared by all the connections of a client, so that the cap applies across them.
+ *
+ * <p>A message acquires an upper bound of its size before it is encoded, so that the messages waiting for bytes hold no encoded
+ * documents, {@linkplain #resize(int, int) keeps} only its actual size once it is encoded, and releases it once its response is
+ * received, or once it is sent if no response is expected.  Messages that cannot acquire their bytes wait in the order they attempted
+ * to, so that a large message is not starved by smaller ones.  A message larger than the cap acquires its bytes when no bytes are
+ * acquired.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+final class WriteBudget {
+    private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final String TIMEOUT_MESSAGE = "Timed out waiting for the write budget";
+
+    private final long maxUnacknowledgedBytes;
+    private final List<WriteBudgetListener> writeBudgetListeners;
+    private final Lock lock = new ReentrantLock();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private long unacknowledgedBytes;
+
+    WriteBudget(final WriteBudgetSettings settings) {
+        notNull("settings", settings);
+        this.maxUnacknowledgedBytes = settings.getMaxUnacknowledgedBytes();
+        this.writeBudgetListeners = settings.getWriteBudgetListeners();
+    }
+
+    /**
+     * @return whether the number of unacknowledged bytes is capped. If not, bytes need not be acquired.
+     */
+    boolean isCapped() {
+        return maxUnacknowledgedBytes > 0;
+    }
+
+    /**
+     * Acquires {@code bytes}, blocking until they can be acquired.
+     *
+     * @param timeout the timeout of the operation, or {@code null} if it is infinite.
+     * @throws MongoOperationTimeoutException if {@code timeout} expires before the bytes are acquired.
+     */
+    void acquire(final ConnectionId connectionId, final int bytes, @Nullable final Timeout timeout) {
+        CountDownLatch acquired = new CountDownLatch(1);
+        Waiter waiter = acquireOrWait(connectionId, bytes, acquired::countDown);
+        if (waiter == null) {
+            return;
+        }
+        boolean isAcquired;
+        try {
+            isAcquired = Timeout.nullAsInfinite(timeout).checkedCall(NANOSECONDS,
+                    () -> {
+                        acquired.await();
+                        return true;
+                    },
+                    (ns) -> acquired.await(ns, NANOSECONDS),
+                    () -> acquired.getCount() == 0);
+        } catch (InterruptedException e) {
+            abandon(waiter);
+            throw interruptAndCreateMongoInterruptedException("Interrupted waiting for the write budget", e);
+        }
+        if (!isAcquired) {
+            abandon(waiter);
+            throw createMongoTimeoutException(TIMEOUT_MESSAGE);
+        }
+    }
+
+    /**
+     * Acquires {@code bytes}, and then completes {@code callback}, either on the calling thread if they can be acquired
+     * immediately, or else on the thread {@linkplain #release(int) releasing} the bytes they waited for. If {@code timeout} expires
+     * before the bytes are acquired, {@code callback} is completed with a {@link MongoOperationTimeoutException}, and no bytes
+     * are acquired.
+     *
+     * @param timeout the timeout of the operation, or {@code null} if it is infinite.
+     */
+    void acquireAsync(final ConnectionId connectionId, final int bytes, @Nullable final Timeout timeout,
+            final SingleResultCallback<Void> callback) {
+        Waiter waiter = acquireOrWait(connectionId, bytes, () -> callback.onResult(null, null));
+        if (waiter == null) {
+            callback.onResult(null, null);
+            return;
+        }
+        waiter.timeoutHandle = AsyncTimeoutScheduler.schedule(Timeout.nullAsInfinite(timeout), () -> {
+            // the bytes may have been granted concurrently, in which case the callback is completed by the granting thread
+            if (withLock(lock, () -> waiters.remove(waiter))) {
+                grantWaiters();
+                callback.onResult(null, createMongoTimeoutException(TIMEOUT_MESSAGE));
+            }
+        });
+    }
+
+    void release(final int bytes) {
+        withLock(lock, () -> {
+            unacknowledgedBytes -= bytes;
+        });
+        grantWaiters();
+    }
+
+    /**
+     * Changes the number of bytes acquired by a message from {@code acquiredBytes} to {@code bytes} without waiting,
+     * once the message is encoded, and its size known.
+     */
+    void resize(final int acquiredBytes, final int bytes) {
+        withLock(lock, () -> {
+            unacknowledgedBytes += bytes - acquiredBytes;
+        });
+        if (bytes < acquiredBytes) {
+            grantWaiters();
+        }
+    }
+
+    long getUnacknowledgedBytes() {
+        return withLock(lock, () -> unacknowledgedBytes);
+    }
+
+    /**
+     * @return {@code null} iff the bytes are acquired, otherwise the waiter, whose {@code onAcquired} is run once they are.
+     */
+    @Nullable
+    private Waiter acquireOrWait(final ConnectionId connectionId, final int bytes, final Runnable onAcquired) {
+        return withLock(lock, () -> {
+            if (waiters.isEmpty() && canAcquire(bytes)) {
+                unacknowledgedBytes += bytes;
+                return null;
+            }
+            Waiter waiter = new Waiter(connectionId, bytes, onAcquired);
+            waiters.addLast(waiter);
+            return waiter;
+        });
+    }
+
+    /**
+     * Gives up waiting, releasing the bytes if they were granted concurrently.
+     */
+    private void abandon(final Waiter waiter) {
+        if (withLock(lock, () -> waiters.remove(waiter))) {
+            // the waiter may have been the one the others were waiting behind
+            grantWaiters();
+        } else {
+            release(waiter.bytes);
+        }
+    }
+
+    private boolean canAcquire(final int bytes) {
+        return unacknowledgedBytes == 0 || unacknowledgedBytes + bytes <= maxUnacknowledgedBytes;
+    }
+
+    private void grantWaiters() {
+        List<Waiter> granted = withLock(lock, () -> {
+            List<Waiter> result = new ArrayList<>();
+            while (!waiters.isEmpty() && canAcquire(waiters.peekFirst().bytes)) {
+                Waiter waiter = waiters.pollFirst();
+                unacknowledgedBytes += waiter.bytes;
+                result.add(waiter);
+            }
+            return result;
+        });
+        for (Waiter waiter : granted) {
+            AsyncTimeoutScheduler.cancel(waiter.timeoutHandle);
+            waited(waiter);
+            waiter.onAcquired.run();
+        }
+    }
+
+    private void waited(final Waiter waiter) {
+        if (writeBudgetListeners.isEmpty()) {
+            return;
+        }
+        WriteBudgetWaitedEvent event = new WriteBudgetWaitedEvent(waiter.connectionId, waiter.bytes,
+                waiter.startTime.elapsed().toNanos());
+        for (WriteBudgetListener listener : writeBudgetListeners) {
+            try {
+                listener.writeBudgetWaited(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising write budget event %s", event), e);
+                }
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final ConnectionId connectionId;
+        private final int bytes;
+        private final Runnable onAcquired;
+        private final StartTime startTime;
+        @Nullable
+        private volatile Future<?> timeoutHandle;
+
+        Waiter(final ConnectionId connectionId, final int bytes, final Runnable onAcquired) {
+            this.connectionId = connectionId;
+            this.bytes = bytes;
+            this.onAcquired = onAcquired;
+            this.startTime = StartTime.now();
+        }
+    }
+}
@@ -17,16 +17,42 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
+import org.bson.io.BsonOutput;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Inflater;
 
+import static com.mongodb.internal.Locks.withLock;
+
+/**
+ * A zlib compressor that reuses a single {@link Deflater} and {@link Inflater} for the lifetime of the connection that owns it,
+ * and that streams compressed output directly into the target {@link BsonOutput} rather than through an intermediate byte array.
+ *
+ * <p>Instances are owned by a single {@link InternalStreamConnection}, so compression and decompression are never invoked
+ * concurrently on the same direction. The native resources are released by {@link #close()}.</p>
+ */
 class ZlibCompressor extends Compressor {
+    private static final int SCRATCH_SIZE = 1024;
+
     private final int level;
+    private final byte[] deflaterInput = new byte[SCRATCH_SIZE];
+    private final byte[] deflaterOutput = new byte[SCRATCH_SIZE];
+    private final byte[] inflaterInput = new byte[SCRATCH_SIZE];
+    private final byte[] inflaterOutput = new byte[SCRATCH_SIZE];
+    private final Lock deflaterLock = new ReentrantLock();
+    private final Lock inflaterLock = new ReentrantLock();
+    @Nullable
+    private Deflater deflater;
+    @Nullable
+    private Inflater inflater;
+    private volatile boolean closed;
 
     ZlibCompressor(final MongoCompressor mongoCompressor) {
         this.level = mongoCompressor.getPropertyNonNull(MongoCompressor.LEVEL, Deflater.DEFAULT_COMPRESSION);
@@ -43,21 +69,104 @@ class ZlibCompressor extends Compressor {
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) {
-        return new InflaterInputStream(source);
+    void compress(final List<ByteBuf> source, final BsonOutput target) {
+        withLock(deflaterLock, () -> {
+            Deflater localDeflater = getDeflater();
+            try {
+                byte[] in = deflaterInput;
+                byte[] out = deflaterOutput;
+                for (ByteBuf cur : source) {
+                    while (cur.hasRemaining()) {
+                        int numBytes = Math.min(cur.remaining(), in.length);
+                        cur.get(in, 0, numBytes);
+                        localDeflater.setInput(in, 0, numBytes);
+                        while (!localDeflater.needsInput()) {
+                            drain(localDeflater, out, target);
+                        }
+                    }
+                }
+                localDeflater.finish();
+                while (!localDeflater.finished()) {
+                    drain(localDeflater, out, target);
+                }
+            } finally {
+                localDeflater.reset();
+            }
+        });
     }
 
     @Override
-    OutputStream getOutputStream(final OutputStream source) {
-        return new DeflaterOutputStream(source, new Deflater(level)) {
-            @Override
-            public void close() throws IOException {
-                try {
-                    super.close();
-                } finally {
-                    def.end();
+    void uncompress(final ByteBuf source, final ByteBuf target) {
+        withLock(inflaterLock, () -> {
+            Inflater localInflater = getInflater();
+            try {
+                byte[] in = inflaterInput;
+                byte[] out = inflaterOutput;
+                while (!localInflater.finished()) {
+                    if (localInflater.needsInput()) {
+                        if (!source.hasRemaining()) {
+                            throw new MongoInternalException("Unexpected end of zlib compressed message");
+                        }
+                        int numBytes = Math.min(source.remaining(), in.length);
+                        source.get(in, 0, numBytes);
+                        localInflater.setInput(in, 0, numBytes);
+                    }
+                    int numBytes = localInflater.inflate(out);
+                    if (numBytes > 0) {
+                        target.put(out, 0, numBytes);
+                    } else if (localInflater.needsDictionary()) {
+                        throw new MongoInternalException("Unexpected zlib dictionary requirement");
+                    }
                 }
+            } catch (DataFormatException e) {
+                throw new MongoInternalException("Unexpected DataFormatException", e);
+            } finally {
+                localInflater.reset();
+            }
+        });
+    }
+
+    @Override
+    void close() {
+        closed = true;
+        withLock(deflaterLock, () -> {
+            if (deflater != null) {
+                deflater.end();
+                deflater = null;
+            }
+        });
+        withLock(inflaterLock, () -> {
+            if (inflater != null) {
+                inflater.end();
+                inflater = null;
+            }
+        });
+    }
+
+    private static void drain(final Deflater deflater, final byte[] out, final BsonOutput target) {
+        int numBytes = deflater.deflate(out);
+        if (numBytes > 0) {
+            target.writeBytes(out, 0, numBytes);
+        }
+    }
+
+    private Deflater getDeflater() {
+        if (deflater == null) {
+            if (closed) {
+                throw new MongoInternalException("The compressor has been closed");
+            }
+            deflater = new Deflater(level);
+        }
+        return deflater;
+    }
+
+    private Inflater getInflater() {
+        if (inflater == null) {
+            if (closed) {
+                throw new MongoInternalException("The compressor has been closed");
             }
-        };
+            inflater = new Inflater();
+        }
+        return inflater;
     }
 }
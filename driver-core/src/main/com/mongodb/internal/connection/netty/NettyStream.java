@@ -34,7 +34,6 @@ import com.mongodb.spi.dns.InetAddressResolver;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -55,6 +54,7 @@ import org.bson.ByteBuf;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.security.NoSuchAlgorithmException;
@@ -126,6 +126,13 @@ final class NettyStream implements Stream {
 
     private boolean isClosed;
     private volatile Channel channel;
+    /**
+     * The event loop thread of the {@link #channel}, which {@link ChannelInitializer#initChannel(Channel)} is called on.
+     */
+    @Nullable
+    private volatile Thread ioThread;
+    @Nullable
+    private volatile SSLEngine sslEngine;
 
     private final LinkedList<io.netty.buffer.ByteBuf> pendingInboundBuffers = new LinkedList<>();
     private final Lock lock = new ReentrantLock();
@@ -157,7 +164,8 @@ final class NettyStream implements Stream {
 
     @Override
     public ByteBuf getBuffer(final int size) {
-        return new NettyByteBuf(allocator.buffer(size, size));
+        // messages are encoded straight into direct buffers, so that writing them to the channel does not copy
+        return new NettyByteBuf(allocator.directBuffer(size, size));
     }
 
     @Override
@@ -207,6 +215,7 @@ final class NettyStream implements Stream {
             bootstrap.handler(new ChannelInitializer<SocketChannel>() {
                 @Override
                 public void initChannel(final SocketChannel ch) {
+                    ioThread = Thread.currentThread();
                     ChannelPipeline pipeline = ch.pipeline();
                     if (sslSettings.isEnabled()) {
                         addSslHandler(ch);
@@ -242,7 +251,8 @@ final class NettyStream implements Stream {
     @Override
     public void writeAsync(final List<ByteBuf> buffers, final OperationContext operationContext,
             final AsyncCompletionHandler<Void> handler) {
-        CompositeByteBuf composite = PooledByteBufAllocator.DEFAULT.compositeBuffer();
+        // a composite with fewer components than buffers would copy them into a new buffer
+        CompositeByteBuf composite = allocator.compositeDirectBuffer(Math.max(1, buffers.size()));
         for (ByteBuf cur : buffers) {
             // The Netty framework releases `CompositeByteBuf` after writing
             // (see https://netty.io/wiki/reference-counted-objects.html#outbound-messages),
@@ -383,6 +393,19 @@ final class NettyStream implements Stream {
         });
     }
 
+    @Override
+    @Nullable
+    public Thread getIoThread() {
+        return ioThread;
+    }
+
+    @Override
+    @Nullable
+    public SSLSession getSslSession() {
+        SSLEngine localSslEngine = sslEngine;
+        return localSslEngine == null ? null : localSslEngine.getSession();
+    }
+
     @Override
     public boolean isClosed() {
         return isClosed;
@@ -428,6 +451,7 @@ final class NettyStream implements Stream {
             enableHostNameVerification(sslParameters);
         }
         engine.setSSLParameters(sslParameters);
+        sslEngine = engine;
         channel.pipeline().addFirst("ssl", new SslHandler(engine, false));
     }
 
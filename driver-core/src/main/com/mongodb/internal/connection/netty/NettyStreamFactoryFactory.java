@@ -36,6 +36,7 @@ import io.netty.handler.ssl.SslProvider;
 
 import java.security.Security;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
@@ -48,6 +49,13 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
 
     private final EventLoopGroup eventLoopGroup;
     private final boolean ownsEventLoopGroup;
+    /**
+     * The transport whose {@linkplain NettyTransport#acquireSharedEventLoopGroup() shared} {@link #eventLoopGroup} is used,
+     * or {@code null} if it is not shared.
+     */
+    @Nullable
+    private final NettyTransport sharedEventLoopGroupTransport;
+    private final AtomicBoolean closed;
     private final Class<? extends SocketChannel> socketChannelClass;
     private final ByteBufAllocator allocator;
     @Nullable
@@ -93,6 +101,7 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
         @Nullable
         private SslContext sslContext;
         private InetAddressResolver inetAddressResolver;
+        private boolean nativeTransportEnabled = true;
 
         private Builder() {
         }
@@ -108,6 +117,7 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
             this.eventLoopGroup = settings.getEventLoopGroup();
             this.sslContext = settings.getSslContext();
             this.socketChannelClass = settings.getSocketChannelClass();
+            this.nativeTransportEnabled = settings.isNativeTransportEnabled();
             return this;
         }
 
@@ -183,6 +193,18 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
             return this;
         }
 
+        /**
+         * Sets whether to use a native transport if neither the event loop group nor the socket channel class is set.
+         *
+         * @param nativeTransportEnabled whether native transports are enabled
+         * @return this
+         * @see NettyTransportSettings.Builder#nativeTransportEnabled(boolean)
+         */
+        public Builder nativeTransportEnabled(final boolean nativeTransportEnabled) {
+            this.nativeTransportEnabled = nativeTransportEnabled;
+            return this;
+        }
+
         public Builder inetAddressResolver(final InetAddressResolver inetAddressResolver) {
             this.inetAddressResolver = inetAddressResolver;
             return this;
@@ -205,11 +227,16 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
 
     @Override
     public void close() {
-         if (ownsEventLoopGroup) {
-             // ignore the returned Future.  This is in line with MongoClient behavior to not block waiting for connections to be returned
-             // to the pool
-             eventLoopGroup.shutdownGracefully();
-         }
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (sharedEventLoopGroupTransport != null) {
+            sharedEventLoopGroupTransport.releaseSharedEventLoopGroup();
+        } else if (ownsEventLoopGroup) {
+            // ignore the returned Future.  This is in line with MongoClient behavior to not block waiting for connections to be returned
+            // to the pool
+            eventLoopGroup.shutdownGracefully();
+        }
     }
 
     @Override
@@ -233,9 +260,18 @@ public final class NettyStreamFactoryFactory implements StreamFactoryFactory {
 
     private NettyStreamFactoryFactory(final Builder builder) {
         allocator = builder.allocator == null ? ByteBufAllocator.DEFAULT : builder.allocator;
-        socketChannelClass = builder.socketChannelClass == null ? NioSocketChannel.class : builder.socketChannelClass;
-        eventLoopGroup = builder.eventLoopGroup == null ? new NioEventLoopGroup() : builder.eventLoopGroup;
-        ownsEventLoopGroup = builder.eventLoopGroup == null;
+        if (builder.eventLoopGroup == null && builder.socketChannelClass == null) {
+            sharedEventLoopGroupTransport = NettyTransport.select(builder.nativeTransportEnabled);
+            socketChannelClass = sharedEventLoopGroupTransport.socketChannelClass();
+            eventLoopGroup = sharedEventLoopGroupTransport.acquireSharedEventLoopGroup();
+            ownsEventLoopGroup = false;
+        } else {
+            sharedEventLoopGroupTransport = null;
+            socketChannelClass = builder.socketChannelClass == null ? NioSocketChannel.class : builder.socketChannelClass;
+            eventLoopGroup = builder.eventLoopGroup == null ? new NioEventLoopGroup() : builder.eventLoopGroup;
+            ownsEventLoopGroup = builder.eventLoopGroup == null;
+        }
+        closed = new AtomicBoolean();
         sslContext = builder.sslContext;
         inetAddressResolver = builder.inetAddressResolver;
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection.netty;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.NettyTransportSettings;
+import com.mongodb.lang.Nullable;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.NettyRuntime;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.assertTrue;
+import static com.mongodb.assertions.Assertions.fail;
+import static com.mongodb.internal.Locks.withLock;
+import static java.lang.String.format;
+
+/**
+ * The Netty transports the driver uses when the application specifies neither an {@link EventLoopGroup}
+ * nor a {@link SocketChannel} class, in the order of preference.
+ * <p>
+ * The native transports are optional dependencies the application adds to the classpath, for example,
+ * {@code io.netty:netty-transport-native-epoll}, and are therefore accessed via reflection.
+ * A native transport is used only if it is on the classpath and Netty reports it to be available on the current platform.</p>
+ *
+ * @see NettyTransportSettings.Builder#nativeTransportEnabled(boolean)
+ */
+@ThreadSafe
+enum NettyTransport {
+    IO_URING("io.netty.incubator.channel.uring.IOUring",
+            "io.netty.incubator.channel.uring.IOUringEventLoopGroup",
+            "io.netty.incubator.channel.uring.IOUringSocketChannel"),
+    EPOLL("io.netty.channel.epoll.Epoll",
+            "io.netty.channel.epoll.EpollEventLoopGroup",
+            "io.netty.channel.epoll.EpollSocketChannel"),
+    NIO(null, NioEventLoopGroup.class.getName(), NioSocketChannel.class.getName()) {
+        @Override
+        boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        EventLoopGroup newEventLoopGroup(final int threads, final ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        Class<? extends SocketChannel> socketChannelClass() {
+            return NioSocketChannel.class;
+        }
+    };
+
+    private static final Lock SHARED_EVENT_LOOP_GROUPS_LOCK = new ReentrantLock();
+    /**
+     * Must be guarded by {@link #SHARED_EVENT_LOOP_GROUPS_LOCK}.
+     */
+    private static final Map<NettyTransport, SharedEventLoopGroup> SHARED_EVENT_LOOP_GROUPS = new EnumMap<>(NettyTransport.class);
+
+    @Nullable
+    private final String availabilityClassName;
+    private final String eventLoopGroupClassName;
+    private final String socketChannelClassName;
+
+    NettyTransport(@Nullable final String availabilityClassName, final String eventLoopGroupClassName,
+            final String socketChannelClassName) {
+        this.availabilityClassName = availabilityClassName;
+        this.eventLoopGroupClassName = eventLoopGroupClassName;
+        this.socketChannelClassName = socketChannelClassName;
+    }
+
+    /**
+     * @param nativeTransportEnabled See {@link NettyTransportSettings#isNativeTransportEnabled()}.
+     * @return The most preferred available transport.
+     */
+    static NettyTransport select(final boolean nativeTransportEnabled) {
+        return nativeTransportEnabled ? Preferred.INSTANCE : NIO;
+    }
+
+    boolean isAvailable() {
+        try {
+            Class<?> availabilityClass = Class.forName(assertNotNull(availabilityClassName));
+            return (Boolean) availabilityClass.getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    EventLoopGroup newEventLoopGroup(final int threads, final ThreadFactory threadFactory) {
+        try {
+            return (EventLoopGroup) Class.forName(eventLoopGroupClassName)
+                    .getConstructor(int.class, ThreadFactory.class)
+                    .newInstance(threads, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new MongoClientException(format("Failed to create %s", eventLoopGroupClassName), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    Class<? extends SocketChannel> socketChannelClass() {
+        try {
+            return (Class<? extends SocketChannel>) Class.forName(socketChannelClassName);
+        } catch (ClassNotFoundException e) {
+            throw new MongoClientException(format("Failed to load %s", socketChannelClassName), e);
+        }
+    }
+
+    /**
+     * Gets the {@link EventLoopGroup} shared by all clients in the JVM that use this transport,
+     * creating it if there are no other clients using it.
+     * Each invocation must be paired with {@link #releaseSharedEventLoopGroup()}.
+     * <p>
+     * The group has as many threads as there are available processors, which is half of the Netty default,
+     * as the threads only do I/O and a client spends most of the time waiting for responses.</p>
+     */
+    EventLoopGroup acquireSharedEventLoopGroup() {
+        return withLock(SHARED_EVENT_LOOP_GROUPS_LOCK, () -> {
+            SharedEventLoopGroup shared = SHARED_EVENT_LOOP_GROUPS.get(this);
+            if (shared == null) {
+                shared = new SharedEventLoopGroup(newEventLoopGroup(NettyRuntime.availableProcessors(),
+                        new DefaultThreadFactory("NettyEventLoop", true)));
+                SHARED_EVENT_LOOP_GROUPS.put(this, shared);
+            }
+            shared.references++;
+            return shared.eventLoopGroup;
+        });
+    }
+
+    /**
+     * Shuts down the shared {@link EventLoopGroup} without waiting, if no other clients use it.
+     *
+     * @see #acquireSharedEventLoopGroup()
+     */
+    void releaseSharedEventLoopGroup() {
+        withLock(SHARED_EVENT_LOOP_GROUPS_LOCK, () -> {
+            SharedEventLoopGroup shared = assertNotNull(SHARED_EVENT_LOOP_GROUPS.get(this));
+            assertTrue(shared.references > 0);
+            if (--shared.references == 0) {
+                SHARED_EVENT_LOOP_GROUPS.remove(this);
+                shared.eventLoopGroup.shutdownGracefully();
+            }
+        });
+    }
+
+    private static final class SharedEventLoopGroup {
+        private final EventLoopGroup eventLoopGroup;
+        private int references;
+
+        SharedEventLoopGroup(final EventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+        }
+    }
+
+    private static final class Preferred {
+        private static final NettyTransport INSTANCE = detect();
+
+        private static NettyTransport detect() {
+            for (NettyTransport transport : values()) {
+                if (transport.isAvailable()) {
+                    return transport;
+                }
+            }
+            throw fail(format("%s must always be available", NIO));
+        }
+    }
+}
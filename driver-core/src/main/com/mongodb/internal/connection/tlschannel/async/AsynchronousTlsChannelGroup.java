@@ -44,9 +44,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -64,6 +62,9 @@ import static java.lang.String.format;
  * This class encapsulates the infrastructure for running {@link AsynchronousTlsChannel}s. Each
  * instance of this class is a singleton-like object that manages a thread pool that makes it
  * possible to run a group of asynchronous channels.
+ *
+ * <p>Sockets are spread across several selector threads, each of which also expires the read and write
+ * timeouts of its sockets using a {@link TimerWheel}.</p>
  */
 public class AsynchronousTlsChannelGroup {
 
@@ -72,12 +73,22 @@ public class AsynchronousTlsChannelGroup {
     /** The main executor of the group has a queue, whose size is a multiple of the number of CPUs. */
     private static final int queueLengthMultiplier = 32;
 
+    /** The maximum time a selector thread blocks, which bounds how late it notices asynchronously closed channels. */
+    private static final long maxSelectMillis = 100;
+
+    /** The precision of read and write timeouts. */
+    private static final long timeoutTickMillis = 10;
+
+    /** The number of ticks per rotation of the timer wheel of a selector thread. */
+    private static final int timeoutTicksPerWheel = 512;
+
     private static final AtomicInteger globalGroupCount = new AtomicInteger();
 
     class RegisteredSocket {
 
         final TlsChannel tlsChannel;
         final SocketChannel socketChannel;
+        final SelectorLoop selectorLoop;
 
         /**
          * Used to wait until the channel is effectively in the selector (which happens asynchronously
@@ -102,9 +113,10 @@ public class AsynchronousTlsChannelGroup {
         /** Bitwise union of pending operation to be registered in the selector */
         final AtomicInteger pendingOps = new AtomicInteger();
 
-        RegisteredSocket(TlsChannel tlsChannel, SocketChannel socketChannel) {
+        RegisteredSocket(TlsChannel tlsChannel, SocketChannel socketChannel, SelectorLoop selectorLoop) {
             this.tlsChannel = tlsChannel;
             this.socketChannel = socketChannel;
+            this.selectorLoop = selectorLoop;
         }
 
         public void close() {
@@ -114,7 +126,132 @@ public class AsynchronousTlsChannelGroup {
             /*
              * Actual de-registration from the selector will happen asynchronously.
              */
-            selector.wakeup();
+            selectorLoop.selector.wakeup();
+        }
+    }
+
+    /**
+     * A selector together with the thread that runs it. A socket is registered with a single selector loop for its whole life.
+     */
+    private final class SelectorLoop {
+
+        final Selector selector;
+
+        final Thread thread;
+
+        final TimerWheel timerWheel;
+
+        final ConcurrentLinkedQueue<RegisteredSocket> pendingRegistrations = new ConcurrentLinkedQueue<>();
+
+        final ConcurrentHashMap<RegisteredSocket, Boolean> registrations = new ConcurrentHashMap<>();
+
+        SelectorLoop(int index) {
+            try {
+                selector = Selector.open();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            timerWheel = new TimerWheel(timeoutTickMillis, TimeUnit.MILLISECONDS, timeoutTicksPerWheel, System.nanoTime());
+            thread = new Thread(this::loop, format("async-channel-group-%d-selector-%d", id, index));
+        }
+
+        private void loop() {
+            try {
+                while (shutdown == Shutdown.No
+                        || shutdown == Shutdown.Wait
+                        && (!pendingRegistrations.isEmpty() || !registrations.isEmpty())) {
+                    // most state-changing operations will wake the selector up, however, asynchronous closings
+                    // of the channels won't, so we have to timeout to allow checking those cases
+                    int c = selector.select(selectTimeoutMillis()); // block
+                    selectionCount.increment();
+                    // avoid unnecessary creation of iterator object
+                    if (c > 0) {
+                        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                        while (it.hasNext()) {
+                            SelectionKey key = it.next();
+                            it.remove();
+                            try {
+                                key.interestOps(0);
+                            } catch (CancelledKeyException e) {
+                                // can happen when channels are closed with pending operations
+                                continue;
+                            }
+                            RegisteredSocket socket = (RegisteredSocket) key.attachment();
+                            processRead(socket);
+                            processWrite(socket);
+                        }
+                    }
+                    timerWheel.expireTimeouts(System.nanoTime());
+                    registerPendingSockets();
+                    processPendingInterests();
+                    checkClosings();
+                }
+            } catch (Throwable e) {
+                LOGGER.error("error in selector loop", e);
+            } finally {
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    LOGGER.warn("error closing selector: " + e.getMessage());
+                }
+                checkClosings();
+                if (runningSelectorLoops.decrementAndGet() == 0) {
+                    executor.shutdown();
+                }
+            }
+        }
+
+        private long selectTimeoutMillis() {
+            if (timerWheel.isEmpty()) {
+                return maxSelectMillis;
+            }
+            long nanosUntilNextTick = timerWheel.nanosUntilNextTick(System.nanoTime());
+            // zero would mean blocking indefinitely
+            return Math.max(1, Math.min(maxSelectMillis, TimeUnit.NANOSECONDS.toMillis(nanosUntilNextTick) + 1));
+        }
+
+        private void processPendingInterests() {
+            for (SelectionKey key : selector.keys()) {
+                RegisteredSocket socket = (RegisteredSocket) key.attachment();
+                int pending = socket.pendingOps.getAndSet(0);
+                if (pending != 0) {
+                    try {
+                        key.interestOps(key.interestOps() | pending);
+                    } catch (CancelledKeyException e) {
+                        // can happen when channels are closed with pending operations
+                    }
+                }
+            }
+        }
+
+        private void registerPendingSockets() {
+            RegisteredSocket socket;
+            while ((socket = pendingRegistrations.poll()) != null) {
+                try {
+                    socket.key = socket.socketChannel.register(selector, 0, socket);
+                    registrations.put(socket, true);
+                } catch (ClosedChannelException e) {
+                    // can happen when channels are closed right after creation
+                } finally {
+                    // decrement the count of the latch even in case of exceptions, so the waiting thread
+                    // is unlocked; it will have to check the result, though
+                    socket.registered.countDown();
+                }
+            }
+        }
+
+        /**
+         * Channels that are closed asynchronously are silently removed from selectors. This method will
+         * check them using the internal catalog and do the proper cleanup.
+         */
+        private void checkClosings() {
+            for (RegisteredSocket socket : registrations.keySet()) {
+                if (!socket.key.isValid() || shutdown == Shutdown.Immediate) {
+                    registrations.remove(socket);
+                    failCurrentRead(socket);
+                    failCurrentWrite(socket);
+                }
+            }
         }
     }
 
@@ -122,7 +259,7 @@ public class AsynchronousTlsChannelGroup {
         final ByteBufferSet bufferSet;
         final LongConsumer onSuccess;
         final Consumer<Throwable> onFailure;
-        Future<?> timeoutFuture;
+        TimerWheel.Timeout timeout;
 
         Operation(ByteBufferSet bufferSet, LongConsumer onSuccess, Consumer<Throwable> onFailure) {
             this.bufferSet = bufferSet;
@@ -158,21 +295,13 @@ public class AsynchronousTlsChannelGroup {
      */
     private final AtomicBoolean loggedTaskWarning = new AtomicBoolean();
 
-    private final Selector selector;
+    private final SelectorLoop[] selectorLoops;
 
-    private final ExecutorService executor;
-
-    private final ScheduledThreadPoolExecutor timeoutExecutor =
-            new ScheduledThreadPoolExecutor(
-                    1,
-                    runnable ->
-                            new Thread(runnable, format("async-channel-group-%d-timeout-thread", id)));
+    private final AtomicInteger nextSelectorLoop = new AtomicInteger();
 
-    private final Thread selectorThread =
-            new Thread(this::loop, format("async-channel-group-%d-selector", id));
+    private final AtomicInteger runningSelectorLoops;
 
-    private final ConcurrentLinkedQueue<RegisteredSocket> pendingRegistrations =
-            new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor;
 
     private enum Shutdown {
         No,
@@ -193,21 +322,29 @@ public class AsynchronousTlsChannelGroup {
     private final LongAdder cancelledReads = new LongAdder();
     private final LongAdder cancelledWrites = new LongAdder();
 
-    private final ConcurrentHashMap<RegisteredSocket, Boolean> registrations = new ConcurrentHashMap<>();
-
     private final LongAdder currentReads = new LongAdder();
     private final LongAdder currentWrites = new LongAdder();
 
     /**
-     * Creates an instance of this class.
+     * Creates an instance of this class with as many selector threads as there are available processors.
      */
     public AsynchronousTlsChannelGroup(@Nullable final ExecutorService executorService) {
-        try {
-            selector = Selector.open();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        this(executorService, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an instance of this class.
+     *
+     * @param executorService the executor that runs the read and write operations, or {@code null} to create one
+     * @param selectorThreads the number of selector threads registered sockets are spread across
+     */
+    public AsynchronousTlsChannelGroup(@Nullable final ExecutorService executorService, final int selectorThreads) {
+        Util.assertTrue(selectorThreads > 0);
+        selectorLoops = new SelectorLoop[selectorThreads];
+        for (int i = 0; i < selectorThreads; i++) {
+            selectorLoops[i] = new SelectorLoop(i);
         }
-        timeoutExecutor.setRemoveOnCancelPolicy(true);
+        runningSelectorLoops = new AtomicInteger(selectorThreads);
         if (executorService != null) {
             this.executor = executorService;
         } else {
@@ -221,7 +358,9 @@ public class AsynchronousTlsChannelGroup {
                     runnable -> new Thread(runnable, format("async-channel-group-%d-handler-executor", id)),
                     new ThreadPoolExecutor.CallerRunsPolicy());
         }
-        selectorThread.start();
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            selectorLoop.thread.start();
+        }
     }
 
     void submit(final Runnable r) {
@@ -232,9 +371,10 @@ public class AsynchronousTlsChannelGroup {
         if (shutdown != Shutdown.No) {
             throw new ShutdownChannelGroupException();
         }
-        RegisteredSocket socket = new RegisteredSocket(reader, socketChannel);
-        pendingRegistrations.add(socket);
-        selector.wakeup();
+        SelectorLoop selectorLoop = selectorLoops[Math.floorMod(nextSelectorLoop.getAndIncrement(), selectorLoops.length)];
+        RegisteredSocket socket = new RegisteredSocket(reader, socketChannel, selectorLoop);
+        selectorLoop.pendingRegistrations.add(socket);
+        selectorLoop.selector.wakeup();
         return socket;
     }
 
@@ -289,7 +429,7 @@ public class AsynchronousTlsChannelGroup {
             startedReads.increment();
             currentReads.increment();
 
-            if (!registrations.containsKey(socket)) {
+            if (!socket.selectorLoop.registrations.containsKey(socket)) {
                 op.onFailure.accept(new ClosedChannelException());
                 failedReads.increment();
                 currentReads.decrement();
@@ -302,22 +442,22 @@ public class AsynchronousTlsChannelGroup {
              */
             socket.pendingOps.set(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
             if (timeout != 0) {
-                op.timeoutFuture =
-                        timeoutExecutor.schedule(
-                                () -> {
+                op.timeout =
+                        socket.selectorLoop.timerWheel.schedule(
+                                timeout,
+                                unit,
+                                () -> executor.execute(() -> {
                                     boolean success = doCancelRead(socket, op);
                                     if (success) {
                                         op.onFailure.accept(new InterruptedByTimeoutException());
                                     }
-                                },
-                                timeout,
-                                unit);
+                                }));
             }
             socket.readOperation = op;
         } finally {
             socket.readLock.unlock();
         }
-        selector.wakeup();
+        socket.selectorLoop.selector.wakeup();
         return socket.readOperation;
     }
 
@@ -342,7 +482,7 @@ public class AsynchronousTlsChannelGroup {
             startedWrites.increment();
             currentWrites.increment();
 
-            if (!registrations.containsKey(socket)) {
+            if (!socket.selectorLoop.registrations.containsKey(socket)) {
                 op.onFailure.accept(new ClosedChannelException());
                 failedWrites.increment();
                 currentWrites.decrement();
@@ -355,22 +495,22 @@ public class AsynchronousTlsChannelGroup {
              */
             socket.pendingOps.set(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
             if (timeout != 0) {
-                op.timeoutFuture =
-                        timeoutExecutor.schedule(
-                                () -> {
+                op.timeout =
+                        socket.selectorLoop.timerWheel.schedule(
+                                timeout,
+                                unit,
+                                () -> executor.execute(() -> {
                                     boolean success = doCancelWrite(socket, op);
                                     if (success) {
                                         op.onFailure.accept(new InterruptedByTimeoutException());
                                     }
-                                },
-                                timeout,
-                                unit);
+                                }));
             }
             socket.writeOperation = op;
         } finally {
             socket.writeLock.unlock();
         }
-        selector.wakeup();
+        socket.selectorLoop.selector.wakeup();
         return socket.writeOperation;
     }
 
@@ -388,65 +528,6 @@ public class AsynchronousTlsChannelGroup {
         }
     }
 
-    private void loop() {
-        try {
-            while (shutdown == Shutdown.No
-                    || shutdown == Shutdown.Wait
-                    && (!pendingRegistrations.isEmpty() || !registrations.isEmpty())) {
-                // most state-changing operations will wake the selector up, however, asynchronous closings
-                // of the channels won't, so we have to timeout to allow checking those cases
-                int c = selector.select(100); // block
-                selectionCount.increment();
-                // avoid unnecessary creation of iterator object
-                if (c > 0) {
-                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
-                    while (it.hasNext()) {
-                        SelectionKey key = it.next();
-                        it.remove();
-                        try {
-                            key.interestOps(0);
-                        } catch (CancelledKeyException e) {
-                            // can happen when channels are closed with pending operations
-                            continue;
-                        }
-                        RegisteredSocket socket = (RegisteredSocket) key.attachment();
-                        processRead(socket);
-                        processWrite(socket);
-                    }
-                }
-                registerPendingSockets();
-                processPendingInterests();
-                checkClosings();
-            }
-        } catch (Throwable e) {
-            LOGGER.error("error in selector loop", e);
-        } finally {
-            executor.shutdown();
-            // use shutdownNow to stop delayed tasks
-            timeoutExecutor.shutdownNow();
-            try {
-                selector.close();
-            } catch (IOException e) {
-                LOGGER.warn("error closing selector: " + e.getMessage());
-            }
-            checkClosings();
-        }
-    }
-
-    private void processPendingInterests() {
-        for (SelectionKey key : selector.keys()) {
-            RegisteredSocket socket = (RegisteredSocket) key.attachment();
-            int pending = socket.pendingOps.getAndSet(0);
-            if (pending != 0) {
-                try {
-                    key.interestOps(key.interestOps() | pending);
-                } catch (CancelledKeyException e) {
-                    // can happen when channels are closed with pending operations
-                }
-            }
-        }
-    }
-
     private void processWrite(RegisteredSocket socket) {
         socket.writeLock.lock();
         try {
@@ -501,24 +582,24 @@ public class AsynchronousTlsChannelGroup {
                     op.consumesBytes += c;
                 }
                 socket.writeOperation = null;
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeout != null) {
+                    op.timeout.cancel();
                 }
                 op.onSuccess.accept(op.consumesBytes);
                 successfulWrites.increment();
                 currentWrites.decrement();
             } catch (NeedsReadException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_READ, (a, b) -> a | b);
-                selector.wakeup();
+                socket.selectorLoop.selector.wakeup();
             } catch (NeedsWriteException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_WRITE, (a, b) -> a | b);
-                selector.wakeup();
+                socket.selectorLoop.selector.wakeup();
             } catch (IOException e) {
                 if (socket.writeOperation == op) {
                     socket.writeOperation = null;
                 }
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeout != null) {
+                    op.timeout.cancel();
                 }
                 op.onFailure.accept(e);
                 failedWrites.increment();
@@ -565,24 +646,24 @@ public class AsynchronousTlsChannelGroup {
                 long c = readHandlingTasks(socket, op);
                 Util.assertTrue(c > 0 || c == -1);
                 socket.readOperation = null;
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeout != null) {
+                    op.timeout.cancel();
                 }
                 op.onSuccess.accept(c);
                 successfulReads.increment();
                 currentReads.decrement();
             } catch (NeedsReadException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_READ, (a, b) -> a | b);
-                selector.wakeup();
+                socket.selectorLoop.selector.wakeup();
             } catch (NeedsWriteException e) {
                 socket.pendingOps.accumulateAndGet(SelectionKey.OP_WRITE, (a, b) -> a | b);
-                selector.wakeup();
+                socket.selectorLoop.selector.wakeup();
             } catch (IOException e) {
                 if (socket.readOperation == op) {
                     socket.readOperation = null;
                 }
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeout != null) {
+                    op.timeout.cancel();
                 }
                 op.onFailure.accept(e);
                 failedReads.increment();
@@ -605,43 +686,13 @@ public class AsynchronousTlsChannelGroup {
         }
     }
 
-    private void registerPendingSockets() {
-        RegisteredSocket socket;
-        while ((socket = pendingRegistrations.poll()) != null) {
-            try {
-                socket.key = socket.socketChannel.register(selector, 0, socket);
-                registrations.put(socket, true);
-            } catch (ClosedChannelException e) {
-                // can happen when channels are closed right after creation
-            } finally {
-                // decrement the count of the latch even in case of exceptions, so the waiting thread
-                // is unlocked; it will have to check the result, though
-                socket.registered.countDown();
-            }
-        }
-    }
-
-    /**
-     * Channels that are closed asynchronously are silently removed from selectors. This method will
-     * check them using the internal catalog and do the proper cleanup.
-     */
-    private void checkClosings() {
-        for (RegisteredSocket socket : registrations.keySet()) {
-            if (!socket.key.isValid() || shutdown == Shutdown.Immediate) {
-                registrations.remove(socket);
-                failCurrentRead(socket);
-                failCurrentWrite(socket);
-            }
-        }
-    }
-
     private void failCurrentRead(RegisteredSocket socket) {
         socket.readLock.lock();
         try {
             if (socket.readOperation != null) {
                 socket.readOperation.onFailure.accept(new ClosedChannelException());
-                if (socket.readOperation.timeoutFuture != null) {
-                    socket.readOperation.timeoutFuture.cancel(false);
+                if (socket.readOperation.timeout != null) {
+                    socket.readOperation.timeout.cancel();
                 }
                 socket.readOperation = null;
                 failedReads.increment();
@@ -657,8 +708,8 @@ public class AsynchronousTlsChannelGroup {
         try {
             if (socket.writeOperation != null) {
                 socket.writeOperation.onFailure.accept(new ClosedChannelException());
-                if (socket.writeOperation.timeoutFuture != null) {
-                    socket.writeOperation.timeoutFuture.cancel(false);
+                if (socket.writeOperation.timeout != null) {
+                    socket.writeOperation.timeout.cancel();
                 }
                 socket.writeOperation = null;
                 failedWrites.increment();
@@ -685,7 +736,7 @@ public class AsynchronousTlsChannelGroup {
      */
     public void shutdown() {
         shutdown = Shutdown.Wait;
-        selector.wakeup();
+        wakeupSelectors();
     }
 
     /**
@@ -694,7 +745,13 @@ public class AsynchronousTlsChannelGroup {
      */
     public void shutdownNow() {
         shutdown = Shutdown.Immediate;
-        selector.wakeup();
+        wakeupSelectors();
+    }
+
+    private void wakeupSelectors() {
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            selectorLoop.selector.wakeup();
+        }
     }
 
     /**
@@ -821,6 +878,10 @@ public class AsynchronousTlsChannelGroup {
      * @return number of sockets
      */
     public long getCurrentRegistrationCount() {
-        return registrations.mappingCount();
+        long count = 0;
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            count += selectorLoop.registrations.mappingCount();
+        }
+        return count;
     }
 }
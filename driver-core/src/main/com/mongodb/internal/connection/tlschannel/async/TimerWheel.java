@@ -0,0 +1,173 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection.tlschannel.async;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mongodb.assertions.Assertions.assertTrue;
+
+/**
+ * A hashed timer wheel driven by a single owner thread, which periodically calls {@link #expireTimeouts(long)}.
+ * Scheduling and cancelling a timeout is thread-safe and costs a queue insertion, unlike with a {@link
+ * java.util.concurrent.ScheduledThreadPoolExecutor}, whose queue is a heap guarded by a lock.
+ * <p>
+ * Timeouts expire with the precision of the tick duration, and never before their deadline.</p>
+ */
+@ThreadSafe
+final class TimerWheel {
+    private final long startNanos;
+    private final long tickNanos;
+    private final int mask;
+    /**
+     * Must be accessed only by the owner thread.
+     */
+    private final List<Timeout>[] buckets;
+    private final ConcurrentLinkedQueue<Timeout> newTimeouts;
+    private final AtomicInteger pendingCount;
+    /**
+     * The next tick to process. Must be accessed only by the owner thread.
+     */
+    private long tick;
+
+    /**
+     * @param ticksPerWheel Must be a power of two.
+     * @param startNanos The {@link System#nanoTime()} the first tick starts at.
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(final long tickDuration, final TimeUnit unit, final int ticksPerWheel, final long startNanos) {
+        assertTrue(tickDuration > 0);
+        assertTrue(ticksPerWheel > 0 && Integer.bitCount(ticksPerWheel) == 1);
+        this.startNanos = startNanos;
+        tickNanos = unit.toNanos(tickDuration);
+        mask = ticksPerWheel - 1;
+        buckets = new List[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        newTimeouts = new ConcurrentLinkedQueue<>();
+        pendingCount = new AtomicInteger();
+    }
+
+    /**
+     * Schedules {@code task} to be run by the owner thread in {@link #expireTimeouts(long)} after {@code delay}.
+     * May be called by any thread.
+     */
+    Timeout schedule(final long delay, final TimeUnit unit, final Runnable task) {
+        Timeout timeout = new Timeout(System.nanoTime() + unit.toNanos(delay), task);
+        pendingCount.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return {@code true} iff there are no timeouts that are neither expired nor cancelled.
+     */
+    boolean isEmpty() {
+        return pendingCount.get() == 0;
+    }
+
+    /**
+     * @return The number of nanoseconds until {@link #expireTimeouts(long)} has a tick to process, may be negative.
+     */
+    long nanosUntilNextTick(final long nowNanos) {
+        return startNanos + (tick + 1) * tickNanos - nowNanos;
+    }
+
+    /**
+     * Runs the tasks of the timeouts whose deadline passed before {@code nowNanos}, with the precision of the tick duration.
+     * Must be called only by the owner thread.
+     */
+    void expireTimeouts(final long nowNanos) {
+        while (nanosUntilNextTick(nowNanos) <= 0) {
+            transferNewTimeouts();
+            expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferNewTimeouts() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isDone()) {
+                continue;
+            }
+            long deadlineTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(final List<Timeout> bucket) {
+        for (Iterator<Timeout> it = bucket.iterator(); it.hasNext();) {
+            Timeout timeout = it.next();
+            if (timeout.isDone()) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                it.remove();
+                if (timeout.complete()) {
+                    timeout.task.run();
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    @ThreadSafe
+    final class Timeout {
+        private final long deadlineNanos;
+        private final Runnable task;
+        private final AtomicBoolean done;
+        /**
+         * Must be accessed only by the owner thread of the {@link TimerWheel}.
+         */
+        private long remainingRounds;
+
+        private Timeout(final long deadlineNanos, final Runnable task) {
+            this.deadlineNanos = deadlineNanos;
+            this.task = task;
+            done = new AtomicBoolean();
+        }
+
+        /**
+         * Prevents the task from running if it has not been run yet. May be called by any thread.
+         */
+        void cancel() {
+            complete();
+        }
+
+        private boolean complete() {
+            if (done.compareAndSet(false, true)) {
+                pendingCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isDone() {
+            return done.get();
+        }
+    }
+}
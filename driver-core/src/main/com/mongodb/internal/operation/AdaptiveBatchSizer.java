@@ -0,0 +1,70 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.annotations.NotThreadSafe;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * Sizes the batches of a bulk write to stay within a target execution time, by additively increasing the maximum number of documents
+ * in a batch while the batches complete within the target, and halving it when a batch does not, or reports a write concern error.
+ * Until it is first halved, the maximum is doubled rather than increased additively, so that it quickly reaches the size the target allows.
+ *
+ * @see com.mongodb.client.model.BulkWriteOptions#batchLatencyTarget(long, TimeUnit)
+ */
+@NotThreadSafe
+final class AdaptiveBatchSizer {
+    /**
+     * The maximum number of documents in the first batch, which is also the additive increase of the maximum.
+     */
+    static final int INITIAL_MAX_BATCH_COUNT = 1000;
+
+    private final long targetNanos;
+    private int maxBatchCount;
+    private boolean slowStart;
+
+    AdaptiveBatchSizer(final long target, final TimeUnit timeUnit) {
+        isTrueArgument("target > 0", target > 0);
+        this.targetNanos = timeUnit.toNanos(target);
+        this.maxBatchCount = INITIAL_MAX_BATCH_COUNT;
+        this.slowStart = true;
+    }
+
+    int getMaxBatchCount() {
+        return maxBatchCount;
+    }
+
+    /**
+     * @param batchCount the number of documents in the batch
+     * @param elapsed the execution time of the batch, including the time the server waited for the write concern to be satisfied
+     * @param writeConcernError whether the batch reported a write concern error, for example, because the write concern timed out
+     */
+    void onBatchExecuted(final int batchCount, final Duration elapsed, final boolean writeConcernError) {
+        if (writeConcernError || elapsed.toNanos() > targetNanos) {
+            maxBatchCount = Math.max(1, batchCount / 2);
+            slowStart = false;
+        } else if (batchCount >= maxBatchCount) {
+            // a batch limited by the limits of the server rather than by the maximum does not show that a larger batch would be sent
+            long increasedMaxBatchCount = slowStart ? 2L * maxBatchCount : (long) maxBatchCount + INITIAL_MAX_BATCH_COUNT;
+            maxBatchCount = (int) Math.min(Integer.MAX_VALUE, increasedMaxBatchCount);
+        }
+    }
+}
@@ -113,10 +113,23 @@ final class AsyncOperationHelper {
             final boolean wrapConnectionSourceException, final SingleResultCallback<R> callback,
             final AsyncCallbackBiFunction<AsyncConnectionSource, AsyncConnection, R> asyncFunction)
             throws OperationHelper.ResourceSupplierInternalException {
+        withAsyncSourceAndConnection(sourceSupplier, source -> source::getConnection, wrapConnectionSourceException, callback,
+                asyncFunction);
+    }
+
+    /**
+     * Like {@link #withAsyncSourceAndConnection(AsyncCallbackSupplier, boolean, SingleResultCallback, AsyncCallbackBiFunction)},
+     * but gets the {@link AsyncConnection} from the source with {@code connectionGetter}.
+     */
+    static <R> void withAsyncSourceAndConnection(final AsyncCallbackSupplier<AsyncConnectionSource> sourceSupplier,
+            final Function<AsyncConnectionSource, AsyncCallbackSupplier<AsyncConnection>> connectionGetter,
+            final boolean wrapConnectionSourceException, final SingleResultCallback<R> callback,
+            final AsyncCallbackBiFunction<AsyncConnectionSource, AsyncConnection, R> asyncFunction)
+            throws OperationHelper.ResourceSupplierInternalException {
         SingleResultCallback<R> errorHandlingCallback = errorHandlingCallback(callback, OperationHelper.LOGGER);
         withAsyncSuppliedResource(sourceSupplier, wrapConnectionSourceException, errorHandlingCallback,
                 (source, sourceReleasingCallback) ->
-                        withAsyncSuppliedResource(source::getConnection, wrapConnectionSourceException, sourceReleasingCallback,
+                        withAsyncSuppliedResource(connectionGetter.apply(source), wrapConnectionSourceException, sourceReleasingCallback,
                                 (connection, connectionAndSourceReleasingCallback) ->
                                         asyncFunction.apply(source, connection, connectionAndSourceReleasingCallback)));
     }
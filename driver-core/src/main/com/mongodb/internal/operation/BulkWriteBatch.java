@@ -52,6 +52,7 @@ import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -84,6 +85,9 @@ public final class BulkWriteBatch {
     private final WriteConcern writeConcern;
     private final Boolean bypassDocumentValidation;
     private final boolean retryWrites;
+    private final int encodingParallelism;
+    @Nullable
+    private final AdaptiveBatchSizer batchSizer;
     private final BulkWriteBatchCombiner bulkWriteBatchCombiner;
     private final IndexMap indexMap;
     private final WriteRequest.Type batchType;
@@ -98,6 +102,7 @@ public final class BulkWriteBatch {
                                                final ConnectionDescription connectionDescription,
                                                       final boolean ordered, final WriteConcern writeConcern,
                                                       final Boolean bypassDocumentValidation, final boolean retryWrites,
+                                                      final int encodingParallelism, @Nullable final AdaptiveBatchSizer batchSizer,
                                                       final List<? extends WriteRequest> writeRequests,
                                                       final OperationContext operationContext,
                                                       @Nullable final BsonValue comment, @Nullable final BsonDocument variables) {
@@ -114,15 +119,17 @@ public final class BulkWriteBatch {
             logWriteModelDoesNotSupportRetries();
         }
         return new BulkWriteBatch(namespace, connectionDescription, ordered, writeConcern, bypassDocumentValidation,
-                canRetryWrites, new BulkWriteBatchCombiner(connectionDescription.getServerAddress(), ordered, writeConcern),
+                canRetryWrites, encodingParallelism, batchSizer,
+                new BulkWriteBatchCombiner(connectionDescription.getServerAddress(), ordered, writeConcern),
                 writeRequestsWithIndex, operationContext, comment, variables);
     }
 
     private BulkWriteBatch(final MongoNamespace namespace, final ConnectionDescription connectionDescription,
                            final boolean ordered, final WriteConcern writeConcern, @Nullable final Boolean bypassDocumentValidation,
-                           final boolean retryWrites, final BulkWriteBatchCombiner bulkWriteBatchCombiner,
-                           final List<WriteRequestWithIndex> writeRequestsWithIndices, final OperationContext operationContext,
-                           @Nullable final BsonValue comment, @Nullable final BsonDocument variables) {
+                           final boolean retryWrites, final int encodingParallelism, @Nullable final AdaptiveBatchSizer batchSizer,
+                           final BulkWriteBatchCombiner bulkWriteBatchCombiner, final List<WriteRequestWithIndex> writeRequestsWithIndices,
+                           final OperationContext operationContext, @Nullable final BsonValue comment,
+                           @Nullable final BsonDocument variables) {
         this.namespace = namespace;
         this.connectionDescription = connectionDescription;
         this.ordered = ordered;
@@ -131,6 +138,8 @@ public final class BulkWriteBatch {
         this.bulkWriteBatchCombiner = bulkWriteBatchCombiner;
         this.batchType = writeRequestsWithIndices.isEmpty() ? INSERT : writeRequestsWithIndices.get(0).getType();
         this.retryWrites = retryWrites;
+        this.encodingParallelism = encodingParallelism;
+        this.batchSizer = batchSizer;
 
         List<WriteRequestWithIndex> payloadItems = new ArrayList<>();
         List<WriteRequestWithIndex> unprocessedItems = new ArrayList<>();
@@ -154,7 +163,13 @@ public final class BulkWriteBatch {
 
         this.indexMap = indexMap;
         this.unprocessed = unprocessedItems;
-        this.payload = new SplittablePayload(getPayloadType(batchType), payloadItems, ordered, getFieldNameValidator());
+        // a retry sends the same documents again, which therefore need not be encoded again
+        boolean encodeAhead = batchType == INSERT && encodingParallelism > 1 && !payloadItems.isEmpty();
+        this.payload = new SplittablePayload(getPayloadType(batchType), payloadItems, ordered, getFieldNameValidator(),
+                retryWrites || encodeAhead);
+        if (encodeAhead) {
+            payload.encodeAhead(encodingParallelism, connectionDescription.getMaxMessageSize());
+        }
         this.operationContext = operationContext;
         this.comment = comment;
         this.variables = variables;
@@ -175,11 +190,13 @@ public final class BulkWriteBatch {
                 command.put("txnNumber", new BsonInt64(sessionContext.advanceTransactionNumber()));
             }
         }
+        limitBatchCount();
     }
 
     private BulkWriteBatch(final MongoNamespace namespace, final ConnectionDescription connectionDescription,
                            final boolean ordered, final WriteConcern writeConcern, final Boolean bypassDocumentValidation,
-                           final boolean retryWrites, final BulkWriteBatchCombiner bulkWriteBatchCombiner, final IndexMap indexMap,
+                           final boolean retryWrites, final int encodingParallelism, @Nullable final AdaptiveBatchSizer batchSizer,
+                           final BulkWriteBatchCombiner bulkWriteBatchCombiner, final IndexMap indexMap,
                            final WriteRequest.Type batchType, final BsonDocument command, final SplittablePayload payload,
                            final List<WriteRequestWithIndex> unprocessed, final OperationContext operationContext,
                            @Nullable final BsonValue comment, @Nullable final BsonDocument variables) {
@@ -194,6 +211,8 @@ public final class BulkWriteBatch {
         this.payload = payload;
         this.unprocessed = unprocessed;
         this.retryWrites = retryWrites;
+        this.encodingParallelism = encodingParallelism;
+        this.batchSizer = batchSizer;
         this.operationContext = operationContext;
         this.comment = comment;
         this.variables = variables;
@@ -201,6 +220,14 @@ public final class BulkWriteBatch {
             command.put("txnNumber", new BsonInt64(operationContext.getSessionContext().advanceTransactionNumber()));
         }
         this.command = command;
+        limitBatchCount();
+    }
+
+    private void limitBatchCount() {
+        // the limit is set once per batch, so that a retry sends the same documents
+        if (batchSizer != null) {
+            payload.setMaxBatchCount(batchSizer.getMaxBatchCount());
+        }
     }
 
     void addResult(@Nullable final BsonDocument result) {
@@ -214,6 +241,18 @@ public final class BulkWriteBatch {
         }
     }
 
+    /**
+     * Adapts the size of the batches after this one to the execution time of this batch, if they are sized adaptively.
+     *
+     * @param elapsed the execution time of this batch
+     * @param result the result of this batch, which is {@code null} iff the write concern is unacknowledged
+     */
+    void onExecuted(final Duration elapsed, @Nullable final BsonDocument result) {
+        if (batchSizer != null) {
+            batchSizer.onBatchExecuted(payload.getPosition(), elapsed, result != null && result.containsKey("writeConcernError"));
+        }
+    }
+
     boolean getRetryWrites() {
         return retryWrites;
     }
@@ -247,6 +286,13 @@ public final class BulkWriteBatch {
         return !bulkWriteBatchCombiner.shouldStopSendingMoreBatches() && !payload.isEmpty();
     }
 
+    /**
+     * Stops encoding ahead the documents of this batch, see {@link SplittablePayload#stopEncodingAhead()}.
+     */
+    void stopEncodingAhead() {
+        payload.stopEncodingAhead();
+    }
+
     boolean hasAnotherBatch() {
         return !unprocessed.isEmpty();
     }
@@ -262,11 +308,12 @@ public final class BulkWriteBatch {
 
 
             return new BulkWriteBatch(namespace, connectionDescription, ordered, writeConcern, bypassDocumentValidation, retryWrites,
-                    bulkWriteBatchCombiner, nextIndexMap, batchType, command, payload.getNextSplit(), unprocessed, operationContext,
-                    comment, variables);
+                    encodingParallelism, batchSizer, bulkWriteBatchCombiner, nextIndexMap, batchType, command, payload.getNextSplit(),
+                    unprocessed, operationContext, comment, variables);
         } else {
+            payload.stopEncodingAhead();
             return new BulkWriteBatch(namespace, connectionDescription, ordered, writeConcern, bypassDocumentValidation, retryWrites,
-                    bulkWriteBatchCombiner, unprocessed, operationContext, comment, variables);
+                    encodingParallelism, batchSizer, bulkWriteBatchCombiner, unprocessed, operationContext, comment, variables);
         }
     }
 
@@ -105,7 +105,7 @@ import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -137,10 +137,8 @@ import static com.mongodb.internal.operation.SyncOperationHelper.cursorDocumentT
 import static com.mongodb.internal.operation.SyncOperationHelper.decorateWriteWithRetries;
 import static com.mongodb.internal.operation.SyncOperationHelper.withSourceAndConnection;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -644,7 +642,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
         private final int nMatched;
         private final int nModified;
         private final int nDeleted;
-        private final List<BsonDocument> cursorExhaust;
+        private final List<List<BsonDocument>> cursorExhaustBatches;
 
         ExhaustiveClientBulkWriteCommandOkResponse(
                 final BsonDocument bulkWriteCommandOkResponse,
@@ -655,13 +653,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             this.nMatched = bulkWriteCommandOkResponse.getInt32("nMatched").getValue();
             this.nModified = bulkWriteCommandOkResponse.getInt32("nModified").getValue();
             this.nDeleted = bulkWriteCommandOkResponse.getInt32("nDeleted").getValue();
-            if (cursorExhaustBatches.isEmpty()) {
-                cursorExhaust = emptyList();
-            } else if (cursorExhaustBatches.size() == 1) {
-                cursorExhaust = cursorExhaustBatches.get(0);
-            } else {
-                cursorExhaust = cursorExhaustBatches.stream().flatMap(Collection::stream).collect(toList());
-            }
+            this.cursorExhaustBatches = cursorExhaustBatches;
         }
 
         boolean operationMayContinue(final ConcreteClientBulkWriteOptions options) {
@@ -692,23 +684,47 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             return nDeleted;
         }
 
-        List<BsonDocument> getCursorExhaust() {
-            return cursorExhaust;
+        /**
+         * The batches of the cursor of individual operation results, which are not concatenated to avoid copying them.
+         */
+        List<List<BsonDocument>> getCursorExhaustBatches() {
+            return cursorExhaustBatches;
         }
     }
 
     /**
      * Accumulates results of the operation as it is being executed
      * for {@linkplain #build(MongoException, WriteConcern) building} them when the operation completes.
+     * The response to each {@code bulkWrite} command is accumulated as soon as it is exhausted,
+     * so that neither the responses nor the information about encoded batches are retained until the operation completes.
      */
     private final class ResultAccumulator {
         @Nullable
         private ServerAddress serverAddress;
-        private final ArrayList<BatchResult> batchResults;
+        private boolean batchResultsHaveResponses;
+        private boolean batchResultsHaveInfoAboutSuccessfulIndividualOperations;
+        private long insertedCount;
+        private long upsertedCount;
+        private long matchedCount;
+        private long modifiedCount;
+        private long deletedCount;
+        @Nullable
+        private final IntKeyedMap.Builder<ClientInsertOneResult> insertResults;
+        @Nullable
+        private final IntKeyedMap.Builder<ClientUpdateResult> updateResults;
+        @Nullable
+        private final IntKeyedMap.Builder<ClientDeleteResult> deleteResults;
+        private final ArrayList<WriteConcernError> writeConcernErrors;
+        private final Map<Integer, WriteError> writeErrors;
 
         ResultAccumulator() {
             serverAddress = null;
-            batchResults = new ArrayList<>();
+            boolean verboseResultsSetting = options.isVerboseResults();
+            insertResults = verboseResultsSetting ? new IntKeyedMap.Builder<>() : null;
+            updateResults = verboseResultsSetting ? new IntKeyedMap.Builder<>() : null;
+            deleteResults = verboseResultsSetting ? new IntKeyedMap.Builder<>() : null;
+            writeConcernErrors = new ArrayList<>();
+            writeErrors = new HashMap<>();
         }
 
         /**
@@ -719,86 +735,11 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
          * </ul>
          */
         ClientBulkWriteResult build(@Nullable final MongoException topLevelError, final WriteConcern effectiveWriteConcern) throws MongoException {
-            boolean verboseResultsSetting = options.isVerboseResults();
-            boolean batchResultsHaveResponses = false;
-            boolean batchResultsHaveInfoAboutSuccessfulIndividualOperations = false;
-            long insertedCount = 0;
-            long upsertedCount = 0;
-            long matchedCount = 0;
-            long modifiedCount = 0;
-            long deletedCount = 0;
-            Map<Integer, ClientInsertOneResult> insertResults = verboseResultsSetting ? new HashMap<>() : emptyMap();
-            Map<Integer, ClientUpdateResult> updateResults = verboseResultsSetting ? new HashMap<>() : emptyMap();
-            Map<Integer, ClientDeleteResult> deleteResults = verboseResultsSetting ? new HashMap<>() : emptyMap();
-            ArrayList<WriteConcernError> writeConcernErrors = new ArrayList<>();
-            Map<Integer, WriteError> writeErrors = new HashMap<>();
-            for (BatchResult batchResult : batchResults) {
-                if (batchResult.hasResponse()) {
-                    batchResultsHaveResponses = true;
-                    MongoWriteConcernException writeConcernException = batchResult.getWriteConcernException();
-                    if (writeConcernException != null) {
-                        writeConcernErrors.add(writeConcernException.getWriteConcernError());
-                    }
-                    int batchStartModelIndex = batchResult.getBatchStartModelIndex();
-                    ExhaustiveClientBulkWriteCommandOkResponse response = batchResult.getResponse();
-                    boolean orderedSetting = options.isOrdered();
-                    int nErrors = response.getNErrors();
-                    batchResultsHaveInfoAboutSuccessfulIndividualOperations = batchResultsHaveInfoAboutSuccessfulIndividualOperations
-                            || (orderedSetting && nErrors == 0)
-                            || (!orderedSetting && nErrors < batchResult.getBatchModelsCount());
-                    insertedCount += response.getNInserted();
-                    upsertedCount += response.getNUpserted();
-                    matchedCount += response.getNMatched();
-                    modifiedCount += response.getNModified();
-                    deletedCount += response.getNDeleted();
-                    Map<Integer, BsonValue> insertModelDocumentIds = batchResult.getInsertModelDocumentIds();
-                    for (BsonDocument individualOperationResponse : response.getCursorExhaust()) {
-                        int individualOperationIndexInBatch = individualOperationResponse.getInt32("idx").getValue();
-                        int writeModelIndex = batchStartModelIndex + individualOperationIndexInBatch;
-                        if (individualOperationResponse.getNumber("ok").intValue() == 1) {
-                            assertTrue(verboseResultsSetting);
-                            AbstractClientNamespacedWriteModel writeModel = getNamespacedModel(models, writeModelIndex);
-                            if (writeModel instanceof ConcreteClientNamespacedInsertOneModel) {
-                                insertResults.put(
-                                        writeModelIndex,
-                                        new ConcreteClientInsertOneResult(insertModelDocumentIds.get(individualOperationIndexInBatch)));
-                            } else if (writeModel instanceof ConcreteClientNamespacedUpdateOneModel
-                                    || writeModel instanceof ConcreteClientNamespacedUpdateManyModel
-                                    || writeModel instanceof ConcreteClientNamespacedReplaceOneModel) {
-                                BsonDocument upsertedIdDocument = individualOperationResponse.getDocument("upserted", null);
-                                updateResults.put(
-                                        writeModelIndex,
-                                        new ConcreteClientUpdateResult(
-                                                individualOperationResponse.getInt32("n").getValue(),
-                                                individualOperationResponse.getInt32("nModified").getValue(),
-                                                upsertedIdDocument == null ? null : upsertedIdDocument.get("_id")));
-                            } else if (writeModel instanceof ConcreteClientNamespacedDeleteOneModel
-                                    || writeModel instanceof ConcreteClientNamespacedDeleteManyModel) {
-                                deleteResults.put(
-                                        writeModelIndex,
-                                        new ConcreteClientDeleteResult(individualOperationResponse.getInt32("n").getValue()));
-                            } else {
-                                fail(writeModel.getClass().toString());
-                            }
-                        } else {
-                            batchResultsHaveInfoAboutSuccessfulIndividualOperations = batchResultsHaveInfoAboutSuccessfulIndividualOperations
-                                    || (orderedSetting && individualOperationIndexInBatch > 0);
-                            WriteError individualOperationWriteError = new WriteError(
-                                    individualOperationResponse.getInt32("code").getValue(),
-                                    individualOperationResponse.getString("errmsg").getValue(),
-                                    individualOperationResponse.getDocument("errInfo", new BsonDocument()));
-                            writeErrors.put(writeModelIndex, individualOperationWriteError);
-                        }
-                    }
-                }
-            }
             if (topLevelError == null && writeConcernErrors.isEmpty() && writeErrors.isEmpty()) {
                 if (effectiveWriteConcern.isAcknowledged()) {
                     AcknowledgedSummaryClientBulkWriteResult summaryResult = new AcknowledgedSummaryClientBulkWriteResult(
                             insertedCount, upsertedCount, matchedCount, modifiedCount, deletedCount);
-                    return verboseResultsSetting
-                            ? new AcknowledgedVerboseClientBulkWriteResult(summaryResult, insertResults, updateResults, deleteResults)
-                            : summaryResult;
+                    return options.isVerboseResults() ? buildVerboseResult(summaryResult) : summaryResult;
                 } else {
                     return UnacknowledgedClientBulkWriteResult.INSTANCE;
                 }
@@ -810,8 +751,8 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
                         topLevelError,
                         writeConcernErrors,
                         writeErrors,
-                        verboseResultsSetting && partialSummaryResult != null
-                                ? new AcknowledgedVerboseClientBulkWriteResult(partialSummaryResult, insertResults, updateResults, deleteResults)
+                        options.isVerboseResults() && partialSummaryResult != null
+                                ? buildVerboseResult(partialSummaryResult)
                                 : partialSummaryResult,
                         assertNotNull(serverAddress));
             } else {
@@ -819,6 +760,74 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
             }
         }
 
+        private AcknowledgedVerboseClientBulkWriteResult buildVerboseResult(final AcknowledgedSummaryClientBulkWriteResult summaryResult) {
+            return new AcknowledgedVerboseClientBulkWriteResult(
+                    summaryResult,
+                    assertNotNull(insertResults).build(),
+                    assertNotNull(updateResults).build(),
+                    assertNotNull(deleteResults).build());
+        }
+
+        private void accumulate(
+                final int batchStartModelIndex,
+                final BatchEncoder.EncodedBatchInfo encodedBatchInfo,
+                final ExhaustiveClientBulkWriteCommandOkResponse response,
+                @Nullable final MongoWriteConcernException writeConcernException) {
+            batchResultsHaveResponses = true;
+            if (writeConcernException != null) {
+                writeConcernErrors.add(writeConcernException.getWriteConcernError());
+            }
+            boolean orderedSetting = options.isOrdered();
+            int nErrors = response.getNErrors();
+            batchResultsHaveInfoAboutSuccessfulIndividualOperations = batchResultsHaveInfoAboutSuccessfulIndividualOperations
+                    || (orderedSetting && nErrors == 0)
+                    || (!orderedSetting && nErrors < encodedBatchInfo.getModelsCount());
+            insertedCount += response.getNInserted();
+            upsertedCount += response.getNUpserted();
+            matchedCount += response.getNMatched();
+            modifiedCount += response.getNModified();
+            deletedCount += response.getNDeleted();
+            for (List<BsonDocument> cursorBatch : response.getCursorExhaustBatches()) {
+                for (BsonDocument individualOperationResponse : cursorBatch) {
+                    int individualOperationIndexInBatch = individualOperationResponse.getInt32("idx").getValue();
+                    int writeModelIndex = batchStartModelIndex + individualOperationIndexInBatch;
+                    if (individualOperationResponse.getNumber("ok").intValue() == 1) {
+                        assertTrue(options.isVerboseResults());
+                        AbstractClientNamespacedWriteModel writeModel = getNamespacedModel(models, writeModelIndex);
+                        if (writeModel instanceof ConcreteClientNamespacedInsertOneModel) {
+                            BsonValue insertedId = encodedBatchInfo.getInsertModelDocumentId(individualOperationIndexInBatch);
+                            assertNotNull(insertResults).put(writeModelIndex, new ConcreteClientInsertOneResult(insertedId));
+                        } else if (writeModel instanceof ConcreteClientNamespacedUpdateOneModel
+                                || writeModel instanceof ConcreteClientNamespacedUpdateManyModel
+                                || writeModel instanceof ConcreteClientNamespacedReplaceOneModel) {
+                            BsonDocument upsertedIdDocument = individualOperationResponse.getDocument("upserted", null);
+                            assertNotNull(updateResults).put(
+                                    writeModelIndex,
+                                    new ConcreteClientUpdateResult(
+                                            individualOperationResponse.getInt32("n").getValue(),
+                                            individualOperationResponse.getInt32("nModified").getValue(),
+                                            upsertedIdDocument == null ? null : upsertedIdDocument.get("_id")));
+                        } else if (writeModel instanceof ConcreteClientNamespacedDeleteOneModel
+                                || writeModel instanceof ConcreteClientNamespacedDeleteManyModel) {
+                            assertNotNull(deleteResults).put(
+                                    writeModelIndex,
+                                    new ConcreteClientDeleteResult(individualOperationResponse.getInt32("n").getValue()));
+                        } else {
+                            fail(writeModel.getClass().toString());
+                        }
+                    } else {
+                        batchResultsHaveInfoAboutSuccessfulIndividualOperations = batchResultsHaveInfoAboutSuccessfulIndividualOperations
+                                || (orderedSetting && individualOperationIndexInBatch > 0);
+                        WriteError individualOperationWriteError = new WriteError(
+                                individualOperationResponse.getInt32("code").getValue(),
+                                individualOperationResponse.getString("errmsg").getValue(),
+                                individualOperationResponse.getDocument("errInfo", new BsonDocument()));
+                        writeErrors.put(writeModelIndex, individualOperationWriteError);
+                    }
+                }
+            }
+        }
+
         void onNewServerAddress(final ServerAddress serverAddress) {
             this.serverAddress = serverAddress;
         }
@@ -857,11 +866,10 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
                 @Nullable
                 final MongoWriteConcernException writeConcernException,
                 final BatchEncoder.EncodedBatchInfo encodedBatchInfo) {
-            BatchResult batchResult = response == null
-                    ? BatchResult.noResponse(batchStartModelIndex, encodedBatchInfo)
-                    : BatchResult.okResponse(batchStartModelIndex, encodedBatchInfo, response, writeConcernException);
-            batchResults.add(batchResult);
-            int potentialNextBatchStartModelIndex = batchStartModelIndex + batchResult.getBatchModelsCount();
+            if (response != null) {
+                accumulate(batchStartModelIndex, encodedBatchInfo, response, writeConcernException);
+            }
+            int potentialNextBatchStartModelIndex = batchStartModelIndex + encodedBatchInfo.getModelsCount();
             return (response == null || response.operationMayContinue(options))
                     ? potentialNextBatchStartModelIndex == models.size() ? null : potentialNextBatchStartModelIndex
                     : null;
@@ -1094,71 +1102,6 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
         }
     }
 
-    static final class BatchResult {
-        private final int batchStartModelIndex;
-        private final BatchEncoder.EncodedBatchInfo encodedBatchInfo;
-        @Nullable
-        private final ExhaustiveClientBulkWriteCommandOkResponse response;
-        @Nullable
-        private final MongoWriteConcernException writeConcernException;
-
-        static BatchResult okResponse(
-                final int batchStartModelIndex,
-                final BatchEncoder.EncodedBatchInfo encodedBatchInfo,
-                final ExhaustiveClientBulkWriteCommandOkResponse response,
-                @Nullable final MongoWriteConcernException writeConcernException) {
-            return new BatchResult(batchStartModelIndex, encodedBatchInfo, assertNotNull(response), writeConcernException);
-        }
-
-        static BatchResult noResponse(final int batchStartModelIndex, final BatchEncoder.EncodedBatchInfo encodedBatchInfo) {
-            return new BatchResult(batchStartModelIndex, encodedBatchInfo, null, null);
-        }
-
-        private BatchResult(
-                final int batchStartModelIndex,
-                final BatchEncoder.EncodedBatchInfo encodedBatchInfo,
-                @Nullable final ExhaustiveClientBulkWriteCommandOkResponse response,
-                @Nullable final MongoWriteConcernException writeConcernException) {
-            this.batchStartModelIndex = batchStartModelIndex;
-            this.encodedBatchInfo = encodedBatchInfo;
-            this.response = response;
-            this.writeConcernException = writeConcernException;
-        }
-
-        int getBatchStartModelIndex() {
-            return batchStartModelIndex;
-        }
-
-        /**
-         * @see BatchEncoder.EncodedBatchInfo#getModelsCount()
-         */
-        int getBatchModelsCount() {
-            return encodedBatchInfo.getModelsCount();
-        }
-
-        boolean hasResponse() {
-            return response != null;
-        }
-
-        ExhaustiveClientBulkWriteCommandOkResponse getResponse() {
-            return assertNotNull(response);
-        }
-
-        @Nullable
-        MongoWriteConcernException getWriteConcernException() {
-            assertTrue(hasResponse());
-            return writeConcernException;
-        }
-
-        /**
-         * @see BatchEncoder.EncodedBatchInfo#getInsertModelDocumentIds()
-         */
-        Map<Integer, BsonValue> getInsertModelDocumentIds() {
-            assertTrue(hasResponse());
-            return encodedBatchInfo.getInsertModelDocumentIds();
-        }
-    }
-
     /**
      * Exactly one instance must be used per {@linkplain #executeBatch(int, WriteConcern, WriteBinding, ResultAccumulator) batch}.
      */
@@ -1191,7 +1134,7 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
 
         void reset(final int modelIndexInBatch) {
             assertNotNull(encodedBatchInfo).modelsCount -= 1;
-            encodedBatchInfo.insertModelDocumentIds.remove(modelIndexInBatch);
+            encodedBatchInfo.setInsertModelDocumentId(modelIndexInBatch, null);
         }
 
         void encodeWriteModel(
@@ -1235,16 +1178,15 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
                 final int modelIndexInBatch) {
             writer.writeName("document");
             Object document = model.getDocument();
-            assertNotNull(encodedBatchInfo).insertModelDocumentIds.compute(modelIndexInBatch, (k, knownModelDocumentId) -> {
-                IdHoldingBsonWriter documentIdHoldingBsonWriter = new IdHoldingBsonWriter(
-                        writer,
-                        // Reuse `knownModelDocumentId` if it may have been generated by `IdHoldingBsonWriter` in a previous attempt.
-                        // If its type is not `BsonObjectId`, which happens only if `_id` was specified by the application,
-                        // we know it could not have been generated.
-                        knownModelDocumentId instanceof BsonObjectId ? knownModelDocumentId.asObjectId() : null);
-                encodeUsingRegistry(documentIdHoldingBsonWriter, document, COLLECTIBLE_DOCUMENT_ENCODER_CONTEXT);
-                return documentIdHoldingBsonWriter.getId();
-            });
+            BsonValue knownModelDocumentId = assertNotNull(encodedBatchInfo).getInsertModelDocumentId(modelIndexInBatch);
+            IdHoldingBsonWriter documentIdHoldingBsonWriter = new IdHoldingBsonWriter(
+                    writer,
+                    // Reuse `knownModelDocumentId` if it may have been generated by `IdHoldingBsonWriter` in a previous attempt.
+                    // If its type is not `BsonObjectId`, which happens only if `_id` was specified by the application,
+                    // we know it could not have been generated.
+                    knownModelDocumentId instanceof BsonObjectId ? knownModelDocumentId.asObjectId() : null);
+            encodeUsingRegistry(documentIdHoldingBsonWriter, document, COLLECTIBLE_DOCUMENT_ENCODER_CONTEXT);
+            encodedBatchInfo.setInsertModelDocumentId(modelIndexInBatch, documentIdHoldingBsonWriter.getId());
         }
 
         private void encodeWriteModelInternals(final BsonWriter writer, final ConcreteClientUpdateOneModel model) {
@@ -1324,22 +1266,38 @@ public final class ClientBulkWriteOperation implements WriteOperation<ClientBulk
         }
 
         final class EncodedBatchInfo {
-            private final HashMap<Integer, BsonValue> insertModelDocumentIds;
+            /**
+             * Indexed by the index of a model in the
+             * {@linkplain #executeBatch(int, WriteConcern, WriteBinding, ResultAccumulator) batch},
+             * each element is either {@code null} if the model is not an insert model,
+             * or the "_id" field value from {@linkplain ConcreteClientInsertOneModel#getDocument()},
+             * or the value we generated for this field if the field is absent.
+             */
+            private BsonValue[] insertModelDocumentIds;
             private int modelsCount;
 
             private EncodedBatchInfo() {
-                insertModelDocumentIds = new HashMap<>();
+                insertModelDocumentIds = new BsonValue[0];
                 modelsCount = 0;
             }
 
             /**
-             * The key of each entry is the index of a model in the
-             * {@linkplain #executeBatch(int, WriteConcern, WriteBinding, ResultAccumulator) batch},
-             * the value is either the "_id" field value from {@linkplain ConcreteClientInsertOneModel#getDocument()},
-             * or the value we generated for this field if the field is absent.
+             * @see #insertModelDocumentIds
              */
-            Map<Integer, BsonValue> getInsertModelDocumentIds() {
-                return insertModelDocumentIds;
+            @Nullable
+            BsonValue getInsertModelDocumentId(final int modelIndexInBatch) {
+                return modelIndexInBatch < insertModelDocumentIds.length ? insertModelDocumentIds[modelIndexInBatch] : null;
+            }
+
+            private void setInsertModelDocumentId(final int modelIndexInBatch, @Nullable final BsonValue documentId) {
+                if (modelIndexInBatch >= insertModelDocumentIds.length) {
+                    if (documentId == null) {
+                        return;
+                    }
+                    insertModelDocumentIds = Arrays.copyOf(insertModelDocumentIds,
+                            Math.max(modelIndexInBatch + 1, insertModelDocumentIds.length + (insertModelDocumentIds.length >> 1)));
+                }
+                insertModelDocumentIds[modelIndexInBatch] = documentId;
             }
 
             int getModelsCount() {
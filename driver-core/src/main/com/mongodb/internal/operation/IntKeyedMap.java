@@ -0,0 +1,158 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.lang.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.mongodb.assertions.Assertions.assertTrue;
+
+/**
+ * An unmodifiable {@link java.util.Map} with non-negative {@code int} keys, which are stored in an {@code int[]} and looked up by binary
+ * search, while the values are stored in an {@code Object[]}. Unlike {@link java.util.HashMap}, it neither boxes the keys
+ * nor allocates an object per mapping, which matters when there are millions of mappings.
+ * Iterates in the ascending order of keys.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@Immutable
+final class IntKeyedMap<V> extends AbstractMap<Integer, V> {
+    private final int[] keys;
+    private final Object[] values;
+
+    private IntKeyedMap(final int[] keys, final Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(@Nullable final Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        return new AbstractSet<Entry<Integer, V>>() {
+            @Override
+            public Iterator<Entry<Integer, V>> iterator() {
+                return new Iterator<Entry<Integer, V>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<Integer, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Integer, V> entry = new SimpleImmutableEntry<>(keys[index], (V) values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        return key instanceof Integer ? Arrays.binarySearch(keys, (Integer) key) : -1;
+    }
+
+    @NotThreadSafe
+    static final class Builder<V> {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] keys = new int[0];
+        private Object[] values = new Object[0];
+        private int size;
+        private boolean sorted = true;
+
+        /**
+         * Adds a mapping for a key that must not have been added before.
+         * Adding keys in ascending order avoids sorting them when {@linkplain #build() building}.
+         */
+        Builder<V> put(final int key, final V value) {
+            assertTrue(key >= 0);
+            if (size > 0 && key <= keys[size - 1]) {
+                sorted = false;
+            }
+            if (size == keys.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        IntKeyedMap<V> build() {
+            int[] builtKeys = Arrays.copyOf(keys, size);
+            Object[] builtValues = Arrays.copyOf(values, size);
+            if (!sorted) {
+                // sorts the positions of the mappings by their keys without boxing either
+                long[] keysAndPositions = new long[size];
+                for (int i = 0; i < size; i++) {
+                    keysAndPositions[i] = ((long) keys[i] << Integer.SIZE) | i;
+                }
+                Arrays.sort(keysAndPositions);
+                for (int i = 0; i < size; i++) {
+                    int position = (int) keysAndPositions[i];
+                    builtKeys[i] = keys[position];
+                    builtValues[i] = values[position];
+                    assertTrue(i == 0 || builtKeys[i - 1] < builtKeys[i]);
+                }
+            }
+            return new IntKeyedMap<>(builtKeys, builtValues);
+        }
+    }
+}
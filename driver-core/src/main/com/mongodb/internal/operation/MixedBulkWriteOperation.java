@@ -32,6 +32,7 @@ import com.mongodb.internal.async.function.RetryState;
 import com.mongodb.internal.async.function.RetryingAsyncCallbackSupplier;
 import com.mongodb.internal.async.function.RetryingSyncSupplier;
 import com.mongodb.internal.binding.AsyncWriteBinding;
+import com.mongodb.internal.binding.ConnectionSource;
 import com.mongodb.internal.binding.WriteBinding;
 import com.mongodb.internal.bulk.WriteRequest;
 import com.mongodb.internal.connection.AsyncConnection;
@@ -41,6 +42,7 @@ import com.mongodb.internal.connection.OperationContext;
 import com.mongodb.internal.connection.ProtocolHelper;
 import com.mongodb.internal.operation.retry.AttachmentKeys;
 import com.mongodb.internal.session.SessionContext;
+import com.mongodb.internal.time.StartTime;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonArray;
@@ -48,9 +50,12 @@ import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -86,6 +91,8 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
     private Boolean bypassDocumentValidation;
     private BsonValue comment;
     private BsonDocument variables;
+    private int encodingParallelism = 1;
+    private long batchLatencyTargetNanos;
 
     public MixedBulkWriteOperation(final MongoNamespace namespace, final List<? extends WriteRequest> writeRequests,
             final boolean ordered, final WriteConcern writeConcern, final boolean retryWrites) {
@@ -140,6 +147,40 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         return retryWrites;
     }
 
+    public int getEncodingParallelism() {
+        return encodingParallelism;
+    }
+
+    /**
+     * @param encodingParallelism the maximum number of threads encoding the documents to insert ahead of sending them,
+     * see {@link com.mongodb.internal.connection.SplittablePayload#encodeAhead(int, int)}. If 1, each document is encoded by the thread
+     * sending it.
+     */
+    public MixedBulkWriteOperation encodingParallelism(final int encodingParallelism) {
+        isTrueArgument("encodingParallelism > 0", encodingParallelism > 0);
+        this.encodingParallelism = encodingParallelism;
+        return this;
+    }
+
+    public long getBatchLatencyTarget(final TimeUnit timeUnit) {
+        return timeUnit.convert(batchLatencyTargetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param batchLatencyTarget the execution time that the batches are sized to stay within, see {@link AdaptiveBatchSizer}.
+     * If 0, the batches are sized only by the limits of the server.
+     */
+    public MixedBulkWriteOperation batchLatencyTarget(final long batchLatencyTarget, final TimeUnit timeUnit) {
+        isTrueArgument("batchLatencyTarget >= 0", batchLatencyTarget >= 0);
+        this.batchLatencyTargetNanos = TimeUnit.NANOSECONDS.convert(batchLatencyTarget, timeUnit);
+        return this;
+    }
+
+    @Nullable
+    private AdaptiveBatchSizer createBatchSizer() {
+        return batchLatencyTargetNanos > 0 ? new AdaptiveBatchSizer(batchLatencyTargetNanos, TimeUnit.NANOSECONDS) : null;
+    }
+
     private <R> Supplier<R> decorateWriteWithRetries(final RetryState retryState, final OperationContext operationContext,
             final Supplier<R> writeFunction) {
         return new RetryingSyncSupplier<>(retryState, onRetryableWriteAttemptFailure(operationContext),
@@ -187,8 +228,12 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
          * and the code related to the attempt tracking in `BulkWriteTracker` will be removed. */
         RetryState retryState = new RetryState(timeoutContext);
         BulkWriteTracker.attachNew(retryState, retryWrites, timeoutContext);
+        Function<ConnectionSource, Connection> connectionGetter =
+                isUnacknowledgedOutsideOfTransaction(binding.getOperationContext().getSessionContext())
+                        ? ConnectionSource::getUnacknowledgedWriteConnection
+                        : ConnectionSource::getConnection;
         Supplier<BulkWriteResult> retryingBulkWrite = decorateWriteWithRetries(retryState, binding.getOperationContext(), () ->
-            withSourceAndConnection(binding::getWriteConnectionSource, true, (source, connection) -> {
+            withSourceAndConnection(binding::getWriteConnectionSource, connectionGetter, true, (source, connection) -> {
                 ConnectionDescription connectionDescription = connection.getDescription();
                 // attach `maxWireVersion` ASAP because it is used to check whether we can retry
                 retryState.attach(AttachmentKeys.maxWireVersion(), connectionDescription.getMaxWireVersion(), true);
@@ -201,7 +246,8 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                 if (!retryState.attachment(AttachmentKeys.bulkWriteTracker()).orElseThrow(Assertions::fail).batch().isPresent()) {
                     BulkWriteTracker.attachNew(retryState, BulkWriteBatch.createBulkWriteBatch(namespace,
                             connectionDescription, ordered, writeConcern,
-                            bypassDocumentValidation, retryWrites, writeRequests, binding.getOperationContext(), comment, variables), timeoutContext);
+                            bypassDocumentValidation, retryWrites, encodingParallelism, createBatchSizer(), writeRequests,
+                            binding.getOperationContext(), comment, variables), timeoutContext);
                 }
                 return executeBulkWriteBatch(retryState, writeConcern, binding, connection);
             })
@@ -210,6 +256,8 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
             return retryingBulkWrite.get();
         } catch (MongoException e) {
             throw transformWriteException(e);
+        } finally {
+            stopEncodingAhead(retryState);
         }
     }
 
@@ -218,11 +266,13 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         // see the comment in `execute(WriteBinding)` explaining the manual tracking of attempts
         RetryState retryState = new RetryState(timeoutContext);
         BulkWriteTracker.attachNew(retryState, retryWrites, timeoutContext);
+        boolean unacknowledged = isUnacknowledgedOutsideOfTransaction(binding.getOperationContext().getSessionContext());
         binding.retain();
         AsyncCallbackSupplier<BulkWriteResult> retryingBulkWrite = this.<BulkWriteResult>decorateWriteWithRetries(retryState,
                 binding.getOperationContext(),
                 funcCallback ->
-            withAsyncSourceAndConnection(binding::getWriteConnectionSource, true, funcCallback,
+            withAsyncSourceAndConnection(binding::getWriteConnectionSource,
+                    source -> unacknowledged ? source::getUnacknowledgedWriteConnection : source::getConnection, true, funcCallback,
                     (source, connection, releasingCallback) -> {
                 ConnectionDescription connectionDescription = connection.getDescription();
                 // attach `maxWireVersion` ASAP because it is used to check whether we can retry
@@ -241,7 +291,8 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                     if (!retryState.attachment(AttachmentKeys.bulkWriteTracker()).orElseThrow(Assertions::fail).batch().isPresent()) {
                         BulkWriteTracker.attachNew(retryState, BulkWriteBatch.createBulkWriteBatch(namespace,
                                 connectionDescription, ordered, writeConcern,
-                                bypassDocumentValidation, retryWrites, writeRequests, binding.getOperationContext(), comment, variables), timeoutContext);
+                                bypassDocumentValidation, retryWrites, encodingParallelism, createBatchSizer(), writeRequests,
+                                binding.getOperationContext(), comment, variables), timeoutContext);
                     }
                 } catch (Throwable t) {
                     releasingCallback.onResult(null, t);
@@ -249,10 +300,23 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                 }
                 executeBulkWriteBatchAsync(retryState, writeConcern, binding, connection, releasingCallback);
             })
-        ).whenComplete(binding::release);
+        ).whenComplete(() -> {
+            stopEncodingAhead(retryState);
+            binding.release();
+        });
         retryingBulkWrite.get(exceptionTransformingCallback(errorHandlingCallback(callback, LOGGER)));
     }
 
+    /**
+     * Stops encoding ahead the documents of the current batch, which the encoding tasks on the shared threads would otherwise
+     * keep doing after the operation completes.
+     */
+    private static void stopEncodingAhead(final RetryState retryState) {
+        retryState.attachment(AttachmentKeys.bulkWriteTracker())
+                .flatMap(BulkWriteTracker::batch)
+                .ifPresent(BulkWriteBatch::stopEncodingAhead);
+    }
+
     private BulkWriteResult executeBulkWriteBatch(
             final RetryState retryState,
             final WriteConcern effectiveWriteConcern,
@@ -267,7 +331,9 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
 
         while (currentBatch.shouldProcessBatch()) {
             try {
+                StartTime startTime = StartTime.now();
                 BsonDocument result = executeCommand(effectiveWriteConcern, operationContext, connection, currentBatch);
+                Duration elapsed = startTime.elapsed();
                 if (currentBatch.getRetryWrites() && !operationContext.getSessionContext().hasActiveTransaction()) {
                     MongoException writeConcernBasedError = ProtocolHelper.createSpecialException(result,
                             connection.getDescription().getServerAddress(), "errMsg", timeoutContext);
@@ -281,6 +347,7 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                     }
                 }
                 currentBatch.addResult(result);
+                currentBatch.onExecuted(elapsed, result);
                 currentBulkWriteTracker = BulkWriteTracker.attachNext(retryState, currentBatch, timeoutContext);
                 currentBatch = currentBulkWriteTracker.batch().orElseThrow(Assertions::fail);
             } catch (MongoException exception) {
@@ -319,8 +386,10 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
             }
             OperationContext operationContext = binding.getOperationContext();
             TimeoutContext timeoutContext = operationContext.getTimeoutContext();
+            StartTime startTime = StartTime.now();
             executeCommandAsync(effectiveWriteConcern, operationContext, connection, currentBatch, (result, t) -> {
                 if (t == null) {
+                    Duration elapsed = startTime.elapsed();
                     if (currentBatch.getRetryWrites() && !operationContext.getSessionContext().hasActiveTransaction()) {
                         MongoException writeConcernBasedError = ProtocolHelper.createSpecialException(result,
                                 connection.getDescription().getServerAddress(), "errMsg", binding.getOperationContext().getTimeoutContext());
@@ -337,6 +406,7 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                         }
                     }
                     currentBatch.addResult(result);
+                    currentBatch.onExecuted(elapsed, result);
                     BulkWriteTracker.attachNext(retryState, currentBatch, timeoutContext);
                     iterationCallback.onResult(null, null);
                 } else {
@@ -434,6 +504,14 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                 operationContext, shouldExpectResponse(batch, effectiveWriteConcern), batch.getPayload(), callback);
     }
 
+    /**
+     * Unacknowledged writes outside of transactions may share a connection with other unacknowledged writes.
+     * The effective write concern of a write in a transaction is that of the transaction, which is acknowledged.
+     */
+    private boolean isUnacknowledgedOutsideOfTransaction(final SessionContext sessionContext) {
+        return !writeConcern.isAcknowledged() && !sessionContext.hasActiveTransaction();
+    }
+
     private boolean shouldExpectResponse(final BulkWriteBatch batch, final WriteConcern effectiveWriteConcern) {
         return effectiveWriteConcern.isAcknowledged() || (ordered && batch.hasAnotherBatch());
     }
@@ -442,7 +442,9 @@ final class Operations<TDocument> {
         return new MixedBulkWriteOperation(assertNotNull(namespace),
                 requests, options.isOrdered(), writeConcern, retryWrites)
                 .bypassDocumentValidation(options.getBypassDocumentValidation())
-                .comment(options.getComment());
+                .comment(options.getComment())
+                .encodingParallelism(options.getEncodingParallelism())
+                .batchLatencyTarget(options.getBatchLatencyTarget(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
     }
 
     @SuppressWarnings("unchecked")
@@ -513,7 +515,9 @@ final class Operations<TDocument> {
                 options.isOrdered(), writeConcern, retryWrites)
                 .bypassDocumentValidation(options.getBypassDocumentValidation())
                 .comment(options.getComment())
-                .let(toBsonDocument(options.getLet()));
+                .let(toBsonDocument(options.getLet()))
+                .encodingParallelism(options.getEncodingParallelism())
+                .batchLatencyTarget(options.getBatchLatencyTarget(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
     }
 
     <TResult> CommandReadOperation<TResult> commandRead(final Bson command, final Class<TResult> resultClass) {
@@ -126,8 +126,19 @@ final class SyncOperationHelper {
     static <R> R withSourceAndConnection(final Supplier<ConnectionSource> sourceSupplier,
             final boolean wrapConnectionSourceException,
             final BiFunction<ConnectionSource, Connection, R> function) throws ResourceSupplierInternalException {
+        return withSourceAndConnection(sourceSupplier, ConnectionSource::getConnection, wrapConnectionSourceException, function);
+    }
+
+    /**
+     * Like {@link #withSourceAndConnection(Supplier, boolean, BiFunction)}, but gets the {@link Connection} from the source
+     * with {@code connectionGetter}.
+     */
+    static <R> R withSourceAndConnection(final Supplier<ConnectionSource> sourceSupplier,
+            final Function<ConnectionSource, Connection> connectionGetter,
+            final boolean wrapConnectionSourceException,
+            final BiFunction<ConnectionSource, Connection, R> function) throws ResourceSupplierInternalException {
         return withSuppliedResource(sourceSupplier, wrapConnectionSourceException, source ->
-                withSuppliedResource(source::getConnection, wrapConnectionSourceException, connection ->
+                withSuppliedResource(() -> connectionGetter.apply(source), wrapConnectionSourceException, connection ->
                         function.apply(source, connection)));
     }
 
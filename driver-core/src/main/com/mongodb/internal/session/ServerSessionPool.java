@@ -19,6 +19,7 @@ package com.mongodb.internal.session;
 import com.mongodb.MongoException;
 import com.mongodb.ReadPreference;
 import com.mongodb.ServerApi;
+import com.mongodb.annotations.ThreadSafe;
 import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.internal.IgnorableRequestContext;
@@ -29,39 +30,52 @@ import com.mongodb.internal.connection.Connection;
 import com.mongodb.internal.connection.NoOpSessionContext;
 import com.mongodb.internal.connection.OperationContext;
 import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.ServerSelector;
 import com.mongodb.session.ServerSession;
 import org.bson.BsonArray;
 import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
 import org.bson.BsonDocument;
-import org.bson.BsonDocumentWriter;
-import org.bson.UuidRepresentation;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonDocumentCodec;
-import org.bson.codecs.EncoderContext;
-import org.bson.codecs.UuidCodec;
 
+import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.internal.Locks.withLock;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class ServerSessionPool {
+    private static final long PRUNE_INTERVAL_MINUTES = 1;
+    private static final UuidGenerator UUID_GENERATOR = new UuidGenerator();
+
+    /**
+     * Sessions are released to and got from the end, so the least recently used sessions, which expire first, are at the beginning.
+     */
     private final ConcurrentLinkedDeque<ServerSessionImpl> available = new ConcurrentLinkedDeque<>();
     private final Cluster cluster;
     private final ServerSessionPool.Clock clock;
     private volatile boolean closed;
     private final OperationContext operationContext;
     private final LongAdder inUseCount = new LongAdder();
+    @Nullable
+    private final ScheduledFuture<?> pruneTask;
 
     interface Clock {
         long millis();
@@ -74,21 +88,37 @@ public class ServerSessionPool {
     }
 
     public ServerSessionPool(final Cluster cluster, final OperationContext operationContext) {
-        this(cluster, operationContext, System::currentTimeMillis);
+        this(cluster, operationContext, System::currentTimeMillis, PruneScheduler.INSTANCE);
     }
 
+    /**
+     * Creates a pool that does not {@linkplain #prune() prune} available sessions in the background.
+     */
     public ServerSessionPool(final Cluster cluster, final OperationContext operationContext, final Clock clock) {
+        this(cluster, operationContext, clock, null);
+    }
+
+    private ServerSessionPool(final Cluster cluster, final OperationContext operationContext, final Clock clock,
+            @Nullable final ScheduledExecutorService pruneScheduler) {
         this.cluster = cluster;
         this.operationContext = operationContext;
         this.clock = clock;
+        pruneTask = pruneScheduler == null
+                ? null
+                : pruneScheduler.scheduleWithFixedDelay(this::prune, PRUNE_INTERVAL_MINUTES, PRUNE_INTERVAL_MINUTES, MINUTES);
     }
 
+    /**
+     * Gets the most recently used available session, or creates a new one if there is none, or if it is about to expire.
+     * In the latter case all other available sessions, which were used even less recently, are about to expire as well,
+     * and are left for {@link #prune()} to close.
+     */
     public ServerSession get() {
         isTrue("server session pool is open", !closed);
         ServerSessionImpl serverSession = available.pollLast();
-        while (serverSession != null && shouldPrune(serverSession)) {
+        if (serverSession != null && shouldPrune(serverSession)) {
             serverSession.close();
-            serverSession = available.pollLast();
+            serverSession = null;
         }
         if (serverSession == null) {
             serverSession = new ServerSessionImpl();
@@ -113,9 +143,26 @@ public class ServerSessionPool {
 
     public void close() {
         closed = true;
+        if (pruneTask != null) {
+            pruneTask.cancel(false);
+        }
         endClosedSessions();
     }
 
+    /**
+     * Closes the available sessions that are about to expire, starting from the least recently used one.
+     */
+    void prune() {
+        ServerSessionImpl serverSession = available.peekFirst();
+        while (serverSession != null && shouldPrune(serverSession)) {
+            // a concurrent get may have taken the session
+            if (available.removeFirstOccurrence(serverSession)) {
+                serverSession.close();
+            }
+            serverSession = available.peekFirst();
+        }
+    }
+
     private void endClosedSessions() {
         List<BsonDocument> identifiers = drainPool();
         if (identifiers.isEmpty()) {
@@ -193,14 +240,7 @@ public class ServerSessionPool {
     }
 
     private BsonBinary createNewServerSessionIdentifier() {
-        UuidCodec uuidCodec = new UuidCodec(UuidRepresentation.STANDARD);
-        BsonDocument holder = new BsonDocument();
-        BsonDocumentWriter bsonDocumentWriter = new BsonDocumentWriter(holder);
-        bsonDocumentWriter.writeStartDocument();
-        bsonDocumentWriter.writeName("id");
-        uuidCodec.encode(bsonDocumentWriter, UUID.randomUUID(), EncoderContext.builder().build());
-        bsonDocumentWriter.writeEndDocument();
-        return holder.getBinary("id");
+        return new BsonBinary(BsonBinarySubType.UUID_STANDARD, UUID_GENERATOR.next());
     }
 
     final class ServerSessionImpl implements ServerSession {
@@ -211,7 +251,8 @@ public class ServerSessionPool {
         private volatile boolean dirty = false;
 
         ServerSessionImpl() {
-            identifier = new BsonDocument("id", createNewServerSessionIdentifier());
+            // encoded once, as the identifier is appended to every command that uses the session
+            identifier = new RawBsonDocument(new BsonDocument("id", createNewServerSessionIdentifier()), new BsonDocumentCodec());
         }
 
         void close() {
@@ -254,4 +295,62 @@ public class ServerSessionPool {
             return dirty;
         }
     }
+
+    /**
+     * Generates random (version 4) UUIDs in the {@linkplain org.bson.UuidRepresentation#STANDARD standard} binary representation,
+     * the same way {@link java.util.UUID#randomUUID()} does, except that it draws the random bytes of {@value #BATCH_SIZE} UUIDs
+     * at a time from the {@link SecureRandom}, which is considerably cheaper than drawing them for each UUID separately.
+     */
+    @ThreadSafe
+    static final class UuidGenerator {
+        private static final int UUID_LENGTH = 16;
+        private static final int BATCH_SIZE = 64;
+
+        private final SecureRandom random = new SecureRandom();
+        private final Lock lock = new ReentrantLock();
+        /**
+         * Must be guarded by {@link #lock}.
+         */
+        private final byte[] batch = new byte[UUID_LENGTH * BATCH_SIZE];
+        /**
+         * Must be guarded by {@link #lock}.
+         */
+        private int position = batch.length;
+
+        byte[] next() {
+            byte[] uuid = new byte[UUID_LENGTH];
+            withLock(lock, () -> {
+                if (position == batch.length) {
+                    random.nextBytes(batch);
+                    position = 0;
+                }
+                System.arraycopy(batch, position, uuid, 0, UUID_LENGTH);
+                position += UUID_LENGTH;
+            });
+            // version 4
+            uuid[6] = (byte) ((uuid[6] & 0x0f) | 0x40);
+            // IETF variant
+            uuid[8] = (byte) ((uuid[8] & 0x3f) | 0x80);
+            return uuid;
+        }
+    }
+
+    /**
+     * The scheduler shared by all pools in the JVM for {@linkplain #prune() pruning}.
+     * Its thread terminates when it has been idle for a while, so it does not use resources when no pool is open.
+     */
+    private static final class PruneScheduler {
+        private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private PruneScheduler() {
+        }
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("ServerSessionPoolPruner"));
+            executor.setKeepAliveTime(1, MINUTES);
+            executor.allowCoreThreadTimeOut(true);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
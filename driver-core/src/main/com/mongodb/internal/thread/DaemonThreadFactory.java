@@ -23,20 +23,42 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Custom thread factory for scheduled executor service that creates daemon threads.  Otherwise,
  * applications that neglect to close the client will not exit.
  *
+ * <p>If virtual threads are requested and {@linkplain VirtualThreads#isSupported() supported}, the factory creates virtual threads,
+ * which are always daemon threads.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class DaemonThreadFactory implements ThreadFactory {
     private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final String namePrefix;
+    private final boolean virtual;
 
     public DaemonThreadFactory(final String prefix) {
+        this(prefix, false);
+    }
+
+    /**
+     * @param virtual Whether to create virtual threads, which is ignored if they are not {@linkplain VirtualThreads#isSupported() supported}.
+     */
+    public DaemonThreadFactory(final String prefix, final boolean virtual) {
         namePrefix = prefix + "-" + POOL_NUMBER.getAndIncrement() + "-thread-";
+        this.virtual = virtual;
     }
 
     @Override
     public Thread newThread(final Runnable runnable) {
-        Thread t = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+        return newDaemonThread(runnable, namePrefix + threadNumber.getAndIncrement(), virtual);
+    }
+
+    /**
+     * Creates an unstarted thread the same way as {@link #newThread(Runnable)} does, but with the specified {@code name}.
+     */
+    public static Thread newDaemonThread(final Runnable runnable, final String name, final boolean virtual) {
+        if (virtual && VirtualThreads.isSupported()) {
+            return VirtualThreads.newUnstartedThread(runnable, name);
+        }
+        Thread t = new Thread(runnable, name);
         t.setDaemon(true);
         return t;
     }
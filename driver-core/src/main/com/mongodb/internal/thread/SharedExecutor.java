@@ -0,0 +1,70 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Executes the tasks that the driver runs concurrently on behalf of a single operation of any client in the JVM, for example,
+ * the splits of a parallel bulk write, or the documents of a bulk write encoded ahead of sending them,
+ * so that no threads are started and stopped per operation.
+ *
+ * <p>A task is never queued behind others: it runs on an idle thread, or else on a new one, as the tasks may block on I/O.
+ * The number of threads is therefore bounded only by the callers, each of which bounds the number of tasks it executes at a time.
+ * The threads terminate when they have been idle for a while, so that they exist only while such operations are executed.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class SharedExecutor {
+    private SharedExecutor() {
+    }
+
+    /**
+     * @param virtualThreads Whether to execute the tasks on virtual threads, which is ignored if they are not
+     * {@linkplain VirtualThreads#isSupported() supported}.
+     */
+    public static Executor get(final boolean virtualThreads) {
+        return virtualThreads && VirtualThreads.isSupported()
+                ? VirtualThreadHolder.EXECUTOR
+                : PlatformThreadHolder.EXECUTOR;
+    }
+
+    private static final class PlatformThreadHolder {
+        private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, MINUTES,
+                new SynchronousQueue<>(), new DaemonThreadFactory("SharedExecutor"));
+
+        private PlatformThreadHolder() {
+        }
+    }
+
+    private static final class VirtualThreadHolder {
+        private static final ThreadFactory THREAD_FACTORY = new DaemonThreadFactory("SharedExecutor", true);
+        // virtual threads are cheap to start, and are not meant to be pooled
+        private static final Executor EXECUTOR = task -> THREAD_FACTORY.newThread(task).start();
+
+        private VirtualThreadHolder() {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import com.mongodb.lang.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.fail;
+
+/**
+ * Creates virtual threads if the Java runtime supports them, that is, on Java 21 and later.
+ * The driver is compiled for older versions of Java, so the virtual threads API is accessed reflectively.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class VirtualThreads {
+    /**
+     * {@code Thread.ofVirtual()}, or {@code null} if virtual threads are not supported.
+     */
+    @Nullable
+    private static final MethodHandle OF_VIRTUAL;
+    /**
+     * {@code Thread.Builder.unstarted(Runnable)}, or {@code null} if virtual threads are not supported.
+     */
+    @Nullable
+    private static final MethodHandle UNSTARTED;
+    /**
+     * {@code Thread.isVirtual()}, or {@code null} if virtual threads are not supported.
+     */
+    @Nullable
+    private static final MethodHandle IS_VIRTUAL;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle unstarted = null;
+        MethodHandle isVirtual = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            unstarted = lookup.findVirtual(builderClass, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            ofVirtual = null;
+            unstarted = null;
+            isVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    /**
+     * @return {@code true} iff the Java runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates an unstarted virtual thread. Virtual threads are always daemon threads.
+     *
+     * @throws AssertionError If virtual threads are {@linkplain #isSupported() not supported}.
+     */
+    public static Thread newUnstartedThread(final Runnable runnable, final String name) {
+        try {
+            Thread thread = (Thread) assertNotNull(UNSTARTED).invoke(assertNotNull(OF_VIRTUAL).invoke(), runnable);
+            thread.setName(name);
+            return thread;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw fail(t.toString());
+        }
+    }
+
+    /**
+     * @return {@code true} iff {@code thread} is a virtual thread.
+     */
+    public static boolean isVirtual(final Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw fail(t.toString());
+        }
+    }
+
+    private VirtualThreads() {
+    }
+}
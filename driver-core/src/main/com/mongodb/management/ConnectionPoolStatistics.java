@@ -24,8 +24,10 @@ import com.mongodb.event.ConnectionClosedEvent;
 import com.mongodb.event.ConnectionCreatedEvent;
 import com.mongodb.event.ConnectionPoolCreatedEvent;
 import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionReadyEvent;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An MBean implementation for connection pool statistics.
@@ -35,6 +37,7 @@ final class ConnectionPoolStatistics implements ConnectionPoolListener, Connecti
     private final ConnectionPoolSettings settings;
     private final AtomicInteger size = new AtomicInteger();
     private final AtomicInteger checkedOutCount = new AtomicInteger();
+    private final AtomicLong tlsSessionResumedCount = new AtomicLong();
 
     ConnectionPoolStatistics(final ConnectionPoolCreatedEvent event) {
         serverAddress = event.getServerId().getAddress();
@@ -71,6 +74,11 @@ final class ConnectionPoolStatistics implements ConnectionPoolListener, Connecti
         return checkedOutCount.get();
     }
 
+    @Override
+    public long getTlsSessionResumedCount() {
+        return tlsSessionResumedCount.get();
+    }
+
     @Override
     public void connectionCheckedOut(final ConnectionCheckedOutEvent event) {
         checkedOutCount.incrementAndGet();
@@ -86,6 +94,13 @@ final class ConnectionPoolStatistics implements ConnectionPoolListener, Connecti
         size.incrementAndGet();
     }
 
+    @Override
+    public void connectionReady(final ConnectionReadyEvent event) {
+        if (event.isTlsSessionResumed()) {
+            tlsSessionResumedCount.incrementAndGet();
+        }
+    }
+
     @Override
     public void connectionClosed(final ConnectionClosedEvent event) {
         size.decrementAndGet();
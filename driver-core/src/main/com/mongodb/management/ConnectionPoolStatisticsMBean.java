@@ -66,4 +66,13 @@ public interface ConnectionPoolStatisticsMBean {
      * @return count of in-use connections
      */
     int getCheckedOutCount();
+
+    /**
+     * Gets the count of connections established by the pool that resumed a TLS session instead of doing a full TLS handshake.
+     *
+     * @return count of connections that resumed a TLS session
+     * @since 5.5
+     * @see com.mongodb.event.ConnectionReadyEvent#isTlsSessionResumed()
+     */
+    long getTlsSessionResumedCount();
 }
@@ -21,6 +21,7 @@ import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.CompressionSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.NettyTransportSettings;
 import com.mongodb.connection.ServerDescription;
@@ -29,6 +30,7 @@ import com.mongodb.connection.ServerVersion;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
 import com.mongodb.connection.TransportSettings;
+import com.mongodb.connection.WriteBudgetSettings;
 import com.mongodb.internal.IgnorableRequestContext;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
@@ -480,7 +482,8 @@ public final class ClusterFixture {
                 ServerSettings.builder().build(),
                 ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                 TIMEOUT_SETTINGS.connectionOnly(), streamFactory, TIMEOUT_SETTINGS.connectionOnly(), streamFactory, credential,
-                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null);
+                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), CompressionSettings.builder().build(),
+                WriteBudgetSettings.builder().build(), getServerApi(), null);
     }
 
     private static Cluster createCluster(final ConnectionString connectionString, final StreamFactory streamFactory) {
@@ -494,7 +497,8 @@ public final class ClusterFixture {
                         getSslSettings(connectionString)),
                 connectionString.getCredential(),
                 LoggerSettings.builder().build(), null, null, null,
-                connectionString.getCompressorList(), getServerApi(), null);
+                connectionString.getCompressorList(), mongoClientSettings.getCompressionSettings(),
+                mongoClientSettings.getWriteBudgetSettings(), getServerApi(), null);
     }
 
     public static StreamFactory getStreamFactory() {
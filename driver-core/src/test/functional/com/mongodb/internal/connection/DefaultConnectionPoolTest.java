@@ -55,9 +55,11 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 
 import static com.mongodb.ClusterFixture.OPERATION_CONTEXT;
@@ -71,6 +73,7 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -284,6 +287,36 @@ public class DefaultConnectionPoolTest {
         assertTrue(connectionFactory.getCreatedConnections().get(0).isClosed());
     }
 
+    @Test
+    public void shouldPrewarmWhenReadyAndAfterInvalidate() throws InterruptedException {
+        // given
+        provider = new DefaultConnectionPool(SERVER_ID,
+                connectionFactory,
+                ConnectionPoolSettings.builder()
+                        .maxSize(10)
+                        .minSize(4)
+                        .maxConnecting(4)
+                        .maintenanceInitialDelay(5, MINUTES)
+                        .prewarmEnabled(true)
+                        .build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY);
+
+        // when
+        provider.ready();
+
+        // then
+        awaitCondition(() -> provider.getPool().getAvailableCount() == 4);
+        assertEquals(4, connectionFactory.getNumCreatedConnections());
+
+        // when
+        provider.invalidate(null);
+        provider.ready();
+
+        // then
+        awaitCondition(() -> connectionFactory.getNumCreatedConnections() == 8 && provider.getPool().getAvailableCount() == 4);
+        assertTrue(connectionFactory.getCreatedConnections().subList(0, 4).stream().allMatch(InternalConnection::isClosed));
+    }
+
     @Test
     void infiniteMaxSize() {
         int defaultMaxSize = ConnectionPoolSettings.builder().build().getMaxSize();
@@ -450,6 +483,48 @@ public class DefaultConnectionPoolTest {
         }
     }
 
+    /**
+     * Sync and async checkouts waiting for a connection must be served in the order they started waiting.
+     */
+    @Test
+    public void checkoutHandOverServesSyncAndAsyncWaitersInArrivalOrder() throws Exception {
+        ControllableConnectionFactory controllableConnFactory = newControllableConnectionFactory(cachedExecutor);
+        TestConnectionPoolListener listener = new TestConnectionPoolListener();
+        provider = new DefaultConnectionPool(SERVER_ID, controllableConnFactory.factory,
+                ConnectionPoolSettings.builder()
+                        .maxSize(DEFAULT_MAX_CONNECTING + 3)
+                        .addConnectionPoolListener(listener)
+                        .maintenanceInitialDelay(MAX_VALUE, NANOSECONDS)
+                        .build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY);
+        provider.ready();
+        InternalConnection connection = provider.get(createOperationContext(TIMEOUT_SETTINGS.withMaxWaitTimeMS(0)));
+        ConnectionId connectionId = connection.getDescription().getConnectionId();
+        TimeoutSettings timeoutSettings = TIMEOUT_SETTINGS.withMaxWaitTimeMS(TEST_WAIT_TIMEOUT_MILLIS);
+        acquireOpenPermits(provider, DEFAULT_MAX_CONNECTING, InfiniteCheckoutEmulation.INFINITE_OPEN, controllableConnFactory, listener,
+                timeoutSettings);
+        AtomicReference<Thread> syncWaiterThread = new AtomicReference<>();
+        Future<InternalConnection> syncReceived = cachedExecutor.submit(() -> {
+            syncWaiterThread.set(Thread.currentThread());
+            return provider.get(createOperationContext(timeoutSettings));
+        });
+        awaitCondition(() -> syncWaiterThread.get() != null && syncWaiterThread.get().getState() == Thread.State.TIMED_WAITING);
+        CompletableFuture<InternalConnection> asyncReceived = new CompletableFuture<>();
+        provider.getAsync(createOperationContext(timeoutSettings), (result, t) -> {
+            if (t == null) {
+                asyncReceived.complete(result);
+            } else {
+                asyncReceived.completeExceptionally(t);
+            }
+        });
+        connection.close();
+        InternalConnection syncConnection = syncReceived.get(TEST_WAIT_TIMEOUT_MILLIS, MILLISECONDS);
+        assertEquals(connectionId, syncConnection.getDescription().getConnectionId());
+        assertFalse(asyncReceived.isDone());
+        syncConnection.close();
+        assertEquals(connectionId, asyncReceived.get(TEST_WAIT_TIMEOUT_MILLIS, MILLISECONDS).getDescription().getConnectionId());
+    }
+
     @Test
     public void readyAfterCloseMustNotThrow() {
         provider = new DefaultConnectionPool(
@@ -667,6 +742,16 @@ public class DefaultConnectionPoolTest {
         return new ControllableConnectionFactory(connectionFactory, openDurationHandle);
     }
 
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TEST_WAIT_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail();
+            }
+            Thread.sleep(1);
+        }
+    }
+
     private OptionalProvider<SdamServerDescriptionManager> mockSdamProvider() {
         return SameObjectProvider.initialized(mock(SdamServerDescriptionManager.class));
     }
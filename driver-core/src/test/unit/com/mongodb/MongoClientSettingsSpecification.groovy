@@ -18,12 +18,14 @@ package com.mongodb
 
 import com.mongodb.connection.ClusterConnectionMode
 import com.mongodb.connection.ClusterSettings
+import com.mongodb.connection.CompressionSettings
 import com.mongodb.connection.ConnectionPoolSettings
 import com.mongodb.connection.ProxySettings
 import com.mongodb.connection.ServerSettings
 import com.mongodb.connection.SocketSettings
 import com.mongodb.connection.SslSettings
 import com.mongodb.connection.TransportSettings
+import com.mongodb.connection.WriteBudgetSettings
 import com.mongodb.event.CommandListener
 import com.mongodb.spi.dns.DnsClient
 import com.mongodb.spi.dns.InetAddressResolver
@@ -59,6 +61,8 @@ class MongoClientSettingsSpecification extends Specification {
         settings.serverSettings == ServerSettings.builder().build()
         settings.transportSettings == null
         settings.compressorList == []
+        settings.compressionSettings == CompressionSettings.builder().build()
+        settings.writeBudgetSettings == WriteBudgetSettings.builder().build()
         settings.credential == null
         settings.uuidRepresentation == UuidRepresentation.UNSPECIFIED
         settings.contextProvider == null
@@ -551,11 +555,11 @@ class MongoClientSettingsSpecification extends Specification {
         // A regression test so that if anymore fields are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredFields.grep {  !it.synthetic } *.name.sort()
         def expected = ['applicationName', 'autoEncryptionSettings', 'clusterSettingsBuilder', 'codecRegistry', 'commandListeners',
-                        'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential', 'dnsClient',
-                        'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'loggerSettingsBuilder',
+                        'compressionSettingsBuilder', 'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential',
+                        'dnsClient', 'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'loggerSettingsBuilder',
                         'readConcern', 'readPreference', 'retryReads',
                         'retryWrites', 'serverApi', 'serverSettingsBuilder', 'socketSettingsBuilder', 'sslSettingsBuilder',
-                        'timeoutMS', 'transportSettings', 'uuidRepresentation', 'writeConcern']
+                        'timeoutMS', 'transportSettings', 'uuidRepresentation', 'writeBudgetSettingsBuilder', 'writeConcern']
 
         then:
         actual == expected
@@ -566,8 +570,9 @@ class MongoClientSettingsSpecification extends Specification {
         // A regression test so that if anymore methods are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredMethods.grep {  !it.synthetic } *.name.sort()
         def expected = ['addCommandListener', 'applicationName', 'applyConnectionString', 'applyToClusterSettings',
-                        'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings', 'applyToSocketSettings',
-                        'applyToSslSettings', 'autoEncryptionSettings', 'build', 'codecRegistry', 'commandListenerList',
+                        'applyToCompressionSettings', 'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings',
+                        'applyToSocketSettings', 'applyToSslSettings', 'applyToWriteBudgetSettings', 'autoEncryptionSettings', 'build',
+                        'codecRegistry', 'commandListenerList',
                         'compressorList', 'contextProvider', 'credential', 'dnsClient', 'heartbeatConnectTimeoutMS',
                         'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'readConcern', 'readPreference', 'retryReads', 'retryWrites',
                         'serverApi', 'timeout', 'transportSettings', 'uuidRepresentation', 'writeConcern']
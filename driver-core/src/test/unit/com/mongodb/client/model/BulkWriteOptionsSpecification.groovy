@@ -18,6 +18,8 @@ package com.mongodb.client.model
 
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
+
 
 class BulkWriteOptionsSpecification extends Specification {
     def 'should default to ordered'() {
@@ -32,4 +34,24 @@ class BulkWriteOptionsSpecification extends Specification {
         where:
         ordered << [true, false]
     }
+
+    def 'should set parallelism'() {
+        expect:
+        new BulkWriteOptions().parallelism == 1
+        new BulkWriteOptions().parallelism(4).parallelism == 4
+    }
+
+    def 'should throw if parallelism is not positive'() {
+        when:
+        new BulkWriteOptions().parallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should keep a batch latency target below one millisecond'() {
+        expect:
+        new BulkWriteOptions().getBatchLatencyTarget(TimeUnit.MICROSECONDS) == 0
+        new BulkWriteOptions().batchLatencyTarget(500, TimeUnit.MICROSECONDS).getBatchLatencyTarget(TimeUnit.MICROSECONDS) == 500
+    }
 }
@@ -18,6 +18,8 @@ package com.mongodb.client.model
 
 import spock.lang.Specification
 
+import java.util.concurrent.TimeUnit
+
 class InsertManyOptionsSpecification extends Specification {
     def 'should have the expected defaults'() {
         when:
@@ -43,4 +45,24 @@ class InsertManyOptionsSpecification extends Specification {
         where:
         bypassValidation << [null, true, false]
     }
+
+    def 'should set parallelism'() {
+        expect:
+        new InsertManyOptions().parallelism == 1
+        new InsertManyOptions().parallelism(4).parallelism == 4
+    }
+
+    def 'should throw if parallelism is not positive'() {
+        when:
+        new InsertManyOptions().parallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should keep a batch latency target below one millisecond'() {
+        expect:
+        new InsertManyOptions().getBatchLatencyTarget(TimeUnit.MICROSECONDS) == 0
+        new InsertManyOptions().batchLatencyTarget(500, TimeUnit.MICROSECONDS).getBatchLatencyTarget(TimeUnit.MICROSECONDS) == 500
+    }
 }
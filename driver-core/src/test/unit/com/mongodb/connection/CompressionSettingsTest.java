@@ -0,0 +1,68 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.connection;
+
+import com.mongodb.event.CompressionListener;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CompressionSettingsTest {
+
+    @Test
+    void defaults() {
+        CompressionSettings settings = CompressionSettings.builder().build();
+        assertAll(
+                () -> assertEquals(0, settings.getMinimumMessageSize()),
+                () -> assertNull(settings.getMaximumCompressionRatio()),
+                () -> assertEquals(64, settings.getBackOffMessageCount()),
+                () -> assertTrue(settings.getCompressionListeners().isEmpty()));
+    }
+
+    @Test
+    void shouldApplySettings() {
+        CompressionListener listener = new CompressionListener() { };
+        CompressionSettings settings = CompressionSettings.builder()
+                .minimumMessageSize(1024)
+                .maximumCompressionRatio(0.9)
+                .backOffMessageCount(10)
+                .addCompressionListener(listener)
+                .build();
+
+        assertAll(
+                () -> assertEquals(1024, settings.getMinimumMessageSize()),
+                () -> assertEquals(0.9, settings.getMaximumCompressionRatio()),
+                () -> assertEquals(10, settings.getBackOffMessageCount()),
+                () -> assertEquals(singletonList(listener), settings.getCompressionListeners()),
+                () -> assertEquals(settings, CompressionSettings.builder(settings).build()),
+                () -> assertEquals(settings.hashCode(), CompressionSettings.builder(settings).build().hashCode()),
+                () -> assertNotEquals(CompressionSettings.builder().build(), settings));
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> CompressionSettings.builder().minimumMessageSize(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> CompressionSettings.builder().maximumCompressionRatio(0.0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> CompressionSettings.builder().backOffMessageCount(0)));
+    }
+}
@@ -132,6 +132,66 @@ class ConnectionPoolSettingsSpecification extends Specification {
 
         then:
         thrown(IllegalStateException)
+
+        when:
+        ConnectionPoolSettings.builder().availableConnectionStripes(0).build()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def 'should set available connection stripes'() {
+        expect:
+        ConnectionPoolSettings.builder().build().getAvailableConnectionStripes() == 1
+        ConnectionPoolSettings.builder().availableConnectionStripes(8).build().getAvailableConnectionStripes() == 8
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().availableConnectionStripes(8).build()).build()
+                .getAvailableConnectionStripes() == 8
+        ConnectionPoolSettings.builder().availableConnectionStripes(8).build() !=
+                ConnectionPoolSettings.builder().availableConnectionStripes(4).build()
+    }
+
+    def 'should set thread affinity'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isThreadAffinityEnabled()
+        ConnectionPoolSettings.builder().threadAffinityEnabled(true).build().isThreadAffinityEnabled()
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().threadAffinityEnabled(true).build()).build()
+                .isThreadAffinityEnabled()
+        ConnectionPoolSettings.builder().threadAffinityEnabled(true).build() != ConnectionPoolSettings.builder().build()
+    }
+
+    def 'should set event loop affinity'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isEventLoopAffinityEnabled()
+        ConnectionPoolSettings.builder().eventLoopAffinityEnabled(true).build().isEventLoopAffinityEnabled()
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().eventLoopAffinityEnabled(true).build()).build()
+                .isEventLoopAffinityEnabled()
+        ConnectionPoolSettings.builder().eventLoopAffinityEnabled(true).build() != ConnectionPoolSettings.builder().build()
+    }
+
+    def 'should set prewarm'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isPrewarmEnabled()
+        ConnectionPoolSettings.builder().prewarmEnabled(true).build().isPrewarmEnabled()
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().prewarmEnabled(true).build()).build().isPrewarmEnabled()
+        ConnectionPoolSettings.builder().prewarmEnabled(true).build() != ConnectionPoolSettings.builder().build()
+    }
+
+    def 'should set virtual threads'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isVirtualThreadsEnabled()
+        ConnectionPoolSettings.builder().virtualThreadsEnabled(true).build().isVirtualThreadsEnabled()
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().virtualThreadsEnabled(true).build()).build()
+                .isVirtualThreadsEnabled()
+        ConnectionPoolSettings.builder().virtualThreadsEnabled(true).build() != ConnectionPoolSettings.builder().build()
+    }
+
+    def 'should set unacknowledged write channel'() {
+        expect:
+        !ConnectionPoolSettings.builder().build().isUnacknowledgedWriteChannelEnabled()
+        ConnectionPoolSettings.builder().unacknowledgedWriteChannelEnabled(true).build().isUnacknowledgedWriteChannelEnabled()
+        ConnectionPoolSettings.builder(ConnectionPoolSettings.builder().unacknowledgedWriteChannelEnabled(true).build()).build()
+                .isUnacknowledgedWriteChannelEnabled()
+        ConnectionPoolSettings.builder().unacknowledgedWriteChannelEnabled(true).build() != ConnectionPoolSettings.builder().build()
     }
 
     def 'settings with same values should be equal'() {
@@ -27,7 +27,9 @@ import org.junit.jupiter.api.Test;
 import javax.net.ssl.SSLException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NettyTransportSettingsTest {
     @Test
@@ -38,6 +40,7 @@ class NettyTransportSettingsTest {
         assertNull(settings.getEventLoopGroup());
         assertNull(settings.getSslContext());
         assertNull(settings.getSocketChannelClass());
+        assertTrue(settings.isNativeTransportEnabled());
     }
 
     @Test
@@ -56,4 +59,13 @@ class NettyTransportSettingsTest {
         assertEquals(eventLoopGroup, settings.getEventLoopGroup());
         assertEquals(sslContext, settings.getSslContext());
     }
+
+    @Test
+    public void shouldDisableNativeTransport() {
+        NettyTransportSettings settings = TransportSettings.nettyBuilder()
+                .nativeTransportEnabled(false)
+                .build();
+
+        assertFalse(settings.isNativeTransportEnabled());
+    }
 }
@@ -25,7 +25,9 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class ServerSettingsTest {
     private static final String DEFAULT_OPTIONS = "mongodb://localhost/?";
@@ -33,7 +35,10 @@ final class ServerSettingsTest {
     @Test
     void defaults() {
         ServerSettings defaultServerSettings = ServerSettings.builder().build();
-        assertAll(() -> assertEquals(ServerMonitoringMode.AUTO, defaultServerSettings.getServerMonitoringMode()));
+        assertAll(
+                () -> assertEquals(ServerMonitoringMode.AUTO, defaultServerSettings.getServerMonitoringMode()),
+                () -> assertFalse(defaultServerSettings.isSharedMonitorSchedulerEnabled()),
+                () -> assertFalse(defaultServerSettings.isVirtualThreadsEnabled()));
     }
 
     @ParameterizedTest
@@ -54,7 +59,9 @@ final class ServerSettingsTest {
 
     private static Stream<Arguments> equalAndHashCodeArgs() {
         return Stream.of(
-                Arguments.of(ServerSettings.builder().serverMonitoringMode(ServerMonitoringMode.POLL))
+                Arguments.of(ServerSettings.builder().serverMonitoringMode(ServerMonitoringMode.POLL)),
+                Arguments.of(ServerSettings.builder().sharedMonitorSchedulerEnabled(true)),
+                Arguments.of(ServerSettings.builder().virtualThreadsEnabled(true))
         );
     }
 
@@ -103,4 +110,40 @@ final class ServerSettingsTest {
                         "should not apply unset from connection string")
         );
     }
+
+    @Test
+    void sharedMonitorSchedulerEnabled() {
+        assertAll(
+                () -> assertTrue(ServerSettings.builder()
+                                .sharedMonitorSchedulerEnabled(true)
+                                .build()
+                                .isSharedMonitorSchedulerEnabled(),
+                        "should set"),
+                () -> assertTrue(ServerSettings.builder()
+                                .applySettings(ServerSettings.builder()
+                                        .sharedMonitorSchedulerEnabled(true)
+                                        .build())
+                                .build()
+                                .isSharedMonitorSchedulerEnabled(),
+                        "should apply from settings")
+        );
+    }
+
+    @Test
+    void virtualThreadsEnabled() {
+        assertAll(
+                () -> assertTrue(ServerSettings.builder()
+                                .virtualThreadsEnabled(true)
+                                .build()
+                                .isVirtualThreadsEnabled(),
+                        "should set"),
+                () -> assertTrue(ServerSettings.builder()
+                                .applySettings(ServerSettings.builder()
+                                        .virtualThreadsEnabled(true)
+                                        .build())
+                                .build()
+                                .isVirtualThreadsEnabled(),
+                        "should apply from settings")
+        );
+    }
 }
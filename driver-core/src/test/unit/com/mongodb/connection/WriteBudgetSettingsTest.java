@@ -0,0 +1,58 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.connection;
+
+import com.mongodb.event.WriteBudgetListener;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class WriteBudgetSettingsTest {
+
+    @Test
+    void defaults() {
+        WriteBudgetSettings settings = WriteBudgetSettings.builder().build();
+        assertAll(
+                () -> assertEquals(0, settings.getMaxUnacknowledgedBytes()),
+                () -> assertTrue(settings.getWriteBudgetListeners().isEmpty()));
+    }
+
+    @Test
+    void shouldApplySettings() {
+        WriteBudgetListener listener = new WriteBudgetListener() { };
+        WriteBudgetSettings settings = WriteBudgetSettings.builder()
+                .maxUnacknowledgedBytes(64 * 1024 * 1024)
+                .addWriteBudgetListener(listener)
+                .build();
+
+        assertAll(
+                () -> assertEquals(64 * 1024 * 1024, settings.getMaxUnacknowledgedBytes()),
+                () -> assertEquals(singletonList(listener), settings.getWriteBudgetListeners()),
+                () -> assertEquals(settings, WriteBudgetSettings.builder(settings).build()),
+                () -> assertEquals(settings.hashCode(), WriteBudgetSettings.builder(settings).build().hashCode()),
+                () -> assertNotEquals(WriteBudgetSettings.builder().build(), settings));
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> WriteBudgetSettings.builder().maxUnacknowledgedBytes(-1));
+    }
+}
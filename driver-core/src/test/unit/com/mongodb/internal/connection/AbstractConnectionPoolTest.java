@@ -662,5 +662,10 @@ public abstract class AbstractConnectionPoolTest {
         public int getGeneration() {
             return pool.getGeneration();
         }
+
+        @Override
+        public boolean shouldPrune(final InternalConnection connection) {
+            return pool.shouldPrune(connection);
+        }
     }
 }
@@ -147,4 +147,24 @@ class BulkWriteBatchCombinerSpecification extends Specification {
         e.writeErrors == [new BulkWriteError(45, 'wc error', new BsonDocument(), 0),
                           new BulkWriteError(11000, 'dup key', new BsonDocument(), 1)]
     }
+
+    def 'should map indexes of split results'() {
+        given:
+        def combiner = new BulkWriteBatchCombiner(new ServerAddress(), false, ACKNOWLEDGED)
+        combiner.addSplitResult(BulkWriteResult.acknowledged(INSERT, 1, 0, [], [new BulkWriteInsert(0, new BsonString('id1'))]),
+                IndexMap.create(0, 2))
+        def error = new BulkWriteError(11000, 'dup key', new BsonDocument(), 1)
+        combiner.addSplitErrorResult(new MongoBulkWriteException(
+                BulkWriteResult.acknowledged(INSERT, 1, 0, [], [new BulkWriteInsert(0, new BsonString('id2'))]),
+                [error], null, new ServerAddress(), [] as Set), IndexMap.create(2, 2))
+
+        when:
+        combiner.getResult()
+
+        then:
+        def e = thrown(MongoBulkWriteException)
+        e.writeResult == BulkWriteResult.acknowledged(INSERT, 2, 0, [],
+                [new BulkWriteInsert(0, new BsonString('id1')), new BulkWriteInsert(2, new BsonString('id2'))])
+        e.writeErrors == [new BulkWriteError(11000, 'dup key', new BsonDocument(), 3)]
+    }
 }
@@ -27,6 +27,8 @@ import com.mongodb.connection.ServerType;
 import com.mongodb.internal.IgnorableRequestContext;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.bulk.InsertRequest;
+import com.mongodb.internal.bulk.WriteRequestWithIndex;
 import com.mongodb.internal.client.model.bulk.ConcreteClientBulkWriteOptions;
 import com.mongodb.internal.connection.MessageSequences.EmptyMessageSequences;
 import com.mongodb.internal.operation.ClientBulkWriteOperation;
@@ -34,14 +36,18 @@ import com.mongodb.internal.operation.ClientBulkWriteOperation.ClientBulkWriteCo
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import org.bson.BsonArray;
+import org.bson.BsonBinary;
 import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -53,7 +59,9 @@ import static com.mongodb.internal.operation.ServerVersionHelper.LATEST_WIRE_VER
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -126,6 +134,91 @@ class CommandMessageTest {
         }
     }
 
+    @Test
+    void encodeShouldAppendPreEncodedSessionAndReadPreferenceFields() {
+        RawBsonDocument clusterTime = new RawBsonDocument(new BsonDocument("clusterTime", new BsonTimestamp(42, 1)),
+                new BsonDocumentCodec());
+        RawBsonDocument sessionId = new RawBsonDocument(new BsonDocument("id", new BsonBinary(UUID.randomUUID())),
+                new BsonDocumentCodec());
+        CommandMessage commandMessage = new CommandMessage(NAMESPACE, COMMAND, NoOpFieldNameValidator.INSTANCE,
+                ReadPreference.secondaryPreferred(),
+                MessageSettings.builder()
+                        .maxWireVersion(LATEST_WIRE_VERSION)
+                        .serverType(ServerType.REPLICA_SET_SECONDARY)
+                        .sessionSupported(true)
+                        .build(),
+                true, EmptyMessageSequences.INSTANCE, ClusterConnectionMode.MULTIPLE, null);
+
+        try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            SessionContext sessionContext = mock(SessionContext.class, mock -> {
+                when(mock.getClusterTime()).thenReturn(clusterTime);
+                when(mock.hasSession()).thenReturn(true);
+                when(mock.getSessionId()).thenReturn(sessionId);
+                when(mock.getReadConcern()).thenReturn(ReadConcern.DEFAULT);
+                when(mock.hasActiveTransaction()).thenReturn(false);
+                when(mock.isSnapshot()).thenReturn(false);
+            });
+            OperationContext operationContext = new OperationContext(IgnorableRequestContext.INSTANCE, sessionContext,
+                    new TimeoutContext(TimeoutSettings.DEFAULT), null);
+
+            commandMessage.encode(bsonOutput, operationContext);
+
+            BsonDocument expectedCommandDocument = COMMAND.clone()
+                    .append("$db", new BsonString(NAMESPACE.getDatabaseName()))
+                    .append("$clusterTime", clusterTime)
+                    .append("lsid", sessionId)
+                    .append("$readPreference", ReadPreference.secondaryPreferred().toDocument());
+            assertEquals(expectedCommandDocument, commandMessage.getCommandDocument(bsonOutput));
+        }
+    }
+
+    @Test
+    void encodeShouldWriteRawInsertDocumentsAsTheyAre() {
+        BsonDocument command = new BsonDocument("insert", new BsonString(NAMESPACE.getCollectionName()));
+        List<RawBsonDocument> documents = asList(RawBsonDocument.parse("{_id: 1, a: 'a'}"), RawBsonDocument.parse("{b: {c: 2}}"));
+        SplittablePayload payload = new SplittablePayload(SplittablePayload.Type.INSERT,
+                asList(new WriteRequestWithIndex(new InsertRequest(documents.get(0)), 0),
+                        new WriteRequestWithIndex(new InsertRequest(documents.get(1)), 1)),
+                true, NoOpFieldNameValidator.INSTANCE);
+        CommandMessage commandMessage = new CommandMessage(NAMESPACE, command, NoOpFieldNameValidator.INSTANCE, ReadPreference.primary(),
+                MessageSettings.builder().maxWireVersion(LATEST_WIRE_VERSION).build(), true, payload, ClusterConnectionMode.MULTIPLE, null);
+
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            commandMessage.encode(output, new OperationContext(IgnorableRequestContext.INSTANCE, NoOpSessionContext.INSTANCE,
+                    new TimeoutContext(TimeoutSettings.DEFAULT), null));
+
+            BsonDocument expectedCommandDocument = command.clone()
+                    .append("$db", new BsonString(NAMESPACE.getDatabaseName()))
+                    .append("documents", new BsonArray(documents));
+            assertEquals(expectedCommandDocument, commandMessage.getCommandDocument(output));
+            assertEquals(2, payload.getPosition());
+            assertFalse(payload.hasAnotherSplit());
+        }
+    }
+
+    @Test
+    void encodeShouldWriteNoMoreThanMaxBatchCountOfPayload() {
+        BsonDocument command = new BsonDocument("insert", new BsonString(NAMESPACE.getCollectionName()));
+        List<RawBsonDocument> documents = asList(RawBsonDocument.parse("{_id: 1}"), RawBsonDocument.parse("{_id: 2}"));
+        SplittablePayload payload = new SplittablePayload(SplittablePayload.Type.INSERT,
+                asList(new WriteRequestWithIndex(new InsertRequest(documents.get(0)), 0),
+                        new WriteRequestWithIndex(new InsertRequest(documents.get(1)), 1)),
+                true, NoOpFieldNameValidator.INSTANCE);
+        payload.setMaxBatchCount(1);
+        CommandMessage commandMessage = new CommandMessage(NAMESPACE, command, NoOpFieldNameValidator.INSTANCE, ReadPreference.primary(),
+                MessageSettings.builder().maxWireVersion(LATEST_WIRE_VERSION).build(), true, payload, ClusterConnectionMode.MULTIPLE, null);
+
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            commandMessage.encode(output, new OperationContext(IgnorableRequestContext.INSTANCE, NoOpSessionContext.INSTANCE,
+                    new TimeoutContext(TimeoutSettings.DEFAULT), null));
+
+            assertEquals(new BsonArray(documents.subList(0, 1)), commandMessage.getCommandDocument(output).getArray("documents"));
+            assertEquals(1, payload.getPosition());
+            assertTrue(payload.hasAnotherSplit());
+            assertEquals(Integer.MAX_VALUE, payload.getNextSplit().getMaxBatchCount());
+        }
+    }
+
     @Test
     void getCommandDocumentFromClientBulkWrite() {
         MongoNamespace ns = new MongoNamespace("db", "test");
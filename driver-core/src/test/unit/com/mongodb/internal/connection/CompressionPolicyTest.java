@@ -0,0 +1,103 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.CompressionSettings;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CompressionListener;
+import com.mongodb.event.MessageCompressedEvent;
+import com.mongodb.event.MessageCompressionSkippedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionPolicyTest {
+    private static final ConnectionId CONNECTION_ID = new ConnectionId(new ServerId(new ClusterId(), new ServerAddress()));
+
+    @Test
+    void shouldCompressEverythingByDefault() {
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder().build());
+        assertTrue(policy.shouldCompress(CONNECTION_ID, "find", 1));
+        for (int i = 0; i < 10; i++) {
+            policy.compressed(CONNECTION_ID, "insert", 100, 200);
+            assertTrue(policy.shouldCompress(CONNECTION_ID, "insert", 100));
+        }
+    }
+
+    @Test
+    void shouldSkipMessagesBelowMinimumSize() {
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder().minimumMessageSize(1024).build());
+        assertFalse(policy.shouldCompress(CONNECTION_ID, "find", 1023));
+        assertTrue(policy.shouldCompress(CONNECTION_ID, "find", 1024));
+    }
+
+    @Test
+    void shouldBackOffPerCommandWhenRatioIsPoor() {
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder()
+                .maximumCompressionRatio(0.9)
+                .backOffMessageCount(3)
+                .build());
+
+        assertTrue(policy.shouldCompress(CONNECTION_ID, "insert", 1000));
+        policy.compressed(CONNECTION_ID, "insert", 1000, 990);
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(policy.shouldCompress(CONNECTION_ID, "insert", 1000));
+            assertTrue(policy.shouldCompress(CONNECTION_ID, "find", 1000));
+        }
+        assertTrue(policy.shouldCompress(CONNECTION_ID, "insert", 1000));
+        policy.compressed(CONNECTION_ID, "insert", 1000, 100);
+        assertTrue(policy.shouldCompress(CONNECTION_ID, "insert", 1000));
+    }
+
+    @Test
+    void shouldNotifyListeners() {
+        List<Object> events = new ArrayList<>();
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder()
+                .minimumMessageSize(100)
+                .addCompressionListener(new CompressionListener() {
+                    @Override
+                    public void messageCompressed(final MessageCompressedEvent event) {
+                        events.add(event);
+                    }
+
+                    @Override
+                    public void messageCompressionSkipped(final MessageCompressionSkippedEvent event) {
+                        events.add(event);
+                    }
+                })
+                .build());
+
+        policy.shouldCompress(CONNECTION_ID, "find", 10);
+        policy.compressed(CONNECTION_ID, "insert", 1000, 400);
+
+        assertEquals(2, events.size());
+        MessageCompressionSkippedEvent skippedEvent = (MessageCompressionSkippedEvent) events.get(0);
+        assertEquals("find", skippedEvent.getCommandName());
+        assertEquals(10, skippedEvent.getMessageSize());
+        MessageCompressedEvent compressedEvent = (MessageCompressedEvent) events.get(1);
+        assertEquals("insert", compressedEvent.getCommandName());
+        assertEquals(600, compressedEvent.getBytesSaved());
+    }
+}
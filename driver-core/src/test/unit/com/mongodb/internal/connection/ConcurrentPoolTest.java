@@ -18,17 +18,29 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.internal.thread.VirtualThreads;
+import com.mongodb.lang.Nullable;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 public class ConcurrentPoolTest {
     private ConcurrentPool<TestCloseable> pool;
@@ -159,6 +171,24 @@ public class ConcurrentPoolTest {
         assertEquals(3, pool.getAvailableCount());
     }
 
+    @Test
+    public void testConcurrentEnsureMinSizeDoesNotExceedMinSize() throws InterruptedException {
+        TestItemFactory itemFactory = new TestItemFactory();
+        pool = new ConcurrentPool<>(10, itemFactory);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> pool.ensureMinSize(3, pool::release)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(3, itemFactory.createdCount.get());
+        assertEquals(3, pool.getAvailableCount());
+    }
+
     @Test
     public void whenEnsuringMinSizeShouldNotInitializePooledItemIfNotRequested() {
         pool = new ConcurrentPool<>(3, new TestItemFactory());
@@ -220,8 +250,308 @@ public class ConcurrentPoolTest {
         assertFalse(t4.isClosed());
     }
 
+    @Test
+    public void testStripedPoolReusesItemReleasedByAnotherThread() throws InterruptedException {
+        TestItemFactory itemFactory = new TestItemFactory();
+        pool = new ConcurrentPool<>(1, itemFactory, "The pool is closed", 4, false);
+
+        TestCloseable closeable = pool.get();
+        Thread releasingThread = new Thread(() -> pool.release(closeable));
+        releasingThread.start();
+        releasingThread.join();
+
+        assertEquals(1, pool.getAvailableCount());
+        assertSame(closeable, pool.get(0, MILLISECONDS));
+        assertEquals(1, itemFactory.createdCount.get());
+    }
+
+    @Test
+    public void testStripedPoolAddsItemToStripeOfItsIoThread() throws InterruptedException {
+        int stripes = 4;
+        pool = new ConcurrentPool<>(2, new TestItemFactory(), "The pool is closed", stripes, false, true);
+
+        AtomicReference<TestCloseable> gotByIoThread = new AtomicReference<>();
+        Thread ioThread = new Thread(() -> gotByIoThread.set(pool.get(0, MILLISECONDS)));
+        while (ioThread.getId() % stripes == Thread.currentThread().getId() % stripes) {
+            ioThread = new Thread(() -> gotByIoThread.set(pool.get(0, MILLISECONDS)));
+        }
+        TestCloseable boundToIoThread = pool.get();
+        TestCloseable unbound = pool.get();
+        boundToIoThread.ioThread = ioThread;
+        pool.release(boundToIoThread);
+        pool.release(unbound);
+        ioThread.start();
+        ioThread.join();
+
+        assertSame(boundToIoThread, gotByIoThread.get());
+        assertSame(unbound, pool.get(0, MILLISECONDS));
+    }
+
+    @Test
+    public void testStripedPoolPruneAndClose() throws InterruptedException {
+        pool = new ConcurrentPool<>(4, new TestItemFactory(), "The pool is closed", 4, false);
+
+        List<TestCloseable> closeables = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            closeables.add(pool.get());
+        }
+        closeables.get(0).shouldPrune = true;
+        closeables.get(1).shouldPrune = true;
+        List<Thread> releasingThreads = new ArrayList<>();
+        for (TestCloseable closeable : closeables) {
+            Thread releasingThread = new Thread(() -> pool.release(closeable));
+            releasingThreads.add(releasingThread);
+            releasingThread.start();
+        }
+        for (Thread releasingThread : releasingThreads) {
+            releasingThread.join();
+        }
+
+        pool.prune();
+        assertEquals(2, pool.getAvailableCount());
+        assertTrue(closeables.get(0).isClosed());
+        assertTrue(closeables.get(1).isClosed());
+        assertFalse(closeables.get(2).isClosed());
+        assertFalse(closeables.get(3).isClosed());
+
+        pool.close();
+        assertEquals(0, pool.getAvailableCount());
+        assertTrue(closeables.get(2).isClosed());
+        assertTrue(closeables.get(3).isClosed());
+    }
+
+    @Test
+    public void testStripedPoolDoesNotExceedMaxSizeUnderConcurrentUse() throws InterruptedException {
+        int maxSize = 4;
+        TestItemFactory itemFactory = new TestItemFactory();
+        pool = new ConcurrentPool<>(maxSize, itemFactory, "The pool is closed", 3, false);
+
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    TestCloseable closeable = pool.get();
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    inUse.decrementAndGet();
+                    pool.release(closeable);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(maxInUse.get() <= maxSize);
+        assertTrue(itemFactory.createdCount.get() <= maxSize);
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(itemFactory.createdCount.get(), pool.getAvailableCount());
+    }
+
+    @Test
+    public void testReleaseWakesUpWaitingThread() throws InterruptedException {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+
+        TestCloseable closeable = pool.get();
+        AtomicReference<TestCloseable> acquired = new AtomicReference<>();
+        Thread waitingThread = new Thread(() -> acquired.set(pool.get(1, MINUTES)));
+        waitingThread.start();
+        while (waitingThread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        pool.release(closeable);
+        waitingThread.join();
+
+        assertSame(closeable, acquired.get());
+    }
+
+    @Test
+    public void testThreadAffinityPrefersItemReleasedLastByCurrentThread() throws InterruptedException {
+        pool = new ConcurrentPool<>(3, new TestItemFactory(), "The pool is closed", 1, true);
+
+        TestCloseable c1 = pool.get();
+        TestCloseable c2 = pool.get();
+        pool.release(c1);
+        Thread releasingThread = new Thread(() -> pool.release(c2));
+        releasingThread.start();
+        releasingThread.join();
+
+        assertSame(c1, pool.get());
+        assertSame(c2, pool.get());
+    }
+
+    @Test
+    public void testThreadAffinityFallsBackToAnyItemIfLastReleasedIsPruned() throws InterruptedException {
+        pool = new ConcurrentPool<>(3, new TestItemFactory(), "The pool is closed", 1, true);
+
+        TestCloseable c1 = pool.get();
+        TestCloseable c2 = pool.get();
+        c1.shouldPrune = true;
+        pool.release(c1);
+        Thread releasingThread = new Thread(() -> pool.release(c2));
+        releasingThread.start();
+        releasingThread.join();
+        pool.prune();
+
+        assertTrue(c1.isClosed());
+        assertSame(c2, pool.get());
+    }
+
+    @Test
+    public void testVirtualThreadsWaitingForItemsDoNotPinCarrierThreads() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported());
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        TestCloseable item = pool.get();
+        // more waiters than carrier threads, so that if waiting pinned carriers, the releasing thread would never run
+        int waiters = Runtime.getRuntime().availableProcessors() * 4;
+        CountDownLatch done = new CountDownLatch(waiters);
+        for (int i = 0; i < waiters; i++) {
+            VirtualThreads.newUnstartedThread(() -> {
+                pool.release(pool.get());
+                done.countDown();
+            }, "waiter-" + i).start();
+        }
+        Thread.sleep(100);
+        VirtualThreads.newUnstartedThread(() -> pool.release(item), "releaser").start();
+
+        assertTrue(done.await(1, MINUTES));
+    }
+
+    @Test
+    public void testGetAsyncCompletesImmediatelyIfItemAvailable() {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        TestCloseable closeable = pool.get();
+        pool.release(closeable);
+
+        AsyncResult result = new AsyncResult();
+        assertTrue(pool.getAsync(result).isCompleted());
+
+        assertSame(closeable, result.item.get());
+        assertNull(result.failure.get());
+    }
+
+    @Test
+    public void testGetAsyncIsCompletedByRelease() {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        TestCloseable closeable = pool.get();
+
+        AsyncResult first = new AsyncResult();
+        AsyncResult second = new AsyncResult();
+        ConcurrentPool<TestCloseable>.AsyncGet firstGet = pool.getAsync(first);
+        ConcurrentPool<TestCloseable>.AsyncGet secondGet = pool.getAsync(second);
+        assertFalse(firstGet.isCompleted());
+        assertFalse(secondGet.isCompleted());
+
+        pool.release(closeable);
+        assertSame(closeable, first.item.get());
+        assertFalse(secondGet.isCompleted());
+
+        pool.release(first.item.get());
+        assertSame(closeable, second.item.get());
+        assertEquals(1, pool.getInUseCount());
+    }
+
+    @Test
+    public void testFailedGetAsyncDoesNotConsumeItem() {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        TestCloseable closeable = pool.get();
+
+        AsyncResult result = new AsyncResult();
+        ConcurrentPool<TestCloseable>.AsyncGet get = pool.getAsync(result);
+        MongoTimeoutException timeout = new MongoTimeoutException("timed out");
+        assertTrue(get.fail(timeout));
+        assertFalse(get.fail(new MongoTimeoutException("timed out again")));
+        assertSame(timeout, result.failure.get());
+
+        pool.release(closeable);
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(1, pool.getAvailableCount());
+        assertNull(result.item.get());
+    }
+
+    @Test
+    public void testGetAsyncFailsWhenPoolClosedOrPaused() {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        pool.get();
+
+        AsyncResult queuedBeforePause = new AsyncResult();
+        pool.getAsync(queuedBeforePause);
+        MongoException pauseCause = new MongoException("paused");
+        pool.pause(() -> pauseCause);
+        assertNull(queuedBeforePause.failure.get());
+        pool.signalPaused();
+        assertSame(pauseCause, queuedBeforePause.failure.get());
+
+        AsyncResult whilePaused = new AsyncResult();
+        pool.getAsync(whilePaused);
+        assertSame(pauseCause, whilePaused.failure.get());
+
+        pool.ready();
+        AsyncResult queuedBeforeClose = new AsyncResult();
+        pool.getAsync(queuedBeforeClose);
+        pool.close();
+        assertTrue(ConcurrentPool.isPoolClosedException(queuedBeforeClose.failure.get()));
+        assertNull(queuedBeforeClose.item.get());
+    }
+
+    @Test
+    public void testGetAsyncReleasesPermitIfCreateFails() {
+        pool = new ConcurrentPool<>(1, new TestItemFactory(true));
+
+        AsyncResult result = new AsyncResult();
+        pool.getAsync(result);
+
+        assertTrue(result.failure.get() instanceof MongoException);
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    public void testGetAsyncDoesNotExceedMaxSizeUnderConcurrentUse() throws InterruptedException {
+        int maxSize = 4;
+        int gets = 20_000;
+        TestItemFactory itemFactory = new TestItemFactory();
+        pool = new ConcurrentPool<>(maxSize, itemFactory, "The pool is closed", 3, false);
+
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(gets);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < gets / 8; j++) {
+                    pool.getAsync((closeable, failure) -> {
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        inUse.decrementAndGet();
+                        pool.release(closeable);
+                        done.countDown();
+                    });
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        assertTrue(done.await(1, MINUTES));
+        assertTrue(maxInUse.get() <= maxSize);
+        assertTrue(itemFactory.createdCount.get() <= maxSize);
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    private static final class AsyncResult implements BiConsumer<TestCloseable, RuntimeException> {
+        private final AtomicReference<TestCloseable> item = new AtomicReference<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        @Override
+        public void accept(final TestCloseable closeable, final RuntimeException e) {
+            item.set(closeable);
+            failure.set(e);
+        }
+    }
+
     class TestItemFactory implements ConcurrentPool.ItemFactory<TestCloseable> {
         private final boolean shouldThrowOnCreate;
+        private final AtomicInteger createdCount = new AtomicInteger();
 
         TestItemFactory() {
             this(false);
@@ -236,6 +566,7 @@ public class ConcurrentPoolTest {
             if (shouldThrowOnCreate) {
                 throw new MongoException("This is a journey");
             }
+            createdCount.incrementAndGet();
             return new TestCloseable();
         }
 
@@ -248,12 +579,20 @@ public class ConcurrentPoolTest {
         public boolean shouldPrune(final TestCloseable testCloseable) {
             return testCloseable.shouldPrune();
         }
+
+        @Override
+        @Nullable
+        public Thread ioThread(final TestCloseable testCloseable) {
+            return testCloseable.ioThread;
+        }
     }
 
     static class TestCloseable implements Closeable {
         private boolean closed;
         private boolean shouldPrune;
         private boolean initialized;
+        @Nullable
+        private Thread ioThread;
 
         TestCloseable() {
         }
@@ -66,7 +66,8 @@ class DefaultDnsSrvRecordMonitorSpecification extends Specification {
         def dnsResolver = Mock(DnsResolver) {
             _ * resolveHostFromSrvRecords(hostName, srvServiceName) >>> [expectedResolvedHostsOne, expectedResolvedHostsTwo]
         }
-        def monitor = new DefaultDnsSrvRecordMonitor(hostName, srvServiceName, 1, 1, dnsSrvRecordInitializer, new ClusterId(), dnsResolver)
+        def monitor = new DefaultDnsSrvRecordMonitor(hostName, srvServiceName, 1, 1, dnsSrvRecordInitializer, new ClusterId(), dnsResolver,
+                useSharedMonitorScheduler, false)
 
         when:
         monitor.start()
@@ -78,6 +79,9 @@ class DefaultDnsSrvRecordMonitorSpecification extends Specification {
 
         cleanup:
         monitor.close()
+
+        where:
+        useSharedMonitorScheduler << [false, true]
     }
 
     def 'should initialize listener with exception'() {
@@ -61,6 +61,7 @@ class JMXConnectionPoolListenerSpecification extends Specification {
             maxSize == 5
             size == 2
             checkedOutCount == 1
+            tlsSessionResumedCount == 0
         }
 
         cleanup:
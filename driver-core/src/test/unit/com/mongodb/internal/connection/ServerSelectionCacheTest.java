@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerConnectionState;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.mockito.MongoMockito;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.selector.ServerAddressSelector;
+import com.mongodb.internal.selector.WritableServerSelector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+final class ServerSelectionCacheTest {
+    private static final ServerAddress SERVER_ADDRESS_A = new ServerAddress("a");
+    private static final ServerAddress SERVER_ADDRESS_B = new ServerAddress("b");
+
+    @Test
+    void cacheKey() {
+        assertAll(
+                () -> assertEquals(ReadPreference.secondary(),
+                        ServerSelectionCache.cacheKey(new ReadPreferenceServerSelector(ReadPreference.secondary()))),
+                () -> assertEquals(ServerSelectionCache.cacheKey(new WritableServerSelector()),
+                        ServerSelectionCache.cacheKey(new WritableServerSelector())),
+                () -> assertNull(ServerSelectionCache.cacheKey(new ServerAddressSelector(SERVER_ADDRESS_A)))
+        );
+    }
+
+    @Test
+    void getCandidatesComputesOncePerClusterDescription() {
+        ServerSelectionCache cache = new ServerSelectionCache();
+        ClusterDescription clusterDescription = clusterDescription();
+        List<ServerDescription> candidates = singletonList(serverDescription(SERVER_ADDRESS_A));
+        AtomicInteger computeCount = new AtomicInteger();
+
+        assertSame(candidates, cache.getCandidates(ReadPreference.primary(), clusterDescription, () -> {
+            computeCount.incrementAndGet();
+            return candidates;
+        }));
+        assertSame(candidates, cache.getCandidates(ReadPreference.primary(), clusterDescription, () -> {
+            computeCount.incrementAndGet();
+            return candidates;
+        }));
+        assertEquals(1, computeCount.get());
+
+        cache.getCandidates(ReadPreference.primary(), clusterDescription(), () -> {
+            computeCount.incrementAndGet();
+            return candidates;
+        });
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    void getCandidatesDoesNotCacheNull() {
+        ServerSelectionCache cache = new ServerSelectionCache();
+        ClusterDescription clusterDescription = clusterDescription();
+        AtomicInteger computeCount = new AtomicInteger();
+
+        assertNull(cache.getCandidates(ReadPreference.primary(), clusterDescription, () -> {
+            computeCount.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.getCandidates(ReadPreference.primary(), clusterDescription, () -> {
+            computeCount.incrementAndGet();
+            return null;
+        }));
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    void selectServerPicksLessLoadedOfTwo() {
+        Server serverA = MongoMockito.mock(Server.class, server -> when(server.operationCount()).thenReturn(5));
+        Server serverB = MongoMockito.mock(Server.class, server -> when(server.operationCount()).thenReturn(1));
+        Cluster.ServersSnapshot serversSnapshot = serverAddress -> serverAddress.equals(SERVER_ADDRESS_A) ? serverA : serverB;
+        List<ServerDescription> candidates = asList(serverDescription(SERVER_ADDRESS_A), serverDescription(SERVER_ADDRESS_B));
+
+        for (int i = 0; i < 10; i++) {
+            ServerTuple serverTuple = ServerSelectionCache.selectServer(candidates, serversSnapshot);
+            assertSame(serverB, serverTuple.getServer());
+            assertEquals(SERVER_ADDRESS_B, serverTuple.getServerDescription().getAddress());
+        }
+        assertSame(serverA, ServerSelectionCache.selectServer(candidates.subList(0, 1), serversSnapshot).getServer());
+        assertNull(ServerSelectionCache.selectServer(emptyList(), serversSnapshot));
+    }
+
+    private static ClusterDescription clusterDescription() {
+        return new ClusterDescription(ClusterConnectionMode.MULTIPLE, ClusterType.REPLICA_SET,
+                asList(serverDescription(SERVER_ADDRESS_A), serverDescription(SERVER_ADDRESS_B)));
+    }
+
+    private static ServerDescription serverDescription(final ServerAddress serverAddress) {
+        return ServerDescription.builder()
+                .state(ServerConnectionState.CONNECTED)
+                .ok(true)
+                .address(serverAddress)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.internal.bulk.InsertRequest;
+import com.mongodb.internal.bulk.WriteRequestWithIndex;
+import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.mongodb.internal.connection.SplittablePayload.Type.INSERT;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SplittablePayloadTest {
+    @Test
+    void shouldNotEncodeRetainedDocumentsAgain() {
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(2), true, NoOpFieldNameValidator.INSTANCE, true);
+
+        BsonDocument first = payload.getPayload().get(0);
+        BsonDocument second = payload.getPayload().get(1);
+
+        assertTrue(first instanceof RawBsonDocument);
+        assertSame(first, payload.getPayload().get(0));
+        assertEquals(new BsonInt32(1), first.get("a"));
+        assertNotNull(first.get("_id"));
+        assertEquals(first.get("_id"), payload.getInsertedIds().get(0));
+        assertEquals(second.get("_id"), payload.getInsertedIds().get(1));
+    }
+
+    @Test
+    void nextSplitShouldReuseRetainedDocumentsAndTheirIds() {
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(2), true, NoOpFieldNameValidator.INSTANCE, true);
+        BsonDocument second = payload.getPayload().get(1);
+        BsonValue secondId = payload.getInsertedIds().get(1);
+        payload.setPosition(1);
+
+        SplittablePayload nextSplit = payload.getNextSplit();
+
+        assertSame(second, nextSplit.getPayload().get(0));
+        assertEquals(secondId, nextSplit.getInsertedIds().get(1));
+    }
+
+    @Test
+    void shouldNotRetainDocumentsByDefault() {
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(1), true, NoOpFieldNameValidator.INSTANCE);
+
+        assertFalse(payload.getPayload().get(0) instanceof RawBsonDocument);
+    }
+
+    @Test
+    void shouldPassRawInsertDocumentsThrough() {
+        RawBsonDocument document = RawBsonDocument.parse("{a: 1}");
+        SplittablePayload payload = new SplittablePayload(INSERT,
+                singletonList(new WriteRequestWithIndex(new InsertRequest(document), 0)), true, NoOpFieldNameValidator.INSTANCE, true);
+
+        assertSame(document, payload.getPayload().get(0));
+        assertTrue(payload.getInsertedIds().containsKey(0));
+        assertNull(payload.getInsertedIds().get(0));
+    }
+
+    @Test
+    void shouldUseDocumentsEncodedAheadAndTheirIds() {
+        int count = 1000;
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(count), true, NoOpFieldNameValidator.INSTANCE, true);
+        payload.encodeAhead(4, Integer.MAX_VALUE);
+
+        Set<BsonValue> ids = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            BsonDocument document = payload.getPayload().get(i);
+            assertTrue(document instanceof RawBsonDocument);
+            assertEquals(new BsonInt32(i + 1), document.get("a"));
+            assertEquals(document.get("_id"), payload.getInsertedIds().get(i));
+            ids.add(document.get("_id"));
+        }
+        assertEquals(count, ids.size());
+    }
+
+    @Test
+    void shouldNotEncodeAheadDocumentsAlreadySent() {
+        int count = 1000;
+        List<Runnable> tasks = new ArrayList<>();
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(count), true, NoOpFieldNameValidator.INSTANCE, true);
+        payload.encodeAhead(2, Integer.MAX_VALUE, tasks::add);
+        payload.setPosition(600);
+        SplittablePayload nextSplit = payload.getNextSplit();
+        nextSplit.setPosition(100);
+        nextSplit.getNextSplit();
+
+        tasks.forEach(Runnable::run);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i >= 700, payload.isRetained(i));
+        }
+    }
+
+    @Test
+    void shouldNotEncodeAheadOnceStopped() {
+        int count = 1000;
+        List<Runnable> tasks = new ArrayList<>();
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(count), true, NoOpFieldNameValidator.INSTANCE, true);
+        payload.encodeAhead(2, Integer.MAX_VALUE, tasks::add);
+        payload.setPosition(600);
+        payload.getNextSplit().stopEncodingAhead();
+
+        tasks.forEach(Runnable::run);
+
+        for (int i = 0; i < count; i++) {
+            assertFalse(payload.isRetained(i));
+        }
+    }
+
+    @Test
+    void shouldPauseEncodingAheadUntilDocumentsAreSent() {
+        int count = 1000;
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        SplittablePayload payload = new SplittablePayload(INSERT, insertRequests(count), true, NoOpFieldNameValidator.INSTANCE, true);
+        // a chunk of documents is claimed as long as the documents not yet sent are fewer than the maximum bytes
+        payload.encodeAhead(2, 1, tasks::add);
+
+        runAll(tasks);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i < 64, payload.isRetained(i));
+        }
+
+        payload.setPosition(64);
+        payload.getNextSplit();
+        runAll(tasks);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i >= 64 && i < 128, payload.isRetained(i));
+        }
+    }
+
+    private static void runAll(final Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static List<WriteRequestWithIndex> insertRequests(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new WriteRequestWithIndex(new InsertRequest(new BsonDocument("a", new BsonInt32(i + 1))), i))
+                .collect(Collectors.toList());
+    }
+
+    private SplittablePayloadTest() {
+    }
+}
@@ -165,4 +165,9 @@ public class TestConnectionPool implements ConnectionPool {
     public int getGeneration() {
        return generation;
     }
+
+    @Override
+    public boolean shouldPrune(final InternalConnection connection) {
+        return false;
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
+import org.bson.codecs.Decoder;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.ClusterFixture.OPERATION_CONTEXT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnacknowledgedWriteChannelTest {
+    private final FakeConnectionPool pool = new FakeConnectionPool();
+    private final UnacknowledgedWriteChannel channel = new UnacknowledgedWriteChannel(pool, 0);
+
+    @Test
+    void shouldShareReservedConnection() {
+        InternalConnection first = channel.get(OPERATION_CONTEXT);
+        InternalConnection second = channel.get(OPERATION_CONTEXT);
+        first.sendAndReceive(null, null, OPERATION_CONTEXT);
+        second.sendAndReceive(null, null, OPERATION_CONTEXT);
+        first.close();
+        second.close();
+        channel.get(OPERATION_CONTEXT).close();
+
+        assertEquals(1, pool.checkedOut.size());
+        FakeConnection reserved = pool.checkedOut.get(0);
+        assertEquals(2, reserved.sent.size());
+        assertFalse(reserved.returnedToPool);
+        assertTrue(first.isClosed());
+        assertThrows(IllegalStateException.class, () -> first.sendAndReceive(null, null, OPERATION_CONTEXT));
+    }
+
+    @Test
+    void shouldReplaceClosedConnection() {
+        channel.get(OPERATION_CONTEXT).close();
+        FakeConnection reserved = pool.checkedOut.get(0);
+        reserved.closedByNetworkError = true;
+
+        channel.get(OPERATION_CONTEXT).close();
+
+        assertEquals(2, pool.checkedOut.size());
+        assertTrue(reserved.returnedToPool);
+    }
+
+    @Test
+    void shouldReturnStaleConnectionToPoolOnceNotUsed() {
+        InternalConnection lease = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+        pool.invalidate(null);
+
+        channel.get(OPERATION_CONTEXT).close();
+        assertEquals(2, pool.checkedOut.size());
+        assertFalse(reserved.returnedToPool);
+
+        lease.close();
+        assertTrue(reserved.returnedToPool);
+    }
+
+    @Test
+    void shouldReplaceConnectionThePoolWouldPrune() {
+        InternalConnection lease = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+        reserved.perished = true;
+
+        channel.get(OPERATION_CONTEXT).close();
+        assertEquals(2, pool.checkedOut.size());
+        assertFalse(reserved.returnedToPool);
+
+        lease.close();
+        assertTrue(reserved.returnedToPool);
+    }
+
+    @Test
+    void shouldReturnConnectionThePoolWouldPruneToPoolWithoutWrites() throws InterruptedException {
+        UnacknowledgedWriteChannel pruningChannel = new UnacknowledgedWriteChannel(pool, 10);
+        pruningChannel.get(OPERATION_CONTEXT).close();
+        FakeConnection reserved = pool.checkedOut.get(0);
+        Thread.sleep(50);
+        assertFalse(reserved.returnedToPool);
+
+        reserved.perished = true;
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!reserved.returnedToPool && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(reserved.returnedToPool);
+        pruningChannel.close();
+    }
+
+    @Test
+    void shouldReturnConnectionToPoolWhenClosed() {
+        channel.getAsync(OPERATION_CONTEXT, (result, t) -> {
+            assertNull(t);
+            result.close();
+        });
+        FakeConnection reserved = pool.checkedOut.get(0);
+
+        channel.close();
+        assertTrue(reserved.returnedToPool);
+
+        channel.get(OPERATION_CONTEXT).close();
+        assertEquals(2, pool.checkedOut.size());
+        assertTrue(pool.checkedOut.get(1).returnedToPool);
+    }
+
+    @Test
+    void shouldSendOneCommandAtATimeInArrivalOrder() {
+        List<String> completed = new ArrayList<>();
+        InternalConnection first = channel.get(OPERATION_CONTEXT);
+        InternalConnection second = channel.get(OPERATION_CONTEXT);
+        InternalConnection third = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+
+        first.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> completed.add("first"));
+        second.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> completed.add("second"));
+        third.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> completed.add("third"));
+        assertEquals(1, reserved.pendingCallbacks.size());
+
+        reserved.completeNext();
+        assertEquals(1, reserved.pendingCallbacks.size());
+        reserved.completeNext();
+        reserved.completeNext();
+
+        assertEquals(asList("first", "second", "third"), completed);
+        assertEquals(3, reserved.sent.size());
+    }
+
+    @Test
+    void shouldBlockSynchronousSendWhileAsynchronousSendIsInProgress() throws InterruptedException {
+        InternalConnection first = channel.get(OPERATION_CONTEXT);
+        InternalConnection second = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+        first.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> { });
+
+        CountDownLatch sent = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            second.sendAndReceive(null, null, OPERATION_CONTEXT);
+            sent.countDown();
+        });
+        thread.start();
+        assertFalse(sent.await(100, TimeUnit.MILLISECONDS));
+
+        reserved.completeNext();
+        assertTrue(sent.await(10, TimeUnit.SECONDS));
+        thread.join();
+        assertEquals(2, reserved.sent.size());
+    }
+
+    @Test
+    void shouldTimeOutWaitingSynchronouslyAndNotHoldUpOthers() {
+        InternalConnection first = channel.get(OPERATION_CONTEXT);
+        InternalConnection second = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+        first.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> { });
+
+        assertThrows(MongoOperationTimeoutException.class, () -> second.sendAndReceive(null, null, operationContextWithTimeout(50)));
+
+        reserved.completeNext();
+        second.sendAndReceive(null, null, OPERATION_CONTEXT);
+        assertEquals(2, reserved.sent.size());
+    }
+
+    @Test
+    void shouldTimeOutWaitingAsynchronouslyAndNotHoldUpOthers() throws Exception {
+        InternalConnection first = channel.get(OPERATION_CONTEXT);
+        InternalConnection second = channel.get(OPERATION_CONTEXT);
+        FakeConnection reserved = pool.checkedOut.get(0);
+        first.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> { });
+
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        second.sendAndReceiveAsync(null, null, operationContextWithTimeout(50), (result, t) -> failure.complete(t));
+        assertTrue(failure.get(10, TimeUnit.SECONDS) instanceof MongoOperationTimeoutException);
+
+        reserved.completeNext();
+        List<String> completed = new ArrayList<>();
+        second.sendAndReceiveAsync(null, null, OPERATION_CONTEXT, (result, t) -> completed.add("second"));
+        reserved.completeNext();
+        assertEquals(singletonList("second"), completed);
+        assertEquals(2, reserved.sent.size());
+    }
+
+    private static OperationContext operationContextWithTimeout(final long timeoutMS) {
+        return OperationContext.simpleOperationContext(new TimeoutContext(TimeoutSettings.DEFAULT.withTimeout(timeoutMS,
+                TimeUnit.MILLISECONDS)));
+    }
+
+    private static final class FakeConnectionPool implements ConnectionPool {
+        private final List<FakeConnection> checkedOut = new ArrayList<>();
+        private int generation;
+
+        @Override
+        public InternalConnection get(final OperationContext operationContext) {
+            FakeConnection connection = new FakeConnection(generation);
+            checkedOut.add(connection);
+            return connection;
+        }
+
+        @Override
+        public void getAsync(final OperationContext operationContext, final SingleResultCallback<InternalConnection> callback) {
+            callback.onResult(get(operationContext), null);
+        }
+
+        @Override
+        public void invalidate(@Nullable final Throwable cause) {
+            generation++;
+        }
+
+        @Override
+        public void invalidate(final ObjectId serviceId, final int generation) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void ready() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int getGeneration() {
+            return generation;
+        }
+
+        @Override
+        public boolean shouldPrune(final InternalConnection connection) {
+            return ((FakeConnection) connection).perished;
+        }
+    }
+
+    private static final class FakeConnection implements InternalConnection {
+        private final int generation;
+        private final List<CommandMessage> sent = new ArrayList<>();
+        private final List<SingleResultCallback<Object>> pendingCallbacks = new ArrayList<>();
+        private boolean closedByNetworkError;
+        private volatile boolean perished;
+        private volatile boolean returnedToPool;
+
+        FakeConnection(final int generation) {
+            this.generation = generation;
+        }
+
+        void completeNext() {
+            pendingCallbacks.remove(0).onResult(null, null);
+        }
+
+        @Override
+        public ConnectionDescription getDescription() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerDescription getInitialServerDescription() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void open(final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void openAsync(final OperationContext operationContext, final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            assertFalse(returnedToPool);
+            returnedToPool = true;
+        }
+
+        @Override
+        public boolean opened() {
+            return true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closedByNetworkError || returnedToPool;
+        }
+
+        @Override
+        public int getGeneration() {
+            return generation;
+        }
+
+        @Override
+        public ByteBuf getBuffer(final int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            sent.add(message);
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> void sendAndReceiveAsync(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            sent.add(message);
+            pendingCallbacks.add((SingleResultCallback<Object>) callback);
+        }
+
+        @Override
+        public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return false;
+        }
+
+        @Override
+        public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResponseBuffers receiveMessage(final int responseTo, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessageAsync(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext,
+                final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void receiveMessageAsync(final int responseTo, final OperationContext operationContext,
+                final SingleResultCallback<ResponseBuffers> callback) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.connection.WriteBudgetSettings;
+import com.mongodb.event.WriteBudgetListener;
+import com.mongodb.event.WriteBudgetWaitedEvent;
+import com.mongodb.internal.time.Timeout;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static com.mongodb.internal.time.Timeout.ZeroSemantics.ZERO_DURATION_MEANS_EXPIRED;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBudgetTest {
+    private static final ConnectionId CONNECTION_ID = new ConnectionId(new ServerId(new ClusterId(), new ServerAddress()));
+
+    @Test
+    void shouldNotBeCappedByDefault() {
+        assertFalse(new WriteBudget(WriteBudgetSettings.builder().build()).isCapped());
+    }
+
+    @Test
+    void shouldRunAsyncAcquisitionsInOrderOnceBytesAreReleased() {
+        List<WriteBudgetWaitedEvent> events = new ArrayList<>();
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder()
+                .maxUnacknowledgedBytes(100)
+                .addWriteBudgetListener(new WriteBudgetListener() {
+                    @Override
+                    public void writeBudgetWaited(final WriteBudgetWaitedEvent event) {
+                        events.add(event);
+                    }
+                })
+                .build());
+        List<String> acquired = new ArrayList<>();
+
+        budget.acquireAsync(CONNECTION_ID, 60, null, (result, t) -> acquired.add("first"));
+        budget.acquireAsync(CONNECTION_ID, 60, null, (result, t) -> acquired.add("second"));
+        // the third fits, but must not overtake the second
+        budget.acquireAsync(CONNECTION_ID, 10, null, (result, t) -> acquired.add("third"));
+        assertEquals(singletonList("first"), acquired);
+        assertEquals(60, budget.getUnacknowledgedBytes());
+        assertTrue(events.isEmpty());
+
+        budget.release(60);
+        assertEquals(asList("first", "second", "third"), acquired);
+        assertEquals(70, budget.getUnacknowledgedBytes());
+        assertEquals(2, events.size());
+        assertEquals(60, events.get(0).getMessageSize());
+        assertEquals(CONNECTION_ID, events.get(0).getConnectionId());
+    }
+
+    @Test
+    void shouldAcquireMessageLargerThanTheCapWhenNoBytesAreAcquired() {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        List<String> acquired = new ArrayList<>();
+
+        budget.acquire(CONNECTION_ID, 50, null);
+        budget.acquireAsync(CONNECTION_ID, 1000, null, (result, t) -> acquired.add("large"));
+        assertTrue(acquired.isEmpty());
+
+        budget.release(50);
+        assertEquals(singletonList("large"), acquired);
+        assertEquals(1000, budget.getUnacknowledgedBytes());
+    }
+
+    @Test
+    void shouldGrantWaitersOnceAcquiredBytesAreResizedDown() {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        List<String> acquired = new ArrayList<>();
+
+        budget.acquireAsync(CONNECTION_ID, 100, null, (result, t) -> acquired.add("first"));
+        budget.acquireAsync(CONNECTION_ID, 100, null, (result, t) -> acquired.add("second"));
+        assertEquals(singletonList("first"), acquired);
+
+        budget.resize(100, 120);
+        assertEquals(120, budget.getUnacknowledgedBytes());
+        assertEquals(singletonList("first"), acquired);
+
+        budget.resize(120, 30);
+        assertEquals(30, budget.getUnacknowledgedBytes());
+        assertEquals(singletonList("first"), acquired);
+
+        budget.release(30);
+        assertEquals(asList("first", "second"), acquired);
+        assertEquals(100, budget.getUnacknowledgedBytes());
+    }
+
+    @Test
+    void shouldBlockUntilBytesAreReleased() throws InterruptedException {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        budget.acquire(CONNECTION_ID, 100, null);
+
+        Thread thread = new Thread(() -> budget.acquire(CONNECTION_ID, 100, null));
+        thread.start();
+        thread.join(100);
+        assertTrue(thread.isAlive());
+
+        budget.release(100);
+        thread.join();
+        assertEquals(100, budget.getUnacknowledgedBytes());
+    }
+
+    @Test
+    void shouldNotHoldUpOthersWhenInterrupted() {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        List<String> acquired = new ArrayList<>();
+        budget.acquire(CONNECTION_ID, 90, null);
+
+        Thread.currentThread().interrupt();
+        assertThrows(MongoInterruptedException.class, () -> budget.acquire(CONNECTION_ID, 100, null));
+        assertTrue(Thread.interrupted());
+
+        budget.acquireAsync(CONNECTION_ID, 10, null, (result, t) -> acquired.add("small"));
+        assertEquals(singletonList("small"), acquired);
+        assertEquals(100, budget.getUnacknowledgedBytes());
+    }
+
+    @Test
+    void shouldTimeOutWaitingAndNotHoldUpOthers() {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        List<String> acquired = new ArrayList<>();
+        budget.acquire(CONNECTION_ID, 90, null);
+
+        assertThrows(MongoOperationTimeoutException.class,
+                () -> budget.acquire(CONNECTION_ID, 100, Timeout.expiresIn(50, MILLISECONDS, ZERO_DURATION_MEANS_EXPIRED)));
+
+        budget.acquireAsync(CONNECTION_ID, 10, null, (result, t) -> acquired.add("small"));
+        assertEquals(singletonList("small"), acquired);
+        assertEquals(100, budget.getUnacknowledgedBytes());
+    }
+
+    @Test
+    void shouldTimeOutWaitingAsyncAndNotHoldUpOthers() throws InterruptedException, TimeoutException {
+        WriteBudget budget = new WriteBudget(WriteBudgetSettings.builder().maxUnacknowledgedBytes(100).build());
+        List<String> acquired = new ArrayList<>();
+        budget.acquire(CONNECTION_ID, 90, null);
+        CompletableFuture<Void> timedOut = new CompletableFuture<>();
+
+        budget.acquireAsync(CONNECTION_ID, 100, Timeout.expiresIn(50, MILLISECONDS, ZERO_DURATION_MEANS_EXPIRED), (result, t) -> {
+            if (t == null) {
+                timedOut.complete(null);
+            } else {
+                timedOut.completeExceptionally(t);
+            }
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> timedOut.get(5, SECONDS));
+        assertTrue(e.getCause() instanceof MongoOperationTimeoutException);
+        assertEquals(90, budget.getUnacknowledgedBytes());
+
+        budget.acquireAsync(CONNECTION_ID, 10, null, (result, t) -> acquired.add("small"));
+        assertEquals(singletonList("small"), acquired);
+        assertEquals(100, budget.getUnacknowledgedBytes());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.InflaterInputStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ZlibCompressorTest {
+
+    @ParameterizedTest(name = "{index}: {0} bytes")
+    @ValueSource(ints = {0, 1, 255, 1024, 1025, 100_000})
+    void shouldRoundTripWhenReusedAcrossMessages(final int size) {
+        ZlibCompressor compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+        try {
+            for (int i = 0; i < 3; i++) {
+                byte[] original = createCompressibleBytes(size, i);
+                byte[] compressed = compress(compressor, original);
+
+                assertArrayEquals(original, uncompress(compressor, compressed, size));
+            }
+        } finally {
+            compressor.close();
+        }
+    }
+
+    @Test
+    void shouldProduceStandardZlibStream() throws IOException {
+        ZlibCompressor compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor().withProperty(MongoCompressor.LEVEL, 9));
+        try {
+            byte[] original = createCompressibleBytes(10_000, 42);
+            byte[] compressed = compress(compressor, original);
+
+            ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+            try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+                byte[] scratch = new byte[256];
+                int numBytes;
+                while ((numBytes = inputStream.read(scratch)) != -1) {
+                    uncompressed.write(scratch, 0, numBytes);
+                }
+            }
+            assertArrayEquals(original, uncompressed.toByteArray());
+        } finally {
+            compressor.close();
+        }
+    }
+
+    @Test
+    void shouldThrowWhenUsedAfterClose() {
+        ZlibCompressor compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+        compress(compressor, createCompressibleBytes(100, 0));
+        compressor.close();
+        compressor.close();
+
+        assertThrows(MongoInternalException.class, () -> compress(compressor, createCompressibleBytes(100, 0)));
+    }
+
+    private static byte[] compress(final ZlibCompressor compressor, final byte[] bytes) {
+        int split = bytes.length / 3;
+        ByteBuf first = new ByteBufNIO(ByteBuffer.wrap(bytes, 0, split).slice());
+        ByteBuf second = new ByteBufNIO(ByteBuffer.wrap(bytes, split, bytes.length - split).slice());
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            compressor.compress(asList(first, second), output);
+            return output.toByteArray();
+        }
+    }
+
+    private static byte[] uncompress(final ZlibCompressor compressor, final byte[] bytes, final int uncompressedSize) {
+        ByteBuf target = new ByteBufNIO(ByteBuffer.allocate(uncompressedSize));
+        compressor.uncompress(new ByteBufNIO(ByteBuffer.wrap(bytes)), target);
+        target.flip();
+        byte[] uncompressed = new byte[target.remaining()];
+        target.get(uncompressed);
+        return uncompressed;
+    }
+
+    private static byte[] createCompressibleBytes(final int size, final long seed) {
+        Random random = new Random(seed);
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return bytes;
+    }
+}
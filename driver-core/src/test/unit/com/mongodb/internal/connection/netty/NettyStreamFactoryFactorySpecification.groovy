@@ -55,6 +55,44 @@ class NettyStreamFactoryFactorySpecification extends Specification {
         factoryFactory.getSslContext() == nettySettings.getSslContext()
     }
 
+    def 'should share the default event loop group while it is used'() {
+        given:
+        def first = NettyStreamFactoryFactory.builder()
+                .inetAddressResolver(new DefaultInetAddressResolver())
+                .nativeTransportEnabled(false)
+                .build()
+        def second = NettyStreamFactoryFactory.builder()
+                .inetAddressResolver(new DefaultInetAddressResolver())
+                .nativeTransportEnabled(false)
+                .build()
+
+        when:
+        first.close()
+        first.close()
+
+        then:
+        first.getEventLoopGroup().is(second.getEventLoopGroup())
+        first.getSocketChannelClass() == NioSocketChannel
+        !second.getEventLoopGroup().isShuttingDown()
+
+        cleanup:
+        second.close()
+    }
+
+    def 'should not share an event loop group if the socket channel class is specified'() {
+        given:
+        def factoryFactory = NettyStreamFactoryFactory.builder()
+                .inetAddressResolver(new DefaultInetAddressResolver())
+                .socketChannelClass(NioSocketChannel)
+                .build()
+
+        when:
+        factoryFactory.close()
+
+        then:
+        factoryFactory.getEventLoopGroup().isShuttingDown()
+    }
+
     @Unroll
     def 'should create the expected #description NettyStream'() {
         given:
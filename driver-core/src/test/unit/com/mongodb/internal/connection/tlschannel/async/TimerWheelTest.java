@@ -0,0 +1,76 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection.tlschannel.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TimerWheelTest {
+    @Test
+    void expiresTimeoutNotBeforeDeadline() {
+        long startNanos = System.nanoTime();
+        TimerWheel timerWheel = new TimerWheel(10, MILLISECONDS, 8, startNanos);
+        AtomicInteger expired = new AtomicInteger();
+        timerWheel.schedule(1, SECONDS, expired::incrementAndGet);
+        assertFalse(timerWheel.isEmpty());
+
+        long scheduledNanos = System.nanoTime();
+        timerWheel.expireTimeouts(scheduledNanos + MILLISECONDS.toNanos(990));
+        assertEquals(0, expired.get());
+        timerWheel.expireTimeouts(scheduledNanos + MILLISECONDS.toNanos(1020));
+        assertEquals(1, expired.get());
+        assertTrue(timerWheel.isEmpty());
+        timerWheel.expireTimeouts(scheduledNanos + SECONDS.toNanos(10));
+        assertEquals(1, expired.get());
+    }
+
+    @Test
+    void expiresOverdueTimeoutOnNextTick() {
+        long startNanos = System.nanoTime();
+        TimerWheel timerWheel = new TimerWheel(10, MILLISECONDS, 8, startNanos);
+        AtomicInteger expired = new AtomicInteger();
+        long nowNanos = startNanos + SECONDS.toNanos(1);
+        timerWheel.expireTimeouts(nowNanos);
+        timerWheel.schedule(0, MILLISECONDS, expired::incrementAndGet);
+
+        timerWheel.expireTimeouts(nowNanos + MILLISECONDS.toNanos(20));
+        assertEquals(1, expired.get());
+    }
+
+    @Test
+    void doesNotExpireCancelledTimeout() {
+        long startNanos = System.nanoTime();
+        TimerWheel timerWheel = new TimerWheel(10, MILLISECONDS, 8, startNanos);
+        AtomicInteger expired = new AtomicInteger();
+        TimerWheel.Timeout timeout = timerWheel.schedule(50, MILLISECONDS, expired::incrementAndGet);
+        timerWheel.expireTimeouts(System.nanoTime());
+
+        timeout.cancel();
+        assertTrue(timerWheel.isEmpty());
+        timerWheel.expireTimeouts(System.nanoTime() + SECONDS.toNanos(1));
+        assertEquals(0, expired.get());
+    }
+
+    private TimerWheelTest() {
+    }
+}
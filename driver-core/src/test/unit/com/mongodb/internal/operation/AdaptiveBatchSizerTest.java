@@ -0,0 +1,68 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.operation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.mongodb.internal.operation.AdaptiveBatchSizer.INITIAL_MAX_BATCH_COUNT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class AdaptiveBatchSizerTest {
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(1000);
+
+    @Test
+    void shouldDoubleUntilFirstSlowBatchAndThenIncreaseAdditively() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, MILLISECONDS);
+        assertEquals(INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+
+        sizer.onBatchExecuted(INITIAL_MAX_BATCH_COUNT, FAST, false);
+        assertEquals(2 * INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+        sizer.onBatchExecuted(2 * INITIAL_MAX_BATCH_COUNT, SLOW, false);
+        assertEquals(INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+        sizer.onBatchExecuted(INITIAL_MAX_BATCH_COUNT, FAST, false);
+        assertEquals(2 * INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+        sizer.onBatchExecuted(2 * INITIAL_MAX_BATCH_COUNT, FAST, false);
+        assertEquals(3 * INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+    }
+
+    @Test
+    void shouldHalveTheNumberOfDocumentsSentIfBatchIsSlowOrHasWriteConcernError() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, MILLISECONDS);
+
+        // a batch of large documents is limited by the maximum message size of the server
+        sizer.onBatchExecuted(40, SLOW, false);
+        assertEquals(20, sizer.getMaxBatchCount());
+        sizer.onBatchExecuted(20, FAST, true);
+        assertEquals(10, sizer.getMaxBatchCount());
+        sizer.onBatchExecuted(1, SLOW, false);
+        assertEquals(1, sizer.getMaxBatchCount());
+    }
+
+    @Test
+    void shouldNotIncreaseIfBatchIsNotLimitedByTheMaximum() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(100, MILLISECONDS);
+
+        sizer.onBatchExecuted(INITIAL_MAX_BATCH_COUNT - 1, FAST, false);
+        assertEquals(INITIAL_MAX_BATCH_COUNT, sizer.getMaxBatchCount());
+    }
+
+    private AdaptiveBatchSizerTest() {
+    }
+}
@@ -63,7 +63,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should split payloads by type when ordered'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, true,
-                WriteConcern.ACKNOWLEDGED, null, false, getWriteRequests(), operationContext, null, null)
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null, getWriteRequests(), operationContext, null, null)
         def payload = bulkWriteBatch.getPayload()
         payload.setPosition(payload.size())
 
@@ -143,7 +143,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should group payloads by type when unordered'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, false,
-                WriteConcern.MAJORITY, true, false, getWriteRequests(), operationContext, null, null)
+                WriteConcern.MAJORITY, true, false, 1, null, getWriteRequests(), operationContext, null, null)
         def payload = bulkWriteBatch.getPayload()
         payload.setPosition(payload.size())
 
@@ -195,7 +195,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should split payloads if only payload partially processed'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, false,
-                WriteConcern.ACKNOWLEDGED, null, false, getWriteRequests()[0..3], operationContext, null, null)
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null, getWriteRequests()[0..3], operationContext, null, null)
         def payload = bulkWriteBatch.getPayload()
         payload.setPosition(1)
 
@@ -238,7 +238,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should map all inserted ids'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, false,
-                WriteConcern.ACKNOWLEDGED, null, false,
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null,
                 [new InsertRequest(toBsonDocument('{_id: 0}')),
                  new InsertRequest(toBsonDocument('{_id: 1}')),
                  new InsertRequest(toBsonDocument('{_id: 2}'))
@@ -279,7 +279,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should not map inserted id with a write error'() {
         given:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, false,
-                WriteConcern.ACKNOWLEDGED, null, false,
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null,
                 [new InsertRequest(toBsonDocument('{_id: 0}')),
                  new InsertRequest(toBsonDocument('{_id: 1}')),
                  new InsertRequest(toBsonDocument('{_id: 2}'))
@@ -305,7 +305,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should not retry when at least one write is not retryable'() {
         when:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, false,
-                WriteConcern.ACKNOWLEDGED, null, true,
+                WriteConcern.ACKNOWLEDGED, null, true, 1, null,
                 [new DeleteRequest(new BsonDocument()).multi(true), new InsertRequest(new BsonDocument())], operationContext, null, null)
 
         then:
@@ -315,7 +315,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should handle operation responses'() {
         given:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, true,
-                WriteConcern.ACKNOWLEDGED, null, false, getWriteRequests()[1..1], operationContext, null, null)
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null, getWriteRequests()[1..1], operationContext, null, null)
         def writeConcernError = toBsonDocument('{ok: 1, n: 1, upserted: [{_id: 2, index: 0}]}')
 
         when:
@@ -330,7 +330,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should handle writeConcernError error responses'() {
         given:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, true,
-                WriteConcern.ACKNOWLEDGED, null, false, getWriteRequests()[0..0], operationContext, null, null)
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null, getWriteRequests()[0..0], operationContext, null, null)
         def writeConcernError = toBsonDocument('{n: 1, writeConcernError: {code: 75, errmsg: "wtimeout", errInfo: {wtimeout: "0"}}}')
 
         when:
@@ -346,7 +346,7 @@ class BulkWriteBatchSpecification extends Specification {
     def 'should handle writeErrors error responses'() {
         given:
         def bulkWriteBatch = BulkWriteBatch.createBulkWriteBatch(namespace, connectionDescription, true,
-                WriteConcern.ACKNOWLEDGED, null, false, getWriteRequests()[0..0], operationContext, null, null)
+                WriteConcern.ACKNOWLEDGED, null, false, 1, null, getWriteRequests()[0..0], operationContext, null, null)
         def writeError = toBsonDocument('''{"ok": 0, "n": 1, "code": 65, "errmsg": "bulk op errors",
             "writeErrors": [{ "index" : 0, "code" : 100, "errmsg": "some error"}] }''')
 
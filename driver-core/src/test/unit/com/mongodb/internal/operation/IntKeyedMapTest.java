@@ -0,0 +1,85 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntKeyedMapTest {
+    @Test
+    void shouldBeEmpty() {
+        IntKeyedMap.Builder<String> builder = new IntKeyedMap.Builder<>();
+        assertTrue(builder.isEmpty());
+        Map<Integer, String> map = builder.build();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertEquals(new HashMap<Integer, String>(), map);
+    }
+
+    @Test
+    void shouldBeEqualToHashMapWithSameMappings() {
+        IntKeyedMap.Builder<String> builder = new IntKeyedMap.Builder<>();
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 100; i += 3) {
+            builder.put(i, "v" + i);
+            expected.put(i, "v" + i);
+        }
+        Map<Integer, String> map = builder.build();
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals("v3", map.get(3));
+        assertNull(map.get(4));
+        assertNull(map.get(3L));
+        assertTrue(map.containsKey(99));
+        assertFalse(map.containsKey(100));
+    }
+
+    @Test
+    void shouldIterateInAscendingOrderOfKeysAddedInAnyOrder() {
+        Map<Integer, String> map = new IntKeyedMap.Builder<String>()
+                .put(7, "c")
+                .put(2, "b")
+                .put(Integer.MAX_VALUE, "d")
+                .put(0, "a")
+                .build();
+
+        assertEquals(asList(0, 2, 7, Integer.MAX_VALUE), new ArrayList<>(map.keySet()));
+        assertEquals(asList("a", "b", "c", "d"), new ArrayList<>(map.values()));
+        assertEquals("c", map.get(7));
+        assertEquals("{0=a, 2=b, 7=c, 2147483647=d}", map.toString());
+    }
+
+    @Test
+    void shouldBeUnmodifiable() {
+        Map<Integer, String> map = new IntKeyedMap.Builder<String>().put(1, "a").build();
+        assertThrows(UnsupportedOperationException.class, () -> map.put(2, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue("b"));
+    }
+}
@@ -27,6 +27,7 @@ import com.mongodb.internal.connection.Server
 import com.mongodb.internal.connection.ServerTuple
 import com.mongodb.internal.validator.NoOpFieldNameValidator
 import org.bson.BsonArray
+import org.bson.BsonBinary
 import org.bson.BsonBinarySubType
 import org.bson.BsonDocument
 import org.bson.codecs.BsonDocumentCodec
@@ -138,6 +139,29 @@ class ServerSessionPoolSpecification extends Specification {
         0 * cluster.selectServer(_)
     }
 
+    def 'should prune least recently used sessions'() {
+        given:
+        def cluster = Stub(Cluster) {
+            getCurrentDescription() >> connectedDescription
+        }
+        def clock = Stub(ServerSessionPool.Clock) {
+            millis() >>> [0, MINUTES.toMillis(10), MINUTES.toMillis(29) + 1]
+        }
+        def pool = new ServerSessionPool(cluster, OPERATION_CONTEXT, clock)
+        def sessionOne = pool.get()
+        def sessionTwo = pool.get()
+        pool.release(sessionOne)
+        pool.release(sessionTwo)
+
+        when:
+        pool.prune()
+
+        then:
+        sessionOne.closed
+        !sessionTwo.closed
+        pool.get() == sessionTwo
+    }
+
     def 'should not prune session when timeout is null'() {
         given:
         def cluster = Stub(Cluster) {
@@ -179,6 +203,18 @@ class ServerSessionPoolSpecification extends Specification {
         uuid.data.length == 16
     }
 
+    def 'should generate random UUIDs'() {
+        given:
+        def generator = new ServerSessionPool.UuidGenerator()
+
+        when:
+        def uuids = (1..200).collect { new BsonBinary(BsonBinarySubType.UUID_STANDARD, generator.next()).asUuid() }
+
+        then:
+        uuids.every { it.version() == 4 && it.variant() == 2 }
+        uuids.toSet().size() == 200
+    }
+
     def 'should advance transaction number'() {
         given:
         def cluster = Stub(Cluster) {
@@ -28,4 +28,26 @@ class DaemonThreadFactorySpecification extends Specification {
         then:
         thread.isDaemon()
     }
+
+    def 'should create virtual threads if requested and supported'() {
+        def factory = new DaemonThreadFactory('test', true)
+
+        when:
+        def thread = factory.newThread { }
+
+        then:
+        thread.isDaemon()
+        VirtualThreads.isVirtual(thread) == VirtualThreads.isSupported()
+    }
+
+    def 'should not create virtual threads if not requested'() {
+        def factory = new DaemonThreadFactory('test', false)
+
+        when:
+        def thread = factory.newThread { }
+
+        then:
+        thread.isDaemon()
+        !VirtualThreads.isVirtual(thread)
+    }
 }
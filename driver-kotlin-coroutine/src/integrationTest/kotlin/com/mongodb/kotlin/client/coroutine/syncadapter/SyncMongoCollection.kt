@@ -56,6 +56,7 @@ import com.mongodb.client.result.InsertOneResult
 import com.mongodb.client.result.UpdateResult
 import com.mongodb.kotlin.client.coroutine.MongoCollection
 import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.flow.asFlow
 import kotlinx.coroutines.flow.toCollection
 import kotlinx.coroutines.runBlocking
 import org.bson.Document
@@ -631,5 +632,16 @@ data class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : JMong
         wrapped.bulkWrite(requests)
     }
 
+    override fun bulkWrite(
+        clientSession: ClientSession,
+        requests: MutableIterator<out WriteModel<out T>>,
+        options: BulkWriteOptions
+    ): BulkWriteResult = runBlocking { wrapped.bulkWrite(clientSession.unwrapped(), requests.asFlow(), options) }
+
+    override fun bulkWrite(requests: MutableIterator<out WriteModel<out T>>, options: BulkWriteOptions): BulkWriteResult =
+        runBlocking {
+            wrapped.bulkWrite(requests.asFlow(), options)
+        }
+
     private fun ClientSession.unwrapped() = (this as SyncClientSession).wrapped
 }
@@ -49,6 +49,7 @@ import com.mongodb.reactivestreams.client.MongoCollection as JMongoCollection
 import java.util.concurrent.TimeUnit
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.reactive.asFlow
+import kotlinx.coroutines.reactive.asPublisher
 import kotlinx.coroutines.reactive.awaitFirstOrNull
 import kotlinx.coroutines.reactive.awaitSingle
 import org.bson.BsonDocument
@@ -1088,6 +1089,52 @@ public class MongoCollection<T : Any>(private val wrapped: JMongoCollection<T>)
         options: BulkWriteOptions = BulkWriteOptions()
     ): BulkWriteResult = wrapped.bulkWrite(clientSession.wrapped, requests, options).awaitSingle()
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are collected from `requests` as the bulk write
+     * progresses, so that they need not all be held in memory.
+     *
+     * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+     * indexes reported by it or by a [com.mongodb.MongoBulkWriteException], covers all the writes emitted by
+     * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, the collection
+     * of `requests` is cancelled after a write error.
+     *
+     * @param requests the writes to execute
+     * @param options the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException if there's an exception running the operation
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public suspend fun bulkWrite(
+        requests: Flow<WriteModel<out T>>,
+        options: BulkWriteOptions = BulkWriteOptions()
+    ): BulkWriteResult = wrapped.bulkWrite(requests.asPublisher(), options).awaitSingle()
+
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are collected from `requests` as the bulk write
+     * progresses, so that they need not all be held in memory.
+     *
+     * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+     * indexes reported by it or by a [com.mongodb.MongoBulkWriteException], covers all the writes emitted by
+     * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, the collection
+     * of `requests` is cancelled after a write error.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param options the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException if there's an exception running the operation
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public suspend fun bulkWrite(
+        clientSession: ClientSession,
+        requests: Flow<WriteModel<out T>>,
+        options: BulkWriteOptions = BulkWriteOptions()
+    ): BulkWriteResult = wrapped.bulkWrite(clientSession.wrapped, requests.asPublisher(), options).awaitSingle()
+
     /**
      * Atomically find a document and remove it.
      *
@@ -38,17 +38,20 @@ import com.mongodb.client.model.InsertOneOptions
 import com.mongodb.client.model.RenameCollectionOptions
 import com.mongodb.client.model.ReplaceOptions
 import com.mongodb.client.model.UpdateOptions
+import com.mongodb.client.model.WriteModel
 import com.mongodb.reactivestreams.client.MongoCollection as JMongoCollection
 import java.util.concurrent.TimeUnit
 import kotlin.reflect.full.declaredFunctions
 import kotlin.reflect.full.declaredMemberProperties
 import kotlin.test.assertEquals
+import kotlinx.coroutines.flow.flowOf
 import kotlinx.coroutines.runBlocking
 import org.bson.BsonDocument
 import org.bson.Document
 import org.bson.codecs.configuration.CodecRegistry
 import org.junit.jupiter.api.Test
 import org.mockito.Mock
+import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
@@ -57,6 +60,7 @@ import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoMoreInteractions
 import org.mockito.kotlin.whenever
+import org.reactivestreams.Publisher
 import reactor.core.publisher.Mono
 
 class MongoCollectionTest {
@@ -524,6 +528,39 @@ class MongoCollectionTest {
         verifyNoMoreInteractions(wrapped)
     }
 
+    @Test
+    fun shouldCallTheUnderlyingStreamingBulkWrite() {
+        val mongoCollection = MongoCollection(wrapped)
+        val value = flowOf(InsertOneModel(Document("u", 1)))
+        val defaultOptions = BulkWriteOptions()
+        val options = BulkWriteOptions().comment("comment")
+
+        whenever(wrapped.bulkWrite(any<Publisher<WriteModel<Document>>>(), refEq(defaultOptions)))
+            .doReturn(Mono.fromCallable { mock() })
+        whenever(wrapped.bulkWrite(any<Publisher<WriteModel<Document>>>(), eq(options)))
+            .doReturn(Mono.fromCallable { mock() })
+        whenever(
+                wrapped.bulkWrite(
+                    eq(clientSession.wrapped), any<Publisher<WriteModel<Document>>>(), refEq(defaultOptions)))
+            .doReturn(Mono.fromCallable { mock() })
+        whenever(wrapped.bulkWrite(eq(clientSession.wrapped), any<Publisher<WriteModel<Document>>>(), eq(options)))
+            .doReturn(Mono.fromCallable { mock() })
+
+        runBlocking {
+            mongoCollection.bulkWrite(value)
+            mongoCollection.bulkWrite(value, options)
+            mongoCollection.bulkWrite(clientSession, value)
+            mongoCollection.bulkWrite(clientSession, value, options)
+        }
+
+        verify(wrapped).bulkWrite(any<Publisher<WriteModel<Document>>>(), refEq(defaultOptions))
+        verify(wrapped).bulkWrite(any<Publisher<WriteModel<Document>>>(), eq(options))
+        verify(wrapped)
+            .bulkWrite(eq(clientSession.wrapped), any<Publisher<WriteModel<Document>>>(), refEq(defaultOptions))
+        verify(wrapped).bulkWrite(eq(clientSession.wrapped), any<Publisher<WriteModel<Document>>>(), eq(options))
+        verifyNoMoreInteractions(wrapped)
+    }
+
     @Test
     fun shouldCallTheUnderlyingUpdateOne() {
         val mongoCollection = MongoCollection(wrapped)
@@ -18,9 +18,13 @@ package com.mongodb.kotlin.client.syncadapter
 import com.mongodb.client.MongoClient as JMongoClient
 import com.mongodb.connection.ClusterDescription
 import com.mongodb.kotlin.client.MongoClient
+import java.util.concurrent.TimeUnit
 
 internal class SyncMongoClient(override val wrapped: MongoClient) : SyncMongoCluster(wrapped), JMongoClient {
     override fun close(): Unit = wrapped.close()
 
     override fun getClusterDescription(): ClusterDescription = wrapped.clusterDescription
+
+    override fun prewarmConnectionPools(connectionsPerServer: Int, timeout: Long, timeUnit: TimeUnit): Unit =
+        wrapped.prewarmConnectionPools(connectionsPerServer, timeout, timeUnit)
 }
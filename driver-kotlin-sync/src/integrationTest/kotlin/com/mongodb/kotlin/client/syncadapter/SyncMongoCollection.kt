@@ -526,5 +526,14 @@ internal class SyncMongoCollection<T : Any>(val wrapped: MongoCollection<T>) : J
 
     override fun bulkWrite(requests: MutableList<out WriteModel<out T>>): BulkWriteResult = wrapped.bulkWrite(requests)
 
+    override fun bulkWrite(
+        clientSession: ClientSession,
+        requests: MutableIterator<out WriteModel<out T>>,
+        options: BulkWriteOptions
+    ): BulkWriteResult = wrapped.bulkWrite(clientSession.unwrapped(), requests, options)
+
+    override fun bulkWrite(requests: MutableIterator<out WriteModel<out T>>, options: BulkWriteOptions): BulkWriteResult =
+        wrapped.bulkWrite(requests, options)
+
     private fun ClientSession.unwrapped() = (this as SyncClientSession).wrapped
 }
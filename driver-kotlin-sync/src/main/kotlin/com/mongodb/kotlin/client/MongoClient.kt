@@ -19,6 +19,8 @@ import com.mongodb.ClientSessionOptions
 import com.mongodb.ConnectionString
 import com.mongodb.MongoClientSettings
 import com.mongodb.MongoDriverInformation
+import com.mongodb.annotations.Alpha
+import com.mongodb.annotations.Reason
 import com.mongodb.client.MongoClient as JMongoClient
 import com.mongodb.client.MongoClients as JMongoClients
 import com.mongodb.connection.ClusterDescription
@@ -109,6 +111,23 @@ public class MongoClient(private val wrapped: JMongoClient) : MongoCluster(wrapp
      */
     public val clusterDescription: ClusterDescription
         get() = wrapped.clusterDescription
+
+    /**
+     * Establishes connections to each server eligible for selection according to the read preference, and blocks until
+     * they are ready to be used by operations.
+     *
+     * @param connectionsPerServer the number of connections to establish to each server. Must be positive.
+     * @param timeout the maximum time to wait. Must not be negative.
+     * @param timeUnit the time unit of `timeout`, defaults to Milliseconds
+     * @throws com.mongodb.MongoTimeoutException if the connections are not established within the `timeout`.
+     * @see com.mongodb.client.MongoClient.prewarmConnectionPools
+     */
+    @Alpha(Reason.CLIENT)
+    public fun prewarmConnectionPools(
+        connectionsPerServer: Int,
+        timeout: Long,
+        timeUnit: TimeUnit = TimeUnit.MILLISECONDS
+    ): Unit = wrapped.prewarmConnectionPools(connectionsPerServer, timeout, timeUnit)
 }
 
 /**
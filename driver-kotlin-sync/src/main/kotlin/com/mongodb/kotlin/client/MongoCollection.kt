@@ -964,6 +964,58 @@ public class MongoCollection<T : Any>(private val wrapped: JMongoCollection<T>)
         options: BulkWriteOptions = BulkWriteOptions()
     ): BulkWriteResult = wrapped.bulkWrite(clientSession.wrapped, requests, options)
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are pulled from `requests` as the bulk write
+     * progresses, so that they need not all be held in memory.
+     *
+     * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+     * indexes reported by it or by a [com.mongodb.MongoBulkWriteException], covers all the writes pulled from
+     * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, no more writes
+     * are pulled after a write error.
+     *
+     * Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.
+     * The eligibility for retryable write support is determined separately for each bulk write of the sequence.
+     *
+     * @param requests the writes to execute
+     * @param options the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException if there's an exception running the operation
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public fun bulkWrite(
+        requests: Iterator<WriteModel<out T>>,
+        options: BulkWriteOptions = BulkWriteOptions()
+    ): BulkWriteResult = wrapped.bulkWrite(requests, options)
+
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are pulled from `requests` as the bulk write
+     * progresses, so that they need not all be held in memory.
+     *
+     * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+     * indexes reported by it or by a [com.mongodb.MongoBulkWriteException], covers all the writes pulled from
+     * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, no more writes
+     * are pulled after a write error.
+     *
+     * Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.
+     * The eligibility for retryable write support is determined separately for each bulk write of the sequence.
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param options the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException if there's an exception running the operation
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    public fun bulkWrite(
+        clientSession: ClientSession,
+        requests: Iterator<WriteModel<out T>>,
+        options: BulkWriteOptions = BulkWriteOptions()
+    ): BulkWriteResult = wrapped.bulkWrite(clientSession.wrapped, requests, options)
+
     /**
      * Atomically find a document and remove it.
      *
@@ -472,6 +472,30 @@ class MongoCollectionTest {
         verifyNoMoreInteractions(wrapped)
     }
 
+    @Test
+    fun shouldCallTheUnderlyingStreamingBulkWrite() {
+        val mongoCollection = MongoCollection(wrapped)
+        val value = listOf(InsertOneModel(Document("u", 1))).iterator()
+        val defaultOptions = BulkWriteOptions()
+        val options = BulkWriteOptions().comment("comment")
+
+        whenever(wrapped.bulkWrite(eq(value), refEq(defaultOptions))).doReturn(mock())
+        whenever(wrapped.bulkWrite(eq(value), eq(options))).doReturn(mock())
+        whenever(wrapped.bulkWrite(eq(clientSession.wrapped), eq(value), refEq(defaultOptions))).doReturn(mock())
+        whenever(wrapped.bulkWrite(eq(clientSession.wrapped), eq(value), eq(options))).doReturn(mock())
+
+        mongoCollection.bulkWrite(value)
+        mongoCollection.bulkWrite(value, options)
+        mongoCollection.bulkWrite(clientSession, value)
+        mongoCollection.bulkWrite(clientSession, value, options)
+
+        verify(wrapped).bulkWrite(eq(value), refEq(defaultOptions))
+        verify(wrapped).bulkWrite(eq(value), eq(options))
+        verify(wrapped).bulkWrite(eq(clientSession.wrapped), eq(value), refEq(defaultOptions))
+        verify(wrapped).bulkWrite(eq(clientSession.wrapped), eq(value), eq(options))
+        verifyNoMoreInteractions(wrapped)
+    }
+
     @Test
     fun shouldCallTheUnderlyingUpdateOne() {
         val mongoCollection = MongoCollection(wrapped)
@@ -141,8 +141,8 @@ public final class MongoClients {
                 settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().prestartAsyncWorkManager(true).build(),
                 TimeoutSettings.create(settings), streamFactory, TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(),
+                settings.getCompressionSettings(), settings.getWriteBudgetSettings(), settings.getServerApi(), settings.getDnsClient());
     }
 
     private static MongoDriverInformation wrapMongoDriverInformation(@Nullable final MongoDriverInformation mongoDriverInformation) {
@@ -764,6 +764,59 @@ public interface MongoCollection<TDocument> {
     Publisher<BulkWriteResult> bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests,
                                          BulkWriteOptions options);
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are requested from {@code requests} as the bulk write progresses,
+     * so that they need not all be held in memory.
+     *
+     * <p>The writes are executed as a sequence of bulk writes of up to 100,000 writes each, each of which is split further into
+     * batches as required by the server. No more writes are requested from {@code requests} than are needed for the bulk write
+     * being executed and the next one. The result, as well as the indexes reported by it or by a
+     * {@link com.mongodb.MongoBulkWriteException}, covers all the writes published by {@code requests},
+     * with an index being the position of a write in {@code requests}.
+     * If the writes are ordered, the subscription to {@code requests} is cancelled after a write error.</p>
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}; it is implemented by the collections of a
+     * {@link MongoClient} created by {@link MongoClients}.</p>
+     *
+     * @param requests the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return a publisher with a single element the BulkWriteResult
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    default Publisher<BulkWriteResult> bulkWrite(final Publisher<? extends WriteModel<? extends TDocument>> requests,
+                                                 final BulkWriteOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are requested from {@code requests} as the bulk write progresses,
+     * so that they need not all be held in memory.
+     *
+     * <p>The writes are executed as a sequence of bulk writes of up to 100,000 writes each, each of which is split further into
+     * batches as required by the server. No more writes are requested from {@code requests} than are needed for the bulk write
+     * being executed and the next one. The result, as well as the indexes reported by it or by a
+     * {@link com.mongodb.MongoBulkWriteException}, covers all the writes published by {@code requests},
+     * with an index being the position of a write in {@code requests}.
+     * If the writes are ordered, the subscription to {@code requests} is cancelled after a write error.</p>
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}; it is implemented by the collections of a
+     * {@link MongoClient} created by {@link MongoClients}.</p>
+     *
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return a publisher with a single element the BulkWriteResult
+     * @mongodb.server.release 3.6
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    default Publisher<BulkWriteResult> bulkWrite(final ClientSession clientSession,
+                                                 final Publisher<? extends WriteModel<? extends TDocument>> requests,
+                                                 final BulkWriteOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
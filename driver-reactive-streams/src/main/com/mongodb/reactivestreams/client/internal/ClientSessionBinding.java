@@ -172,6 +172,16 @@ public class ClientSessionBinding extends AbstractReferenceCounted implements As
             }
         }
 
+        @Override
+        public void getUnacknowledgedWriteConnection(final SingleResultCallback<AsyncConnection> callback) {
+            TransactionContext<AsyncConnection> transactionContext = TransactionContext.get(session);
+            if (transactionContext != null && transactionContext.isConnectionPinningRequired()) {
+                getConnection(callback);
+            } else {
+                wrapped.getUnacknowledgedWriteConnection(callback);
+            }
+        }
+
         @Override
         public AsyncConnectionSource retain() {
             wrapped = wrapped.retain();
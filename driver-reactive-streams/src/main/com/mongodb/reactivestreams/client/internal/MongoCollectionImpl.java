@@ -369,6 +369,19 @@ final class MongoCollectionImpl<T> implements MongoCollection<T> {
         return mongoOperationPublisher.bulkWrite(notNull("clientSession", clientSession), requests, options);
     }
 
+    @Override
+    public Publisher<BulkWriteResult> bulkWrite(final Publisher<? extends WriteModel<? extends T>> requests,
+                                                final BulkWriteOptions options) {
+        return mongoOperationPublisher.bulkWrite(null, requests, options);
+    }
+
+    @Override
+    public Publisher<BulkWriteResult> bulkWrite(final ClientSession clientSession,
+                                                final Publisher<? extends WriteModel<? extends T>> requests,
+                                                final BulkWriteOptions options) {
+        return mongoOperationPublisher.bulkWrite(notNull("clientSession", clientSession), requests, options);
+    }
+
     @Override
     public Publisher<InsertOneResult> insertOne(final T document) {
         return insertOne(document, new InsertOneOptions());
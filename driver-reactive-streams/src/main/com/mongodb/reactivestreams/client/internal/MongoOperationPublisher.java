@@ -60,6 +60,7 @@ import com.mongodb.client.result.UpdateResult;
 import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.bulk.WriteRequest;
+import com.mongodb.internal.connection.BulkWriteSplitsCombiner;
 import com.mongodb.internal.operation.AsyncOperations;
 import com.mongodb.internal.operation.AsyncReadOperation;
 import com.mongodb.internal.operation.AsyncWriteOperation;
@@ -76,6 +77,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
@@ -294,6 +296,33 @@ public final class MongoOperationPublisher<T> {
                 () -> operations.bulkWrite(notNull("requests", requests), notNull("options", options)), clientSession);
     }
 
+    /**
+     * Each split of {@code requests} is executed as a separate operation, after the previous one completes.
+     * Requesting a single split at a time from the buffer makes the buffer request no more than two splits of {@code requests}.
+     */
+    Publisher<BulkWriteResult> bulkWrite(
+            @Nullable final ClientSession clientSession,
+            final Publisher<? extends WriteModel<? extends T>> requests, final BulkWriteOptions options) {
+        notNull("requests", requests);
+        notNull("options", options);
+        return Mono.defer(() -> {
+            BulkWriteSplitsCombiner combiner = new BulkWriteSplitsCombiner(options.isOrdered());
+            return Flux.<WriteModel<? extends T>>from(requests)
+                    .buffer(BulkWriteSplitsCombiner.MAX_SPLIT_SIZE)
+                    // the lack of requests is reported the same way as for a bulk write of an empty list
+                    .switchIfEmpty(Mono.fromSupplier(Collections::emptyList))
+                    .concatMap(split -> Mono.from(bulkWrite(clientSession, split, options))
+                            .doOnNext(result -> combiner.addSplitResult(result, split.size()))
+                            .onErrorResume(MongoBulkWriteException.class, e -> {
+                                combiner.addSplitErrorResult(e, split.size());
+                                return Mono.empty();
+                            })
+                            .then(Mono.fromSupplier(combiner::shouldStopExecutingMoreSplits)), 1)
+                    .takeUntil(stop -> stop)
+                    .then(Mono.fromSupplier(combiner::getResult));
+        });
+    }
+
     Publisher<ClientBulkWriteResult> clientBulkWrite(
             @Nullable final ClientSession clientSession,
             final List<? extends ClientNamespacedWriteModel> clientWriteModels,
@@ -311,4 +311,9 @@ public class SyncMongoClient implements MongoClient {
         return wrapped.getClusterDescription();
     }
 
+    @Override
+    public void prewarmConnectionPools(final int connectionsPerServer, final long timeout, final TimeUnit timeUnit) {
+        throw new UnsupportedOperationException();
+    }
+
 }
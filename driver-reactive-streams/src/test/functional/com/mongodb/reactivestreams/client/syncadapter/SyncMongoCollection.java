@@ -58,6 +58,7 @@ import org.bson.conversions.Bson;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -359,6 +360,19 @@ class SyncMongoCollection<T> implements MongoCollection<T> {
         return requireNonNull(Mono.from(wrapped.bulkWrite(unwrap(clientSession), requests, options)).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(final Iterator<? extends WriteModel<? extends T>> requests, final BulkWriteOptions options) {
+        return requireNonNull(Mono.from(wrapped.bulkWrite(toPublisher(requests), options)).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
+    }
+
+    @Override
+    public BulkWriteResult bulkWrite(
+            final ClientSession clientSession, final Iterator<? extends WriteModel<? extends T>> requests,
+            final BulkWriteOptions options) {
+        return requireNonNull(Mono.from(wrapped.bulkWrite(unwrap(clientSession), toPublisher(requests), options)).contextWrite(CONTEXT)
+                .block(TIMEOUT_DURATION));
+    }
+
     @Override
     public InsertOneResult insertOne(final T t) {
         return requireNonNull(Mono.from(wrapped.insertOne(t)).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
@@ -846,4 +860,10 @@ class SyncMongoCollection<T> implements MongoCollection<T> {
     private com.mongodb.reactivestreams.client.ClientSession unwrap(final ClientSession clientSession) {
         return ((SyncClientSession) clientSession).getWrapped();
     }
+
+    @SuppressWarnings("unchecked")
+    private Flux<WriteModel<? extends T>> toPublisher(final Iterator<? extends WriteModel<? extends T>> requests) {
+        Iterator<WriteModel<? extends T>> iterator = (Iterator<WriteModel<? extends T>>) requests;
+        return Flux.fromIterable(() -> iterator);
+    }
 }
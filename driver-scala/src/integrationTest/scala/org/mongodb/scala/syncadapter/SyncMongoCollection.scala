@@ -29,7 +29,7 @@ import com.mongodb.{ MongoNamespace, ReadConcern, ReadPreference, WriteConcern }
 import org.bson.Document
 import org.bson.codecs.configuration.CodecRegistry
 import org.bson.conversions.Bson
-import org.mongodb.scala.MongoCollection
+import org.mongodb.scala.{ MongoCollection, Observable }
 import org.mongodb.scala.bson.DefaultHelper.DefaultsTo
 import org.mongodb.scala.result.{ InsertManyResult, InsertOneResult }
 
@@ -283,6 +283,23 @@ case class SyncMongoCollection[T](wrapped: MongoCollection[T]) extends JMongoCol
   ): BulkWriteResult =
     wrapped.bulkWrite(unwrap(clientSession), requests.asScala.toSeq, options).toFuture().get()
 
+  override def bulkWrite(
+      requests: java.util.Iterator[_ <: WriteModel[_ <: T]],
+      options: BulkWriteOptions
+  ): BulkWriteResult = wrapped.bulkWrite(observe(requests), options).toFuture().get()
+
+  override def bulkWrite(
+      clientSession: ClientSession,
+      requests: java.util.Iterator[_ <: WriteModel[_ <: T]],
+      options: BulkWriteOptions
+  ): BulkWriteResult =
+    wrapped.bulkWrite(unwrap(clientSession), observe(requests), options).toFuture().get()
+
+  private def observe(requests: java.util.Iterator[_ <: WriteModel[_ <: T]]): Observable[WriteModel[_ <: T]] =
+    Observable(new Iterable[WriteModel[_ <: T]] {
+      override def iterator: Iterator[WriteModel[_ <: T]] = requests.asScala
+    })
+
   override def insertOne(t: T): InsertOneResult = wrapped.insertOne(t).toFuture().get()
 
   override def insertOne(t: T, options: InsertOneOptions): InsertOneResult =
@@ -579,6 +579,51 @@ case class MongoCollection[TResult](private val wrapped: JMongoCollection[TResul
   ): SingleObservable[BulkWriteResult] =
     wrapped.bulkWrite(clientSession, requests.asJava.asInstanceOf[util.List[_ <: WriteModel[_ <: TResult]]], options)
 
+  /**
+   * Executes a mix of inserts, updates, replaces, and deletes, which are requested from `requests` as the bulk write
+   * progresses, so that they need not all be held in memory.
+   *
+   * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+   * indexes reported by it or by a [[com.mongodb.MongoBulkWriteException]], covers all the writes published by
+   * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, the subscription
+   * to `requests` is cancelled after a write error.
+   *
+   * @param requests the writes to execute
+   * @param options  the options to apply to the bulk write operation
+   * @return a Observable with a single element the BulkWriteResult
+   * @since 5.5
+   */
+  @Alpha(Array(Reason.CLIENT))
+  def bulkWrite(
+      requests: Observable[_ <: WriteModel[_ <: TResult]],
+      options: BulkWriteOptions
+  ): SingleObservable[BulkWriteResult] =
+    wrapped.bulkWrite(requests, options)
+
+  /**
+   * Executes a mix of inserts, updates, replaces, and deletes, which are requested from `requests` as the bulk write
+   * progresses, so that they need not all be held in memory.
+   *
+   * The writes are executed as a sequence of bulk writes of up to 100,000 writes each. The result, as well as the
+   * indexes reported by it or by a [[com.mongodb.MongoBulkWriteException]], covers all the writes published by
+   * `requests`, with an index being the position of a write in `requests`. If the writes are ordered, the subscription
+   * to `requests` is cancelled after a write error.
+   *
+   * @param clientSession the client session with which to associate this operation
+   * @param requests the writes to execute
+   * @param options  the options to apply to the bulk write operation
+   * @return a Observable with a single element the BulkWriteResult
+   * @since 5.5
+   * @note Requires MongoDB 3.6 or greater
+   */
+  @Alpha(Array(Reason.CLIENT))
+  def bulkWrite(
+      clientSession: ClientSession,
+      requests: Observable[_ <: WriteModel[_ <: TResult]],
+      options: BulkWriteOptions
+  ): SingleObservable[BulkWriteResult] =
+    wrapped.bulkWrite(clientSession, requests, options)
+
   /**
    * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
    *
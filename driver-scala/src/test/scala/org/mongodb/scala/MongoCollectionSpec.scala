@@ -227,6 +227,17 @@ class MongoCollectionSpec extends BaseSpec with MockitoSugar {
     verify(wrapped).bulkWrite(clientSession, bulkRequests.asJava, bulkWriteOptions)
   }
 
+  it should "wrap the underlying streaming bulkWrite correctly" in {
+    val bulkRequests = Observable(List(InsertOneModel(Document("a" -> 1))))
+    val bulkWriteOptions = new BulkWriteOptions().ordered(true)
+
+    mongoCollection.bulkWrite(bulkRequests, bulkWriteOptions)
+    mongoCollection.bulkWrite(clientSession, bulkRequests, bulkWriteOptions)
+
+    verify(wrapped).bulkWrite(bulkRequests, bulkWriteOptions)
+    verify(wrapped).bulkWrite(clientSession, bulkRequests, bulkWriteOptions)
+  }
+
   it should "wrap the underlying insertOne correctly" in {
     val insertDoc = Document("a" -> 1)
     val insertOptions = InsertOneOptions().bypassDocumentValidation(true)
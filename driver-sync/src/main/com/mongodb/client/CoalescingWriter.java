@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.MongoWriteConcernException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.annotations.Alpha;
+import com.mongodb.annotations.Reason;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.result.InsertOneResult;
+
+import java.io.Closeable;
+
+/**
+ * Coalesces single-document writes requested concurrently by many threads into unordered bulk writes,
+ * which saves a round trip to the server per write.
+ *
+ * <p>A write blocks the calling thread until the bulk write it is coalesced into completes,
+ * and then reports its own result, or its own write error, as if it had been executed by the {@link MongoCollection} directly.
+ * The writes are executed outside of any {@link ClientSession}, with the write concern of the collection.</p>
+ *
+ * <p>Only inserts are coalesced: the server reports the number of matched and modified documents per command, not per update,
+ * so the result of an update coalesced with others could not be reported.</p>
+ *
+ * @param <TDocument> The type that this writer will encode documents from.
+ * @see CoalescingWriters#create(MongoCollection, CoalescingWriterSettings)
+ * @see MongoCollection#bulkWrite(java.util.List, BulkWriteOptions)
+ * @since 5.5
+ */
+@ThreadSafe
+@Alpha(Reason.CLIENT)
+public interface CoalescingWriter<TDocument> extends Closeable {
+    /**
+     * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
+     *
+     * @param document the document to insert
+     * @return the insert one result
+     * @throws MongoWriteException        if the write failed due to some specific write exception
+     * @throws MongoWriteConcernException if the write failed due to being unable to fulfil the write concern
+     * @throws com.mongodb.MongoException if the write failed due some other failure
+     * @throws IllegalStateException      if the writer is closed
+     * @see MongoCollection#insertOne(Object)
+     */
+    InsertOneResult insertOne(TDocument document);
+
+    /**
+     * Stops accepting writes, and waits for the writes that were already requested to complete.
+     */
+    @Override
+    void close();
+}
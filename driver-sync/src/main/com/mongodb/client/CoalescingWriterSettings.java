@@ -0,0 +1,150 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.annotations.Alpha;
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.annotations.Reason;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Settings of a {@link CoalescingWriter}.
+ *
+ * @since 5.5
+ */
+@Immutable
+@Alpha(Reason.CLIENT)
+public final class CoalescingWriterSettings {
+    private final int maxBatchSize;
+    private final long lingerNanos;
+
+    /**
+     * Creates a builder for CoalescingWriterSettings.
+     *
+     * @return a new Builder for creating CoalescingWriterSettings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A builder for the settings.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int maxBatchSize = 1000;
+        private long lingerNanos;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of writes coalesced into a single bulk write. The default value is 1000.
+         *
+         * @param maxBatchSize the maximum number of writes coalesced into a single bulk write, which must be positive
+         * @return this
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            isTrueArgument("maxBatchSize > 0", maxBatchSize > 0);
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets how long the writer waits for more writes after the first write of a batch is requested,
+         * unless {@linkplain #maxBatchSize(int) the batch is full} earlier. The default value is 0.
+         *
+         * <p>Even without lingering, the writes requested while a batch is being executed are coalesced into the next batch.</p>
+         *
+         * @param linger   the linger time, which must not be negative
+         * @param timeUnit the time unit
+         * @return this
+         */
+        public Builder linger(final long linger, final TimeUnit timeUnit) {
+            isTrueArgument("linger >= 0", linger >= 0);
+            this.lingerNanos = notNull("timeUnit", timeUnit).toNanos(linger);
+            return this;
+        }
+
+        /**
+         * Creates a new CoalescingWriterSettings object.
+         *
+         * @return a new CoalescingWriterSettings object
+         */
+        public CoalescingWriterSettings build() {
+            return new CoalescingWriterSettings(this);
+        }
+    }
+
+    /**
+     * Gets the maximum number of writes coalesced into a single bulk write.
+     *
+     * @return the maximum number of writes coalesced into a single bulk write
+     * @see Builder#maxBatchSize(int)
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets how long the writer waits for more writes after the first write of a batch is requested.
+     *
+     * @param timeUnit the time unit
+     * @return the linger time
+     * @see Builder#linger(long, TimeUnit)
+     */
+    public long getLinger(final TimeUnit timeUnit) {
+        return timeUnit.convert(lingerNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CoalescingWriterSettings that = (CoalescingWriterSettings) o;
+        return maxBatchSize == that.maxBatchSize && lingerNanos == that.lingerNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize;
+        result = 31 * result + Long.hashCode(lingerNanos);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingWriterSettings{"
+                + "maxBatchSize=" + maxBatchSize
+                + ", lingerNanos=" + lingerNanos
+                + '}';
+    }
+
+    private CoalescingWriterSettings(final Builder builder) {
+        maxBatchSize = builder.maxBatchSize;
+        lingerNanos = builder.lingerNanos;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client;
+
+import com.mongodb.annotations.Alpha;
+import com.mongodb.annotations.Reason;
+import com.mongodb.client.internal.CoalescingWriterImpl;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A factory for {@link CoalescingWriter} instances.
+ *
+ * @since 5.5
+ */
+@Alpha(Reason.CLIENT)
+public final class CoalescingWriters {
+
+    /**
+     * Create a new coalescing writer with the default settings.
+     *
+     * @param collection the collection to write to
+     * @param <TDocument> the type that the writer will encode documents from
+     * @return the coalescing writer, which must be {@linkplain CoalescingWriter#close() closed}
+     */
+    public static <TDocument> CoalescingWriter<TDocument> create(final MongoCollection<TDocument> collection) {
+        return create(collection, CoalescingWriterSettings.builder().build());
+    }
+
+    /**
+     * Create a new coalescing writer.
+     *
+     * @param collection the collection to write to
+     * @param settings the settings
+     * @param <TDocument> the type that the writer will encode documents from
+     * @return the coalescing writer, which must be {@linkplain CoalescingWriter#close() closed}
+     */
+    public static <TDocument> CoalescingWriter<TDocument> create(final MongoCollection<TDocument> collection,
+            final CoalescingWriterSettings settings) {
+        return new CoalescingWriterImpl<>(notNull("collection", collection), notNull("settings", settings));
+    }
+
+    private CoalescingWriters() {
+    }
+}
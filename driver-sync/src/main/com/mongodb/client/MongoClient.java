@@ -16,12 +16,16 @@
 
 package com.mongodb.client;
 
+import com.mongodb.annotations.Alpha;
 import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.Reason;
 import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.event.ClusterListener;
 
 import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A client-side representation of a MongoDB cluster.  Instances can represent either a standalone MongoDB instance, a replica set,
@@ -61,4 +65,35 @@ public interface MongoClient extends MongoCluster, Closeable {
      * @since 3.11
      */
     ClusterDescription getClusterDescription();
+
+    /**
+     * Establishes connections to each server eligible for selection according to the {@linkplain #getReadPreference() read
+     * preference}, and blocks until they are ready to be used by operations.
+     *
+     * <p>
+     * The method waits until at least one server is eligible for selection, and then concurrently establishes
+     * {@code connectionsPerServer} connections to each server eligible at that moment, including authentication, if any.
+     * No more connections are established to a server than {@linkplain ConnectionPoolSettings#getMaxSize() the maximum size} of its
+     * connection pool, and the {@code timeout} also applies to waiting for a server to be eligible.
+     * The established connections are returned to the connection pools, where they are subject to
+     * {@linkplain ConnectionPoolSettings#getMaxConnectionIdleTime(TimeUnit) the maximum idle time}.
+     * To keep connections established after a connection pool is cleared, for example, because of a failover,
+     * see {@link ConnectionPoolSettings.Builder#prewarmEnabled(boolean)}.
+     * </p>
+     *
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}, so that implementations of this interface other than
+     * the one created by {@link MongoClients} need not implement it.
+     * </p>
+     *
+     * @param connectionsPerServer the number of connections to establish to each server. Must be positive.
+     * @param timeout the maximum time to wait. Must not be negative.
+     * @param timeUnit the time unit of {@code timeout}.
+     * @throws com.mongodb.MongoTimeoutException if the connections are not established within the {@code timeout}.
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    default void prewarmConnectionPools(final int connectionsPerServer, final long timeout, final TimeUnit timeUnit) {
+        throw new UnsupportedOperationException();
+    }
 }
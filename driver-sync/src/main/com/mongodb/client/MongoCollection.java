@@ -52,6 +52,7 @@ import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -802,6 +803,65 @@ public interface MongoCollection<TDocument> {
     BulkWriteResult bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends TDocument>> requests,
                               BulkWriteOptions options);
 
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are pulled from {@code requests} as the bulk write progresses,
+     * so that they need not all be held in memory. A {@link java.util.stream.Stream} of writes may be passed via
+     * {@link java.util.stream.Stream#iterator()}.
+     *
+     * <p>The writes are executed as a sequence of bulk writes of up to 100,000 writes each, each of which is split further into
+     * batches as required by the server. The result, as well as the indexes reported by it or by a
+     * {@link com.mongodb.MongoBulkWriteException}, covers all the writes pulled from {@code requests},
+     * with an index being the position of a write in {@code requests}.
+     * If the writes are ordered, no more writes are pulled after a write error.</p>
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.
+     * The eligibility for retryable write support is determined separately for each bulk write of the sequence.</p>
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}; it is implemented by the collections of a
+     * {@link MongoClient} created by {@link MongoClients}.</p>
+     * @param requests the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException          if there's an exception running the operation
+     * @since 5.5
+     */
+    @Alpha(Reason.CLIENT)
+    default BulkWriteResult bulkWrite(final Iterator<? extends WriteModel<? extends TDocument>> requests, final BulkWriteOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes a mix of inserts, updates, replaces, and deletes, which are pulled from {@code requests} as the bulk write progresses,
+     * so that they need not all be held in memory. A {@link java.util.stream.Stream} of writes may be passed via
+     * {@link java.util.stream.Stream#iterator()}.
+     *
+     * <p>The writes are executed as a sequence of bulk writes of up to 100,000 writes each, each of which is split further into
+     * batches as required by the server. The result, as well as the indexes reported by it or by a
+     * {@link com.mongodb.MongoBulkWriteException}, covers all the writes pulled from {@code requests},
+     * with an index being the position of a write in {@code requests}.
+     * If the writes are ordered, no more writes are pulled after a write error.</p>
+     *
+     * <p>Note: Supports retryable writes on MongoDB server versions 3.6 or higher when the retryWrites setting is enabled.
+     * The eligibility for retryable write support is determined separately for each bulk write of the sequence.</p>
+     *
+     * <p>The default implementation throws {@link UnsupportedOperationException}; it is implemented by the collections of a
+     * {@link MongoClient} created by {@link MongoClients}.</p>
+     * @param clientSession the client session with which to associate this operation
+     * @param requests the writes to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return the result of the bulk write
+     * @throws com.mongodb.MongoBulkWriteException if there's an exception in the bulk write operation
+     * @throws com.mongodb.MongoException          if there's an exception running the operation
+     * @since 5.5
+     * @mongodb.server.release 3.6
+     */
+    @Alpha(Reason.CLIENT)
+    default BulkWriteResult bulkWrite(final ClientSession clientSession, final Iterator<? extends WriteModel<? extends TDocument>> requests,
+                                      final BulkWriteOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
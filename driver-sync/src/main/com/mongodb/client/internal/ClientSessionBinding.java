@@ -162,6 +162,16 @@ public class ClientSessionBinding extends AbstractReferenceCounted implements Re
             }
         }
 
+        @Override
+        public Connection getUnacknowledgedWriteConnection() {
+            TransactionContext<Connection> transactionContext = TransactionContext.get(session);
+            if (transactionContext != null && transactionContext.isConnectionPinningRequired()) {
+                return getConnection();
+            } else {
+                return wrapped.getUnacknowledgedWriteConnection();
+            }
+        }
+
         @Override
         @SuppressWarnings("checkstyle:methodlength")
         public ConnectionSource retain() {
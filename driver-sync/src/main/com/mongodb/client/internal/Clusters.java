@@ -49,8 +49,8 @@ public final class Clusters {
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(),
+                settings.getCompressionSettings(), settings.getWriteBudgetSettings(), settings.getServerApi(), settings.getDnsClient());
     }
 
     private static StreamFactory getStreamFactory(
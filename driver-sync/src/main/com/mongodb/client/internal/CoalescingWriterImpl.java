@@ -0,0 +1,243 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteConcernException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteConcernResult;
+import com.mongodb.WriteError;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.CoalescingWriter;
+import com.mongodb.client.CoalescingWriterSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coalesces inserts via a single flusher thread, which executes one bulk write at a time.
+ * The inserts requested while a bulk write is being executed are coalesced into the next one.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class CoalescingWriterImpl<TDocument> implements CoalescingWriter<TDocument> {
+    private final MongoCollection<TDocument> collection;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingInsert<TDocument>> pending;
+    private final Lock lock;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private boolean closed;
+    private final Thread flusher;
+
+    public CoalescingWriterImpl(final MongoCollection<TDocument> collection, final CoalescingWriterSettings settings) {
+        this.collection = collection;
+        maxBatchSize = settings.getMaxBatchSize();
+        lingerNanos = settings.getLinger(NANOSECONDS);
+        pending = new LinkedBlockingQueue<>();
+        lock = new ReentrantLock();
+        flusher = new DaemonThreadFactory("CoalescingWriter").newThread(this::flushUntilClosed);
+        flusher.start();
+    }
+
+    @Override
+    public InsertOneResult insertOne(final TDocument document) {
+        PendingInsert<TDocument> insert = new PendingInsert<>(notNull("document", document));
+        withLock(lock, () -> {
+            if (closed) {
+                throw new IllegalStateException("state should be: open");
+            }
+            pending.add(insert);
+        });
+        return insert.await();
+    }
+
+    @Override
+    public void close() {
+        boolean closing = withLock(lock, () -> {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            // no inserts can be added after this one, which makes the flusher exit
+            pending.add(new PendingInsert<>(null));
+            return true;
+        });
+        if (closing) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                throw interruptAndCreateMongoInterruptedException("Interrupted while closing a coalescing writer", e);
+            }
+        }
+    }
+
+    private void flushUntilClosed() {
+        List<PendingInsert<TDocument>> batch = new ArrayList<>(maxBatchSize);
+        boolean closing = false;
+        try {
+            while (!closing) {
+                PendingInsert<TDocument> first = pending.take();
+                if (first.isCloseMarker()) {
+                    return;
+                }
+                batch.add(first);
+                long deadlineNanos = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    PendingInsert<TDocument> next = remainingNanos > 0 ? pending.poll(remainingNanos, NANOSECONDS) : pending.poll();
+                    if (next == null) {
+                        break;
+                    } else if (next.isCloseMarker()) {
+                        closing = true;
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            MongoException failure = interruptAndCreateMongoInterruptedException("Interrupted while coalescing writes", e);
+            withLock(lock, () -> {
+                closed = true;
+            });
+            batch.forEach(insert -> insert.fail(failure));
+            pending.forEach(insert -> insert.fail(failure));
+        }
+    }
+
+    private void flush(final List<PendingInsert<TDocument>> batch) {
+        List<WriteModel<TDocument>> requests = new ArrayList<>(batch.size());
+        batch.forEach(insert -> requests.add(new InsertOneModel<>(assertNotNull(insert.document))));
+        try {
+            complete(batch, collection.bulkWrite(requests, new BulkWriteOptions().ordered(false)));
+        } catch (MongoBulkWriteException e) {
+            complete(batch, e);
+        } catch (Throwable t) {
+            batch.forEach(insert -> insert.fail(t));
+        }
+    }
+
+    private static <TDocument> void complete(final List<PendingInsert<TDocument>> batch, final BulkWriteResult result) {
+        if (!result.wasAcknowledged()) {
+            batch.forEach(insert -> insert.complete(InsertOneResult.unacknowledged()));
+            return;
+        }
+        Map<Integer, BsonValue> insertedIds = getInsertedIds(result);
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(InsertOneResult.acknowledged(insertedIds.get(i)));
+        }
+    }
+
+    private static <TDocument> void complete(final List<PendingInsert<TDocument>> batch, final MongoBulkWriteException e) {
+        Map<Integer, BulkWriteError> writeErrors = new HashMap<>();
+        e.getWriteErrors().forEach(writeError -> writeErrors.put(writeError.getIndex(), writeError));
+        Map<Integer, BsonValue> insertedIds = getInsertedIds(e.getWriteResult());
+        for (int i = 0; i < batch.size(); i++) {
+            BulkWriteError writeError = writeErrors.get(i);
+            if (writeError != null) {
+                batch.get(i).fail(new MongoWriteException(new WriteError(writeError), e.getServerAddress(), e.getErrorLabels()));
+            } else if (e.getWriteConcernError() != null) {
+                batch.get(i).fail(new MongoWriteConcernException(e.getWriteConcernError(),
+                        WriteConcernResult.acknowledged(1, false, null), e.getServerAddress(), e.getErrorLabels()));
+            } else {
+                batch.get(i).complete(InsertOneResult.acknowledged(insertedIds.get(i)));
+            }
+        }
+    }
+
+    private static Map<Integer, BsonValue> getInsertedIds(final BulkWriteResult result) {
+        Map<Integer, BsonValue> insertedIds = new HashMap<>();
+        for (BulkWriteInsert insert : result.getInserts()) {
+            insertedIds.put(insert.getIndex(), insert.getId());
+        }
+        return insertedIds;
+    }
+
+    private static final class PendingInsert<TDocument> {
+        /**
+         * {@code null} iff this is the marker that makes the flusher exit.
+         */
+        @Nullable
+        private final TDocument document;
+        private final CompletableFuture<InsertOneResult> result;
+
+        PendingInsert(@Nullable final TDocument document) {
+            this.document = document;
+            result = new CompletableFuture<>();
+        }
+
+        boolean isCloseMarker() {
+            return document == null;
+        }
+
+        void complete(final InsertOneResult insertOneResult) {
+            result.complete(insertOneResult);
+        }
+
+        void fail(final Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        InsertOneResult await() {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for a coalesced write", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new MongoException(format("Failed to execute a coalesced write: %s", cause), cause);
+            }
+        }
+    }
+}
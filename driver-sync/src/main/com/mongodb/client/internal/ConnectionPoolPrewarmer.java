@@ -0,0 +1,194 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerApi;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.Connection;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerSelector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.connection.OperationContext.simpleOperationContext;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.lang.String.format;
+
+/**
+ * Opens connections to the servers eligible for selection ahead of their use by operations.
+ *
+ * <p>Connections are checked out of the connection pools concurrently and are held until the required number of connections
+ * is checked out of each pool, which forces the pools to establish new connections rather than reuse the ones just checked out.
+ * The pools limit the number of connections being established concurrently as usual, so the number of threads checking connections
+ * out of a pool is limited the same way, see {@link ConnectionPoolSettings#getMaxConnecting()}.
+ * No more connections are checked out of a pool than {@linkplain ConnectionPoolSettings#getMaxSize() it may hold}.</p>
+ */
+final class ConnectionPoolPrewarmer {
+    private final Cluster cluster;
+    private final OperationContext operationContext;
+    private final ConnectionPoolSettings connectionPoolSettings;
+    private final Lock lock;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private final List<Connection> checkedOut;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private boolean abandoned;
+
+    /**
+     * @see com.mongodb.client.MongoClient#prewarmConnectionPools(int, long, TimeUnit)
+     */
+    static void prewarm(final Cluster cluster, final ReadPreference readPreference, final TimeoutSettings timeoutSettings,
+            @Nullable final ServerApi serverApi, final ConnectionPoolSettings connectionPoolSettings, final int connectionsPerServer,
+            final long timeout, final TimeUnit timeUnit) {
+        isTrueArgument("connectionsPerServer > 0", connectionsPerServer > 0);
+        isTrueArgument("timeout >= 0", timeout >= 0);
+        notNull("timeUnit", timeUnit);
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        // selecting the servers must not take longer than the caller is willing to wait
+        long timeoutMS = timeUnit.toMillis(timeout);
+        long serverSelectionTimeoutMS = timeoutSettings.getServerSelectionTimeoutMS();
+        OperationContext operationContext = simpleOperationContext(timeoutSettings.withServerSelectionTimeoutMS(
+                serverSelectionTimeoutMS < 0 ? timeoutMS : Math.min(serverSelectionTimeoutMS, timeoutMS)), serverApi);
+        int maxSize = connectionPoolSettings.getMaxSize();
+        new ConnectionPoolPrewarmer(cluster, operationContext, connectionPoolSettings).prewarm(
+                new ReadPreferenceServerSelector(readPreference),
+                maxSize == 0 ? connectionsPerServer : Math.min(connectionsPerServer, maxSize), deadlineNanos);
+    }
+
+    private ConnectionPoolPrewarmer(final Cluster cluster, final OperationContext operationContext,
+            final ConnectionPoolSettings connectionPoolSettings) {
+        this.cluster = cluster;
+        this.operationContext = operationContext;
+        this.connectionPoolSettings = connectionPoolSettings;
+        lock = new ReentrantLock();
+        checkedOut = new ArrayList<>();
+        abandoned = false;
+    }
+
+    private void prewarm(final ServerSelector serverSelector, final int connectionsPerServer, final long deadlineNanos) {
+        List<Server> servers = selectServers(serverSelector);
+        if (servers.isEmpty()) {
+            return;
+        }
+        // a pool establishes at most `maxConnecting` connections concurrently, so more threads per server would only wait
+        int threadsPerServer = Math.min(connectionsPerServer, connectionPoolSettings.getMaxConnecting());
+        ExecutorService executor = Executors.newFixedThreadPool(servers.size() * threadsPerServer,
+                new DaemonThreadFactory("ConnectionPoolPrewarmer", connectionPoolSettings.isVirtualThreadsEnabled()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            // interleaving the servers makes the threads check connections out of all the pools concurrently
+            for (int i = 0; i < connectionsPerServer; i++) {
+                for (Server server : servers) {
+                    futures.add(executor.submit(() -> checkOut(server)));
+                }
+            }
+            for (Future<?> future : futures) {
+                await(future, deadlineNanos);
+            }
+        } finally {
+            executor.shutdownNow();
+            releaseAll();
+        }
+    }
+
+    /**
+     * Waits until at least one server is eligible for selection, and returns all servers eligible for selection at that moment.
+     */
+    private List<Server> selectServers(final ServerSelector serverSelector) {
+        Set<ServerAddress> addresses = new LinkedHashSet<>();
+        addresses.add(cluster.selectServer(serverSelector, operationContext).getServerDescription().getAddress());
+        for (ServerDescription serverDescription : serverSelector.select(cluster.getCurrentDescription())) {
+            addresses.add(serverDescription.getAddress());
+        }
+        Cluster.ServersSnapshot serversSnapshot = cluster.getServersSnapshot(
+                operationContext.getTimeoutContext().computeServerSelectionTimeout(), operationContext.getTimeoutContext());
+        List<Server> servers = new ArrayList<>(addresses.size());
+        for (ServerAddress address : addresses) {
+            Server server = serversSnapshot.getServer(address);
+            if (server != null) {
+                servers.add(server);
+            }
+        }
+        return servers;
+    }
+
+    private void checkOut(final Server server) {
+        Connection connection = server.getConnection(operationContext);
+        boolean added = withLock(lock, () -> {
+            if (!abandoned) {
+                checkedOut.add(connection);
+                return true;
+            }
+            return false;
+        });
+        if (!added) {
+            connection.release();
+        }
+    }
+
+    private void releaseAll() {
+        withLock(lock, () -> {
+            abandoned = true;
+            checkedOut.forEach(Connection::release);
+            checkedOut.clear();
+        });
+    }
+
+    private static void await(final Future<?> future, final long deadlineNanos) {
+        try {
+            future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new MongoTimeoutException("Timed out while prewarming connection pools");
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while prewarming connection pools", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MongoException) {
+                throw (MongoException) cause;
+            }
+            throw new MongoException(format("Failed to prewarm connection pools: %s", cause), cause);
+        }
+    }
+}
@@ -104,7 +104,8 @@ public final class MongoClientImpl implements MongoClient {
                                              operationExecutor, settings.getReadConcern(), settings.getReadPreference(), settings.getRetryReads(),
                                              settings.getRetryWrites(), settings.getServerApi(),
                                              new ServerSessionPool(cluster, TimeoutSettings.create(settings), settings.getServerApi()),
-                                             TimeoutSettings.create(settings), settings.getUuidRepresentation(), settings.getWriteConcern());
+                                             TimeoutSettings.create(settings), settings.getUuidRepresentation(), settings.getWriteConcern(),
+                                             settings.getConnectionPoolSettings().isVirtualThreadsEnabled());
         this.closed = new AtomicBoolean();
         BsonDocument clientMetadataDocument = createClientMetadataDocument(settings.getApplicationName(), mongoDriverInformation);
 
@@ -135,6 +136,12 @@ public final class MongoClientImpl implements MongoClient {
         return delegate.getCluster().getCurrentDescription();
     }
 
+    @Override
+    public void prewarmConnectionPools(final int connectionsPerServer, final long timeout, final TimeUnit timeUnit) {
+        ConnectionPoolPrewarmer.prewarm(delegate.getCluster(), getReadPreference(), TimeoutSettings.create(settings),
+                settings.getServerApi(), settings.getConnectionPoolSettings(), connectionsPerServer, timeout, timeUnit);
+    }
+
     @Override
     public CodecRegistry getCodecRegistry() {
         return delegate.getCodecRegistry();
@@ -308,8 +315,8 @@ public final class MongoClientImpl implements MongoClient {
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(),
+                settings.getCompressionSettings(), settings.getWriteBudgetSettings(), settings.getServerApi(), settings.getDnsClient());
     }
 
     private static StreamFactory getStreamFactory(
@@ -99,6 +99,7 @@ final class MongoClusterImpl implements MongoCluster {
     private final UuidRepresentation uuidRepresentation;
     private final WriteConcern writeConcern;
     private final SyncOperations<BsonDocument> operations;
+    private final boolean virtualThreads;
 
     MongoClusterImpl(
             @Nullable final AutoEncryptionSettings autoEncryptionSettings, final Cluster cluster, final CodecRegistry codecRegistry,
@@ -107,6 +108,22 @@ final class MongoClusterImpl implements MongoCluster {
             final boolean retryReads, final boolean retryWrites, @Nullable final ServerApi serverApi,
             final ServerSessionPool serverSessionPool, final TimeoutSettings timeoutSettings, final UuidRepresentation uuidRepresentation,
             final WriteConcern writeConcern) {
+        this(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor, readConcern,
+                readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings, uuidRepresentation, writeConcern,
+                false);
+    }
+
+    /**
+     * @param virtualThreads See {@link OperationExecutor#isVirtualThreadsEnabled()}.
+     */
+    MongoClusterImpl(
+            @Nullable final AutoEncryptionSettings autoEncryptionSettings, final Cluster cluster, final CodecRegistry codecRegistry,
+            @Nullable final SynchronousContextProvider contextProvider, @Nullable final Crypt crypt, final Object originator,
+            @Nullable final OperationExecutor operationExecutor, final ReadConcern readConcern, final ReadPreference readPreference,
+            final boolean retryReads, final boolean retryWrites, @Nullable final ServerApi serverApi,
+            final ServerSessionPool serverSessionPool, final TimeoutSettings timeoutSettings, final UuidRepresentation uuidRepresentation,
+            final WriteConcern writeConcern, final boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
         this.autoEncryptionSettings = autoEncryptionSettings;
         this.cluster = cluster;
         this.codecRegistry = codecRegistry;
@@ -165,35 +182,35 @@ final class MongoClusterImpl implements MongoCluster {
     public MongoCluster withCodecRegistry(final CodecRegistry codecRegistry) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern);
+                uuidRepresentation, writeConcern, virtualThreads);
     }
 
     @Override
     public MongoCluster withReadPreference(final ReadPreference readPreference) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern);
+                uuidRepresentation, writeConcern, virtualThreads);
     }
 
     @Override
     public MongoCluster withWriteConcern(final WriteConcern writeConcern) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern);
+                uuidRepresentation, writeConcern, virtualThreads);
     }
 
     @Override
     public MongoCluster withReadConcern(final ReadConcern readConcern) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
-                uuidRepresentation, writeConcern);
+                uuidRepresentation, writeConcern, virtualThreads);
     }
 
     @Override
     public MongoCluster withTimeout(final long timeout, final TimeUnit timeUnit) {
         return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
                 operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool,
-                timeoutSettings.withTimeout(timeout, timeUnit), uuidRepresentation, writeConcern);
+                timeoutSettings.withTimeout(timeout, timeUnit), uuidRepresentation, writeConcern, virtualThreads);
     }
 
     @Override
@@ -467,6 +484,11 @@ final class MongoClusterImpl implements MongoCluster {
             return executorTimeoutSettings;
         }
 
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return virtualThreads;
+        }
+
         WriteBinding getWriteBinding(final ReadConcern readConcern, final ClientSession session, final boolean ownsSession) {
             return getReadWriteBinding(primary(), readConcern, session, ownsSession);
         }
@@ -76,11 +76,13 @@ import org.bson.conversions.Bson;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.assertions.Assertions.notNullElements;
+import static com.mongodb.internal.TimeoutContext.startTimeout;
 import static com.mongodb.internal.bulk.WriteRequest.Type.DELETE;
 import static com.mongodb.internal.bulk.WriteRequest.Type.INSERT;
 import static com.mongodb.internal.bulk.WriteRequest.Type.REPLACE;
@@ -462,10 +464,36 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return executeBulkWrite(clientSession, requests, options);
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(final Iterator<? extends WriteModel<? extends TDocument>> requests, final BulkWriteOptions options) {
+        return executeBulkWrite(null, requests, options);
+    }
+
+    @Override
+    public BulkWriteResult bulkWrite(final ClientSession clientSession, final Iterator<? extends WriteModel<? extends TDocument>> requests,
+                                     final BulkWriteOptions options) {
+        notNull("clientSession", clientSession);
+        return executeBulkWrite(clientSession, requests, options);
+    }
+
+    private BulkWriteResult executeBulkWrite(@Nullable final ClientSession clientSession,
+                                             final Iterator<? extends WriteModel<? extends TDocument>> requests,
+                                             final BulkWriteOptions options) {
+        notNull("requests", requests);
+        notNull("options", options);
+        return StreamingBulkWrite.execute(requests, options.isOrdered(), split -> executeBulkWrite(clientSession, split, options));
+    }
+
     private BulkWriteResult executeBulkWrite(@Nullable final ClientSession clientSession,
                                              final List<? extends WriteModel<? extends TDocument>> requests,
                                              final BulkWriteOptions options) {
         notNull("requests", requests);
+        if (ParallelBulkWrite.isApplicable(clientSession, options.isOrdered(), options.getParallelism(), writeConcern, requests.size())) {
+            return ParallelBulkWrite.execute(requests, options.getParallelism(), executor.isVirtualThreadsEnabled(),
+                    startTimeout(timeoutSettings.getTimeoutMS()), (split, timeout) ->
+                            getExecutor(ParallelBulkWrite.getSplitTimeoutSettings(timeoutSettings, timeout))
+                                    .execute(operations.bulkWrite(split, options), readConcern, null));
+        }
         return getExecutor(timeoutSettings)
                 .execute(operations.bulkWrite(requests, options), readConcern, clientSession);
     }
@@ -523,6 +551,14 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
 
     private InsertManyResult executeInsertMany(@Nullable final ClientSession clientSession, final List<? extends TDocument> documents,
                                                 final InsertManyOptions options) {
+        if (ParallelBulkWrite.isApplicable(clientSession, options.isOrdered(), options.getParallelism(), writeConcern,
+                notNull("documents", documents).size())) {
+            boolean virtualThreads = executor.isVirtualThreadsEnabled();
+            return toInsertManyResult(ParallelBulkWrite.execute(documents, options.getParallelism(), virtualThreads,
+                    startTimeout(timeoutSettings.getTimeoutMS()), (split, timeout) ->
+                            getExecutor(ParallelBulkWrite.getSplitTimeoutSettings(timeoutSettings, timeout))
+                                    .execute(operations.insertMany(split, options), readConcern, null)));
+        }
         return toInsertManyResult(
                 getExecutor(timeoutSettings).execute(operations.insertMany(documents, options), readConcern, clientSession)
         );
@@ -91,4 +91,16 @@ public interface OperationExecutor {
      * @since 5.2
      */
     TimeoutSettings getTimeoutSettings();
+
+    /**
+     * Returns whether threads started to execute operations concurrently on behalf of a single method call, for example,
+     * the splits of a {@linkplain com.mongodb.client.model.BulkWriteOptions#parallelism(int) parallel bulk write}, are virtual.
+     *
+     * @return whether to start virtual threads
+     * @see com.mongodb.connection.ConnectionPoolSettings#isVirtualThreadsEnabled()
+     * @since 5.5
+     */
+    default boolean isVirtualThreadsEnabled() {
+        return false;
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.ClientSession;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.VisibleForTesting;
+import com.mongodb.internal.connection.BulkWriteBatchCombiner;
+import com.mongodb.internal.connection.IndexMap;
+import com.mongodb.internal.thread.SharedExecutor;
+import com.mongodb.internal.thread.VirtualThreads;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiFunction;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Executes an unordered bulk write as several splits of contiguous requests, concurrently.
+ *
+ * <p>Each split is executed as a separate operation, and therefore with its own implicit session and on its own connection.
+ * The results of the splits are combined as if the requests had been executed by a single operation,
+ * with the indexes of the inserts, upserts and write errors mapped back to the indexes of the requests.</p>
+ *
+ * @see com.mongodb.client.model.BulkWriteOptions#parallelism(int)
+ * @see com.mongodb.client.model.InsertManyOptions#parallelism(int)
+ */
+final class ParallelBulkWrite {
+    private static final String TIMEOUT_MESSAGE = "Timed out waiting to execute a split of a parallel bulk write";
+
+    /**
+     * Concurrently executed splits of a single bulk write must use distinct server sessions, as the server does not execute
+     * operations of the same session concurrently, and a retryable write fails if a newer one of the same session has started.
+     * That is why an explicit session rules out splitting. Ordered writes are not independent of each other,
+     * and unacknowledged writes have no results to combine.
+     */
+    static boolean isApplicable(@Nullable final ClientSession clientSession, final boolean ordered, final int parallelism,
+            final WriteConcern writeConcern, final int requestCount) {
+        return clientSession == null && !ordered && parallelism > 1 && writeConcern.isAcknowledged() && requestCount > 1;
+    }
+
+    /**
+     * The last split is executed on the calling thread, the others are handed to the {@link SharedExecutor},
+     * so that no threads are started and stopped per call, and no more than {@code parallelism} splits are executed at a time.
+     *
+     * @param virtualThreads Whether to execute the splits on virtual threads, which is ignored if they are not
+     * {@linkplain VirtualThreads#isSupported() supported}.
+     * @param timeout The timeout of the whole bulk write, started before any split is, or {@code null} if there is none.
+     * A split that has not started by the time it expires fails with a {@link MongoOperationTimeoutException}.
+     * @param executeSplit Executes a split of {@code requests} within {@code timeout}, and may be called concurrently.
+     */
+    static <T> BulkWriteResult execute(final List<T> requests, final int parallelism, final boolean virtualThreads,
+            @Nullable final Timeout timeout, final BiFunction<List<T>, Timeout, BulkWriteResult> executeSplit) {
+        return execute(requests, parallelism, SharedExecutor.get(virtualThreads), timeout, executeSplit);
+    }
+
+    @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
+    static <T> BulkWriteResult execute(final List<T> requests, final int parallelism, final Executor executor,
+            @Nullable final Timeout timeout, final BiFunction<List<T>, Timeout, BulkWriteResult> executeSplit) {
+        int splitCount = Math.min(parallelism, requests.size());
+        int splitSize = (requests.size() + splitCount - 1) / splitCount;
+        List<IndexMap> indexMaps = new ArrayList<>(splitCount);
+        List<FutureTask<BulkWriteResult>> futures = new ArrayList<>(splitCount);
+        try {
+            for (int startIndex = 0; startIndex < requests.size(); startIndex += splitSize) {
+                List<T> split = requests.subList(startIndex, Math.min(startIndex + splitSize, requests.size()));
+                indexMaps.add(IndexMap.create(startIndex, split.size()));
+                futures.add(startIndex + splitSize < requests.size()
+                        ? executeAsync(split, executor, timeout, executeSplit)
+                        : executeOnCallingThread(split, timeout, executeSplit));
+            }
+            return combine(futures, indexMaps);
+        } finally {
+            // stops the splits that are still executing if the calling thread is interrupted
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <T> FutureTask<BulkWriteResult> executeAsync(final List<T> split, final Executor executor,
+            @Nullable final Timeout timeout, final BiFunction<List<T>, Timeout, BulkWriteResult> executeSplit) {
+        FutureTask<BulkWriteResult> future = new FutureTask<>(() -> {
+            // the time the split waited for a thread counts towards the timeout of the bulk write
+            Timeout.onExistsAndExpired(timeout, () -> {
+                throw createMongoTimeoutException(TIMEOUT_MESSAGE);
+            });
+            return executeSplit.apply(split, timeout);
+        });
+        executor.execute(future);
+        return future;
+    }
+
+    private static <T> FutureTask<BulkWriteResult> executeOnCallingThread(final List<T> split, @Nullable final Timeout timeout,
+            final BiFunction<List<T>, Timeout, BulkWriteResult> executeSplit) {
+        FutureTask<BulkWriteResult> future = new FutureTask<>(() -> executeSplit.apply(split, timeout));
+        future.run();
+        return future;
+    }
+
+    /**
+     * @return {@code timeoutSettings} with the timeoutMS of a split that starts now, that is, the time remaining of the {@code timeout}
+     * of the whole bulk write.
+     * @throws MongoOperationTimeoutException if {@code timeout} has expired.
+     */
+    static TimeoutSettings getSplitTimeoutSettings(final TimeoutSettings timeoutSettings, @Nullable final Timeout timeout) {
+        if (timeout == null) {
+            return timeoutSettings;
+        }
+        return timeout.call(MILLISECONDS,
+                () -> timeoutSettings,
+                (ms) -> timeoutSettings.withTimeout(ms, MILLISECONDS),
+                () -> {
+                    throw createMongoTimeoutException(TIMEOUT_MESSAGE);
+                });
+    }
+
+    private static BulkWriteResult combine(final List<FutureTask<BulkWriteResult>> futures, final List<IndexMap> indexMaps) {
+        List<BulkWriteResult> results = new ArrayList<>(futures.size());
+        List<MongoBulkWriteException> bulkWriteExceptions = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (FutureTask<BulkWriteResult> future : futures) {
+            try {
+                results.add(future.get());
+                bulkWriteExceptions.add(null);
+            } catch (InterruptedException e) {
+                throw interruptAndCreateMongoInterruptedException("Interrupted while executing a bulk write", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                results.add(null);
+                if (cause instanceof MongoBulkWriteException) {
+                    bulkWriteExceptions.add((MongoBulkWriteException) cause);
+                } else {
+                    bulkWriteExceptions.add(null);
+                    if (failure == null) {
+                        failure = cause instanceof RuntimeException
+                                ? (RuntimeException) cause
+                                : new MongoException(format("Failed to execute a bulk write: %s", cause), cause);
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        // the server address is reported only with write errors
+        ServerAddress serverAddress = bulkWriteExceptions.stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(MongoBulkWriteException::getServerAddress)
+                .orElseGet(ServerAddress::new);
+        BulkWriteBatchCombiner combiner = new BulkWriteBatchCombiner(serverAddress, false, WriteConcern.ACKNOWLEDGED);
+        for (int i = 0; i < futures.size(); i++) {
+            BulkWriteResult result = results.get(i);
+            if (result != null) {
+                combiner.addSplitResult(result, indexMaps.get(i));
+            } else {
+                combiner.addSplitErrorResult(assertNotNull(bulkWriteExceptions.get(i)), indexMaps.get(i));
+            }
+        }
+        return combiner.getResult();
+    }
+
+    private ParallelBulkWrite() {
+    }
+}
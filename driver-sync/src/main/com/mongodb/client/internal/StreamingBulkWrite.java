@@ -0,0 +1,65 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.internal.connection.BulkWriteSplitsCombiner;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.mongodb.internal.connection.BulkWriteSplitsCombiner.MAX_SPLIT_SIZE;
+
+/**
+ * Executes a bulk write whose requests are pulled from an iterator one split at a time,
+ * so that only the requests of the split being executed are held in memory.
+ *
+ * @see com.mongodb.client.MongoCollection#bulkWrite(Iterator, com.mongodb.client.model.BulkWriteOptions)
+ */
+final class StreamingBulkWrite {
+    /**
+     * @param executeSplit Executes a split of {@code requests}. It is called at least once, even if there are no requests,
+     * so that the lack of requests is reported the same way as for a bulk write of an empty list.
+     */
+    static <T> BulkWriteResult execute(final Iterator<? extends T> requests, final boolean ordered,
+            final Function<List<T>, BulkWriteResult> executeSplit) {
+        BulkWriteSplitsCombiner combiner = new BulkWriteSplitsCombiner(ordered);
+        do {
+            List<T> split = nextSplit(requests);
+            try {
+                combiner.addSplitResult(executeSplit.apply(split), split.size());
+            } catch (MongoBulkWriteException e) {
+                combiner.addSplitErrorResult(e, split.size());
+            }
+        } while (requests.hasNext() && !combiner.shouldStopExecutingMoreSplits());
+        return combiner.getResult();
+    }
+
+    private static <T> List<T> nextSplit(final Iterator<? extends T> requests) {
+        List<T> split = new ArrayList<>();
+        while (split.size() < MAX_SPLIT_SIZE && requests.hasNext()) {
+            split.add(requests.next());
+        }
+        return split;
+    }
+
+    private StreamingBulkWrite() {
+    }
+}
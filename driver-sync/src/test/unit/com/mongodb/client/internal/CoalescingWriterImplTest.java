@@ -0,0 +1,112 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.CoalescingWriter;
+import com.mongodb.client.CoalescingWriterSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.InsertOneResult;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.mongodb.internal.mockito.MongoMockito.mock;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+final class CoalescingWriterImplTest {
+    @Test
+    void coalescesConcurrentInserts() throws Exception {
+        int inserts = 3;
+        MongoCollection<Document> collection = mock(MongoCollection.class, mockCollection -> {
+            when(mockCollection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation ->
+                    insertResult(invocation.getArgument(0)));
+        });
+        CoalescingWriterSettings settings = CoalescingWriterSettings.builder().maxBatchSize(inserts).linger(1, SECONDS).build();
+        ExecutorService executor = Executors.newFixedThreadPool(inserts);
+        try (CoalescingWriter<Document> writer = new CoalescingWriterImpl<>(collection, settings)) {
+            List<Future<InsertOneResult>> results = new ArrayList<>();
+            for (int i = 0; i < inserts; i++) {
+                Document document = new Document("_id", i);
+                results.add(executor.submit(() -> writer.insertOne(document)));
+            }
+            for (Future<InsertOneResult> result : results) {
+                InsertOneResult insertOneResult = result.get();
+                assertEquals(new BsonInt32(results.indexOf(result)), insertOneResult.getInsertedId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    @Test
+    void reportsWriteErrorOfInsert() {
+        MongoCollection<Document> collection = mock(MongoCollection.class, mockCollection -> {
+            when(mockCollection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenThrow(new MongoBulkWriteException(
+                    BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList(), Collections.emptyList()),
+                    Collections.singletonList(new BulkWriteError(11000, "dup key", new BsonDocument(), 0)), null,
+                    new ServerAddress(), Collections.emptySet()));
+        });
+        try (CoalescingWriter<Document> writer = new CoalescingWriterImpl<>(collection, CoalescingWriterSettings.builder().build())) {
+            MongoWriteException e = assertThrows(MongoWriteException.class, () -> writer.insertOne(new Document("_id", 1)));
+            assertEquals(11000, e.getCode());
+        }
+    }
+
+    @Test
+    void rejectsInsertsAfterClose() {
+        CoalescingWriter<Document> writer = new CoalescingWriterImpl<>(mock(MongoCollection.class),
+                CoalescingWriterSettings.builder().build());
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.insertOne(new Document()));
+    }
+
+    private static BulkWriteResult insertResult(final List<WriteModel<Document>> requests) {
+        List<BulkWriteInsert> inserts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Document document = ((InsertOneModel<Document>) requests.get(i)).getDocument();
+            inserts.add(new BulkWriteInsert(i, new BsonInt32(document.getInteger("_id"))));
+        }
+        return BulkWriteResult.acknowledged(requests.size(), 0, 0, 0, Collections.emptyList(), inserts);
+    }
+
+    private CoalescingWriterImplTest() {
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.time.Timeout;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.mongodb.internal.time.Timeout.ZeroSemantics.ZERO_DURATION_MEANS_EXPIRED;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ParallelBulkWriteTest {
+    private static final List<Integer> REQUESTS = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    @Test
+    void isApplicableOnlyToUnorderedAcknowledgedWritesWithoutSession() {
+        assertTrue(ParallelBulkWrite.isApplicable(null, false, 2, WriteConcern.ACKNOWLEDGED, 2));
+        assertFalse(ParallelBulkWrite.isApplicable(null, true, 2, WriteConcern.ACKNOWLEDGED, 2));
+        assertFalse(ParallelBulkWrite.isApplicable(null, false, 1, WriteConcern.ACKNOWLEDGED, 2));
+        assertFalse(ParallelBulkWrite.isApplicable(null, false, 2, WriteConcern.UNACKNOWLEDGED, 2));
+        assertFalse(ParallelBulkWrite.isApplicable(null, false, 2, WriteConcern.ACKNOWLEDGED, 1));
+    }
+
+    @Test
+    void combinesResultsOfSplitsWithIndexesOfRequests() {
+        List<List<Integer>> splits = Collections.synchronizedList(new ArrayList<>());
+        BulkWriteResult result = ParallelBulkWrite.execute(REQUESTS, 3, false, null, (split, timeout) -> {
+            splits.add(split);
+            return insertResult(split);
+        });
+
+        assertEquals(3, splits.size());
+        assertEquals(REQUESTS.size(), result.getInsertedCount());
+        assertEquals(REQUESTS, result.getInserts().stream()
+                .map(insert -> {
+                    assertEquals(insert.getIndex(), insert.getId().asInt32().getValue());
+                    return insert.getIndex();
+                })
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void executesLastSplitOnCallingThread() {
+        Thread callingThread = Thread.currentThread();
+        List<Integer> splitsOnCallingThread = Collections.synchronizedList(new ArrayList<>());
+        ParallelBulkWrite.execute(REQUESTS, 2, false, null, (split, timeout) -> {
+            if (Thread.currentThread() == callingThread) {
+                splitsOnCallingThread.add(split.get(0));
+            }
+            return insertResult(split);
+        });
+
+        assertEquals(singletonList(5), splitsOnCallingThread);
+    }
+
+    @Test
+    void combinesWriteErrorsOfSplitsWithIndexesOfRequests() {
+        MongoBulkWriteException e = assertThrows(MongoBulkWriteException.class, () ->
+                ParallelBulkWrite.execute(REQUESTS, 2, false, null, (split, timeout) -> {
+                    if (split.get(0) == 0) {
+                        return insertResult(split);
+                    }
+                    throw new MongoBulkWriteException(insertResult(split.subList(1, split.size())),
+                            singletonList(new BulkWriteError(11000, "dup key", new BsonDocument(), 0)), null,
+                            new ServerAddress("host"), Collections.emptySet());
+                }));
+
+        assertEquals(new ServerAddress("host"), e.getServerAddress());
+        assertEquals(REQUESTS.size() - 1, e.getWriteResult().getInsertedCount());
+        assertEquals(1, e.getWriteErrors().size());
+        assertEquals(5, e.getWriteErrors().get(0).getIndex());
+    }
+
+    @Test
+    void rethrowsFailureOfSplit() {
+        IllegalStateException failure = new IllegalStateException();
+        assertEquals(failure, assertThrows(IllegalStateException.class, () ->
+                ParallelBulkWrite.execute(REQUESTS, 2, false, null, (split, timeout) -> {
+                    if (split.get(0) == 0) {
+                        return insertResult(split);
+                    }
+                    throw failure;
+                })));
+    }
+
+    @Test
+    void passesTimeoutOfWholeBulkWriteToSplits() {
+        Timeout timeout = Timeout.expiresIn(1, MINUTES, ZERO_DURATION_MEANS_EXPIRED);
+        List<Timeout> timeouts = Collections.synchronizedList(new ArrayList<>());
+        ParallelBulkWrite.execute(REQUESTS, 3, false, timeout, (split, splitTimeout) -> {
+            timeouts.add(splitTimeout);
+            return insertResult(split);
+        });
+
+        assertEquals(3, timeouts.size());
+        timeouts.forEach(splitTimeout -> assertSame(timeout, splitTimeout));
+    }
+
+    @Test
+    void failsSplitsNotStartedBeforeTimeoutExpires() {
+        Timeout timeout = Timeout.expiresIn(0, MILLISECONDS, ZERO_DURATION_MEANS_EXPIRED);
+        List<Integer> executedSplits = Collections.synchronizedList(new ArrayList<>());
+        assertThrows(MongoOperationTimeoutException.class, () ->
+                ParallelBulkWrite.execute(REQUESTS, 2, Runnable::run, timeout, (split, splitTimeout) -> {
+                    executedSplits.add(split.get(0));
+                    return insertResult(split);
+                }));
+
+        // the split on the calling thread is not queued, and fails by itself once its timeout is used
+        assertEquals(singletonList(5), executedSplits);
+    }
+
+    @Test
+    void splitTimeoutSettingsHaveRemainingTimeOfWholeBulkWrite() {
+        TimeoutSettings timeoutSettings = TimeoutSettings.DEFAULT.withTimeout(1L, MINUTES);
+
+        assertSame(timeoutSettings, ParallelBulkWrite.getSplitTimeoutSettings(timeoutSettings, null));
+        Long splitTimeoutMS = ParallelBulkWrite.getSplitTimeoutSettings(timeoutSettings,
+                Timeout.expiresIn(10, SECONDS, ZERO_DURATION_MEANS_EXPIRED)).getTimeoutMS();
+        assertTrue(splitTimeoutMS != null && splitTimeoutMS > 0 && splitTimeoutMS <= SECONDS.toMillis(10));
+        assertThrows(MongoOperationTimeoutException.class, () -> ParallelBulkWrite.getSplitTimeoutSettings(timeoutSettings,
+                Timeout.expiresIn(0, MILLISECONDS, ZERO_DURATION_MEANS_EXPIRED)));
+    }
+
+    /**
+     * @return The result of inserting the documents {@code {_id: request}}, with the indexes relative to {@code split}.
+     */
+    private static BulkWriteResult insertResult(final List<Integer> split) {
+        List<BulkWriteInsert> inserts = new ArrayList<>();
+        for (int i = 0; i < split.size(); i++) {
+            inserts.add(new BulkWriteInsert(i, new BsonInt32(split.get(i))));
+        }
+        return BulkWriteResult.acknowledged(split.size(), 0, 0, 0, Collections.emptyList(), inserts);
+    }
+
+    private ParallelBulkWriteTest() {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.client.internal;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.mongodb.internal.connection.BulkWriteSplitsCombiner.MAX_SPLIT_SIZE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class StreamingBulkWriteTest {
+    private static final int REQUEST_COUNT = 2 * MAX_SPLIT_SIZE + 1;
+
+    @Test
+    void executesSplitsOfRequestsWithIndexesOfRequests() {
+        List<Integer> splitSizes = new ArrayList<>();
+        BulkWriteResult result = StreamingBulkWrite.execute(requests(), true, split -> {
+            splitSizes.add(split.size());
+            return insertResult(split);
+        });
+
+        assertEquals(asList(MAX_SPLIT_SIZE, MAX_SPLIT_SIZE, 1), splitSizes);
+        assertEquals(REQUEST_COUNT, result.getInsertedCount());
+        BulkWriteInsert lastInsert = result.getInserts().get(REQUEST_COUNT - 1);
+        assertEquals(REQUEST_COUNT - 1, lastInsert.getIndex());
+        assertEquals(new BsonInt32(REQUEST_COUNT - 1), lastInsert.getId());
+    }
+
+    @Test
+    void stopsPullingRequestsAfterWriteErrorIfOrdered() {
+        Iterator<Integer> requests = requests();
+        MongoBulkWriteException e = assertThrows(MongoBulkWriteException.class, () ->
+                StreamingBulkWrite.execute(requests, true, StreamingBulkWriteTest::failSecondSplit));
+
+        assertTrue(requests.hasNext());
+        assertEquals(MAX_SPLIT_SIZE, e.getWriteResult().getInsertedCount());
+        assertEquals(new ServerAddress("host"), e.getServerAddress());
+        assertEquals(MAX_SPLIT_SIZE, e.getWriteErrors().get(0).getIndex());
+    }
+
+    @Test
+    void pullsAllRequestsAfterWriteErrorIfUnordered() {
+        Iterator<Integer> requests = requests();
+        MongoBulkWriteException e = assertThrows(MongoBulkWriteException.class, () ->
+                StreamingBulkWrite.execute(requests, false, StreamingBulkWriteTest::failSecondSplit));
+
+        assertFalse(requests.hasNext());
+        assertEquals(MAX_SPLIT_SIZE + 1, e.getWriteResult().getInsertedCount());
+        assertEquals(1, e.getWriteErrors().size());
+    }
+
+    @Test
+    void executesEmptySplitIfThereAreNoRequests() {
+        IllegalArgumentException failure = new IllegalArgumentException();
+        List<Integer> splitSizes = new ArrayList<>();
+        assertEquals(failure, assertThrows(IllegalArgumentException.class, () ->
+                StreamingBulkWrite.execute(Collections.<Integer>emptyIterator(), true, split -> {
+                    splitSizes.add(split.size());
+                    throw failure;
+                })));
+
+        assertEquals(singletonList(0), splitSizes);
+    }
+
+    @Test
+    void reportsUnacknowledgedResult() {
+        BulkWriteResult result = StreamingBulkWrite.execute(requests(), false, split -> BulkWriteResult.unacknowledged());
+
+        assertFalse(result.wasAcknowledged());
+    }
+
+    private static Iterator<Integer> requests() {
+        return IntStream.range(0, REQUEST_COUNT).iterator();
+    }
+
+    private static BulkWriteResult failSecondSplit(final List<Integer> split) {
+        if (split.get(0) != MAX_SPLIT_SIZE) {
+            return insertResult(split);
+        }
+        throw new MongoBulkWriteException(BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList(), Collections.emptyList()),
+                singletonList(new BulkWriteError(11000, "dup key", new BsonDocument(), 0)), null,
+                new ServerAddress("host"), Collections.emptySet());
+    }
+
+    /**
+     * @return The result of inserting the documents {@code {_id: request}}, with the indexes relative to {@code split}.
+     */
+    private static BulkWriteResult insertResult(final List<Integer> split) {
+        List<BulkWriteInsert> inserts = new ArrayList<>();
+        for (int i = 0; i < split.size(); i++) {
+            inserts.add(new BulkWriteInsert(i, new BsonInt32(split.get(i))));
+        }
+        return BulkWriteResult.acknowledged(split.size(), 0, 0, 0, Collections.emptyList(), inserts);
+    }
+
+    private StreamingBulkWriteTest() {
+    }
+}